@@ -1,18 +1,25 @@
 package com.commerce.inventory.api;
 
+import com.commerce.inventory.api.config.InventoryEventKafkaConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
 /**
  * 재고 관리 API 애플리케이션
+ *
+ * <p>inventory-event-kafka 모듈은 스캔하지 않고 {@link InventoryEventKafkaConfig}가 발행에 필요한 빈만 가져옵니다.</p>
  */
 @SpringBootApplication
 @ComponentScan(basePackages = {
         "com.commerce.inventory.api",
         "com.commerce.inventory.application",
         "com.commerce.inventory.infrastructure"
-})
+}, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.REGEX,
+        pattern = "com\\.commerce\\.inventory\\.infrastructure\\.event\\..*"
+))
 public class InventoryApiApplication {
 
     public static void main(String[] args) {
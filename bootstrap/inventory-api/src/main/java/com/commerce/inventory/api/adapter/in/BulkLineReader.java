@@ -0,0 +1,255 @@
+package com.commerce.inventory.api.adapter.in;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 대량 처리 입력을 한 줄씩 읽는 Reader
+ *
+ * <p>요청 본문을 끝까지 읽어 두지 않고 {@link #next()}를 호출할 때마다 한 줄만 읽으므로 입력 크기와 관계없이 메모리 사용량이 일정합니다.
+ * NDJSON은 한 줄에 JSON 객체 하나, CSV는 첫 줄에 열 이름을 두고 이후 줄에 값을 둡니다. 빈 줄은 건너뛰지만 줄 번호에는 포함합니다.</p>
+ *
+ * <p>읽지 못한 줄은 예외 대신 {@link LineMapper#invalid(long, String)}로 만든 값을 돌려주므로, 한 줄의 형식 오류가 작업 전체를 멈추지 않습니다.</p>
+ *
+ * @param <T> 한 줄을 변환한 값
+ */
+public class BulkLineReader<T> implements Iterator<T> {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    /**
+     * 한 줄의 필드를 변환 결과로 바꾸는 함수
+     */
+    public interface LineMapper<T> {
+
+        T map(long lineNumber, Fields fields);
+
+        T invalid(long lineNumber, String message);
+    }
+
+    /**
+     * 이름으로 조회하는 한 줄의 필드. 값이 없으면 {@code null}
+     */
+    public interface Fields {
+
+        String text(String name);
+
+        Integer integer(String name);
+
+        Double decimal(String name);
+    }
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final ObjectMapper objectMapper;
+    private final LineMapper<T> mapper;
+    private List<String> csvHeader;
+    private long lineNumber;
+    private T next;
+
+    public BulkLineReader(InputStream input, MediaType contentType, ObjectMapper objectMapper, LineMapper<T> mapper) {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        this.reader = new BufferedReader(new InputStreamReader(input, charset));
+        this.csv = TEXT_CSV.isCompatibleWith(contentType);
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T current = next;
+        next = null;
+        return current;
+    }
+
+    private T readNext() {
+        String line;
+        while ((line = readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && csvHeader == null) {
+                csvHeader = splitCsv(stripBom(line)).stream().map(String::trim).toList();
+                continue;
+            }
+            return parse(line);
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력을 읽을 수 없습니다", e);
+        }
+    }
+
+    private T parse(String line) {
+        try {
+            return mapper.map(lineNumber, csv ? csvFields(line) : jsonFields(line));
+        } catch (IllegalArgumentException e) {
+            return mapper.invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    private Fields jsonFields(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(stripBom(line));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 아닙니다");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("한 줄에 JSON 객체 하나가 있어야 합니다");
+        }
+
+        return new Fields() {
+            @Override
+            public String text(String name) {
+                JsonNode value = node.get(name);
+                return value == null || value.isNull() ? null : value.asText();
+            }
+
+            @Override
+            public Integer integer(String name) {
+                JsonNode value = node.get(name);
+                if (value == null || value.isNull()) {
+                    return null;
+                }
+                if (value.isIntegralNumber() && value.canConvertToInt()) {
+                    return value.intValue();
+                }
+                return parseInteger(name, value.asText());
+            }
+
+            @Override
+            public Double decimal(String name) {
+                JsonNode value = node.get(name);
+                if (value == null || value.isNull()) {
+                    return null;
+                }
+                if (value.isNumber()) {
+                    return value.doubleValue();
+                }
+                return parseDecimal(name, value.asText());
+            }
+        };
+    }
+
+    private Fields csvFields(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() > csvHeader.size()) {
+            throw new IllegalArgumentException("열 개수가 머리글보다 많습니다");
+        }
+        Map<String, String> byName = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                byName.put(csvHeader.get(i), value);
+            }
+        }
+
+        return new Fields() {
+            @Override
+            public String text(String name) {
+                return byName.get(name);
+            }
+
+            @Override
+            public Integer integer(String name) {
+                String value = byName.get(name);
+                return value == null ? null : parseInteger(name, value);
+            }
+
+            @Override
+            public Double decimal(String name) {
+                String value = byName.get(name);
+                return value == null ? null : parseDecimal(name, value);
+            }
+        };
+    }
+
+    private static Integer parseInteger(String name, String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 정수가 아닙니다: " + value);
+        }
+    }
+
+    private static Double parseDecimal(String name, String value) {
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * 쉼표로 나눕니다. 큰따옴표로 감싼 값 안의 쉼표는 나누지 않고, 연속된 큰따옴표 두 개는 하나로 읽습니다.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -5,6 +5,7 @@ import com.commerce.inventory.application.service.port.out.EventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -12,9 +13,11 @@ import java.util.List;
 /**
  * Spring ApplicationEventPublisher를 사용한 이벤트 발행 어댑터
  * 헥사고날 아키텍처에서 infrastructure 레이어의 역할을 담당합니다.
+ * Kafka 발행은 커밋 이후 {@link StockEventKafkaRelay}가 이어받으므로 기본 발행기로 사용합니다.
  */
 @Slf4j
 @Component
+@Primary
 @RequiredArgsConstructor
 public class EventPublisherAdapter implements EventPublisher {
     
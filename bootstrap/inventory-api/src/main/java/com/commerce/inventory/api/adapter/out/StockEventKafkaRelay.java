@@ -0,0 +1,43 @@
+package com.commerce.inventory.api.adapter.out;
+
+import com.commerce.inventory.domain.event.AbstractInventoryEvent;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
+import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.event.StockReservedEvent;
+import com.commerce.inventory.infrastructure.event.kafka.KafkaEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가용 재고를 바꾸는 재고 도메인 이벤트를 Kafka로 전달하는 어댑터
+ *
+ * <p>Product 서비스는 이 이벤트를 받아 해당 SKU의 가용 재고 near-cache를 무효화합니다.
+ * 메시지 키와 aggregateId는 SKU ID입니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("!T(org.springframework.util.StringUtils).isEmpty('${spring.kafka.bootstrap-servers:}')")
+public class StockEventKafkaRelay {
+
+    private final KafkaEventPublisher kafkaEventPublisher;
+
+    /**
+     * 롤백된 변경이 발행되지 않도록 커밋 이후에 전달합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(AbstractInventoryEvent event) {
+        if (changesAvailableStock(event)) {
+            kafkaEventPublisher.publish(event);
+        }
+    }
+
+    private static boolean changesAvailableStock(AbstractInventoryEvent event) {
+        return event instanceof StockReservedEvent
+                || event instanceof ReservationReleasedEvent
+                || event instanceof StockReceivedEvent
+                || event instanceof StockDepletedEvent;
+    }
+}
@@ -0,0 +1,29 @@
+package com.commerce.inventory.api.config;
+
+import com.commerce.inventory.infrastructure.event.kafka.KafkaErrorHandler;
+import com.commerce.inventory.infrastructure.event.kafka.KafkaEventPublisher;
+import com.commerce.inventory.infrastructure.event.kafka.KafkaTopicResolver;
+import com.commerce.inventory.infrastructure.event.kafka.retry.RetryableEventStore;
+import com.commerce.inventory.infrastructure.event.serialization.EventSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 재고 변경 이벤트 Kafka 발행 설정
+ *
+ * <p>inventory-event-kafka 모듈에서 발행에 필요한 빈만 가져옵니다. 모듈의 컨슈머와 프로듀서 설정은
+ * 컴포넌트 스캔에서 제외하며, {@code KafkaTemplate}은 {@code spring.kafka} 설정으로 자동 구성된 것을 사용합니다.
+ * Kafka 주소가 설정된 경우에만 활성화됩니다.</p>
+ */
+@Configuration
+@ConditionalOnExpression("!T(org.springframework.util.StringUtils).isEmpty('${spring.kafka.bootstrap-servers:}')")
+@Import({
+        KafkaEventPublisher.class,
+        EventSerializer.class,
+        KafkaTopicResolver.class,
+        KafkaErrorHandler.class,
+        RetryableEventStore.class
+})
+public class InventoryEventKafkaConfig {
+}
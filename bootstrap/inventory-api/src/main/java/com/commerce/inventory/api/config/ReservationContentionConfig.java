@@ -0,0 +1,46 @@
+package com.commerce.inventory.api.config;
+
+import com.commerce.inventory.application.service.ReservationContentionPolicy;
+import com.commerce.inventory.application.service.port.out.ReservationContentionMetricsPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 경합 적응형 예약 잠금 설정
+ *
+ * <p>SKU별 낙관적 충돌 비율로 번들 예약의 재고 조회 방식을 고르는 {@link ReservationContentionPolicy}를 등록합니다.</p>
+ */
+@Configuration
+public class ReservationContentionConfig {
+
+    @Bean
+    public ReservationContentionPolicy reservationContentionPolicy(
+            Clock clock,
+            ReservationContentionMetricsPort reservationContentionMetricsPort,
+            @Value("${inventory.reservation.contention.window:10s}") Duration window,
+            @Value("${inventory.reservation.contention.buckets:10}") int buckets,
+            @Value("${inventory.reservation.contention.min-samples:20}") int minSamples,
+            @Value("${inventory.reservation.contention.conflict-threshold:0.2}") double conflictThreshold,
+            @Value("${inventory.reservation.contention.max-tracked-skus:10000}") int maxTrackedSkus,
+            @Value("${inventory.reservation.contention.max-attempts:3}") int maxAttempts,
+            @Value("${inventory.reservation.contention.backoff:20ms}") Duration backoff,
+            @Value("${inventory.reservation.contention.max-backoff:200ms}") Duration maxBackoff
+    ) {
+        return new ReservationContentionPolicy(
+                clock,
+                window,
+                buckets,
+                minSamples,
+                conflictThreshold,
+                maxTrackedSkus,
+                maxAttempts,
+                backoff,
+                maxBackoff,
+                reservationContentionMetricsPort
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.commerce.inventory.api.config;
+
+import com.commerce.inventory.application.service.GroupCommitReserveStockService;
+import com.commerce.inventory.application.service.ReserveStockService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 재고 예약 그룹 커밋 설정
+ *
+ * <p>활성화하면 API의 예약 요청이 {@link GroupCommitReserveStockService}를 거쳐 묶음 단위로 커밋됩니다.
+ * 진입점은 {@link ReservationIdempotencyConfig}의 멱등 예약 서비스이며, 그 뒤에서 이 서비스를 사용합니다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.reservation.group-commit.enabled", havingValue = "true")
+public class ReservationGroupCommitConfig {
+
+    @Bean
+    public GroupCommitReserveStockService groupCommitReserveStockService(
+            ReserveStockService reserveStockService,
+            @Value("${inventory.reservation.group-commit.window:2ms}") Duration window,
+            @Value("${inventory.reservation.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${inventory.reservation.group-commit.workers:4}") int workers
+    ) {
+        // 트랜잭션 프록시를 거치도록 서비스 빈을 그대로 전달
+        return new GroupCommitReserveStockService(reserveStockService, reserveStockService, window, maxBatchSize, workers);
+    }
+}
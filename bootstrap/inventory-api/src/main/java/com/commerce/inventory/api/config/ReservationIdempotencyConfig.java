@@ -0,0 +1,42 @@
+package com.commerce.inventory.api.config;
+
+import com.commerce.inventory.application.service.GroupCommitReserveStockService;
+import com.commerce.inventory.application.service.IdempotentReserveStockService;
+import com.commerce.inventory.application.service.ReserveStockService;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.ReservationDedupCachePort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 멱등 재고 예약 설정
+ *
+ * <p>API의 예약 요청은 {@link IdempotentReserveStockService}를 먼저 거치고, 그룹 커밋이 켜져 있으면
+ * {@link GroupCommitReserveStockService}, 아니면 {@link ReserveStockService}로 예약합니다.</p>
+ */
+@Configuration
+public class ReservationIdempotencyConfig {
+
+    @Bean
+    @Primary
+    public IdempotentReserveStockService idempotentReserveStockService(
+            ReserveStockService reserveStockService,
+            ObjectProvider<GroupCommitReserveStockService> groupCommitReserveStockService,
+            LoadReservationPort loadReservationPort,
+            ReservationDedupCachePort reservationDedupCachePort,
+            HotStockCounterPort hotStockCounterPort,
+            @Value("${inventory.reservation.dedup.lock-stripes:256}") int lockStripes
+    ) {
+        return new IdempotentReserveStockService(
+                groupCommitReserveStockService.getIfAvailable(() -> reserveStockService),
+                loadReservationPort,
+                reservationDedupCachePort,
+                hotStockCounterPort,
+                lockStripes
+        );
+    }
+}
@@ -0,0 +1,157 @@
+package com.commerce.inventory.api.controller;
+
+import com.commerce.inventory.api.adapter.in.BulkLineReader;
+import com.commerce.inventory.api.dto.BulkImportLineErrorResponseDto;
+import com.commerce.inventory.api.dto.BulkImportReportResponseDto;
+import com.commerce.inventory.api.mapper.InventoryMapper;
+import com.commerce.inventory.application.usecase.BulkCreateSkuUseCase;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkSkuLine;
+import com.commerce.inventory.application.usecase.CreateSkuCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 SKU 등록 REST API 컨트롤러
+ */
+@Tag(name = "Bulk SKU", description = "대량 SKU 등록 API")
+@RestController
+@RequestMapping("/api/inventory/skus/bulk")
+@RequiredArgsConstructor
+public class BulkSkuController {
+
+    private static final int MAX_ERRORS_PER_PAGE = 1000;
+
+    private final BulkCreateSkuUseCase bulkCreateSkuUseCase;
+    private final InventoryMapper inventoryMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 대량 SKU 등록 엔드포인트
+     *
+     * @param contentType 입력 형식 (application/x-ndjson 또는 text/csv)
+     * @param body        한 줄에 SKU 하나씩 담은 요청 본문
+     * @return 작업 보고서
+     */
+    @Operation(summary = "대량 SKU 등록",
+            description = "NDJSON 또는 머리글이 있는 CSV(code,name,description,weight,weightUnit,volume,volumeUnit)를 "
+                    + "읽는 대로 청크 단위로 등록합니다. SKU마다 빈 재고를 함께 만듭니다. 이미 있거나 입력 안에서 겹치는 "
+                    + "SKU 코드의 줄은 등록하지 않고 오류 조회로 확인할 수 있습니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (줄 단위 실패는 보고서에 포함)"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 입력 형식"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping(consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<BulkImportReportResponseDto> create(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        BulkLineReader<BulkSkuLine> lines = new BulkLineReader<>(body, contentType, objectMapper,
+                new BulkLineReader.LineMapper<>() {
+                    @Override
+                    public BulkSkuLine map(long lineNumber, BulkLineReader.Fields fields) {
+                        return BulkSkuLine.of(lineNumber, CreateSkuCommand.builder()
+                                .code(fields.text("code"))
+                                .name(fields.text("name"))
+                                .description(fields.text("description"))
+                                .weight(fields.decimal("weight"))
+                                .weightUnit(fields.text("weightUnit"))
+                                .volume(fields.decimal("volume"))
+                                .volumeUnit(fields.text("volumeUnit"))
+                                .build());
+                    }
+
+                    @Override
+                    public BulkSkuLine invalid(long lineNumber, String message) {
+                        return BulkSkuLine.invalid(lineNumber, message);
+                    }
+                });
+
+        BulkImportReport report = bulkCreateSkuUseCase.create(lines);
+
+        return ResponseEntity.ok(inventoryMapper.toBulkImportReportResponseDto(report));
+    }
+
+    /**
+     * 대량 SKU 등록 작업 목록 조회 엔드포인트
+     *
+     * @return 최근 시작한 순의 작업 보고서
+     */
+    @Operation(summary = "대량 SKU 등록 작업 목록 조회", description = "이 인스턴스가 보관 중인 대량 SKU 등록 작업을 최근 시작한 순으로 조회합니다")
+    @GetMapping
+    public ResponseEntity<List<BulkImportReportResponseDto>> getReports() {
+        return ResponseEntity.ok(bulkCreateSkuUseCase.getReports().stream()
+                .map(inventoryMapper::toBulkImportReportResponseDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 대량 SKU 등록 작업 조회 엔드포인트
+     *
+     * @param jobId 작업 ID
+     * @return 작업 보고서
+     */
+    @Operation(summary = "대량 SKU 등록 작업 조회", description = "대량 SKU 등록 작업의 진행 상황을 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkImportReportResponseDto> getReport(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable("jobId") String jobId) {
+        return bulkCreateSkuUseCase.getReport(jobId)
+                .map(report -> ResponseEntity.ok(inventoryMapper.toBulkImportReportResponseDto(report)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 대량 SKU 등록 줄 오류 조회 엔드포인트
+     *
+     * @param jobId  작업 ID
+     * @param offset 건너뛸 오류 수
+     * @param limit  조회할 오류 수 (최대 1000)
+     * @return 줄 번호 순의 오류 목록
+     */
+    @Operation(summary = "대량 SKU 등록 줄 오류 조회", description = "대량 SKU 등록 작업에서 등록하지 못한 줄(중복 코드 포함)을 줄 번호 순으로 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<BulkImportLineErrorResponseDto>> getErrors(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable("jobId") String jobId,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        if (bulkCreateSkuUseCase.getReport(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<BulkImportLineError> errors =
+                bulkCreateSkuUseCase.getErrors(jobId, offset, Math.min(limit, MAX_ERRORS_PER_PAGE));
+
+        return ResponseEntity.ok(errors.stream()
+                .map(inventoryMapper::toBulkImportLineErrorResponseDto)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,154 @@
+package com.commerce.inventory.api.controller;
+
+import com.commerce.inventory.api.adapter.in.BulkLineReader;
+import com.commerce.inventory.api.dto.BulkImportLineErrorResponseDto;
+import com.commerce.inventory.api.dto.BulkImportReportResponseDto;
+import com.commerce.inventory.api.mapper.InventoryMapper;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkReceiveStockUseCase;
+import com.commerce.inventory.application.usecase.BulkStockReceiptLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 입고 REST API 컨트롤러
+ */
+@Tag(name = "Bulk Stock Receipt", description = "대량 입고 API")
+@RestController
+@RequestMapping("/api/inventory/receipts/bulk")
+@RequiredArgsConstructor
+public class BulkStockReceiptController {
+
+    private static final int MAX_ERRORS_PER_PAGE = 1000;
+
+    private final BulkReceiveStockUseCase bulkReceiveStockUseCase;
+    private final InventoryMapper inventoryMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 대량 입고 엔드포인트
+     *
+     * <p>요청 본문을 버퍼에 담지 않고 읽는 대로 처리하므로 본문을 모두 읽고 처리를 마칠 때까지 응답하지 않습니다.
+     * 응답을 먼저 보내면 본문 스트림이 닫히므로 202로 미리 응답하지 않으며, 큰 입력은 클라이언트와 프록시의 읽기 시간 제한을
+     * 처리 시간에 맞춰야 합니다. 처리 중인 작업은 작업 목록 조회로 확인할 수 있습니다.</p>
+     *
+     * @param contentType 입력 형식 (application/x-ndjson 또는 text/csv)
+     * @param body        한 줄에 입고 하나씩 담은 요청 본문
+     * @return 작업 보고서
+     */
+    @Operation(summary = "대량 입고",
+            description = "NDJSON({\"skuId\", \"quantity\", \"reference\"}) 또는 머리글이 있는 CSV(skuId,quantity,reference)를 "
+                    + "읽는 대로 청크 단위로 입고합니다. 동기 처리이므로 모든 줄을 처리한 뒤에 응답하며, 처리 시간에 맞춰 "
+                    + "읽기 시간 제한을 늘려야 합니다. 처리 중인 작업은 작업 목록 조회(GET /api/inventory/receipts/bulk)로 "
+                    + "진행 상황을 확인할 수 있고, 반영하지 못한 줄은 오류 조회로 확인할 수 있습니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (줄 단위 실패는 보고서에 포함, 작업 ID는 보고서의 jobId)"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 입력 형식"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping(consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<BulkImportReportResponseDto> receive(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        BulkLineReader<BulkStockReceiptLine> lines = new BulkLineReader<>(body, contentType, objectMapper,
+                new BulkLineReader.LineMapper<>() {
+                    @Override
+                    public BulkStockReceiptLine map(long lineNumber, BulkLineReader.Fields fields) {
+                        return BulkStockReceiptLine.of(
+                                lineNumber, fields.text("skuId"), fields.integer("quantity"), fields.text("reference"));
+                    }
+
+                    @Override
+                    public BulkStockReceiptLine invalid(long lineNumber, String message) {
+                        return BulkStockReceiptLine.invalid(lineNumber, message);
+                    }
+                });
+
+        BulkImportReport report = bulkReceiveStockUseCase.receive(lines);
+
+        return ResponseEntity.ok(inventoryMapper.toBulkImportReportResponseDto(report));
+    }
+
+    /**
+     * 대량 입고 작업 목록 조회 엔드포인트
+     *
+     * @return 최근 시작한 순의 작업 보고서
+     */
+    @Operation(summary = "대량 입고 작업 목록 조회", description = "이 인스턴스가 보관 중인 대량 입고 작업을 최근 시작한 순으로 조회합니다")
+    @GetMapping
+    public ResponseEntity<List<BulkImportReportResponseDto>> getReports() {
+        return ResponseEntity.ok(bulkReceiveStockUseCase.getReports().stream()
+                .map(inventoryMapper::toBulkImportReportResponseDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 대량 입고 작업 조회 엔드포인트
+     *
+     * @param jobId 작업 ID
+     * @return 작업 보고서
+     */
+    @Operation(summary = "대량 입고 작업 조회", description = "대량 입고 작업의 진행 상황을 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkImportReportResponseDto> getReport(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable("jobId") String jobId) {
+        return bulkReceiveStockUseCase.getReport(jobId)
+                .map(report -> ResponseEntity.ok(inventoryMapper.toBulkImportReportResponseDto(report)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 대량 입고 줄 오류 조회 엔드포인트
+     *
+     * @param jobId  작업 ID
+     * @param offset 건너뛸 오류 수
+     * @param limit  조회할 오류 수 (최대 1000)
+     * @return 줄 번호 순의 오류 목록
+     */
+    @Operation(summary = "대량 입고 줄 오류 조회", description = "대량 입고 작업에서 반영하지 못한 줄을 줄 번호 순으로 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<BulkImportLineErrorResponseDto>> getErrors(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable("jobId") String jobId,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        if (bulkReceiveStockUseCase.getReport(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<BulkImportLineError> errors =
+                bulkReceiveStockUseCase.getErrors(jobId, offset, Math.min(limit, MAX_ERRORS_PER_PAGE));
+
+        return ResponseEntity.ok(errors.stream()
+                .map(inventoryMapper::toBulkImportLineErrorResponseDto)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.commerce.inventory.api.controller;
+
+import com.commerce.inventory.api.dto.HotStockResponseDto;
+import com.commerce.inventory.application.usecase.ManageHotStockUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 핫 SKU 재고 카운터 관리 REST API 컨트롤러
+ */
+@Tag(name = "Hot Stock", description = "핫 SKU 재고 카운터 관리 API")
+@RestController
+@RequestMapping("/api/inventory/skus/{id}/hot-stock")
+@RequiredArgsConstructor
+public class HotStockController {
+
+    private final ManageHotStockUseCase manageHotStockUseCase;
+
+    /**
+     * 핫 SKU 지정 엔드포인트
+     *
+     * @param id 핫 SKU로 지정할 SKU ID
+     * @return 적재한 카운터 값
+     */
+    @Operation(summary = "핫 SKU 지정", description = "가용 재고를 카운터에 적재하고 이후 예약을 재고 행 잠금 없이 카운터에서 차감합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "핫 SKU 지정 성공"),
+            @ApiResponse(responseCode = "400", description = "재고를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping
+    public ResponseEntity<HotStockResponseDto> activate(
+            @Parameter(description = "SKU ID", required = true)
+            @PathVariable("id") String id) {
+        long counter = manageHotStockUseCase.activate(id);
+
+        return ResponseEntity.ok(toResponseDto(id, counter));
+    }
+
+    /**
+     * 핫 SKU 카운터 재조정 엔드포인트
+     *
+     * @param id 재조정할 SKU ID
+     * @return 재조정한 카운터 값 (핫 SKU가 아니면 -1)
+     */
+    @Operation(summary = "핫 SKU 카운터 재조정", description = "저장된 가용 재고와 대기 중인 예약으로 카운터를 다시 맞춥니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재조정 성공"),
+            @ApiResponse(responseCode = "400", description = "재고를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/reconcile")
+    public ResponseEntity<HotStockResponseDto> reconcile(
+            @Parameter(description = "SKU ID", required = true)
+            @PathVariable("id") String id) {
+        long counter = manageHotStockUseCase.reconcile(id);
+
+        return ResponseEntity.ok(toResponseDto(id, counter));
+    }
+
+    /**
+     * 핫 SKU 해제 엔드포인트
+     *
+     * @param id 해제할 SKU ID
+     * @return HTTP 204 No Content
+     */
+    @Operation(summary = "핫 SKU 해제", description = "카운터를 제거하고 남은 대기 예약을 저장합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "핫 SKU 해제 성공"),
+            @ApiResponse(responseCode = "400", description = "재고를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @DeleteMapping
+    public ResponseEntity<Void> deactivate(
+            @Parameter(description = "SKU ID", required = true)
+            @PathVariable("id") String id) {
+        manageHotStockUseCase.deactivate(id);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private static HotStockResponseDto toResponseDto(String skuId, long counter) {
+        return HotStockResponseDto.builder()
+                .skuId(skuId)
+                .counter(counter)
+                .build();
+    }
+}
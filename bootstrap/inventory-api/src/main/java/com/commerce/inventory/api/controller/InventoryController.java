@@ -3,6 +3,9 @@ package com.commerce.inventory.api.controller;
 import com.commerce.inventory.api.dto.CreateSkuRequest;
 import com.commerce.inventory.api.dto.CreateSkuResponseDto;
 import com.commerce.inventory.api.dto.GetSkuByIdResponseDto;
+import com.commerce.inventory.api.dto.InventoryAvailabilityBatchRequest;
+import com.commerce.inventory.api.dto.InventoryAvailabilityBatchResponseDto;
+import com.commerce.inventory.api.dto.InventoryAvailabilityProjectionResponseDto;
 import com.commerce.inventory.api.dto.ReceiveStockRequest;
 import com.commerce.inventory.api.dto.ReserveStockRequest;
 import com.commerce.inventory.api.dto.ReserveStockResponseDto;
@@ -10,13 +13,20 @@ import com.commerce.inventory.api.mapper.InventoryMapper;
 import com.commerce.inventory.application.usecase.CreateSkuCommand;
 import com.commerce.inventory.application.usecase.CreateSkuResponse;
 import com.commerce.inventory.application.usecase.CreateSkuUseCase;
+import com.commerce.inventory.application.usecase.GetInventoriesQuery;
+import com.commerce.inventory.application.usecase.GetInventoriesUseCase;
+import com.commerce.inventory.application.usecase.GetInventoryAvailabilityUseCase;
 import com.commerce.inventory.application.usecase.GetSkuByIdQuery;
 import com.commerce.inventory.application.usecase.GetSkuByIdResponse;
 import com.commerce.inventory.application.usecase.GetSkuByIdUseCase;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityResponse;
+import com.commerce.inventory.application.usecase.InventoryResponse;
 import com.commerce.inventory.application.usecase.ReceiveStockCommand;
 import com.commerce.inventory.application.usecase.ReceiveStockUseCase;
 import com.commerce.inventory.application.usecase.ReleaseReservationCommand;
 import com.commerce.inventory.application.usecase.ReleaseReservationUseCase;
+import com.commerce.inventory.application.usecase.ReleaseReservationsByOrderCommand;
+import com.commerce.inventory.application.usecase.ReleaseReservationsByOrderUseCase;
 import com.commerce.inventory.application.usecase.ReserveStockCommand;
 import com.commerce.inventory.application.usecase.ReserveStockResponse;
 import com.commerce.inventory.application.usecase.ReserveStockUseCase;
@@ -35,8 +45,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 재고 관리 REST API 컨트롤러
  */
@@ -51,6 +64,9 @@ public class InventoryController {
     private final ReceiveStockUseCase receiveStockUseCase;
     private final ReserveStockUseCase reserveStockUseCase;
     private final ReleaseReservationUseCase releaseReservationUseCase;
+    private final ReleaseReservationsByOrderUseCase releaseReservationsByOrderUseCase;
+    private final GetInventoriesUseCase getInventoriesUseCase;
+    private final GetInventoryAvailabilityUseCase getInventoryAvailabilityUseCase;
     private final InventoryMapper inventoryMapper;
 
     /**
@@ -129,6 +145,50 @@ public class InventoryController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 재고 가용 수량 일괄 조회 엔드포인트
+     *
+     * @param request 조회할 SKU ID 목록
+     * @return SKU별 재고 수량 목록
+     */
+    @Operation(summary = "재고 가용 수량 일괄 조회", description = "여러 SKU의 총/예약/가용 수량을 한 번에 조회합니다. 재고가 없는 SKU는 0으로 반환됩니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효성 검증 실패)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/availability:batch")
+    public ResponseEntity<InventoryAvailabilityBatchResponseDto> getAvailabilityBatch(
+            @Valid @RequestBody InventoryAvailabilityBatchRequest request) {
+        GetInventoriesQuery query = inventoryMapper.toGetInventoriesQuery(request);
+        List<InventoryResponse> responses = getInventoriesUseCase.execute(query);
+        InventoryAvailabilityBatchResponseDto responseDto = inventoryMapper.toInventoryAvailabilityBatchResponseDto(responses);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
+    /**
+     * 읽기 모델 기반 재고 가용 수량 조회 엔드포인트
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU별 재고 수량 목록과 읽기 모델이 뒤처진 정도
+     */
+    @Operation(summary = "재고 가용 수량 조회 (읽기 모델)", description = "재고 테이블과 재고 행 잠금 없이 가용 재고 읽기 모델에서 여러 SKU의 수량을 조회합니다. 최근 변경은 lagMillis만큼 늦게 보일 수 있습니다. lagMillis는 응답한 인스턴스의 미반영 변경만 반영합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효성 검증 실패)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<InventoryAvailabilityProjectionResponseDto> getAvailability(
+            @Parameter(description = "SKU ID 목록 (쉼표로 구분)", required = true)
+            @RequestParam("skuIds") List<String> skuIds) {
+        InventoryAvailabilityResponse response = getInventoryAvailabilityUseCase.execute(new GetInventoriesQuery(skuIds));
+        InventoryAvailabilityProjectionResponseDto responseDto = inventoryMapper.toInventoryAvailabilityProjectionResponseDto(response);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
     /**
      * 재고 예약 엔드포인트
      *
@@ -183,4 +243,29 @@ public class InventoryController {
         
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 예약 일괄 취소 엔드포인트
+     *
+     * @param orderId 예약을 취소할 주문 ID
+     * @return HTTP 204 No Content
+     */
+    @Operation(summary = "주문 예약 일괄 취소", description = "주문의 활성 예약을 한 트랜잭션에서 모두 취소하고 재고를 해제합니다. 이미 취소되거나 만료된 예약은 건너뜁니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "주문 예약 일괄 취소 성공 (취소할 예약이 없는 경우 포함)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @DeleteMapping("/orders/{orderId}/reservations")
+    public ResponseEntity<Void> releaseReservationsByOrder(
+            @Parameter(description = "주문 ID", required = true)
+            @PathVariable("orderId") String orderId) {
+
+        ReleaseReservationsByOrderCommand command = ReleaseReservationsByOrderCommand.builder()
+                .orderId(orderId.trim())
+                .build();
+
+        releaseReservationsByOrderUseCase.releaseByOrder(command);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.commerce.inventory.api.controller;
+
+import com.commerce.inventory.api.dto.ChangeShardCountRequest;
+import com.commerce.inventory.application.usecase.ChangeShardCountCommand;
+import com.commerce.inventory.application.usecase.ChangeShardCountUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 재고 샤드 관리 REST API 컨트롤러
+ */
+@Tag(name = "Inventory Shard", description = "재고 샤드 관리 API")
+@RestController
+@RequestMapping("/api/inventory/skus/{id}/shards")
+@RequiredArgsConstructor
+public class InventoryShardController {
+
+    private final ChangeShardCountUseCase changeShardCountUseCase;
+
+    /**
+     * 재고 샤드 수 변경 엔드포인트
+     *
+     * @param id 샤드 수를 변경할 SKU ID
+     * @param request 샤드 수
+     * @return HTTP 204 No Content
+     */
+    @Operation(summary = "재고 샤드 수 변경", description = "SKU의 재고를 지정한 수의 행으로 나눠 같은 SKU의 예약을 동시에 처리합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "샤드 수 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효성 검증 실패, 재고 없음)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PutMapping
+    public ResponseEntity<Void> changeShardCount(
+            @Parameter(description = "SKU ID", required = true)
+            @PathVariable("id") String id,
+            @Valid @RequestBody ChangeShardCountRequest request) {
+        ChangeShardCountCommand command = ChangeShardCountCommand.builder()
+                .skuId(id)
+                .shardCount(request.getShardCount())
+                .build();
+
+        changeShardCountUseCase.changeShardCount(command);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.commerce.inventory.api.controller;
+
+import com.commerce.inventory.api.dto.StockLedgerAuditResponseDto;
+import com.commerce.inventory.api.dto.StockLedgerStateResponseDto;
+import com.commerce.inventory.application.usecase.StockLedgerAudit;
+import com.commerce.inventory.application.usecase.StockLedgerUseCase;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장 조회 REST API 컨트롤러
+ */
+@Tag(name = "Stock Ledger", description = "재고 원장 조회 API")
+@RestController
+@RequestMapping("/api/inventory/skus/{id}/ledger")
+@RequiredArgsConstructor
+public class StockLedgerController {
+
+    private final StockLedgerUseCase stockLedgerUseCase;
+
+    /**
+     * 시점별 재고 조회 엔드포인트
+     *
+     * @param id 조회할 SKU ID
+     * @param at 조회 시점 (없으면 마지막 기록까지)
+     * @return 원장으로 계산한 재고 상태
+     */
+    @Operation(summary = "시점별 재고 조회", description = "시점 이전의 가장 최근 스냅샷부터 이후 이동 기록을 반영해 그 시점의 재고를 계산합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping
+    public ResponseEntity<StockLedgerStateResponseDto> getState(
+            @Parameter(description = "SKU ID", required = true)
+            @PathVariable("id") String id,
+            @Parameter(description = "조회 시점 (ISO-8601)", example = "2025-01-01T12:00:00")
+            @RequestParam(value = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        StockLedgerState state = stockLedgerUseCase.stateAt(SkuId.of(id), at);
+
+        return ResponseEntity.ok(toResponseDto(state));
+    }
+
+    /**
+     * 원장 검증 엔드포인트
+     *
+     * @param id 검증할 SKU ID
+     * @return 원장과 재고 행의 수량 비교 결과
+     */
+    @Operation(summary = "재고 원장 검증", description = "재고 행을 잠근 채 원장으로 계산한 수량과 재고 행의 수량을 비교합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검증 성공"),
+            @ApiResponse(responseCode = "400", description = "재고를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/audit")
+    public ResponseEntity<StockLedgerAuditResponseDto> audit(
+            @Parameter(description = "SKU ID", required = true)
+            @PathVariable("id") String id) {
+        StockLedgerAudit audit = stockLedgerUseCase.audit(SkuId.of(id));
+
+        return ResponseEntity.ok(toResponseDto(audit));
+    }
+
+    private static StockLedgerStateResponseDto toResponseDto(StockLedgerState state) {
+        return StockLedgerStateResponseDto.builder()
+                .skuId(state.getSkuId().value())
+                .sequence(state.getSequence())
+                .totalQuantity(state.getTotalQuantity())
+                .reservedQuantity(state.getReservedQuantity())
+                .availableQuantity(state.getAvailableQuantity())
+                .asOf(state.getAsOf())
+                .build();
+    }
+
+    private static StockLedgerAuditResponseDto toResponseDto(StockLedgerAudit audit) {
+        return StockLedgerAuditResponseDto.builder()
+                .skuId(audit.skuId().value())
+                .sequence(audit.sequence())
+                .ledgerTotalQuantity(audit.ledgerTotalQuantity())
+                .ledgerReservedQuantity(audit.ledgerReservedQuantity())
+                .inventoryTotalQuantity(audit.inventoryTotalQuantity())
+                .inventoryReservedQuantity(audit.inventoryReservedQuantity())
+                .replayedMovements(audit.replayedMovements())
+                .consistent(audit.isConsistent())
+                .build();
+    }
+}
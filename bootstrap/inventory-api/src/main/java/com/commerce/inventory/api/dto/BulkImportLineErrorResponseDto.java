@@ -0,0 +1,27 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 처리 줄 오류 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "반영하지 못한 줄")
+public class BulkImportLineErrorResponseDto {
+
+    @Schema(description = "입력에서의 줄 번호 (1부터)", example = "42")
+    private Long lineNumber;
+
+    @Schema(description = "줄을 식별하는 값 (읽지 못한 줄이면 null)", example = "SKU-001")
+    private String key;
+
+    @Schema(description = "반영하지 못한 이유", example = "SKU를 찾을 수 없습니다")
+    private String message;
+}
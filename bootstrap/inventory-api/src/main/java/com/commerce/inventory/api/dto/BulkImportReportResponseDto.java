@@ -0,0 +1,47 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 처리 작업 보고서 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대량 처리 작업 진행 상황")
+public class BulkImportReportResponseDto {
+
+    @Schema(description = "작업 ID", example = "3f2b8c1e-5d4a-4e7b-9c0d-1a2b3c4d5e6f")
+    private String jobId;
+
+    @Schema(description = "진행 상태", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "처리한 줄 수", example = "25000")
+    private Long processedLines;
+
+    @Schema(description = "반영한 줄 수", example = "24990")
+    private Long succeededLines;
+
+    @Schema(description = "반영하지 못한 줄 수", example = "10")
+    private Long failedLines;
+
+    @Schema(description = "보관 한도를 넘어 일부 줄의 오류를 보관하지 않았는지 여부", example = "false")
+    private Boolean errorsTruncated;
+
+    @Schema(description = "작업이 중단된 이유 (중단되지 않았으면 null)")
+    private String failureReason;
+
+    @Schema(description = "시작 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각 (진행 중이면 null)")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,22 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "재고 샤드 수 변경 요청")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeShardCountRequest {
+
+    @Schema(description = "샤드 수 (1이면 샤드를 사용하지 않음)", example = "8", required = true)
+    @Min(value = 1, message = "샤드 수는 1 이상이어야 합니다")
+    @Max(value = 64, message = "샤드 수는 64 이하여야 합니다")
+    private int shardCount;
+}
@@ -0,0 +1,24 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핫 SKU 카운터 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "핫 SKU 카운터 응답")
+public class HotStockResponseDto {
+
+    @Schema(description = "SKU ID", example = "SKU-001")
+    private String skuId;
+
+    @Schema(description = "카운터 가용 재고 (핫 SKU가 아니면 -1)", example = "100")
+    private Long counter;
+}
@@ -0,0 +1,30 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Singular;
+
+import java.util.List;
+
+/**
+ * 재고 가용 수량 일괄 조회 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재고 가용 수량 일괄 조회 요청")
+public class InventoryAvailabilityBatchRequest {
+    
+    @NotEmpty(message = "SKU ID 목록은 최소 1개 이상 필요합니다")
+    @Size(max = 5000, message = "한 번에 조회할 수 있는 SKU는 최대 5000개입니다")
+    @Singular("skuId")
+    @Schema(description = "조회할 SKU ID 목록 (최대 5000개)", example = "[\"SKU-001\", \"SKU-002\"]", required = true)
+    private List<@NotBlank(message = "SKU ID는 필수입니다") String> skuIds;
+}
@@ -0,0 +1,49 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재고 가용 수량 일괄 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재고 가용 수량 일괄 조회 응답")
+public class InventoryAvailabilityBatchResponseDto {
+    
+    @Schema(description = "SKU별 재고 수량 목록 (재고가 없는 SKU는 모든 수량이 0)")
+    private List<InventoryQuantityDto> items;
+    
+    /**
+     * SKU별 재고 수량 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "SKU별 재고 수량")
+    public static class InventoryQuantityDto {
+        
+        @Schema(description = "SKU ID", example = "SKU-001")
+        private String skuId;
+        
+        @Schema(description = "총 수량", example = "100")
+        private Integer totalQuantity;
+        
+        @Schema(description = "예약 수량", example = "10")
+        private Integer reservedQuantity;
+        
+        @Schema(description = "가용 수량", example = "90")
+        private Integer availableQuantity;
+        
+        @Schema(description = "조회 시점의 재고 버전 (재고가 없는 SKU는 null)", example = "3")
+        private Long version;
+    }
+}
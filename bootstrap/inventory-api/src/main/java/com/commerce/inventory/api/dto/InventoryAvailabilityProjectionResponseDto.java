@@ -0,0 +1,33 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 읽기 모델 기반 재고 가용 수량 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "읽기 모델 기반 재고 가용 수량 조회 응답")
+public class InventoryAvailabilityProjectionResponseDto {
+    
+    @Schema(description = "SKU별 재고 수량 목록 (읽기 모델에 없는 SKU는 모든 수량이 0)")
+    private List<InventoryAvailabilityBatchResponseDto.InventoryQuantityDto> items;
+    
+    @Schema(description = "응답한 인스턴스에서 커밋되어 읽기 모델에 아직 반영하지 않은 가장 오래된 변경의 경과 시간(ms). 다른 인스턴스의 변경은 포함하지 않음", example = "120")
+    private Long lagMillis;
+    
+    @Schema(description = "응답한 인스턴스에서 읽기 모델에 아직 반영하지 않은 SKU 수", example = "3")
+    private Integer pendingSkuCount;
+    
+    @Schema(description = "응답한 인스턴스가 읽기 모델에 마지막으로 반영한 시각")
+    private LocalDateTime lastProjectedAt;
+}
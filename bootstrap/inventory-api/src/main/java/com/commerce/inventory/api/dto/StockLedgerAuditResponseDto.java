@@ -0,0 +1,42 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 원장 검증 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "원장과 재고 행의 수량 비교 결과")
+public class StockLedgerAuditResponseDto {
+
+    @Schema(description = "SKU ID", example = "SKU-001")
+    private String skuId;
+
+    @Schema(description = "검증한 마지막 원장 순번", example = "1024")
+    private Long sequence;
+
+    @Schema(description = "원장으로 계산한 총 재고", example = "100")
+    private Long ledgerTotalQuantity;
+
+    @Schema(description = "원장으로 계산한 예약 재고", example = "20")
+    private Long ledgerReservedQuantity;
+
+    @Schema(description = "재고 행의 총 재고", example = "100")
+    private Long inventoryTotalQuantity;
+
+    @Schema(description = "재고 행의 예약 재고", example = "20")
+    private Long inventoryReservedQuantity;
+
+    @Schema(description = "스냅샷 이후 반영한 이동 기록 수", example = "24")
+    private Integer replayedMovements;
+
+    @Schema(description = "원장과 재고 행의 수량 일치 여부", example = "true")
+    private Boolean consistent;
+}
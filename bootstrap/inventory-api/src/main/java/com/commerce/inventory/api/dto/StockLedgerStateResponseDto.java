@@ -0,0 +1,38 @@
+package com.commerce.inventory.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "원장으로 계산한 재고 상태")
+public class StockLedgerStateResponseDto {
+
+    @Schema(description = "SKU ID", example = "SKU-001")
+    private String skuId;
+
+    @Schema(description = "반영한 마지막 원장 순번", example = "1024")
+    private Long sequence;
+
+    @Schema(description = "총 재고", example = "100")
+    private Long totalQuantity;
+
+    @Schema(description = "예약 재고", example = "20")
+    private Long reservedQuantity;
+
+    @Schema(description = "가용 재고", example = "80")
+    private Long availableQuantity;
+
+    @Schema(description = "마지막으로 반영한 이동 기록이 원장 순번을 받은 시각 (기록이 없으면 null)")
+    private LocalDateTime asOf;
+}
@@ -1,17 +1,28 @@
 package com.commerce.inventory.api.mapper;
 
+import com.commerce.inventory.api.dto.BulkImportLineErrorResponseDto;
+import com.commerce.inventory.api.dto.BulkImportReportResponseDto;
 import com.commerce.inventory.api.dto.CreateSkuRequest;
 import com.commerce.inventory.api.dto.CreateSkuResponseDto;
 import com.commerce.inventory.api.dto.GetSkuByIdResponseDto;
+import com.commerce.inventory.api.dto.InventoryAvailabilityBatchRequest;
+import com.commerce.inventory.api.dto.InventoryAvailabilityBatchResponseDto;
+import com.commerce.inventory.api.dto.InventoryAvailabilityProjectionResponseDto;
 import com.commerce.inventory.api.dto.ReserveStockRequest;
 import com.commerce.inventory.api.dto.ReserveStockResponseDto;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
 import com.commerce.inventory.application.usecase.CreateSkuCommand;
 import com.commerce.inventory.application.usecase.CreateSkuResponse;
+import com.commerce.inventory.application.usecase.GetInventoriesQuery;
 import com.commerce.inventory.application.usecase.GetSkuByIdResponse;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityResponse;
+import com.commerce.inventory.application.usecase.InventoryResponse;
 import com.commerce.inventory.application.usecase.ReserveStockCommand;
 import com.commerce.inventory.application.usecase.ReserveStockResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -137,4 +148,107 @@ public class InventoryMapper {
                         .collect(Collectors.toList()))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * InventoryAvailabilityBatchRequest를 GetInventoriesQuery로 변환
+     *
+     * @param request 재고 가용 수량 일괄 조회 요청 DTO
+     * @return 재고 일괄 조회 쿼리
+     */
+    public GetInventoriesQuery toGetInventoriesQuery(InventoryAvailabilityBatchRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        return new GetInventoriesQuery(request.getSkuIds());
+    }
+
+    /**
+     * InventoryResponse 목록을 InventoryAvailabilityBatchResponseDto로 변환
+     *
+     * @param responses UseCase 응답 목록
+     * @return API 응답 DTO
+     */
+    public InventoryAvailabilityBatchResponseDto toInventoryAvailabilityBatchResponseDto(List<InventoryResponse> responses) {
+        if (responses == null) {
+            return null;
+        }
+
+        return InventoryAvailabilityBatchResponseDto.builder()
+                .items(toInventoryQuantityDtos(responses))
+                .build();
+    }
+
+    /**
+     * InventoryAvailabilityResponse를 InventoryAvailabilityProjectionResponseDto로 변환
+     *
+     * @param response UseCase 응답
+     * @return API 응답 DTO
+     */
+    public InventoryAvailabilityProjectionResponseDto toInventoryAvailabilityProjectionResponseDto(InventoryAvailabilityResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        return InventoryAvailabilityProjectionResponseDto.builder()
+                .items(toInventoryQuantityDtos(response.items()))
+                .lagMillis(response.lag().lagMillis())
+                .pendingSkuCount(response.lag().pendingSkuCount())
+                .lastProjectedAt(response.lag().lastProjectedAt())
+                .build();
+    }
+
+    /**
+     * BulkImportReport를 BulkImportReportResponseDto로 변환
+     *
+     * @param report 대량 처리 작업 보고서
+     * @return API 응답 DTO
+     */
+    public BulkImportReportResponseDto toBulkImportReportResponseDto(BulkImportReport report) {
+        if (report == null) {
+            return null;
+        }
+
+        return BulkImportReportResponseDto.builder()
+                .jobId(report.jobId())
+                .status(report.status().name())
+                .processedLines(report.processedLines())
+                .succeededLines(report.succeededLines())
+                .failedLines(report.failedLines())
+                .errorsTruncated(report.errorsTruncated())
+                .failureReason(report.failureReason())
+                .startedAt(report.startedAt())
+                .finishedAt(report.finishedAt())
+                .build();
+    }
+
+    /**
+     * BulkImportLineError를 BulkImportLineErrorResponseDto로 변환
+     *
+     * @param error 대량 처리 줄 오류
+     * @return API 응답 DTO
+     */
+    public BulkImportLineErrorResponseDto toBulkImportLineErrorResponseDto(BulkImportLineError error) {
+        if (error == null) {
+            return null;
+        }
+
+        return BulkImportLineErrorResponseDto.builder()
+                .lineNumber(error.lineNumber())
+                .key(error.key())
+                .message(error.message())
+                .build();
+    }
+
+    private List<InventoryAvailabilityBatchResponseDto.InventoryQuantityDto> toInventoryQuantityDtos(List<InventoryResponse> responses) {
+        return responses.stream()
+                .map(response -> InventoryAvailabilityBatchResponseDto.InventoryQuantityDto.builder()
+                        .skuId(response.skuId())
+                        .totalQuantity(response.totalQuantity())
+                        .reservedQuantity(response.reservedQuantity())
+                        .availableQuantity(response.availableQuantity())
+                        .version(response.version())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.commerce.inventory.api.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * <p>0단 휠의 칸 하나는 {@code tickMs}이고, 위 단으로 갈수록 칸 하나가 아래 단 휠 한 바퀴만큼 길어집니다.
+ * 작업은 마감 시각이 들어가는 가장 낮은 단에 넣고, 위 단의 칸에 도달하면 그 칸의 작업을 아래 단으로 내려 보냅니다.
+ * 작업 수와 관계없이 추가는 상수 시간이며, 휠을 넘는 마감 시각은 필요한 만큼 단을 늘려 받습니다.</p>
+ *
+ * <p>마감 시각은 칸 단위로 올림하므로 작업은 마감 시각보다 먼저 꺼내지지 않고, 늦어도 {@code tickMs} 안에 꺼내집니다.
+ * 시각은 호출자가 {@link #advance(long)}로 넘겨 주며, 모든 메서드는 동기화되어 있습니다.</p>
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs는 0보다 크고 wheelSize는 2 이상이어야 합니다");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMs / tickMs;
+        this.levels.add(new Level<>(1, wheelSize));
+    }
+
+    /**
+     * 작업을 마감 시각에 맞춰 넣습니다. 이미 지난 마감 시각이면 다음 {@link #advance(long)}에서 꺼내집니다.
+     */
+    public synchronized void schedule(T task, long deadlineMs) {
+        // 마감 시각과 같은 칸에서 꺼내면 마감 시각보다 이를 수 있으므로 다음 칸으로 올림
+        place(new Entry<>(task, deadlineMs / tickMs + 1));
+        size++;
+    }
+
+    /**
+     * {@code nowMs}까지 시각을 진행하고 마감 시각이 지난 작업을 꺼냅니다.
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> due = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        drain(levels.get(0).bucketAt(currentTick), due);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            drain(levels.get(0).bucketAt(currentTick), due);
+        }
+        size -= due.size();
+        return due;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            levels.get(0).bucketAt(currentTick).add(entry);
+            return;
+        }
+
+        // 현재 칸과 다른 칸이면서 한 바퀴 안에 들어가는 가장 낮은 단에 넣음
+        int level = 0;
+        while (entry.deadlineTick / levelTicks(level) - currentTick / levelTicks(level) >= wheelSize) {
+            level++;
+            if (level == levels.size()) {
+                levels.add(new Level<>(levelTicks(level - 1) * wheelSize, wheelSize));
+            }
+        }
+        levels.get(level).bucketAt(entry.deadlineTick).add(entry);
+    }
+
+    /**
+     * 위 단의 칸 경계에 도달하면 그 칸의 작업을 다시 넣어 아래 단으로 내려 보냅니다.
+     */
+    private void cascade() {
+        for (int level = 1; level < levels.size(); level++) {
+            if (currentTick % levelTicks(level) != 0) {
+                return;
+            }
+            ArrayDeque<Entry<T>> bucket = levels.get(level).bucketAt(currentTick);
+            List<Entry<T>> entries = new ArrayList<>(bucket);
+            bucket.clear();
+            entries.forEach(this::place);
+        }
+    }
+
+    private void drain(ArrayDeque<Entry<T>> bucket, List<T> due) {
+        Entry<T> entry;
+        while ((entry = bucket.poll()) != null) {
+            due.add(entry.task);
+        }
+    }
+
+    private long levelTicks(int level) {
+        return levels.get(level).ticksPerSlot;
+    }
+
+    private static final class Level<T> {
+
+        private final long ticksPerSlot;
+        private final ArrayDeque<Entry<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long ticksPerSlot, int wheelSize) {
+            this.ticksPerSlot = ticksPerSlot;
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+        }
+
+        private ArrayDeque<Entry<T>> bucketAt(long tick) {
+            return buckets[(int) ((tick / ticksPerSlot) % buckets.length)];
+        }
+    }
+
+    private record Entry<T>(T task, long deadlineTick) {
+    }
+}
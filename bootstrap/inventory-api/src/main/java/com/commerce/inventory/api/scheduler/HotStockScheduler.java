@@ -0,0 +1,58 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.usecase.ManageHotStockUseCase;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 핫 SKU 대기 예약 저장, 실패 예약 보상 및 카운터 재조정 스케줄러
+ *
+ * <p>SKU별로 독립된 트랜잭션에서 처리하므로 한 SKU의 실패가 다른 SKU의 처리를 막지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.hot-stock.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class HotStockScheduler {
+
+    private final ManageHotStockUseCase manageHotStockUseCase;
+    private final HotStockCounterPort hotStockCounterPort;
+
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-interval-ms:100}")
+    public void flushPendingReservations() {
+        for (SkuId skuId : hotStockCounterPort.findAllHotSkuIds()) {
+            try {
+                manageHotStockUseCase.flushPendingReservations(skuId.value());
+            } catch (RuntimeException e) {
+                log.error("핫 SKU 대기 예약 저장 실패: skuId={}", skuId.value(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-interval-ms:100}")
+    public void compensateFailedReservations() {
+        for (SkuId skuId : hotStockCounterPort.findSkuIdsWithFailedReservations()) {
+            try {
+                manageHotStockUseCase.compensateFailedReservations(skuId.value());
+            } catch (RuntimeException e) {
+                log.error("핫 SKU 실패 예약 보상 처리 실패: skuId={}", skuId.value(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        for (SkuId skuId : hotStockCounterPort.findAllHotSkuIds()) {
+            try {
+                manageHotStockUseCase.reconcile(skuId.value());
+            } catch (RuntimeException e) {
+                log.error("핫 SKU 카운터 재조정 실패: skuId={}", skuId.value(), e);
+            }
+        }
+    }
+}
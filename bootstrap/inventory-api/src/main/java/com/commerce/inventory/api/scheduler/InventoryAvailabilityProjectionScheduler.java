@@ -0,0 +1,72 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.inventory.application.usecase.ProjectInventoryAvailabilityUseCase;
+import com.commerce.inventory.domain.event.AbstractInventoryEvent;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가용 재고 읽기 모델 반영 스케줄러
+ *
+ * <p>커밋된 재고 도메인 이벤트의 SKU를 반영 대상으로 표시하고, 주기적으로 표시된 SKU를 남김없이 반영합니다.
+ * 시작할 때 재시작 전에 반영하지 못한 변경을 메우도록 전체 읽기 모델을 다시 반영합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.read-model.enabled", havingValue = "true")
+public class InventoryAvailabilityProjectionScheduler {
+
+    private final ProjectInventoryAvailabilityUseCase projectInventoryAvailabilityUseCase;
+    private final int batchSize;
+    private final boolean rebuildOnStartup;
+
+    public InventoryAvailabilityProjectionScheduler(
+            ProjectInventoryAvailabilityUseCase projectInventoryAvailabilityUseCase,
+            @Value("${inventory.read-model.batch-size:500}") int batchSize,
+            @Value("${inventory.read-model.rebuild-on-startup:true}") boolean rebuildOnStartup
+    ) {
+        this.projectInventoryAvailabilityUseCase = projectInventoryAvailabilityUseCase;
+        this.batchSize = batchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            projectInventoryAvailabilityUseCase.rebuild(batchSize);
+        } catch (RuntimeException e) {
+            log.error("가용 재고 읽기 모델 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 롤백된 변경이 반영되지 않도록 커밋 이후에 표시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(AbstractInventoryEvent event) {
+        projectInventoryAvailabilityUseCase.markChanged(SkuId.of(event.getAggregateId()));
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.read-model.flush-interval-ms:100}")
+    public void projectPending() {
+        try {
+            // 한 주기에 쌓인 변경을 모두 반영
+            int projected;
+            do {
+                projected = projectInventoryAvailabilityUseCase.projectPending(batchSize);
+            } while (projected == batchSize);
+        } catch (RuntimeException e) {
+            log.error("가용 재고 읽기 모델 반영 실패", e);
+        }
+    }
+}
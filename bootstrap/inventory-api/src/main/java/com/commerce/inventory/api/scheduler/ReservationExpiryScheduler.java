@@ -0,0 +1,74 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
+import com.commerce.inventory.application.usecase.ExpireReservationsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 만료 예약 정리 스케줄러
+ *
+ * <p>임대를 얻은 파티션만 정리하므로 여러 인스턴스가 동시에 실행되어도 같은 파티션을 나눠 처리하지 않습니다.
+ * 묶음마다 별도 트랜잭션에서 처리하므로 한 묶음의 실패가 이미 정리한 묶음을 되돌리지 않습니다.</p>
+ *
+ * <p>{@link ReservationExpiryTimer}가 켜져 있으면 임대를 가진 파티션을 알려, 타이머가 그 파티션의 예약만 휠에 채우게 합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.reservation.expiry.enabled", havingValue = "true")
+public class ReservationExpiryScheduler {
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+    private final ObjectProvider<ReservationExpiryTimer> reservationExpiryTimer;
+    private final int maxBatchesPerRun;
+    private final String owner;
+
+    public ReservationExpiryScheduler(
+            ExpireReservationsUseCase expireReservationsUseCase,
+            ObjectProvider<ReservationExpiryTimer> reservationExpiryTimer,
+            @Value("${inventory.reservation.expiry.max-batches-per-run:20}") int maxBatchesPerRun
+    ) {
+        this.expireReservationsUseCase = expireReservationsUseCase;
+        this.reservationExpiryTimer = reservationExpiryTimer;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.owner = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("inventory-api")
+                + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.expiry.interval-ms:5000}")
+    public void expireReservations() {
+        List<Integer> partitions = expireReservationsUseCase.claimPartitions(owner);
+        reservationExpiryTimer.ifAvailable(timer -> timer.onPartitionsClaimed(partitions));
+        for (Integer partition : partitions) {
+            try {
+                expirePartition(partition);
+            } catch (RuntimeException e) {
+                log.error("만료 예약 정리 실패: partition={}", partition, e);
+            }
+        }
+    }
+
+    private void expirePartition(int partition) {
+        LoadExpiredReservationPort.Cursor cursor = null;
+        int expiredCount = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            ExpireReservationsUseCase.Result result = expireReservationsUseCase.expireBatch(partition, cursor);
+            expiredCount += result.expiredCount();
+            cursor = result.next();
+            if (!result.hasMore()) {
+                break;
+            }
+        }
+        if (expiredCount > 0) {
+            log.info("만료 예약 정리 완료: partition={}, expired={}", partition, expiredCount);
+        }
+    }
+}
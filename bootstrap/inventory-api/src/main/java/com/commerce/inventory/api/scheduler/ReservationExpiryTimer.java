@@ -0,0 +1,157 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
+import com.commerce.inventory.application.usecase.ExpireReservationsUseCase;
+import com.commerce.inventory.domain.event.StockReservedEvent;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 만료 타이머
+ *
+ * <p>커밋된 예약마다 만료 시각에 맞춰 {@link HierarchicalTimingWheel}에 만료 작업을 넣고, 만료 시각이 지나면
+ * {@link ExpireReservationsUseCase#expire(List)}로 바로 정리합니다.</p>
+ *
+ * <p>시작할 때 모든 활성 예약을 읽지 않고, {@link ReservationExpiryScheduler}가 임대를 새로 얻은 파티션의 활성 예약만 휠에 채웁니다.
+ * 인스턴스마다 자신이 만든 예약과 자신이 맡은 파티션의 예약만 휠에 두므로 인스턴스 수가 늘어도 복원 비용과 휠 크기가 나뉩니다.
+ * 그 밖의 예약과 정리에 실패한 예약은 파티션을 맡은 인스턴스의 스케줄러가 주기적으로 정리합니다.
+ * 해제·확정된 예약은 휠에서 빼지 않고 정리 시점에 건너뜁니다.</p>
+ *
+ * <p>임대가 넘어가는 동안이나 다른 인스턴스가 만든 예약은 여러 인스턴스에서 동시에 만료될 수 있습니다. 정리할 때 예약 행을 잠그고
+ * 다른 인스턴스가 잠근 예약은 건너뛰므로, 한 인스턴스만 처리하고 나머지 묶음은 롤백되지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.reservation.expiry.timer.enabled", havingValue = "true")
+public class ReservationExpiryTimer implements AutoCloseable {
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+    private final LoadExpiredReservationPort loadExpiredReservationPort;
+    private final Clock clock;
+    private final long tickMs;
+    private final int batchSize;
+    private final HierarchicalTimingWheel<ReservationId> wheel;
+    private final Set<Integer> loadedPartitions = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-expiry-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationExpiryTimer(
+            ExpireReservationsUseCase expireReservationsUseCase,
+            LoadExpiredReservationPort loadExpiredReservationPort,
+            Clock clock,
+            @Value("${inventory.reservation.expiry.timer.tick-ms:100}") long tickMs,
+            @Value("${inventory.reservation.expiry.timer.wheel-size:512}") int wheelSize,
+            @Value("${inventory.reservation.expiry.batch-size:500}") int batchSize
+    ) {
+        this.expireReservationsUseCase = expireReservationsUseCase;
+        this.loadExpiredReservationPort = loadExpiredReservationPort;
+        this.clock = clock;
+        this.tickMs = tickMs;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, clock.millis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 롤백된 예약이 휠에 들어가지 않도록 커밋 이후에 넣습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockReserved(StockReservedEvent event) {
+        schedule(event.getReservation());
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 이 인스턴스가 임대를 가진 파티션을 받아, 새로 얻은 파티션의 활성 예약을 휠에 넣습니다.
+     * 잃은 파티션은 다시 얻을 때 새로 채우도록 잊고, 이미 넣은 예약은 정리 시점에 건너뜁니다.
+     */
+    public void onPartitionsClaimed(Collection<Integer> partitions) {
+        loadedPartitions.retainAll(partitions);
+        for (int partition : partitions) {
+            if (loadedPartitions.add(partition)) {
+                try {
+                    rebuild(partition);
+                } catch (RuntimeException e) {
+                    // 다음 임대 갱신 때 다시 채움
+                    loadedPartitions.remove(partition);
+                    log.warn("예약 만료 타이머 복원 실패: partition={}", partition, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 파티션의 활성 예약을 만료 시각 순서로 나눠 읽어 휠에 넣습니다. 그 사이 새로 커밋된 예약이 중복으로 들어가도 두 번째 정리는 건너뜁니다.
+     */
+    void rebuild(int partition) {
+        LoadExpiredReservationPort.Cursor cursor = null;
+        int count = 0;
+        List<Reservation> page;
+        do {
+            page = loadExpiredReservationPort.findActive(partition, cursor, batchSize);
+            page.forEach(this::schedule);
+            count += page.size();
+            if (!page.isEmpty()) {
+                cursor = LoadExpiredReservationPort.Cursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == batchSize);
+        log.info("예약 만료 타이머 복원 완료: partition={}, reservations={}", partition, count);
+    }
+
+    void tick() {
+        try {
+            List<ReservationId> due = wheel.advance(clock.millis());
+            for (int from = 0; from < due.size(); from += batchSize) {
+                expire(due.subList(from, Math.min(from + batchSize, due.size())));
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 실행이 멈추므로 삼킴
+            log.error("예약 만료 타이머 실행 실패", e);
+        }
+    }
+
+    private void expire(List<ReservationId> reservationIds) {
+        try {
+            int expired = expireReservationsUseCase.expire(reservationIds);
+            if (expired > 0) {
+                log.debug("예약 만료 타이머 정리: requested={}, expired={}", reservationIds.size(), expired);
+            }
+        } catch (RuntimeException e) {
+            // 남은 예약은 만료 예약 정리 스케줄러가 정리
+            log.warn("예약 만료 타이머 정리 실패: reservations={}", reservationIds.size(), e);
+        }
+    }
+
+    private void schedule(Reservation reservation) {
+        LocalDateTime expiresAt = reservation.getExpiresAt();
+        wheel.schedule(reservation.getId(), expiresAt.atZone(clock.getZone()).toInstant().toEpochMilli());
+    }
+}
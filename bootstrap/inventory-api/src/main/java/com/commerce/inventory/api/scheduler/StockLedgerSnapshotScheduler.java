@@ -0,0 +1,40 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.inventory.application.usecase.StockLedgerUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 원장 스냅샷 스케줄러
+ *
+ * <p>원장 순번이 스냅샷 간격을 넘은 SKU의 스냅샷을 예약 트랜잭션 밖에서 주기적으로 저장합니다.</p>
+ */
+@Slf4j
+@Component
+public class StockLedgerSnapshotScheduler {
+
+    private final StockLedgerUseCase stockLedgerUseCase;
+    private final int batchSize;
+
+    public StockLedgerSnapshotScheduler(
+            StockLedgerUseCase stockLedgerUseCase,
+            @Value("${inventory.ledger.snapshot-batch-size:100}") int batchSize
+    ) {
+        this.stockLedgerUseCase = stockLedgerUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.snapshot-flush-interval-ms:1000}")
+    public void snapshotPending() {
+        try {
+            int saved = stockLedgerUseCase.snapshotPending(batchSize);
+            if (saved > 0) {
+                log.debug("재고 원장 스냅샷 저장: skus={}", saved);
+            }
+        } catch (RuntimeException e) {
+            log.error("재고 원장 스냅샷 저장 실패", e);
+        }
+    }
+}
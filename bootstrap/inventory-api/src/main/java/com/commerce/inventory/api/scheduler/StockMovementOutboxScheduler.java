@@ -0,0 +1,62 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.inventory.application.service.port.out.StockMovementOutboxPort;
+import com.commerce.inventory.application.usecase.StockLedgerUseCase;
+import com.commerce.inventory.domain.model.StockMovement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이동 기록 지연 기록 스케줄러
+ *
+ * <p>대기 테이블의 이동 기록에 순번을 할당해 배치 단위 트랜잭션으로 원장에 옮깁니다. 배치가 가득 차면 밀린 기록이 남은 것이므로
+ * 한 번 실행에서 최대 배치 수까지 이어서 옮깁니다. 실패한 배치는 대기 테이블에 남아 다음 실행에서 다시 옮겨집니다.
+ * 옮긴 기록의 순번이 스냅샷 간격을 넘은 SKU는 스냅샷 대상으로 표시합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.ledger.write-behind.enabled", havingValue = "true")
+public class StockMovementOutboxScheduler {
+
+    private final StockMovementOutboxPort stockMovementOutboxPort;
+    private final StockLedgerUseCase stockLedgerUseCase;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public StockMovementOutboxScheduler(
+            StockMovementOutboxPort stockMovementOutboxPort,
+            StockLedgerUseCase stockLedgerUseCase,
+            @Value("${inventory.ledger.write-behind.batch-size:1000}") int batchSize,
+            @Value("${inventory.ledger.write-behind.max-batches-per-run:50}") int maxBatchesPerRun
+    ) {
+        this.stockMovementOutboxPort = stockMovementOutboxPort;
+        this.stockLedgerUseCase = stockLedgerUseCase;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<StockMovement> flushed = stockMovementOutboxPort.flush(batchSize);
+                total += flushed.size();
+                stockLedgerUseCase.recorded(flushed);
+                if (flushed.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("이동 기록 원장 저장 실패: flushed={}", total, e);
+        }
+        if (total > 0) {
+            log.debug("이동 기록 원장 저장: flushed={}", total);
+        }
+    }
+}
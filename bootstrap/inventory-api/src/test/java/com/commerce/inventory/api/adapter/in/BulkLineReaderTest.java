@@ -0,0 +1,82 @@
+package com.commerce.inventory.api.adapter.in;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkLineReader 테스트")
+class BulkLineReaderTest {
+
+    private record Line(long lineNumber, String skuId, Integer quantity, String reference, String error) {
+    }
+
+    private static final BulkLineReader.LineMapper<Line> MAPPER = new BulkLineReader.LineMapper<>() {
+        @Override
+        public Line map(long lineNumber, BulkLineReader.Fields fields) {
+            return new Line(lineNumber, fields.text("skuId"), fields.integer("quantity"), fields.text("reference"), null);
+        }
+
+        @Override
+        public Line invalid(long lineNumber, String message) {
+            return new Line(lineNumber, null, null, null, message);
+        }
+    };
+
+    private static List<Line> read(String body, MediaType contentType) {
+        BulkLineReader<Line> reader = new BulkLineReader<>(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType, new ObjectMapper(), MAPPER);
+        List<Line> lines = new ArrayList<>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄씩 읽고 읽지 못한 줄은 줄 번호와 이유를 남긴다")
+    void shouldReadNdjson() {
+        // given
+        String body = """
+                {"skuId":"SKU-A","quantity":10,"reference":"PO-1"}
+
+                {"skuId":"SKU-B","quantity":"abc"}
+                not json
+                {"skuId":"SKU-C","quantity":"5"}
+                """;
+
+        // when
+        List<Line> lines = read(body, BulkLineReader.APPLICATION_NDJSON);
+
+        // then
+        assertThat(lines).containsExactly(
+                new Line(1, "SKU-A", 10, "PO-1", null),
+                new Line(3, null, null, null, "quantity 값이 정수가 아닙니다: abc"),
+                new Line(4, null, null, null, "JSON 형식이 아닙니다"),
+                new Line(5, "SKU-C", 5, null, null));
+    }
+
+    @Test
+    @DisplayName("CSV는 머리글의 열 이름으로 값을 찾고 큰따옴표 안의 쉼표는 나누지 않는다")
+    void shouldReadCsvWithHeader() {
+        // given
+        String body = "quantity,skuId,reference\n"
+                + "10,SKU-A,\"PO-1, dock 3\"\n"
+                + "7,SKU-B,\n"
+                + "1,SKU-C,x,extra\n";
+
+        // when
+        List<Line> lines = read(body, MediaType.parseMediaType("text/csv; charset=UTF-8"));
+
+        // then
+        assertThat(lines).containsExactly(
+                new Line(2, "SKU-A", 10, "PO-1, dock 3", null),
+                new Line(3, "SKU-B", 7, null, null),
+                new Line(4, null, null, null, "열 개수가 머리글보다 많습니다"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.commerce.inventory.api.adapter.out;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.event.HotStockReservationFailedEvent;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
+import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.infrastructure.event.kafka.KafkaEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockEventKafkaRelay 테스트")
+class StockEventKafkaRelayTest {
+
+    private static final SkuId SKU_ID = new SkuId("SKU-001");
+
+    @Mock
+    private KafkaEventPublisher kafkaEventPublisher;
+
+    private StockEventKafkaRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new StockEventKafkaRelay(kafkaEventPublisher);
+    }
+
+    @Test
+    @DisplayName("가용 재고를 바꾸는 이벤트는 Kafka로 발행한다")
+    void shouldPublishStockChangingEvents() {
+        // given
+        ReservationReleasedEvent released = new ReservationReleasedEvent(SKU_ID, new ReservationId("RES-001"), Quantity.of(1));
+        StockReceivedEvent received = new StockReceivedEvent(SKU_ID, Quantity.of(10), "PO-001");
+        StockDepletedEvent depleted = new StockDepletedEvent(SKU_ID);
+
+        // when
+        relay.onInventoryChanged(released);
+        relay.onInventoryChanged(received);
+        relay.onInventoryChanged(depleted);
+
+        // then
+        then(kafkaEventPublisher).should().publish(released);
+        then(kafkaEventPublisher).should().publish(received);
+        then(kafkaEventPublisher).should().publish(depleted);
+    }
+
+    @Test
+    @DisplayName("가용 재고를 바꾸지 않는 이벤트는 발행하지 않는다")
+    void shouldIgnoreOtherInventoryEvents() {
+        // when
+        relay.onInventoryChanged(new HotStockReservationFailedEvent(SKU_ID, new ReservationId("RES-001"), Quantity.of(1), "ORDER-001"));
+
+        // then
+        then(kafkaEventPublisher).should(never()).publish(any());
+    }
+}
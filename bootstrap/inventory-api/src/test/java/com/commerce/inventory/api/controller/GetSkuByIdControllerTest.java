@@ -4,11 +4,13 @@ import com.commerce.inventory.api.dto.GetSkuByIdResponseDto;
 import com.commerce.inventory.api.exception.GlobalExceptionHandler;
 import com.commerce.inventory.api.mapper.InventoryMapper;
 import com.commerce.inventory.application.usecase.CreateSkuUseCase;
+import com.commerce.inventory.application.usecase.GetInventoryAvailabilityUseCase;
 import com.commerce.inventory.application.usecase.GetSkuByIdQuery;
 import com.commerce.inventory.application.usecase.GetSkuByIdResponse;
 import com.commerce.inventory.application.usecase.GetSkuByIdUseCase;
 import com.commerce.inventory.application.usecase.ReceiveStockUseCase;
 import com.commerce.inventory.application.usecase.ReleaseReservationUseCase;
+import com.commerce.inventory.application.usecase.ReleaseReservationsByOrderUseCase;
 import com.commerce.inventory.application.usecase.ReserveStockUseCase;
 import com.commerce.inventory.domain.exception.SkuNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -52,6 +54,12 @@ class GetSkuByIdControllerTest {
     @MockBean
     private ReleaseReservationUseCase releaseReservationUseCase;
 
+    @MockBean
+    private ReleaseReservationsByOrderUseCase releaseReservationsByOrderUseCase;
+
+    @MockBean
+    private GetInventoryAvailabilityUseCase getInventoryAvailabilityUseCase;
+
     @MockBean
     private InventoryMapper inventoryMapper;
 
@@ -1,6 +1,7 @@
 package com.commerce.inventory.api.controller;
 
 import com.commerce.inventory.api.dto.CreateSkuRequest;
+import com.commerce.inventory.api.dto.InventoryAvailabilityBatchRequest;
 import com.commerce.inventory.api.dto.ReserveStockRequest;
 import com.commerce.inventory.application.service.port.out.*;
 import com.commerce.inventory.application.usecase.*;
@@ -30,6 +31,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -63,6 +65,15 @@ class InventoryControllerTest {
     @MockBean
     private ReleaseReservationUseCase releaseReservationUseCase;
     
+    @MockBean
+    private ReleaseReservationsByOrderUseCase releaseReservationsByOrderUseCase;
+    
+    @MockBean
+    private GetInventoriesUseCase getInventoriesUseCase;
+    
+    @MockBean
+    private GetInventoryAvailabilityUseCase getInventoryAvailabilityUseCase;
+    
     // CreateSkuService 의존성들을 Mock으로 추가
     @MockBean
     private LoadSkuPort loadSkuPort;
@@ -554,4 +565,126 @@ class InventoryControllerTest {
                     .andExpect(status().isConflict());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("DELETE /api/inventory/orders/{orderId}/reservations - 주문 예약 일괄 취소")
+    class ReleaseReservationsByOrder {
+
+        @BeforeEach
+        void setUp() {
+            Mockito.reset(releaseReservationsByOrderUseCase);
+        }
+
+        @Test
+        @DisplayName("주문 ID로 주문의 예약을 한 번에 취소한다")
+        void shouldReleaseReservationsByOrder() throws Exception {
+            // Given
+            given(releaseReservationsByOrderUseCase.releaseByOrder(any(ReleaseReservationsByOrderCommand.class)))
+                    .willReturn(3);
+
+            // When & Then
+            mockMvc.perform(delete("/api/inventory/orders/{orderId}/reservations", "ORDER-001"))
+                    .andExpect(status().isNoContent());
+
+            verify(releaseReservationsByOrderUseCase, Mockito.times(1))
+                    .releaseByOrder(Mockito.argThat(command -> "ORDER-001".equals(command.getOrderId())));
+        }
+
+        @Test
+        @DisplayName("취소할 예약이 없어도 204를 반환한다")
+        void shouldReturnNoContentWhenNothingToRelease() throws Exception {
+            // Given
+            given(releaseReservationsByOrderUseCase.releaseByOrder(any(ReleaseReservationsByOrderCommand.class)))
+                    .willReturn(0);
+
+            // When & Then
+            mockMvc.perform(delete("/api/inventory/orders/{orderId}/reservations", "ORDER-404"))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/inventory/availability:batch - 재고 가용 수량 일괄 조회")
+    class GetAvailabilityBatch {
+
+        @Test
+        @DisplayName("여러 SKU의 재고 수량을 한 번에 조회한다")
+        void shouldReturnQuantitiesForAllRequestedSkus() throws Exception {
+            // Given
+            InventoryAvailabilityBatchRequest request = InventoryAvailabilityBatchRequest.builder()
+                    .skuId("SKU-001")
+                    .skuId("SKU-002")
+                    .build();
+
+            given(getInventoriesUseCase.execute(any(GetInventoriesQuery.class)))
+                    .willReturn(java.util.List.of(
+                            new InventoryResponse("SKU-001", 100, 10, 90, 3L),
+                            InventoryResponse.empty("SKU-002")
+                    ));
+
+            // When & Then
+            mockMvc.perform(post("/api/inventory/availability:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items").isArray())
+                    .andExpect(jsonPath("$.items[0].skuId").value("SKU-001"))
+                    .andExpect(jsonPath("$.items[0].totalQuantity").value(100))
+                    .andExpect(jsonPath("$.items[0].reservedQuantity").value(10))
+                    .andExpect(jsonPath("$.items[0].availableQuantity").value(90))
+                    .andExpect(jsonPath("$.items[0].version").value(3))
+                    .andExpect(jsonPath("$.items[1].skuId").value("SKU-002"))
+                    .andExpect(jsonPath("$.items[1].availableQuantity").value(0));
+
+            verify(getInventoriesUseCase).execute(any(GetInventoriesQuery.class));
+        }
+
+        @Test
+        @DisplayName("SKU ID 목록이 비어있으면 400 에러를 반환한다")
+        void shouldReturnBadRequestWhenSkuIdsIsEmpty() throws Exception {
+            // Given
+            InventoryAvailabilityBatchRequest request = InventoryAvailabilityBatchRequest.builder()
+                    .build();
+
+            // When & Then
+            mockMvc.perform(post("/api/inventory/availability:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/inventory/availability - 읽기 모델 기반 재고 가용 수량 조회")
+    class GetAvailability {
+
+        @Test
+        @DisplayName("읽기 모델의 수량과 뒤처진 정도를 함께 반환한다")
+        void shouldReturnProjectedQuantitiesWithLag() throws Exception {
+            // Given
+            LocalDateTime projectedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            given(getInventoryAvailabilityUseCase.execute(new GetInventoriesQuery(java.util.List.of("SKU-001", "SKU-002"))))
+                    .willReturn(new InventoryAvailabilityResponse(
+                            java.util.List.of(
+                                    new InventoryResponse("SKU-001", 100, 10, 90, 3L),
+                                    InventoryResponse.empty("SKU-002")
+                            ),
+                            new ProjectionLag(2, projectedAt.minusNanos(150_000_000), projectedAt, 150)
+                    ));
+
+            // When & Then
+            mockMvc.perform(get("/api/inventory/availability")
+                            .param("skuIds", "SKU-001,SKU-002"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].skuId").value("SKU-001"))
+                    .andExpect(jsonPath("$.items[0].availableQuantity").value(90))
+                    .andExpect(jsonPath("$.items[0].version").value(3))
+                    .andExpect(jsonPath("$.items[1].skuId").value("SKU-002"))
+                    .andExpect(jsonPath("$.items[1].availableQuantity").value(0))
+                    .andExpect(jsonPath("$.lagMillis").value(150))
+                    .andExpect(jsonPath("$.pendingSkuCount").value(2));
+
+            verify(getInventoriesUseCase, Mockito.never()).execute(any(GetInventoriesQuery.class));
+        }
+    }
+}
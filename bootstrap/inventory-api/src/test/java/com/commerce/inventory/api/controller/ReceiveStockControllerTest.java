@@ -3,10 +3,12 @@ package com.commerce.inventory.api.controller;
 import com.commerce.inventory.api.dto.ReceiveStockRequest;
 import com.commerce.inventory.api.mapper.InventoryMapper;
 import com.commerce.inventory.application.usecase.CreateSkuUseCase;
+import com.commerce.inventory.application.usecase.GetInventoryAvailabilityUseCase;
 import com.commerce.inventory.application.usecase.GetSkuByIdUseCase;
 import com.commerce.inventory.application.usecase.ReceiveStockCommand;
 import com.commerce.inventory.application.usecase.ReceiveStockUseCase;
 import com.commerce.inventory.application.usecase.ReleaseReservationUseCase;
+import com.commerce.inventory.application.usecase.ReleaseReservationsByOrderUseCase;
 import com.commerce.inventory.application.usecase.ReserveStockUseCase;
 import com.commerce.inventory.domain.exception.SkuNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -53,6 +55,12 @@ class ReceiveStockControllerTest {
     @MockBean
     private ReleaseReservationUseCase releaseReservationUseCase;
 
+    @MockBean
+    private ReleaseReservationsByOrderUseCase releaseReservationsByOrderUseCase;
+
+    @MockBean
+    private GetInventoryAvailabilityUseCase getInventoryAvailabilityUseCase;
+
     @MockBean
     private InventoryMapper inventoryMapper;
 
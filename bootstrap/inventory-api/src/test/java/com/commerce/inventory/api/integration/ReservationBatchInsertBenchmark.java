@@ -0,0 +1,111 @@
+package com.commerce.inventory.api.integration;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 저장 방식별 주문당 JDBC 왕복 횟수 비교
+ *
+ * <p>대량 주문 하나의 예약을 한 트랜잭션에서 저장할 때, 예약마다 INSERT를 보내는 기존 방식과
+ * {@link SaveReservationPort#saveAll(List)}의 배치 INSERT를 비교합니다. 왕복 횟수는 Hibernate가 준비한 문장 수로 셉니다.
+ * 기본 테스트에서는 제외되며 {@code ./gradlew :inventory-api:benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("예약 일괄 저장 벤치마크")
+class ReservationBatchInsertBenchmark {
+
+    private static final int ORDERS = 20;
+    private static final int ITEMS_PER_ORDER = 50;
+
+    @Autowired
+    private SaveReservationPort saveReservationPort;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("예약마다 저장할 때와 일괄 저장할 때의 주문당 왕복 횟수를 비교한다")
+    void compareRoundTripsPerOrder() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        run(statistics, false, "WARMUP");
+        Result individual = run(statistics, false, "INDIVIDUAL");
+        Result batched = run(statistics, true, "BATCHED");
+
+        System.out.printf("%-12s %16s %14s%n", "mode", "round trips/order", "ms/order");
+        print("individual", individual);
+        print("batched", batched);
+
+        assertThat(individual.roundTripsPerOrder()).isGreaterThanOrEqualTo(ITEMS_PER_ORDER);
+        assertThat(batched.roundTripsPerOrder()).isLessThan(individual.roundTripsPerOrder());
+    }
+
+    private Result run(Statistics statistics, boolean batched, String orderPrefix) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+
+        for (int order = 0; order < ORDERS; order++) {
+            List<Reservation> reservations = createReservations(orderPrefix + "-" + order);
+            transactionTemplate.executeWithoutResult(status -> {
+                if (batched) {
+                    saveReservationPort.saveAll(reservations);
+                } else {
+                    // 변경 전 방식: JDBC 배치 없이 예약마다 INSERT
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+                    reservations.forEach(saveReservationPort::save);
+                }
+            });
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new Result(statistics.getPrepareStatementCount() / (double) ORDERS, elapsedNanos / (double) ORDERS);
+    }
+
+    private List<Reservation> createReservations(String orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = new ArrayList<>(ITEMS_PER_ORDER);
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            reservations.add(Reservation.createWithTTL(
+                    new SkuId("BENCH-SKU-" + i), Quantity.of(1), orderId, 900, now));
+        }
+        return reservations;
+    }
+
+    private static void print(String mode, Result result) {
+        System.out.printf("%-12s %16.1f %14.2f%n",
+                mode,
+                result.roundTripsPerOrder(),
+                result.nanosPerOrder() / 1_000_000.0);
+    }
+
+    private record Result(double roundTripsPerOrder, double nanosPerOrder) {}
+}
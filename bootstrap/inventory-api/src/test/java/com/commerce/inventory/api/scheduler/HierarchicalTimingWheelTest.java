@@ -0,0 +1,81 @@
+package com.commerce.inventory.api.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HierarchicalTimingWheel 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 100;
+
+    @Test
+    @DisplayName("작업은 마감 시각이 지난 뒤 한 칸 안에 꺼내진다")
+    void shouldFireAfterDeadlineWithinOneTick() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 4, 0);
+        wheel.schedule("A", 250);
+
+        // when & then
+        assertThat(wheel.advance(250)).isEmpty();
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("A");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴를 넘는 마감 시각은 위 단을 거쳐 제때 꺼내진다")
+    void shouldCascadeFromHigherLevels() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, 4, 0);
+        List<Long> deadlines = List.of(150L, 420L, 1_650L, 6_399L, 6_400L, 25_000L);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        // when
+        List<Long> firedTooEarly = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 30_000; now += TICK_MS) {
+            for (Long deadline : wheel.advance(now)) {
+                if (deadline >= now) {
+                    firedTooEarly.add(deadline);
+                }
+                assertThat(now - deadline).isLessThanOrEqualTo(TICK_MS);
+                fired.add(deadline);
+            }
+        }
+
+        // then
+        assertThat(firedTooEarly).isEmpty();
+        assertThat(fired).containsExactlyElementsOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("지난 마감 시각의 작업과 건너뛴 시각의 작업은 다음 진행에서 한 번에 꺼내진다")
+    void shouldFireOverdueTasksOnNextAdvance() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 4, 1_000);
+        wheel.schedule("past", 500);
+        wheel.schedule("future", 2_000);
+
+        // when
+        List<String> fired = wheel.advance(5_000);
+
+        // then
+        assertThat(fired).containsExactlyInAnyOrder("past", "future");
+    }
+
+    @Test
+    @DisplayName("칸 간격이 0 이하이거나 휠 크기가 2 미만이면 생성할 수 없다")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, 4, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(TICK_MS, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
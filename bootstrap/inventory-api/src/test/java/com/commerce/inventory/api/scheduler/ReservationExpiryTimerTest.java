@@ -0,0 +1,94 @@
+package com.commerce.inventory.api.scheduler;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
+import com.commerce.inventory.application.usecase.ExpireReservationsUseCase;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationExpiryTimer 테스트")
+class ReservationExpiryTimerTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-01-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(FIXED_CLOCK);
+
+    @Mock
+    private ExpireReservationsUseCase expireReservationsUseCase;
+
+    @Mock
+    private LoadExpiredReservationPort loadExpiredReservationPort;
+
+    private ReservationExpiryTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new ReservationExpiryTimer(expireReservationsUseCase, loadExpiredReservationPort, FIXED_CLOCK, 100, 512, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    private static Reservation expiredReservation(String reservationId) {
+        return Reservation.create(new ReservationId(reservationId), new SkuId("SKU-001"), Quantity.of(1), "ORDER-001",
+                NOW.minusMinutes(1), NOW.minusMinutes(16));
+    }
+
+    @Test
+    @DisplayName("임대를 새로 얻은 파티션의 활성 예약만 휠에 채우고 만료 시각이 지나면 정리한다")
+    void shouldLoadOnlyClaimedPartitions() {
+        // given
+        given(loadExpiredReservationPort.findActive(1, null, 500)).willReturn(List.of(expiredReservation("R1")));
+        given(loadExpiredReservationPort.findActive(3, null, 500)).willReturn(List.of());
+
+        // when
+        timer.onPartitionsClaimed(List.of(1, 3));
+        timer.tick();
+
+        // then
+        then(loadExpiredReservationPort).should(times(2)).findActive(anyInt(), any(), anyInt());
+        then(expireReservationsUseCase).should().expire(List.of(new ReservationId("R1")));
+    }
+
+    @Test
+    @DisplayName("임대를 갱신한 파티션은 다시 읽지 않고, 잃었다가 다시 얻은 파티션만 새로 채운다")
+    void shouldReloadOnlyReclaimedPartitions() {
+        // given
+        given(loadExpiredReservationPort.findActive(anyInt(), any(), anyInt())).willReturn(List.of());
+
+        // when
+        timer.onPartitionsClaimed(List.of(1, 3));
+        timer.onPartitionsClaimed(List.of(1, 3));
+        timer.onPartitionsClaimed(List.of(3));
+        timer.onPartitionsClaimed(List.of(1, 3));
+
+        // then
+        then(loadExpiredReservationPort).should(times(2)).findActive(eq(1), any(), anyInt());
+        then(loadExpiredReservationPort).should(times(1)).findActive(eq(3), any(), anyInt());
+        then(loadExpiredReservationPort).should(never()).findActive(eq(0), any(), anyInt());
+    }
+}
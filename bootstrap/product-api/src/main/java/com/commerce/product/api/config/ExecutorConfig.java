@@ -1,15 +1,35 @@
 package com.commerce.product.api.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 재고 조회/예약처럼 블로킹 I/O가 포함된 작업을 실행하는 Executor 설정
+ *
+ * <p>{@code executor.io-task.mode}로 실행 방식을 선택합니다.</p>
+ * <ul>
+ *   <li>{@code platform} (기본값): 크기가 고정된 플랫폼 스레드 풀</li>
+ *   <li>{@code virtual}: 작업마다 가상 스레드를 생성하고, 동시에 실행되는 작업 수를
+ *       {@code executor.io-task.virtual.concurrency-limit}로 제한합니다.
+ *       제한에 도달하면 제출한 스레드가 자리가 날 때까지 대기합니다.</li>
+ * </ul>
+ */
+@Slf4j
 @Configuration
 public class ExecutorConfig {
     
+    static final String MODE_PLATFORM = "platform";
+    static final String MODE_VIRTUAL = "virtual";
+    
+    @Value("${executor.io-task.mode:platform}")
+    private String mode;
+    
     @Value("${executor.io-task.core-pool-size:10}")
     private int corePoolSize;
     
@@ -19,17 +39,46 @@ public class ExecutorConfig {
     @Value("${executor.io-task.queue-capacity:100}")
     private int queueCapacity;
     
+    @Value("${executor.io-task.virtual.concurrency-limit:200}")
+    private int concurrencyLimit;
+    
     @Value("${executor.io-task.thread-name-prefix:io-task-}")
     private String threadNamePrefix;
     
     @Bean(name = "ioTaskExecutor")
     public Executor ioTaskExecutor() {
+        return switch (mode) {
+            case MODE_PLATFORM -> platformThreadExecutor();
+            case MODE_VIRTUAL -> virtualThreadExecutor();
+            default -> throw new IllegalStateException(
+                    "지원하지 않는 executor.io-task.mode 입니다: " + mode + " (platform, virtual 중 하나여야 합니다)");
+        };
+    }
+    
+    ThreadPoolTaskExecutor platformThreadExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix(threadNamePrefix);
         executor.initialize();
+        
+        log.info("I/O task executor: platform threads (core: {}, max: {}, queue: {})",
+                corePoolSize, maxPoolSize, queueCapacity);
+        return executor;
+    }
+    
+    SimpleAsyncTaskExecutor virtualThreadExecutor() {
+        if (concurrencyLimit <= 0) {
+            throw new IllegalStateException(
+                    "executor.io-task.virtual.concurrency-limit는 0보다 커야 합니다: " + concurrencyLimit);
+        }
+        
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        
+        log.info("I/O task executor: virtual threads (concurrency limit: {})", concurrencyLimit);
         return executor;
     }
 }
@@ -17,6 +17,22 @@ import java.util.concurrent.Executor;
 @Configuration
 public class ServiceConfig {
     
+    @Bean
+    public BundleReservationSagaOrchestrator bundleReservationSagaOrchestrator(
+            InventoryRepository inventoryRepository,
+            LockRepository lockRepository,
+            SagaRepository sagaRepository,
+            DomainEventPublisher eventPublisher,
+            @Qualifier("ioTaskExecutor") Executor ioTaskExecutor) {
+        return new BundleReservationSagaOrchestrator(
+                inventoryRepository,
+                lockRepository,
+                sagaRepository,
+                eventPublisher,
+                ioTaskExecutor
+        );
+    }
+    
     @Bean
     public StockAvailabilityService stockAvailabilityService(
             InventoryRepository inventoryRepository,
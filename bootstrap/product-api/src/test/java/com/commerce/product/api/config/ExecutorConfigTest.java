@@ -0,0 +1,104 @@
+package com.commerce.product.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExecutorConfig 테스트")
+class ExecutorConfigTest {
+    
+    private ExecutorConfig executorConfig;
+    
+    @BeforeEach
+    void setUp() {
+        executorConfig = new ExecutorConfig();
+        ReflectionTestUtils.setField(executorConfig, "corePoolSize", 2);
+        ReflectionTestUtils.setField(executorConfig, "maxPoolSize", 4);
+        ReflectionTestUtils.setField(executorConfig, "queueCapacity", 10);
+        ReflectionTestUtils.setField(executorConfig, "concurrencyLimit", 2);
+        ReflectionTestUtils.setField(executorConfig, "threadNamePrefix", "io-task-");
+    }
+    
+    @Test
+    @DisplayName("기본 모드는 플랫폼 스레드 풀을 사용한다")
+    void platformMode() {
+        // given
+        ReflectionTestUtils.setField(executorConfig, "mode", ExecutorConfig.MODE_PLATFORM);
+        
+        // when
+        Executor executor = executorConfig.ioTaskExecutor();
+        
+        // then
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        ((ThreadPoolTaskExecutor) executor).shutdown();
+    }
+    
+    @Test
+    @DisplayName("virtual 모드는 가상 스레드에서 작업을 실행한다")
+    void virtualMode_runsOnVirtualThreads() throws Exception {
+        // given
+        ReflectionTestUtils.setField(executorConfig, "mode", ExecutorConfig.MODE_VIRTUAL);
+        Executor executor = executorConfig.ioTaskExecutor();
+        
+        // when
+        Boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor)
+                .get(5, TimeUnit.SECONDS);
+        
+        // then
+        assertThat(virtual).isTrue();
+    }
+    
+    @Test
+    @DisplayName("virtual 모드는 동시에 실행되는 작업 수를 제한한다")
+    void virtualMode_limitsConcurrency() throws Exception {
+        // given
+        ReflectionTestUtils.setField(executorConfig, "mode", ExecutorConfig.MODE_VIRTUAL);
+        Executor executor = executorConfig.ioTaskExecutor();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        int taskCount = 10;
+        CountDownLatch done = new CountDownLatch(taskCount);
+        
+        // when
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("지원하지 않는 모드면 예외가 발생한다")
+    void unknownMode() {
+        // given
+        ReflectionTestUtils.setField(executorConfig, "mode", "fork-join");
+        
+        // when & then
+        assertThatThrownBy(() -> executorConfig.ioTaskExecutor())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fork-join");
+    }
+}
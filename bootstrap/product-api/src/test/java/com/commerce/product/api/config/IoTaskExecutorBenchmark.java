@@ -0,0 +1,136 @@
+package com.commerce.product.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * I/O 작업 Executor 모드별 처리량과 p99 지연 시간 비교
+ *
+ * <p>상품 상세 요청 하나가 옵션 수만큼 블로킹 재고 조회를 Executor에 제출하고 모두 끝날 때까지
+ * 기다리는 상황을 흉내냅니다. 기본 테스트에서는 제외되며 {@code ./gradlew :product-api:benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DisplayName("I/O 작업 Executor 벤치마크")
+class IoTaskExecutorBenchmark {
+    
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int OPTIONS_PER_PRODUCT = 4;
+    private static final long INVENTORY_LATENCY_MILLIS = 20;
+    
+    @Test
+    @DisplayName("플랫폼 스레드 풀과 가상 스레드의 처리량과 p99를 비교한다")
+    void compareExecutorModes() throws Exception {
+        Result warmUp = run(createExecutor(ExecutorConfig.MODE_VIRTUAL));
+        Result platform = run(createExecutor(ExecutorConfig.MODE_PLATFORM));
+        Result virtual = run(createExecutor(ExecutorConfig.MODE_VIRTUAL));
+        
+        System.out.printf("%-10s %12s %10s %10s%n", "mode", "req/s", "p99(ms)", "rejected");
+        print(ExecutorConfig.MODE_PLATFORM, platform);
+        print(ExecutorConfig.MODE_VIRTUAL, virtual);
+        
+        assertThat(warmUp.completed()).isPositive();
+        assertThat(virtual.rejected()).isZero();
+    }
+    
+    /**
+     * application.yml 기본값과 같은 설정으로 Executor를 생성합니다.
+     */
+    private Executor createExecutor(String mode) {
+        ExecutorConfig config = new ExecutorConfig();
+        ReflectionTestUtils.setField(config, "mode", mode);
+        ReflectionTestUtils.setField(config, "corePoolSize", 10);
+        ReflectionTestUtils.setField(config, "maxPoolSize", 50);
+        ReflectionTestUtils.setField(config, "queueCapacity", 100);
+        ReflectionTestUtils.setField(config, "concurrencyLimit", 200);
+        ReflectionTestUtils.setField(config, "threadNamePrefix", "bench-" + mode + "-");
+        return config.ioTaskExecutor();
+    }
+    
+    private Result run(Executor executor) throws Exception {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int client = 0; client < CONCURRENT_REQUESTS; client++) {
+                futures.add(clients.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long requestStartedAt = System.nanoTime();
+                        try {
+                            handleProductRequest(executor);
+                            latencies.add(System.nanoTime() - requestStartedAt);
+                        } catch (RuntimeException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            clients.shutdownNow();
+            if (executor instanceof DisposableBean disposable) {
+                disposable.destroy();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        
+        return new Result(latencies.size(), rejected.get(), elapsedNanos, percentile(new ArrayList<>(latencies), 0.99));
+    }
+    
+    private void handleProductRequest(Executor executor) {
+        CompletableFuture<?>[] options = new CompletableFuture<?>[OPTIONS_PER_PRODUCT];
+        for (int i = 0; i < OPTIONS_PER_PRODUCT; i++) {
+            options[i] = CompletableFuture.runAsync(IoTaskExecutorBenchmark::blockingInventoryCall, executor);
+        }
+        CompletableFuture.allOf(options).join();
+    }
+    
+    private static void blockingInventoryCall() {
+        try {
+            Thread.sleep(INVENTORY_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static long percentile(List<Long> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(values);
+        int index = (int) Math.ceil(percentile * values.size()) - 1;
+        return values.get(Math.max(index, 0));
+    }
+    
+    private static void print(String mode, Result result) {
+        System.out.printf("%-10s %12.1f %10.1f %10d%n",
+                mode,
+                result.completed() / (result.elapsedNanos() / 1_000_000_000.0),
+                result.p99Nanos() / 1_000_000.0,
+                result.rejected());
+    }
+    
+    private record Result(int completed, int rejected, long elapsedNanos, long p99Nanos) {}
+}
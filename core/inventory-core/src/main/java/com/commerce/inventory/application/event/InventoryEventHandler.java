@@ -2,19 +2,23 @@ package com.commerce.inventory.application.event;
 
 import com.commerce.common.event.DomainEvent;
 import com.commerce.common.event.DomainEventPublisher;
+import com.commerce.inventory.domain.event.HotStockReservationFailedEvent;
 import com.commerce.inventory.domain.event.StockReceivedEvent;
 import com.commerce.inventory.domain.event.StockReservedEvent;
 import com.commerce.inventory.domain.event.ReservationReleasedEvent;
 import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.ReservationConfirmedEvent;
+import com.commerce.inventory.domain.event.StockDeductedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 재고 도메인 이벤트 핸들러
  * 내부 도메인 이벤트를 수신하여 필요한 처리를 수행합니다.
+ * 트랜잭션 안에서 발행된 이벤트는 커밋된 뒤에만 외부로 전달합니다.
  */
 @Slf4j
 @Component
@@ -23,7 +27,7 @@ public class InventoryEventHandler {
     
     private final DomainEventPublisher domainEventPublisher;
     
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handle(StockReceivedEvent event) {
         log.info("Stock received event: SKU={}, quantity={}, reference={}", 
@@ -35,7 +39,7 @@ public class InventoryEventHandler {
         domainEventPublisher.publish(event);
     }
     
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handle(StockReservedEvent event) {
         log.info("Stock reserved event: SKU={}, reservationId={}, quantity={}", 
@@ -47,7 +51,7 @@ public class InventoryEventHandler {
         domainEventPublisher.publish(event);
     }
     
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handle(ReservationReleasedEvent event) {
         log.info("Reservation released event: SKU={}, reservationId={}", 
@@ -58,7 +62,7 @@ public class InventoryEventHandler {
         domainEventPublisher.publish(event);
     }
     
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     @Async
     public void handle(StockDepletedEvent event) {
         log.warn("Stock depleted event: SKU={}", event.getSkuId().value());
@@ -66,4 +70,40 @@ public class InventoryEventHandler {
         // 외부 시스템으로 이벤트 발행
         domainEventPublisher.publish(event);
     }
-}
\ No newline at end of file
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Async
+    public void handle(ReservationConfirmedEvent event) {
+        log.info("Reservation confirmed event: SKU={}, quantity={}", 
+            event.getSkuId().value(),
+            event.getQuantity().value());
+        
+        // 외부 시스템으로 이벤트 발행
+        domainEventPublisher.publish(event);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Async
+    public void handle(StockDeductedEvent event) {
+        log.info("Stock deducted event: SKU={}, quantity={}, reference={}", 
+            event.getSkuId().value(),
+            event.getQuantity().value(),
+            event.getReference());
+        
+        // 외부 시스템으로 이벤트 발행
+        domainEventPublisher.publish(event);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    @Async
+    public void handle(HotStockReservationFailedEvent event) {
+        log.error("Hot stock reservation failed event: SKU={}, reservationId={}, orderId={}, quantity={}",
+            event.getSkuId().value(),
+            event.getReservationId().value(),
+            event.getOrderId(),
+            event.getQuantity().value());
+        
+        // 외부 시스템으로 이벤트 발행
+        domainEventPublisher.publish(event);
+    }
+}
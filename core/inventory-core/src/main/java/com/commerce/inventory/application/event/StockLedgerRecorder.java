@@ -0,0 +1,167 @@
+package com.commerce.inventory.application.event;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.SaveStockMovementPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
+import com.commerce.inventory.application.usecase.StockLedgerUseCase;
+import com.commerce.inventory.domain.event.AbstractInventoryEvent;
+import com.commerce.inventory.domain.event.ReservationConfirmedEvent;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
+import com.commerce.inventory.domain.event.StockDeductedEvent;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.event.StockReservedEvent;
+import com.commerce.inventory.domain.model.MovementType;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockMovement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 원장 기록기
+ *
+ * <p>수량을 바꾸는 재고 도메인 이벤트를 같은 트랜잭션 안에서 받아 모아 두었다가, 커밋 직전에 이동 기록을 일괄 저장합니다.
+ * 변경 경로마다 기록을 따로 저장하지 않으므로 조건부 UPDATE 경로와 도메인 경로가 같은 원장을 남기고, 트랜잭션이 롤백되면
+ * 기록도 함께 취소됩니다.</p>
+ *
+ * <p>지연 기록 모드({@code inventory.ledger.write-behind.enabled=true})에서는 순번 없이 저장하고, 대기 기록을 원장으로 옮기는
+ * 기록기가 SKU마다 순번을 할당합니다. 변경 트랜잭션은 SKU 행을 건드리지 않으므로 샤드를 사용하는 SKU의 예약이 샤드 수만큼
+ * 동시에 커밋됩니다.</p>
+ *
+ * <p>지연 기록을 끄면 커밋 직전에 SKU 행에서 순번을 할당합니다. 이미 그 행을 잠근 트랜잭션에는 문장 하나만 더해지지만,
+ * 샤드를 사용하는 SKU의 트랜잭션은 모두 이 할당에서 차례를 기다립니다. 여러 SKU는 SKU ID 순으로 할당해 교착을 피합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLedgerRecorder {
+
+    private final SaveStockMovementPort saveStockMovementPort;
+    private final StockLedgerSequencePort stockLedgerSequencePort;
+    private final StockLedgerUseCase stockLedgerUseCase;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+
+    @Value("${inventory.ledger.write-behind.enabled:false}")
+    private boolean writeBehind;
+
+    @EventListener
+    public void record(AbstractInventoryEvent event) {
+        LedgerEntry entry = toEntry(event);
+        if (entry == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentBuffer().add(entry);
+        } else {
+            // 트랜잭션 밖에서 발행된 이벤트는 기록만 별도 트랜잭션으로 남김
+            transactionOperations.executeWithoutResult(status -> currentBuffer().add(entry));
+        }
+    }
+
+    private LedgerBuffer currentBuffer() {
+        LedgerBuffer buffer = (LedgerBuffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new LedgerBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        return buffer;
+    }
+
+    private static LedgerEntry toEntry(AbstractInventoryEvent event) {
+        if (event instanceof StockReceivedEvent received) {
+            return new LedgerEntry(received.getSkuId(), MovementType.RECEIVE, received.getQuantity(),
+                    referenceOrEventId(received.getReference(), event));
+        }
+        if (event instanceof StockReservedEvent reserved) {
+            return new LedgerEntry(reserved.getSkuId(), MovementType.RESERVE, reserved.getReservation().getQuantity(),
+                    reserved.getReservation().getId().value());
+        }
+        if (event instanceof ReservationReleasedEvent released) {
+            return new LedgerEntry(released.getSkuId(), MovementType.RELEASE, released.getQuantity(),
+                    released.getReservationId().value());
+        }
+        if (event instanceof ReservationConfirmedEvent confirmed) {
+            return new LedgerEntry(confirmed.getSkuId(), MovementType.CONFIRM, confirmed.getQuantity(), event.getEventId());
+        }
+        if (event instanceof StockDeductedEvent deducted) {
+            return new LedgerEntry(deducted.getSkuId(), MovementType.OUTBOUND, deducted.getQuantity(),
+                    referenceOrEventId(deducted.getReference(), event));
+        }
+        // 재고 소진 등 수량을 바꾸지 않는 이벤트
+        return null;
+    }
+
+    private static String referenceOrEventId(String reference, AbstractInventoryEvent event) {
+        return reference == null || reference.isBlank() ? event.getEventId() : reference;
+    }
+
+    private record LedgerEntry(SkuId skuId, MovementType type, Quantity quantity, String reference) {
+    }
+
+    /**
+     * 트랜잭션 하나에서 발생한 원장 기록
+     */
+    private class LedgerBuffer implements TransactionSynchronization {
+
+        // SKU ID 순으로 순번을 할당하기 위해 정렬된 맵 사용
+        private final Map<String, List<LedgerEntry>> entriesBySku = new TreeMap<>();
+        private final List<StockMovement> sequenced = new ArrayList<>();
+
+        void add(LedgerEntry entry) {
+            entriesBySku.computeIfAbsent(entry.skuId().value(), key -> new ArrayList<>()).add(entry);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            List<StockMovement> movements = new ArrayList<>();
+            for (List<LedgerEntry> entries : entriesBySku.values()) {
+                if (writeBehind) {
+                    LocalDateTime now = LocalDateTime.now(clock);
+                    entries.forEach(entry -> movements.add(
+                            StockMovement.create(entry.skuId(), entry.quantity(), entry.type(), entry.reference(), now)));
+                    continue;
+                }
+
+                SkuId skuId = entries.get(0).skuId();
+                long last = stockLedgerSequencePort.allocate(skuId, entries.size());
+                long sequence = last - entries.size() + 1;
+
+                // 순번을 할당한 뒤의 시각이므로 같은 SKU에서는 순번 순과 시각 순이 같음
+                LocalDateTime now = LocalDateTime.now(clock);
+                for (LedgerEntry entry : entries) {
+                    movements.add(StockMovement.create(entry.skuId(), entry.quantity(), entry.type(), entry.reference(), now)
+                            .withSequence(sequence++));
+                }
+            }
+            saveStockMovementPort.saveAll(movements);
+            if (!writeBehind) {
+                sequenced.addAll(movements);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!sequenced.isEmpty()) {
+                stockLedgerUseCase.recorded(sequenced);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StockLedgerRecorder.this);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.LoadSkuPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveSkuPort;
+import com.commerce.inventory.application.usecase.BulkCreateSkuUseCase;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkSkuLine;
+import com.commerce.inventory.application.usecase.CreateSkuCommand;
+import com.commerce.inventory.domain.exception.DuplicateSkuCodeException;
+import com.commerce.inventory.domain.exception.InventoryDomainException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Sku;
+import com.commerce.inventory.domain.model.SkuCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 SKU 등록 서비스
+ *
+ * <p>청크마다 SKU 코드가 이미 쓰이는지 IN 조회 한 번으로 확인하고, 새 SKU와 빈 재고를 한 트랜잭션에서 일괄 INSERT합니다.
+ * 같은 입력 안에서 코드가 겹치면 먼저 나온 줄만 등록하고, 뒤의 줄은 먼저 나온 줄 번호와 함께 오류로 남깁니다.</p>
+ *
+ * <p>청크는 각각 별도 트랜잭션이므로 실패한 청크의 줄만 오류로 남고 이미 등록한 청크는 유지됩니다.
+ * 확인과 INSERT 사이에 다른 요청이 같은 코드를 등록해 코드 유니크 제약을 위반하면, 코드를 다시 확인해 그 줄을 빼고 최대 3번까지 다시 시도합니다.
+ * 다른 제약 위반은 다시 시도해도 같으므로, 남은 줄을 한 줄씩 등록해 위반한 줄만 오류로 남깁니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkCreateSkuService implements BulkCreateSkuUseCase {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_CODE_LENGTH = 50;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    @Value("${inventory.bulk-sku.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${inventory.bulk-sku.max-errors-per-job:10000}")
+    private int maxErrorsPerJob;
+
+    @Value("${inventory.bulk-sku.max-jobs:100}")
+    private int maxJobs;
+
+    private final LoadSkuPort loadSkuPort;
+    private final SaveSkuPort saveSkuPort;
+    private final SaveInventoryPort saveInventoryPort;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final BulkImportJobs jobs = new BulkImportJobs();
+
+    @Override
+    public BulkImportReport create(Iterator<BulkSkuLine> lines) {
+        BulkImportJob job = jobs.start(LocalDateTime.now(clock), maxErrorsPerJob, maxJobs);
+        log.info("대량 SKU 등록 시작: jobId={}", job.getId());
+
+        List<BulkSkuLine> chunk = new ArrayList<>(chunkSize);
+        try {
+            while (lines.hasNext()) {
+                chunk.add(lines.next());
+                if (chunk.size() >= chunkSize) {
+                    createChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                createChunk(job, chunk);
+            }
+            job.complete(LocalDateTime.now(clock));
+        } catch (RuntimeException e) {
+            // 입력을 더 읽을 수 없으면 이미 등록한 청크는 유지하고 작업만 중단
+            log.error("대량 SKU 등록 중단: jobId={}", job.getId(), e);
+            job.fail(e.getMessage(), LocalDateTime.now(clock));
+        }
+
+        BulkImportReport report = job.toReport();
+        log.info("대량 SKU 등록 종료: jobId={}, status={}, succeeded={}, failed={}",
+                report.jobId(), report.status(), report.succeededLines(), report.failedLines());
+        return report;
+    }
+
+    @Override
+    public Optional<BulkImportReport> getReport(String jobId) {
+        return jobs.find(jobId).map(BulkImportJob::toReport);
+    }
+
+    @Override
+    public List<BulkImportReport> getReports() {
+        return jobs.findAll().stream()
+                .map(BulkImportJob::toReport)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BulkImportLineError> getErrors(String jobId, int offset, int limit) {
+        return jobs.find(jobId)
+                .map(job -> job.errors(offset, limit))
+                .orElse(List.of());
+    }
+
+    private void createChunk(BulkImportJob job, List<BulkSkuLine> chunk) {
+        List<BulkImportLineError> errors = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<SkuCode, Candidate> candidates = new LinkedHashMap<>();
+        for (BulkSkuLine line : chunk) {
+            String code = line.command() != null ? line.command().getCode() : null;
+            String error = validate(line);
+            if (error != null) {
+                errors.add(new BulkImportLineError(line.lineNumber(), code, error));
+                continue;
+            }
+            try {
+                SkuCode skuCode = SkuCode.of(code);
+                Candidate first = candidates.get(skuCode);
+                if (first != null) {
+                    errors.add(new BulkImportLineError(line.lineNumber(), code,
+                            first.lineNumber() + "번 줄과 SKU 코드가 중복됩니다"));
+                    continue;
+                }
+                Sku sku = Sku.create(SkuCreationDataFactory.create(line.command(), skuCode), now);
+                candidates.put(skuCode, new Candidate(line.lineNumber(), sku));
+            } catch (InventoryDomainException e) {
+                errors.add(new BulkImportLineError(line.lineNumber(), code, e.getMessage()));
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            try {
+                createWithRetry(job.getId(), candidates, errors);
+                job.succeed(candidates.size());
+            } catch (RuntimeException e) {
+                log.warn("대량 SKU 등록 청크 실패: jobId={}, lines={}", job.getId(), candidates.size(), e);
+                candidates.forEach((code, candidate) -> errors.add(new BulkImportLineError(
+                        candidate.lineNumber(), code.value(), "등록 실패: " + e.getMessage())));
+            }
+        }
+
+        errors.sort(Comparator.comparingLong(BulkImportLineError::lineNumber));
+        job.reject(errors);
+    }
+
+    private static String validate(BulkSkuLine line) {
+        if (line.error() != null) {
+            return line.error();
+        }
+        CreateSkuCommand command = line.command();
+        if (command == null || command.getCode() == null || command.getCode().isBlank()) {
+            return "SKU 코드는 필수입니다";
+        }
+        if (command.getCode().length() > MAX_CODE_LENGTH) {
+            return "SKU 코드는 " + MAX_CODE_LENGTH + "자 이하여야 합니다";
+        }
+        if (command.getName() == null || command.getName().isBlank()) {
+            return "SKU 이름은 필수입니다";
+        }
+        if (command.getName().length() > MAX_NAME_LENGTH) {
+            return "SKU 이름은 " + MAX_NAME_LENGTH + "자 이하여야 합니다";
+        }
+        if (command.getDescription() != null && command.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            return "설명은 " + MAX_DESCRIPTION_LENGTH + "자 이하여야 합니다";
+        }
+        return null;
+    }
+
+    /**
+     * 이미 쓰이는 코드를 빼고 등록합니다. 등록한 줄만 {@code candidates}에 남고 뺀 줄은 {@code errors}에 더합니다.
+     */
+    private void createWithRetry(String jobId, Map<SkuCode, Candidate> candidates, List<BulkImportLineError> errors) {
+        for (int attempt = 1; ; attempt++) {
+            Set<SkuCode> existing = loadSkuPort.findExistingCodes(candidates.keySet());
+            candidates.entrySet().removeIf(entry -> {
+                if (!existing.contains(entry.getKey())) {
+                    return false;
+                }
+                errors.add(new BulkImportLineError(entry.getValue().lineNumber(), entry.getKey().value(),
+                        "이미 존재하는 SKU 코드입니다: " + entry.getKey().value()));
+                return true;
+            });
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            try {
+                createAll(candidates.values());
+                return;
+            } catch (DuplicateSkuCodeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("대량 SKU 등록 청크 재시도: jobId={}, attempt={}", jobId, attempt);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("대량 SKU 등록 청크를 줄 단위로 등록: jobId={}", jobId, e);
+                createEach(candidates, errors);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 줄마다 별도 트랜잭션으로 등록해 제약을 위반한 줄만 {@code candidates}에서 빼고 {@code errors}에 더합니다.
+     */
+    private void createEach(Map<SkuCode, Candidate> candidates, List<BulkImportLineError> errors) {
+        candidates.entrySet().removeIf(entry -> {
+            try {
+                createAll(List.of(entry.getValue()));
+                return false;
+            } catch (DuplicateSkuCodeException e) {
+                errors.add(new BulkImportLineError(entry.getValue().lineNumber(), entry.getKey().value(),
+                        "이미 존재하는 SKU 코드입니다: " + entry.getKey().value()));
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                errors.add(new BulkImportLineError(entry.getValue().lineNumber(), entry.getKey().value(),
+                        "등록 실패: " + e.getMostSpecificCause().getMessage()));
+                return true;
+            }
+        });
+    }
+
+    private void createAll(Collection<Candidate> candidates) {
+        List<Sku> skus = candidates.stream()
+                .map(Candidate::sku)
+                .collect(Collectors.toList());
+        transactionOperations.executeWithoutResult(status -> {
+            saveSkuPort.createAll(skus);
+            saveInventoryPort.createAll(skus.stream()
+                    .map(sku -> Inventory.createEmpty(sku.getId()))
+                    .collect(Collectors.toList()));
+        });
+    }
+
+    private record Candidate(long lineNumber, Sku sku) {
+    }
+}
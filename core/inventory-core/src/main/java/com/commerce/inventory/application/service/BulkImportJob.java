@@ -0,0 +1,97 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkImportStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중인 대량 처리 작업
+ *
+ * <p>처리는 작업 하나당 스레드 하나가 하고 조회는 다른 요청 스레드가 하므로, 카운터와 상태는 잠금 없이 읽을 수 있게 둡니다.
+ * 오류는 {@code maxErrors}개까지만 보관해 오류가 많은 입력에서도 메모리 사용량이 일정합니다.</p>
+ */
+class BulkImportJob {
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime startedAt;
+    private final int maxErrors;
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<BulkImportLineError> errors = new ArrayList<>();
+    private volatile boolean errorsTruncated;
+    private volatile BulkImportStatus status = BulkImportStatus.RUNNING;
+    private volatile String failureReason;
+    private volatile LocalDateTime finishedAt;
+
+    BulkImportJob(LocalDateTime startedAt, int maxErrors) {
+        this.startedAt = startedAt;
+        this.maxErrors = maxErrors;
+    }
+
+    void succeed(int lines) {
+        succeeded.addAndGet(lines);
+    }
+
+    /**
+     * 반영하지 못한 줄을 남깁니다. 조회 순서를 맞추도록 줄 번호 순으로 전달해야 합니다.
+     */
+    void reject(List<BulkImportLineError> lineErrors) {
+        failed.addAndGet(lineErrors.size());
+        synchronized (errors) {
+            for (BulkImportLineError error : lineErrors) {
+                if (errors.size() >= maxErrors) {
+                    errorsTruncated = true;
+                    return;
+                }
+                errors.add(error);
+            }
+        }
+    }
+
+    void complete(LocalDateTime now) {
+        finishedAt = now;
+        status = BulkImportStatus.COMPLETED;
+    }
+
+    void fail(String reason, LocalDateTime now) {
+        failureReason = reason;
+        finishedAt = now;
+        status = BulkImportStatus.FAILED;
+    }
+
+    boolean isFinished() {
+        return status != BulkImportStatus.RUNNING;
+    }
+
+    List<BulkImportLineError> errors(int offset, int limit) {
+        synchronized (errors) {
+            int from = Math.min(Math.max(offset, 0), errors.size());
+            int to = Math.min(from + Math.max(limit, 0), errors.size());
+            return List.copyOf(errors.subList(from, to));
+        }
+    }
+
+    BulkImportReport toReport() {
+        long succeededLines = succeeded.get();
+        long failedLines = failed.get();
+        return new BulkImportReport(
+                id,
+                status,
+                succeededLines + failedLines,
+                succeededLines,
+                failedLines,
+                errorsTruncated,
+                failureReason,
+                startedAt,
+                finishedAt
+        );
+    }
+}
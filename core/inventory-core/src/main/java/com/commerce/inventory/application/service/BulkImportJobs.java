@@ -0,0 +1,46 @@
+package com.commerce.inventory.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대량 처리 작업 보관소
+ *
+ * <p>작업은 이 인스턴스의 메모리에만 보관하며, {@code maxJobs}를 넘으면 끝난 작업부터 오래된 순으로 지웁니다.</p>
+ */
+class BulkImportJobs {
+
+    private final Map<String, BulkImportJob> jobs = new LinkedHashMap<>();
+
+    synchronized BulkImportJob start(LocalDateTime now, int maxErrors, int maxJobs) {
+        BulkImportJob job = new BulkImportJob(now, maxErrors);
+        jobs.put(job.getId(), job);
+
+        Iterator<BulkImportJob> oldest = jobs.values().iterator();
+        while (jobs.size() > maxJobs && oldest.hasNext()) {
+            if (oldest.next().isFinished()) {
+                oldest.remove();
+            }
+        }
+        return job;
+    }
+
+    synchronized Optional<BulkImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 최근 시작한 순으로 조회합니다.
+     */
+    synchronized List<BulkImportJob> findAll() {
+        List<BulkImportJob> all = new ArrayList<>(jobs.values());
+        Collections.reverse(all);
+        return all;
+    }
+}
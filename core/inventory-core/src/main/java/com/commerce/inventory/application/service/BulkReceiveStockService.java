@@ -0,0 +1,250 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadSkuPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkReceiveStockUseCase;
+import com.commerce.inventory.application.usecase.BulkStockReceiptLine;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 입고 서비스
+ *
+ * <p>청크마다 SKU 존재 여부를 IN 조회 한 번으로 확인하고, 같은 SKU의 줄은 수량을 합산해 SKU마다 조건부 UPDATE 한 번으로 반영합니다.
+ * 재고가 없거나 샤드를 사용하는 SKU만 조회해 도메인 규칙으로 입고하고 일괄 저장합니다. 입고 이벤트는 (SKU, 참조 번호)마다 하나씩
+ * 발행하므로 원장 기록기가 커밋 직전에 이동 기록을 일괄 저장합니다.</p>
+ *
+ * <p>청크는 각각 별도 트랜잭션이므로 실패한 청크의 줄만 오류로 남고 이미 반영한 청크는 유지됩니다.
+ * 샤드를 사용하는 재고를 저장하다 버전 충돌이 나면 단건 입고와 같이 청크를 최대 3번까지 다시 시도합니다.
+ * 재고가 없던 SKU는 새 재고 행을 INSERT하므로, 그사이 다른 입고가 같은 재고를 먼저 만들어 기본 키 제약을 위반하면
+ * 다음 시도에서 그 재고에 수량을 더하도록 청크를 다시 시도합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkReceiveStockService implements BulkReceiveStockUseCase {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Value("${inventory.bulk-receipt.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${inventory.bulk-receipt.max-errors-per-job:10000}")
+    private int maxErrorsPerJob;
+
+    @Value("${inventory.bulk-receipt.max-jobs:100}")
+    private int maxJobs;
+
+    private final LoadSkuPort loadSkuPort;
+    private final LoadInventoryPort loadInventoryPort;
+    private final SaveInventoryPort saveInventoryPort;
+    private final AdjustInventoryPort adjustInventoryPort;
+    private final HotStockCounterPort hotStockCounterPort;
+    private final EventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final BulkImportJobs jobs = new BulkImportJobs();
+
+    @Override
+    public BulkImportReport receive(Iterator<BulkStockReceiptLine> lines) {
+        BulkImportJob job = jobs.start(LocalDateTime.now(clock), maxErrorsPerJob, maxJobs);
+        log.info("대량 입고 시작: jobId={}", job.getId());
+
+        List<BulkStockReceiptLine> chunk = new ArrayList<>(chunkSize);
+        try {
+            while (lines.hasNext()) {
+                chunk.add(lines.next());
+                if (chunk.size() >= chunkSize) {
+                    receiveChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                receiveChunk(job, chunk);
+            }
+            job.complete(LocalDateTime.now(clock));
+        } catch (RuntimeException e) {
+            // 입력을 더 읽을 수 없으면 이미 반영한 청크는 유지하고 작업만 중단
+            log.error("대량 입고 중단: jobId={}", job.getId(), e);
+            job.fail(e.getMessage(), LocalDateTime.now(clock));
+        }
+
+        BulkImportReport report = job.toReport();
+        log.info("대량 입고 종료: jobId={}, status={}, succeeded={}, failed={}",
+                report.jobId(), report.status(), report.succeededLines(), report.failedLines());
+        return report;
+    }
+
+    @Override
+    public Optional<BulkImportReport> getReport(String jobId) {
+        return jobs.find(jobId).map(BulkImportJob::toReport);
+    }
+
+    @Override
+    public List<BulkImportReport> getReports() {
+        return jobs.findAll().stream()
+                .map(BulkImportJob::toReport)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BulkImportLineError> getErrors(String jobId, int offset, int limit) {
+        return jobs.find(jobId)
+                .map(job -> job.errors(offset, limit))
+                .orElse(List.of());
+    }
+
+    private void receiveChunk(BulkImportJob job, List<BulkStockReceiptLine> chunk) {
+        List<BulkImportLineError> errors = new ArrayList<>();
+        Map<SkuId, List<BulkStockReceiptLine>> linesBySku = new LinkedHashMap<>();
+        for (BulkStockReceiptLine line : chunk) {
+            String error = validate(line);
+            if (error != null) {
+                errors.add(new BulkImportLineError(line.lineNumber(), line.skuId(), error));
+            } else {
+                linesBySku.computeIfAbsent(SkuId.of(line.skuId()), key -> new ArrayList<>()).add(line);
+            }
+        }
+
+        if (!linesBySku.isEmpty()) {
+            Set<SkuId> existing = loadSkuPort.findExistingIds(linesBySku.keySet());
+            linesBySku.entrySet().removeIf(entry -> {
+                if (existing.contains(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().forEach(line ->
+                        errors.add(new BulkImportLineError(line.lineNumber(), line.skuId(), "SKU를 찾을 수 없습니다")));
+                return true;
+            });
+        }
+
+        if (!linesBySku.isEmpty()) {
+            int lineCount = linesBySku.values().stream().mapToInt(List::size).sum();
+            try {
+                receiveWithRetry(job.getId(), linesBySku);
+                job.succeed(lineCount);
+            } catch (RuntimeException e) {
+                log.warn("대량 입고 청크 실패: jobId={}, lines={}", job.getId(), lineCount, e);
+                linesBySku.values().forEach(lines -> lines.forEach(line ->
+                        errors.add(new BulkImportLineError(line.lineNumber(), line.skuId(), "입고 실패: " + e.getMessage()))));
+            }
+        }
+
+        errors.sort(Comparator.comparingLong(BulkImportLineError::lineNumber));
+        job.reject(errors);
+    }
+
+    private static String validate(BulkStockReceiptLine line) {
+        if (line.error() != null) {
+            return line.error();
+        }
+        if (line.skuId() == null || line.skuId().isBlank()) {
+            return "SKU ID는 필수입니다";
+        }
+        if (line.quantity() == null || line.quantity() <= 0) {
+            return "입고 수량은 0보다 커야 합니다";
+        }
+        return null;
+    }
+
+    private void receiveWithRetry(String jobId, Map<SkuId, List<BulkStockReceiptLine>> linesBySku) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionOperations.executeWithoutResult(status -> receiveAll(jobId, linesBySku));
+                return;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("대량 입고 청크 재시도: jobId={}, attempt={}", jobId, attempt);
+            }
+        }
+    }
+
+    private void receiveAll(String jobId, Map<SkuId, List<BulkStockReceiptLine>> linesBySku) {
+        // SKU별, 참조 번호별로 합산
+        Map<SkuId, Map<String, Integer>> quantitiesBySku = new LinkedHashMap<>();
+        Map<SkuId, Quantity> totals = new LinkedHashMap<>();
+        linesBySku.forEach((skuId, lines) -> {
+            Map<String, Integer> byReference = lines.stream().collect(Collectors.groupingBy(
+                    line -> line.reference() == null || line.reference().isBlank() ? jobId : line.reference(),
+                    LinkedHashMap::new,
+                    Collectors.reducing(0, BulkStockReceiptLine::quantity, Math::addExact)));
+            quantitiesBySku.put(skuId, byReference);
+            totals.put(skuId, Quantity.of(byReference.values().stream().reduce(0, Math::addExact)));
+        });
+
+        // 재고가 있고 샤드를 사용하지 않는 SKU는 조회 없이 수량만 더함
+        Set<SkuId> received = adjustInventoryPort.tryReceiveAll(totals);
+
+        List<SkuId> remaining = totals.keySet().stream()
+                .filter(skuId -> !received.contains(skuId))
+                .collect(Collectors.toList());
+        Map<SkuId, Inventory> inventories = remaining.isEmpty()
+                ? Map.of()
+                : loadInventoryPort.loadAllByIds(remaining);
+
+        List<DomainEvent> events = new ArrayList<>();
+        List<Inventory> modifiedInventories = new ArrayList<>();
+        List<Inventory> createdInventories = new ArrayList<>();
+        quantitiesBySku.forEach((skuId, byReference) -> {
+            if (received.contains(skuId)) {
+                // 도메인 객체를 거치지 않았으므로 도메인과 같은 입고 이벤트를 직접 발행
+                byReference.forEach((reference, quantity) ->
+                        events.add(new StockReceivedEvent(skuId, Quantity.of(quantity), reference)));
+                return;
+            }
+            Inventory inventory = inventories.get(skuId);
+            if (inventory == null) {
+                inventory = Inventory.createEmpty(skuId);
+                createdInventories.add(inventory);
+            } else {
+                modifiedInventories.add(inventory);
+            }
+            Inventory target = inventory;
+            byReference.forEach((reference, quantity) -> target.receive(Quantity.of(quantity), reference));
+        });
+
+        if (!modifiedInventories.isEmpty()) {
+            saveInventoryPort.saveAll(modifiedInventories);
+            modifiedInventories.forEach(inventory -> events.addAll(inventory.pullDomainEvents()));
+        }
+        if (!createdInventories.isEmpty()) {
+            // 병합하지 않고 INSERT해, 그사이 다른 입고가 만든 재고를 덮어쓰지 않고 기본 키 제약 위반으로 드러나게 함
+            saveInventoryPort.createAll(createdInventories);
+            createdInventories.forEach(inventory -> events.addAll(inventory.pullDomainEvents()));
+        }
+        eventPublisher.publishAll(events);
+
+        // 핫 SKU이면 입고 수량을 카운터에 반영 (커밋 이후 반영)
+        totals.forEach(hotStockCounterPort::increase);
+    }
+}
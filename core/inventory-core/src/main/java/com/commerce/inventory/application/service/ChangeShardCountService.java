@@ -0,0 +1,53 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.util.ValidationHelper;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 샤드 수 변경 서비스
+ *
+ * <p>예약 수량과 가용 재고를 새 샤드 수로 다시 나눕니다. 그사이 다른 트랜잭션이 바꾼 샤드는
+ * 버전 충돌로 감지되어 다시 시도합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChangeShardCountService implements ChangeShardCountUseCase {
+    
+    private final LoadInventoryPort loadInventoryPort;
+    private final SaveInventoryPort saveInventoryPort;
+    private final Validator validator;
+    
+    @Override
+    @Retryable(
+        value = {OptimisticLockingFailureException.class},
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 100, multiplier = 2)
+    )
+    public void changeShardCount(ChangeShardCountCommand command) {
+        ValidationHelper.validate(validator, command);
+        
+        SkuId skuId = SkuId.of(command.getSkuId());
+        Inventory inventory = loadInventoryPort.load(skuId)
+            .orElseThrow(() -> new InvalidInventoryException("재고를 찾을 수 없습니다: " + skuId.value()));
+        
+        int previousShardCount = inventory.getShardCount();
+        inventory.changeShardCount(command.getShardCount());
+        saveInventoryPort.save(inventory);
+        
+        log.info("재고 샤드 수 변경: skuId={}, {} -> {}", skuId.value(), previousShardCount, command.getShardCount());
+    }
+}
@@ -5,9 +5,8 @@ import com.commerce.inventory.application.usecase.CreateSkuResponse;
 import com.commerce.inventory.application.usecase.CreateSkuUseCase;
 import com.commerce.inventory.application.service.port.out.LoadSkuPort;
 import com.commerce.inventory.application.service.port.out.SaveSkuPort;
+import com.commerce.inventory.application.service.SkuCreationDataFactory;
 import com.commerce.inventory.domain.exception.DuplicateSkuCodeException;
-import com.commerce.inventory.domain.exception.InvalidVolumeException;
-import com.commerce.inventory.domain.exception.InvalidWeightException;
 import com.commerce.inventory.domain.model.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -35,7 +34,7 @@ public class CreateSkuService implements CreateSkuUseCase {
             throw new DuplicateSkuCodeException("이미 존재하는 SKU 코드입니다: " + skuCode.value());
         }
         
-        SkuCreationData command = buildCreateCommand(request, skuCode);
+        SkuCreationData command = SkuCreationDataFactory.create(request, skuCode);
         Sku sku = Sku.create(command, LocalDateTime.now(clock));
         
         try {
@@ -47,43 +46,6 @@ public class CreateSkuService implements CreateSkuUseCase {
         }
     }
     
-    private SkuCreationData buildCreateCommand(CreateSkuCommand request, SkuCode skuCode) {
-        SkuCreationData.SkuCreationDataBuilder builder = SkuCreationData.builder()
-                .id(SkuId.generate())
-                .code(skuCode)
-                .name(request.getName())
-                .description(request.getDescription());
-        
-        addWeightToCommand(builder, request);
-        addVolumeToCommand(builder, request);
-        
-        return builder.build();
-    }
-    
-    private void addWeightToCommand(SkuCreationData.SkuCreationDataBuilder builder, CreateSkuCommand request) {
-        boolean weightValueProvided = request.getWeight() != null;
-        boolean weightUnitProvided = request.getWeightUnit() != null && !request.getWeightUnit().trim().isEmpty();
-        if (weightValueProvided != weightUnitProvided) {
-            throw new InvalidWeightException("무게와 무게 단위는 모두 제공되거나 모두 제공되지 않아야 합니다.");
-        }
-        if (weightValueProvided) {
-            WeightUnit weightUnit = WeightUnit.fromString(request.getWeightUnit());
-            builder.weight(Weight.of(request.getWeight(), weightUnit));
-        }
-    }
-    
-    private void addVolumeToCommand(SkuCreationData.SkuCreationDataBuilder builder, CreateSkuCommand request) {
-        boolean volumeValueProvided = request.getVolume() != null;
-        boolean volumeUnitProvided = request.getVolumeUnit() != null && !request.getVolumeUnit().trim().isEmpty();
-        if (volumeValueProvided != volumeUnitProvided) {
-            throw new InvalidVolumeException("부피와 부피 단위는 모두 제공되거나 모두 제공되지 않아야 합니다.");
-        }
-        if (volumeValueProvided) {
-            VolumeUnit volumeUnit = VolumeUnit.fromString(request.getVolumeUnit());
-            builder.volume(Volume.of(request.getVolume(), volumeUnit));
-        }
-    }
-    
     private CreateSkuResponse mapToResponse(Sku sku) {
         CreateSkuResponse.CreateSkuResponseBuilder builder = CreateSkuResponse.builder()
                 .id(sku.getId().value())
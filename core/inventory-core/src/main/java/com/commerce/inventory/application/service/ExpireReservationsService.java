@@ -0,0 +1,244 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.ReservationExpiryLeasePort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 만료 예약 정리 서비스
+ *
+ * <p>묶음 안의 예약을 SKU별로 모아 합산 수량을 {@link AdjustInventoryPort}의 조건부 갱신 한 번으로 되돌립니다.
+ * 반영하지 못한 SKU(샤드 사용 등)만 재고를 잠가 도메인 규칙으로 되돌립니다. 재고가 없거나 예약 수량이 재고의 예약 수량보다
+ * 많아 되돌릴 수 없는 예약은 재고를 바꾸지 않고 만료 처리해, 다음 주기마다 다시 잡혀 오류로 남지 않게 합니다.</p>
+ *
+ * <p>노드마다 파티션을 {@code ceil(파티션 수 / 살아 있는 노드 수)}개까지만 가집니다. 이미 가진 파티션을 먼저 갱신하고,
+ * 노드가 늘어 상한을 넘긴 파티션은 임대를 끝내 새 노드가 넘겨받게 합니다.</p>
+ *
+ * <p>파티션을 훑는 {@link #expireBatch}와 만료 시각에 맞춰 예약을 지정해 정리하는 {@link #expire}는 같은 경로로
+ * 재고를 되돌립니다. 두 경로 모두 예약 행을 잠그고 다른 트랜잭션이 잠근 예약은 건너뛰므로(SKIP LOCKED), 여러 노드가
+ * 같은 예약을 동시에 정리하려 해도 한 노드만 처리하고 버전 충돌로 묶음 전체가 롤백되지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ExpireReservationsService implements ExpireReservationsUseCase {
+
+    @Value("${inventory.reservation.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${inventory.reservation.expiry.lease-duration:PT30S}")
+    private Duration leaseDuration;
+
+    private final LoadExpiredReservationPort loadExpiredReservationPort;
+    private final ReservationExpiryLeasePort reservationExpiryLeasePort;
+    private final SaveReservationPort saveReservationPort;
+    private final LoadInventoryPort loadInventoryPort;
+    private final SaveInventoryPort saveInventoryPort;
+    private final AdjustInventoryPort adjustInventoryPort;
+    private final HotStockCounterPort hotStockCounterPort;
+    private final EventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Integer> claimPartitions(String owner) {
+        LocalDateTime currentTime = LocalDateTime.now(clock);
+        LocalDateTime leaseUntil = currentTime.plus(leaseDuration);
+
+        int partitionCount = loadExpiredReservationPort.partitionCount();
+        int liveNodes = Math.max(1, reservationExpiryLeasePort.heartbeat(owner, currentTime, leaseUntil));
+        int maxClaims = (partitionCount + liveNodes - 1) / liveNodes;
+
+        List<Integer> claimed = new ArrayList<>();
+        Set<Integer> owned = new TreeSet<>(reservationExpiryLeasePort.findOwnedPartitions(owner, currentTime));
+        for (int partition : owned) {
+            if (claimed.size() >= maxClaims) {
+                reservationExpiryLeasePort.release(partition, owner, currentTime);
+                log.debug("만료 예약 정리 임대 반환: partition={}, liveNodes={}", partition, liveNodes);
+                continue;
+            }
+            tryClaim(partition, owner, currentTime, leaseUntil, claimed);
+        }
+        for (int partition = 0; partition < partitionCount && claimed.size() < maxClaims; partition++) {
+            if (!owned.contains(partition)) {
+                tryClaim(partition, owner, currentTime, leaseUntil, claimed);
+            }
+        }
+        return claimed;
+    }
+
+    private void tryClaim(int partition, String owner, LocalDateTime currentTime, LocalDateTime leaseUntil, List<Integer> claimed) {
+        try {
+            if (reservationExpiryLeasePort.tryAcquire(partition, owner, currentTime, leaseUntil)) {
+                claimed.add(partition);
+            }
+        } catch (RuntimeException e) {
+            // 다른 노드와 동시에 임대를 처음 만든 경우로, 다음 주기에 다시 시도
+            log.debug("만료 예약 정리 임대 획득 실패: partition={}", partition, e);
+        }
+    }
+
+    @Override
+    public Result expireBatch(int partition, LoadExpiredReservationPort.Cursor after) {
+        LocalDateTime currentTime = LocalDateTime.now(clock);
+        List<Reservation> expired = loadExpiredReservationPort.findExpiredActiveWithLock(
+                partition, currentTime, after, batchSize);
+        if (expired.isEmpty()) {
+            return new Result(0, after, false);
+        }
+
+        int expiredCount = expireAll(expired, currentTime);
+        log.debug("만료 예약 정리: partition={}, expired={}, scanned={}",
+                partition, expiredCount, expired.size());
+        return new Result(
+                expiredCount,
+                LoadExpiredReservationPort.Cursor.of(expired.get(expired.size() - 1)),
+                expired.size() == batchSize
+        );
+    }
+
+    @Override
+    public int expire(List<ReservationId> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+
+        // 예약 후 이미 해제·확정되었거나 다른 노드가 만료 처리 중이거나 처리한 예약은 건너뜀
+        LocalDateTime currentTime = LocalDateTime.now(clock);
+        List<Reservation> expired = loadExpiredReservationPort.findExpiredActiveByIdsWithLock(reservationIds, currentTime);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        int expiredCount = expireAll(expired, currentTime);
+        log.debug("만료 예약 정리: requested={}, expired={}", reservationIds.size(), expiredCount);
+        return expiredCount;
+    }
+
+    /**
+     * 예약 수량을 SKU별로 합산해 재고에 되돌리고, 되돌린 SKU의 예약을 만료 처리합니다.
+     *
+     * @return 만료 처리한 예약 수
+     */
+    private int expireAll(List<Reservation> expired, LocalDateTime currentTime) {
+        // 재고 행을 잠그는 순서를 맞춰 교착을 피함
+        Map<SkuId, List<Reservation>> reservationsBySku = expired.stream()
+                .collect(Collectors.groupingBy(
+                        Reservation::getSkuId,
+                        () -> new TreeMap<>(Comparator.comparing(SkuId::value)),
+                        Collectors.toList()
+                ));
+
+        List<DomainEvent> events = new ArrayList<>();
+        Map<SkuId, List<Reservation>> restored = new TreeMap<>(Comparator.comparing(SkuId::value));
+        Map<SkuId, List<Reservation>> lockedSkus = new TreeMap<>(Comparator.comparing(SkuId::value));
+        List<Reservation> unrestorable = new ArrayList<>();
+        reservationsBySku.forEach((skuId, reservations) -> {
+            if (adjustInventoryPort.tryRelease(skuId, sumQuantity(reservations))) {
+                restored.put(skuId, reservations);
+                reservations.forEach(reservation ->
+                        events.add(new ReservationReleasedEvent(skuId, reservation.getId(), reservation.getQuantity())));
+            } else {
+                lockedSkus.put(skuId, reservations);
+            }
+        });
+        if (!lockedSkus.isEmpty()) {
+            restored.putAll(restoreWithLock(lockedSkus, events, unrestorable));
+        }
+
+        List<Reservation> expiredReservations = new ArrayList<>();
+        restored.forEach((skuId, reservations) -> {
+            reservations.forEach(reservation -> reservation.expire(currentTime));
+            expiredReservations.addAll(reservations);
+        });
+        // 되돌릴 수 없는 예약도 만료로 표시해 한 번만 오류로 남김 (재고와 카운터는 바꾸지 않음)
+        unrestorable.forEach(reservation -> reservation.expire(currentTime));
+        expiredReservations.addAll(unrestorable);
+        saveReservationPort.saveAll(expiredReservations);
+
+        // 핫 SKU이면 되돌린 수량을 카운터에 반영 (커밋 이후 반영)
+        restored.forEach((skuId, reservations) -> hotStockCounterPort.increase(skuId, sumQuantity(reservations)));
+        eventPublisher.publishAll(events);
+
+        return expiredReservations.size();
+    }
+
+    /**
+     * 재고를 잠가 예약 수량을 하나씩 되돌립니다. 되돌릴 수 없는 예약은 {@code unrestorable}에 담습니다.
+     */
+    private Map<SkuId, List<Reservation>> restoreWithLock(
+            Map<SkuId, List<Reservation>> reservationsBySku,
+            List<DomainEvent> events,
+            List<Reservation> unrestorable
+    ) {
+        Map<SkuId, Inventory> inventories = loadInventoryPort.loadBySkuIdsWithLock(new HashSet<>(reservationsBySku.keySet()));
+
+        Map<SkuId, List<Reservation>> restored = new TreeMap<>(Comparator.comparing(SkuId::value));
+        List<Inventory> modifiedInventories = new ArrayList<>();
+        reservationsBySku.forEach((skuId, reservations) -> {
+            Inventory inventory = inventories.get(skuId);
+            List<Reservation> released = new ArrayList<>();
+            for (Reservation reservation : reservations) {
+                if (inventory == null || inventory.getReservedQuantity().isLessThan(reservation.getQuantity())) {
+                    // 예약 수량과 재고가 어긋난 경우로, 재고는 그대로 두고 예약만 만료해 확인할 수 있도록 한 번 기록
+                    log.error("만료 예약의 수량을 재고에 되돌릴 수 없어 재고 변경 없이 만료합니다: reservationId={}, skuId={}, quantity={}, reserved={}",
+                            reservation.getId().value(), skuId.value(), reservation.getQuantity().value(),
+                            inventory == null ? null : inventory.getReservedQuantity().value());
+                    unrestorable.add(reservation);
+                    continue;
+                }
+                inventory.releaseReservedQuantity(reservation.getQuantity(), reservation.getId());
+                released.add(reservation);
+            }
+
+            if (!released.isEmpty()) {
+                modifiedInventories.add(inventory);
+                restored.put(skuId, released);
+            }
+        });
+
+        if (!modifiedInventories.isEmpty()) {
+            saveInventoryPort.saveAll(modifiedInventories);
+            modifiedInventories.forEach(inventory -> events.addAll(inventory.pullDomainEvents()));
+        }
+        return restored;
+    }
+
+    private Quantity sumQuantity(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(Reservation::getQuantity)
+                .reduce(Quantity.zero(), Quantity::add);
+    }
+}
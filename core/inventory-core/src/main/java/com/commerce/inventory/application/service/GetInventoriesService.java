@@ -0,0 +1,65 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.util.ValidationHelper;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 수량 일괄 조회 서비스
+ * 
+ * <p>상품 상세 화면처럼 여러 SKU의 가용 재고가 동시에 필요한 경우 SKU마다 요청하지 않고
+ * 한 번의 요청으로 조회할 수 있도록 합니다. 실제 조회는 {@link LoadInventoryPort#loadAllByIds(List)}가
+ * {@code inventory.persistence.batch-size} 단위로 나누어 수행합니다.</p>
+ * 
+ * <p>나누어 실행된 조회가 모두 같은 스냅샷을 보도록 REPEATABLE READ 격리 수준의 트랜잭션에서 조회합니다.
+ * 응답의 {@code version}은 해당 스냅샷의 재고 버전이므로, 호출 측은 락 없이도 서로 일관된
+ * 수량 묶음을 기준으로 계산할 수 있습니다.</p>
+ * 
+ * @see GetInventoryService 단건 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+public class GetInventoriesService implements GetInventoriesUseCase {
+    
+    private final LoadInventoryPort loadInventoryPort;
+    private final Validator validator;
+    
+    @Override
+    public List<InventoryResponse> execute(GetInventoriesQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("GetInventoriesQuery는 null일 수 없습니다");
+        }
+        
+        ValidationHelper.validate(validator, query);
+        
+        List<String> distinctSkuIds = query.skuIds().stream()
+            .distinct()
+            .collect(Collectors.toList());
+        
+        Map<SkuId, Inventory> inventories = loadInventoryPort.loadAllByIds(
+            distinctSkuIds.stream()
+                .map(SkuId::new)
+                .collect(Collectors.toList())
+        );
+        
+        return distinctSkuIds.stream()
+            .map(skuId -> {
+                Inventory inventory = inventories.get(new SkuId(skuId));
+                return inventory != null
+                    ? InventoryResponse.from(inventory)
+                    : InventoryResponse.empty(skuId);
+            })
+            .collect(Collectors.toList());
+    }
+}
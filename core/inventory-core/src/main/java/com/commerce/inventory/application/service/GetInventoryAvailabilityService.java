@@ -0,0 +1,69 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.InventoryAvailabilityProjectionPort;
+import com.commerce.inventory.application.usecase.GetInventoriesQuery;
+import com.commerce.inventory.application.usecase.GetInventoriesService;
+import com.commerce.inventory.application.usecase.GetInventoryAvailabilityUseCase;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityResponse;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.application.usecase.InventoryResponse;
+import com.commerce.inventory.application.usecase.ProjectInventoryAvailabilityUseCase;
+import com.commerce.inventory.application.usecase.ProjectionLag;
+import com.commerce.inventory.application.util.ValidationHelper;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 모델 기반 가용 재고 조회 서비스
+ *
+ * <p>{@link InventoryAvailabilityProjectionService}가 반영한 읽기 모델만 조회하므로 예약이 재고 행을 잠그고 있어도 기다리지 않습니다.
+ * 뒤처진 정도는 조회 전에 구해, 응답한 수량이 적어도 그만큼은 최신임을 나타냅니다.</p>
+ *
+ * @see GetInventoriesService 재고 테이블에서 일관된 스냅샷으로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetInventoryAvailabilityService implements GetInventoryAvailabilityUseCase {
+
+    private final InventoryAvailabilityProjectionPort projectionPort;
+    private final ProjectInventoryAvailabilityUseCase projectInventoryAvailabilityUseCase;
+    private final Validator validator;
+
+    @Override
+    public InventoryAvailabilityResponse execute(GetInventoriesQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("GetInventoriesQuery는 null일 수 없습니다");
+        }
+
+        ValidationHelper.validate(validator, query);
+
+        List<String> distinctSkuIds = query.skuIds().stream()
+            .distinct()
+            .collect(Collectors.toList());
+
+        ProjectionLag lag = projectInventoryAvailabilityUseCase.lag();
+        Map<SkuId, InventoryAvailabilityView> views = projectionPort.findAllByIds(
+            distinctSkuIds.stream()
+                .map(SkuId::new)
+                .collect(Collectors.toList())
+        );
+
+        List<InventoryResponse> items = distinctSkuIds.stream()
+            .map(skuId -> {
+                InventoryAvailabilityView view = views.get(new SkuId(skuId));
+                return view != null
+                    ? view.toResponse()
+                    : InventoryResponse.empty(skuId);
+            })
+            .collect(Collectors.toList());
+        return new InventoryAvailabilityResponse(items, lag);
+    }
+}
@@ -0,0 +1,176 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.usecase.ReserveStockBatchUseCase;
+import com.commerce.inventory.application.usecase.ReserveStockCommand;
+import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.application.usecase.ReserveStockUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 커밋 방식의 재고 예약 서비스
+ *
+ * <p>동시에 들어온 예약 요청을 짧은 시간({@code window}) 동안 또는 {@code maxBatchSize}개가 찰 때까지 모아
+ * {@link ReserveStockBatchUseCase#executeBatch(List)}로 한 트랜잭션에서 처리합니다. 각 호출자는 자기 요청의 결과만 받으며,
+ * 재고 부족 같은 요청별 실패는 그 호출자에게만 전달됩니다. 트랜잭션 자체가 실패하면 묶인 요청 모두 같은 예외를 받습니다.</p>
+ *
+ * <p>일괄 처리 대상이 아닌 요청(핫 SKU 포함)과 종료 중에 들어온 요청은 호출자 스레드에서 {@code delegate}로 개별 처리합니다.
+ * 호출자의 트랜잭션과 무관하게 별도 트랜잭션에서 커밋되므로 API 진입점에서만 사용해야 합니다.</p>
+ */
+@Slf4j
+public class GroupCommitReserveStockService implements ReserveStockUseCase, AutoCloseable {
+
+    private static final Duration IDLE_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final ReserveStockUseCase delegate;
+    private final ReserveStockBatchUseCase batchUseCase;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingReservation> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public GroupCommitReserveStockService(
+            ReserveStockUseCase delegate,
+            ReserveStockBatchUseCase batchUseCase,
+            Duration window,
+            int maxBatchSize,
+            int workerCount
+    ) {
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("그룹 커밋 대기 시간은 0 이상이어야 합니다: " + window);
+        }
+        if (maxBatchSize < 1 || workerCount < 1) {
+            throw new IllegalArgumentException("그룹 커밋 배치 크기와 작업 스레드 수는 1 이상이어야 합니다");
+        }
+        this.delegate = delegate;
+        this.batchUseCase = batchUseCase;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "reservation-group-commit-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public ReserveStockResponse execute(ReserveStockCommand command) {
+        if (!running) {
+            return delegate.execute(command);
+        }
+
+        PendingReservation pending = new PendingReservation(command);
+        queue.add(pending);
+        if (!running) {
+            // 종료와 겹쳐 작업 스레드가 꺼내지 못하는 요청이 남지 않도록 함
+            deferQueued();
+        }
+
+        ReserveStockBatchUseCase.Result result;
+        try {
+            result = pending.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        if (result.isDeferred()) {
+            return delegate.execute(command);
+        }
+        if (result.failure() != null) {
+            throw result.failure();
+        }
+        return result.response();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        deferQueued();
+    }
+
+    /**
+     * 처리되지 못한 요청은 호출자 스레드에서 개별 처리
+     */
+    private void deferQueued() {
+        PendingReservation pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.complete(ReserveStockBatchUseCase.Result.deferred());
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                PendingReservation first = queue.poll(IDLE_POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    flush(collectBatch(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in reservation group commit worker", e);
+            }
+        }
+    }
+
+    private List<PendingReservation> collectBatch(PendingReservation first) throws InterruptedException {
+        List<PendingReservation> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+
+        long deadline = System.nanoTime() + window.toNanos();
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingReservation next = remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingReservation> batch) {
+        try {
+            List<ReserveStockBatchUseCase.Result> results = batchUseCase.executeBatch(
+                    batch.stream().map(PendingReservation::command).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+            log.debug("Reservation group committed: size={}", batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 처리를 기다리는 요청 수 (테스트 및 모니터링 용도)
+     */
+    int queuedCount() {
+        return queue.size();
+    }
+
+    private record PendingReservation(ReserveStockCommand command, CompletableFuture<ReserveStockBatchUseCase.Result> future) {
+
+        private PendingReservation(ReserveStockCommand command) {
+            this(command, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.application.util.ValidationHelper;
+import com.commerce.inventory.domain.event.HotStockReservationFailedEvent;
+import com.commerce.inventory.domain.exception.InsufficientStockException;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 핫 SKU 재고 카운터 관리 서비스
+ *
+ * <p>카운터 적재, 해제, 재조정과 대기 예약 저장은 모두 재고 행을 잠근 상태에서 수행합니다.
+ * 잠금을 기다리는 일반 예약은 잠금을 얻은 뒤 핫 SKU 여부를 다시 확인하므로 카운터와 저장된 재고가 어긋나지 않습니다.</p>
+ *
+ * <p>대기 예약은 저장한 트랜잭션이 커밋된 뒤에 대기 목록에서 제거됩니다. 커밋 직후 장애로 제거되지 않은 예약은
+ * 다음 저장 시 이미 저장된 예약 ID로 걸러내므로 두 번 반영되지 않습니다. 재조정도 커밋과 제거 사이에 끼어들 수 있으므로,
+ * 이미 저장된 대기 예약을 카운터 계산과 같은 원자적 연산에서 대기 목록에서 제거해 수량을 두 번 빼지 않습니다.</p>
+ *
+ * <p>재고에 반영하지 못한 예약은 호출자에게 이미 예약 성공으로 응답했으므로 조용히 버리지 않습니다. 커밋 이후 실패 목록으로
+ * 옮기고, {@link #compensateFailedReservations(String)}가 별도 트랜잭션에서 주문의 예약을 해제하고 실패 이벤트를 발행합니다.
+ * 실패 목록으로 옮기기 전의 재조정은 그 수량까지 빼므로 카운터는 실제보다 적게 잡힐 뿐 초과 예약을 받지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HotStockService implements ManageHotStockUseCase {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final LoadInventoryPort loadInventoryPort;
+    private final SaveInventoryPort saveInventoryPort;
+    private final LoadReservationPort loadReservationPort;
+    private final SaveReservationPort saveReservationPort;
+    private final HotStockCounterPort hotStockCounterPort;
+    private final EventPublisher eventPublisher;
+    private final ReleaseReservationsByOrderUseCase releaseReservationsByOrderUseCase;
+
+    @Override
+    public long activate(String skuIdValue) {
+        SkuId skuId = toSkuId(skuIdValue);
+        Inventory inventory = lockInventoryOrThrow(skuId);
+
+        long counter = hotStockCounterPort.synchronize(
+                skuId, inventory.getAvailableQuantity(), findPersistedPendingReservations(skuId), true);
+        log.info("핫 SKU 지정: skuId={}, counter={}", skuIdValue, counter);
+        return counter;
+    }
+
+    @Override
+    public void deactivate(String skuIdValue) {
+        SkuId skuId = toSkuId(skuIdValue);
+        Inventory inventory = lockInventoryOrThrow(skuId);
+
+        // 카운터를 먼저 제거해 새 예약이 재고 행 잠금 경로로 가도록 한 뒤, 남은 대기 예약을 저장
+        hotStockCounterPort.remove(skuId);
+        int flushed = flush(inventory, hotStockCounterPort.findPendingReservations(skuId, Integer.MAX_VALUE));
+        log.info("핫 SKU 해제: skuId={}, flushed={}", skuIdValue, flushed);
+    }
+
+    @Override
+    public long reconcile(String skuIdValue) {
+        SkuId skuId = toSkuId(skuIdValue);
+        Inventory inventory = lockInventoryOrThrow(skuId);
+
+        long counter = hotStockCounterPort.synchronize(
+                skuId, inventory.getAvailableQuantity(), findPersistedPendingReservations(skuId), false);
+        log.debug("핫 SKU 카운터 재조정: skuId={}, counter={}", skuIdValue, counter);
+        return counter;
+    }
+
+    @Override
+    public int flushPendingReservations(String skuIdValue) {
+        SkuId skuId = toSkuId(skuIdValue);
+        List<Reservation> pending = hotStockCounterPort.findPendingReservations(skuId, FLUSH_BATCH_SIZE);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        return flush(lockInventoryOrThrow(skuId), pending);
+    }
+
+    @Override
+    public int compensateFailedReservations(String skuIdValue) {
+        SkuId skuId = toSkuId(skuIdValue);
+        List<Reservation> failed = hotStockCounterPort.findFailedReservations(skuId, FLUSH_BATCH_SIZE);
+        if (failed.isEmpty()) {
+            return 0;
+        }
+
+        // 주문의 나머지 예약을 해제해 부분 예약으로 남지 않게 하고, 주문 측이 보상할 수 있도록 실패 이벤트 발행
+        Set<String> orderIds = failed.stream()
+                .map(Reservation::getOrderId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        orderIds.forEach(orderId -> releaseReservationsByOrderUseCase.releaseByOrder(
+                ReleaseReservationsByOrderCommand.builder().orderId(orderId).build()));
+        failed.forEach(reservation -> eventPublisher.publish(new HotStockReservationFailedEvent(
+                skuId, reservation.getId(), reservation.getQuantity(), reservation.getOrderId())));
+
+        hotStockCounterPort.resolveFailed(skuId, failed);
+        log.warn("핫 SKU 실패 예약 보상 처리: skuId={}, reservations={}, orders={}", skuIdValue, failed.size(), orderIds.size());
+        return failed.size();
+    }
+
+    private int flush(Inventory inventory, List<Reservation> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Set<ReservationId> persisted = loadReservationPort.findAllById(
+                        pending.stream().map(Reservation::getId).collect(Collectors.toList())).stream()
+                .map(Reservation::getId)
+                .collect(Collectors.toSet());
+
+        List<Reservation> applied = new ArrayList<>();
+        List<Reservation> acknowledged = new ArrayList<>();
+        List<Reservation> failed = new ArrayList<>();
+        for (Reservation reservation : pending) {
+            if (persisted.contains(reservation.getId())) {
+                acknowledged.add(reservation);
+                continue;
+            }
+
+            try {
+                inventory.applyReservation(reservation);
+            } catch (InsufficientStockException e) {
+                // 카운터와 저장된 재고가 어긋난 경우로, 보상 처리하도록 실패 목록으로 옮기고 재조정에서 카운터를 바로잡음
+                log.error("핫 SKU 예약을 재고에 반영할 수 없습니다: reservationId={}, skuId={}, orderId={}, quantity={}",
+                        reservation.getId().value(), reservation.getSkuId().value(), reservation.getOrderId(),
+                        reservation.getQuantity().value(), e);
+                failed.add(reservation);
+                continue;
+            }
+            applied.add(reservation);
+            acknowledged.add(reservation);
+        }
+
+        if (!applied.isEmpty()) {
+            saveReservationPort.saveAll(applied);
+            saveInventoryPort.save(inventory);
+            eventPublisher.publishAll(inventory.pullDomainEvents());
+        }
+
+        hotStockCounterPort.acknowledge(inventory.getSkuId(), acknowledged);
+        hotStockCounterPort.deadLetter(inventory.getSkuId(), failed);
+        return applied.size();
+    }
+
+    /**
+     * 이미 저장되었지만 아직 대기 목록에서 제거되지 않은 예약을 찾습니다. 재고 행을 잠근 뒤 호출해야
+     * 진행 중인 저장의 결과까지 볼 수 있습니다.
+     */
+    private List<Reservation> findPersistedPendingReservations(SkuId skuId) {
+        List<Reservation> pending = hotStockCounterPort.findPendingReservations(skuId, Integer.MAX_VALUE);
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        Set<ReservationId> persisted = loadReservationPort.findAllById(
+                        pending.stream().map(Reservation::getId).collect(Collectors.toList())).stream()
+                .map(Reservation::getId)
+                .collect(Collectors.toSet());
+        return pending.stream()
+                .filter(reservation -> persisted.contains(reservation.getId()))
+                .collect(Collectors.toList());
+    }
+
+    private Inventory lockInventoryOrThrow(SkuId skuId) {
+        Inventory inventory = loadInventoryPort.loadBySkuIdsWithLock(Set.of(skuId)).get(skuId);
+        if (inventory == null) {
+            throw new InvalidInventoryException("재고를 찾을 수 없습니다: " + skuId.value());
+        }
+        return inventory;
+    }
+
+    private static SkuId toSkuId(String skuIdValue) {
+        ValidationHelper.validateNotEmpty(skuIdValue, "SKU ID");
+        return new SkuId(skuIdValue);
+    }
+}
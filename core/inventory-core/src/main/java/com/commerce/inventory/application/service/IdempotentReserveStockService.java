@@ -0,0 +1,211 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.ReservationDedupCachePort;
+import com.commerce.inventory.application.usecase.ReserveStockCommand;
+import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.application.usecase.ReserveStockUseCase;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 멱등 재고 예약 서비스
+ *
+ * <p>(주문 ID, SKU ID)를 멱등 키로 사용합니다. 이미 예약된 SKU는 새로 예약하지 않고 원래 예약을 돌려주며,
+ * 나머지 SKU만 {@code delegate}로 예약합니다. 원래 예약의 ID는 {@link ReservationDedupCachePort}에서 먼저 찾아
+ * 기본 키로 현재 상태를 읽고, 캐시에 없으면 (주문 ID, 재고 ID) 인덱스로 저장소에서 한 번에 조회합니다.
+ * 캐시는 ID만 보관하므로 해제·만료된 예약을 활성 상태로 돌려주지 않습니다.</p>
+ *
+ * <p>핫 SKU의 예약은 카운터에서 차감된 뒤 일괄 저장될 때까지 저장소에 없으므로, 저장소를 조회하기 전에
+ * {@link HotStockCounterPort}의 대기 목록에서 같은 주문의 예약을 먼저 찾습니다. 일괄 저장은 커밋한 뒤에 대기 목록에서 지우므로
+ * 대기 목록을 먼저 읽으면 그 사이에 저장된 예약도 저장소 조회에서 찾습니다.</p>
+ *
+ * <p>같은 주문의 요청은 주문 ID로 고른 로컬 잠금으로 직렬화하고 {@code delegate}의 커밋이 끝난 뒤 잠금을 풀므로,
+ * 같은 노드로 동시에 들어온 재시도와 헤지 요청은 두 번 예약되지 않습니다. 잠금 밖에서 커밋해야 하므로
+ * 트랜잭션 없이 API 진입점에서만 사용해야 합니다.</p>
+ */
+@Slf4j
+public class IdempotentReserveStockService implements ReserveStockUseCase {
+
+    private final ReserveStockUseCase delegate;
+    private final LoadReservationPort loadReservationPort;
+    private final ReservationDedupCachePort reservationDedupCachePort;
+    private final HotStockCounterPort hotStockCounterPort;
+    private final ReentrantLock[] stripes;
+
+    public IdempotentReserveStockService(
+            ReserveStockUseCase delegate,
+            LoadReservationPort loadReservationPort,
+            ReservationDedupCachePort reservationDedupCachePort,
+            HotStockCounterPort hotStockCounterPort,
+            int stripeCount
+    ) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("잠금 개수는 1 이상이어야 합니다: " + stripeCount);
+        }
+        this.delegate = delegate;
+        this.loadReservationPort = loadReservationPort;
+        this.reservationDedupCachePort = reservationDedupCachePort;
+        this.hotStockCounterPort = hotStockCounterPort;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public ReserveStockResponse execute(ReserveStockCommand command) {
+        // 잘못된 요청은 멱등 처리 없이 그대로 넘겨 검증 오류를 받게 함
+        if (!isIdempotent(command)) {
+            return delegate.execute(command);
+        }
+
+        ReentrantLock lock = stripes[Math.floorMod(command.getOrderId().hashCode(), stripes.length)];
+        lock.lock();
+        try {
+            return reserveOnce(command);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReserveStockResponse reserveOnce(ReserveStockCommand command) {
+        String orderId = command.getOrderId();
+        Set<String> skuIds = command.getItems().stream()
+                .map(ReserveStockCommand.ReservationItem::getSkuId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, List<ReserveStockResponse.ReservationResult>> originals = findOriginals(orderId, skuIds);
+
+        List<ReserveStockCommand.ReservationItem> remainingItems = command.getItems().stream()
+                .filter(item -> !originals.containsKey(item.getSkuId()))
+                .collect(Collectors.toList());
+        if (remainingItems.isEmpty()) {
+            log.debug("중복 예약 요청: orderId={}, skus={}", orderId, skuIds.size());
+            return toResponse(skuIds, originals);
+        }
+
+        ReserveStockResponse created = delegate.execute(ReserveStockCommand.builder()
+                .orderId(orderId)
+                .ttlSeconds(command.getTtlSeconds())
+                .items(remainingItems)
+                .build());
+        reservationDedupCachePort.putAll(orderId, created.getReservations());
+
+        Map<String, List<ReserveStockResponse.ReservationResult>> results = new LinkedHashMap<>(originals);
+        results.putAll(groupBySku(created.getReservations()));
+        return toResponse(skuIds, results);
+    }
+
+    private Map<String, List<ReserveStockResponse.ReservationResult>> findOriginals(String orderId, Set<String> skuIds) {
+        Map<String, List<ReserveStockResponse.ReservationResult>> originals = new LinkedHashMap<>();
+        List<ReservationId> cachedIds = reservationDedupCachePort.findAll(orderId, skuIds).values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        if (!cachedIds.isEmpty()) {
+            originals.putAll(groupBySku(loadReservationPort.findAllById(cachedIds).stream()
+                    .map(this::toResult)
+                    .collect(Collectors.toList())));
+        }
+
+        List<SkuId> missedSkuIds = missedSkuIds(skuIds, originals);
+        if (missedSkuIds.isEmpty()) {
+            return originals;
+        }
+
+        List<ReserveStockResponse.ReservationResult> pending = findPending(orderId, missedSkuIds);
+        if (!pending.isEmpty()) {
+            reservationDedupCachePort.putAll(orderId, pending);
+            originals.putAll(groupBySku(pending));
+            missedSkuIds = missedSkuIds(skuIds, originals);
+            if (missedSkuIds.isEmpty()) {
+                return originals;
+            }
+        }
+
+        List<ReserveStockResponse.ReservationResult> stored = loadReservationPort.findByOrderIdAndSkuIds(orderId, missedSkuIds)
+                .stream()
+                .map(this::toResult)
+                .collect(Collectors.toList());
+        if (!stored.isEmpty()) {
+            reservationDedupCachePort.putAll(orderId, stored);
+            originals.putAll(groupBySku(stored));
+        }
+        return originals;
+    }
+
+    private List<SkuId> missedSkuIds(Set<String> skuIds, Map<String, List<ReserveStockResponse.ReservationResult>> originals) {
+        return skuIds.stream()
+                .filter(skuId -> !originals.containsKey(skuId))
+                .map(SkuId::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 핫 SKU의 대기 목록에서 아직 저장되지 않은 이 주문의 예약을 찾습니다.
+     */
+    private List<ReserveStockResponse.ReservationResult> findPending(String orderId, List<SkuId> skuIds) {
+        List<ReserveStockResponse.ReservationResult> pending = new ArrayList<>();
+        for (SkuId hotSkuId : hotStockCounterPort.findHotSkuIds(skuIds)) {
+            hotStockCounterPort.findPendingReservations(hotSkuId, Integer.MAX_VALUE).stream()
+                    .filter(reservation -> orderId.equals(reservation.getOrderId()))
+                    .map(this::toResult)
+                    .forEach(pending::add);
+        }
+        return pending;
+    }
+
+    private ReserveStockResponse.ReservationResult toResult(Reservation reservation) {
+        return ReserveStockResponse.ReservationResult.builder()
+                .reservationId(reservation.getId().value())
+                .skuId(reservation.getSkuId().value())
+                .quantity(reservation.getQuantity().value())
+                .expiresAt(reservation.getExpiresAt())
+                .status(reservation.getStatus().name())
+                .build();
+    }
+
+    private Map<String, List<ReserveStockResponse.ReservationResult>> groupBySku(
+            List<ReserveStockResponse.ReservationResult> results
+    ) {
+        return results.stream()
+                .collect(Collectors.groupingBy(
+                        ReserveStockResponse.ReservationResult::getSkuId,
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+    }
+
+    private ReserveStockResponse toResponse(
+            Set<String> skuIds,
+            Map<String, List<ReserveStockResponse.ReservationResult>> resultsBySku
+    ) {
+        List<ReserveStockResponse.ReservationResult> reservations = new ArrayList<>();
+        skuIds.forEach(skuId -> reservations.addAll(resultsBySku.getOrDefault(skuId, List.of())));
+        return ReserveStockResponse.builder()
+                .reservations(reservations)
+                .build();
+    }
+
+    private boolean isIdempotent(ReserveStockCommand command) {
+        return command != null
+                && command.getOrderId() != null
+                && !command.getOrderId().isBlank()
+                && command.getItems() != null
+                && !command.getItems().isEmpty()
+                && command.getItems().stream()
+                        .allMatch(item -> item != null && Objects.nonNull(item.getSkuId()) && !item.getSkuId().isBlank());
+    }
+}
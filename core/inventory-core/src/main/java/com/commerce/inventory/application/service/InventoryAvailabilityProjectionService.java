@@ -0,0 +1,118 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.InventoryAvailabilityProjectionPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.application.usecase.ProjectInventoryAvailabilityUseCase;
+import com.commerce.inventory.application.usecase.ProjectionLag;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가용 재고 읽기 모델 반영 서비스
+ *
+ * <p>재고 이벤트는 변경량만 담고 있고 조건부 UPDATE 경로는 재고 전체를 읽지 않으므로, 이벤트로는 변경된 SKU만 표시하고
+ * 반영할 때 재고를 잠그지 않고 다시 읽어 읽기 모델을 덮어씁니다. 같은 SKU의 변경이 여러 번 쌓여도 한 번만 읽으며,
+ * 반영 직전에 표시를 지우므로 반영 중에 커밋된 변경은 다시 표시되어 다음 반영에 포함됩니다.</p>
+ *
+ * <p>표시는 이 인스턴스의 메모리에만 있으므로 다른 인스턴스에서 커밋된 변경은 그 인스턴스가 반영하고, 재시작으로 잃은 표시는
+ * 시작할 때의 {@link #rebuild(int)}로 메웁니다. 여러 인스턴스가 같은 SKU를 동시에 반영할 수 있으므로, 저장은 재고의 상태 버전이
+ * 저장된 버전보다 클 때만 덮어써 먼저 읽은 오래된 값이 나중에 쓰여도 새 값을 되돌리지 않습니다.</p>
+ *
+ * <p>{@link #lag()}도 이 인스턴스의 표시만 보므로, 다른 인스턴스에서 커밋되어 아직 반영되지 않은 변경은 포함하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryAvailabilityProjectionService implements ProjectInventoryAvailabilityUseCase {
+
+    private final LoadInventoryPort loadInventoryPort;
+    private final InventoryAvailabilityProjectionPort projectionPort;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final Map<SkuId, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastProjectedAt;
+
+    @Override
+    public void markChanged(SkuId skuId) {
+        // 가장 오래된 미반영 변경 시각을 유지
+        pending.putIfAbsent(skuId, LocalDateTime.now(clock));
+    }
+
+    @Override
+    public int projectPending(int maxSkus) {
+        Map<SkuId, LocalDateTime> batch = new LinkedHashMap<>();
+        for (Map.Entry<SkuId, LocalDateTime> entry : pending.entrySet()) {
+            if (batch.size() >= maxSkus) {
+                break;
+            }
+            batch.put(entry.getKey(), entry.getValue());
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        batch.forEach(pending::remove);
+        try {
+            project(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException e) {
+            batch.forEach((skuId, changedAt) -> pending.merge(skuId, changedAt, (a, b) -> a.isBefore(b) ? a : b));
+            throw e;
+        }
+        return batch.size();
+    }
+
+    @Override
+    public int rebuild(int batchSize) {
+        int projected = 0;
+        SkuId after = null;
+        while (true) {
+            List<SkuId> skuIds = loadInventoryPort.findSkuIdsAfter(after, batchSize);
+            if (skuIds.isEmpty()) {
+                break;
+            }
+            project(skuIds);
+            projected += skuIds.size();
+            after = skuIds.get(skuIds.size() - 1);
+        }
+        log.info("가용 재고 읽기 모델 재구성 완료: skus={}", projected);
+        return projected;
+    }
+
+    @Override
+    public ProjectionLag lag() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime oldest = pending.values().stream()
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        long lagMillis = oldest == null ? 0 : Math.max(0, Duration.between(oldest, now).toMillis());
+        return new ProjectionLag(pending.size(), oldest, lastProjectedAt, lagMillis);
+    }
+
+    private void project(List<SkuId> skuIds) {
+        transactionOperations.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Map<SkuId, Inventory> inventories = loadInventoryPort.loadAllByIds(skuIds);
+            List<InventoryAvailabilityView> views = new ArrayList<>(inventories.size());
+            for (Inventory inventory : inventories.values()) {
+                views.add(InventoryAvailabilityView.of(inventory, now));
+            }
+            projectionPort.saveAll(views);
+        });
+        lastProjectedAt = LocalDateTime.now(clock);
+    }
+}
@@ -3,15 +3,16 @@ package com.commerce.inventory.application.usecase;
 import com.commerce.common.domain.model.Quantity;
 import com.commerce.inventory.application.usecase.ReceiveStockCommand;
 import com.commerce.inventory.application.usecase.ReceiveStockUseCase;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
 import com.commerce.inventory.application.service.port.out.LoadSkuPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
-import com.commerce.inventory.application.service.port.out.SaveStockMovementPort;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
 import com.commerce.inventory.domain.exception.InvalidSkuException;
 import com.commerce.inventory.domain.model.Inventory;
-import com.commerce.inventory.domain.model.MovementType;
 import com.commerce.inventory.domain.model.SkuId;
-import com.commerce.inventory.domain.model.StockMovement;
 import com.commerce.inventory.application.util.ValidationHelper;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +22,6 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Clock;
-import java.time.LocalDateTime;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -32,9 +30,10 @@ public class ReceiveStockService implements ReceiveStockUseCase {
     private final LoadSkuPort loadSkuPort;
     private final LoadInventoryPort loadInventoryPort;
     private final SaveInventoryPort saveInventoryPort;
-    private final SaveStockMovementPort saveStockMovementPort;
-    private final Clock clock;
+    private final AdjustInventoryPort adjustInventoryPort;
+    private final HotStockCounterPort hotStockCounterPort;
     private final Validator validator;
+    private final EventPublisher eventPublisher;
     
     @Override
     @Retryable(
@@ -53,25 +52,22 @@ public class ReceiveStockService implements ReceiveStockUseCase {
             throw InvalidSkuException.notFound(skuId);
         }
         
-        // 재고 조회 또는 생성
-        Inventory inventory = loadInventoryPort.load(skuId)
-            .orElseGet(() -> Inventory.createEmpty(skuId));
-        
-        // 재고 입고 처리
+        // 입고는 다른 변경과 순서를 따지지 않으므로 조회 없이 수량만 더함
         Quantity quantity = Quantity.of(command.getQuantity());
-        inventory.receive(quantity, command.getReference());
-        
-        // 재고 저장
-        saveInventoryPort.save(inventory);
+        if (adjustInventoryPort.tryReceive(skuId, quantity)) {
+            // 도메인 객체를 거치지 않았으므로 도메인과 같은 입고 이벤트를 직접 발행
+            eventPublisher.publish(new StockReceivedEvent(skuId, quantity, command.getReference()));
+        } else {
+            // 첫 입고이거나 샤드를 사용하는 재고이면 조회(또는 생성) 후 입고 처리
+            Inventory inventory = loadInventoryPort.load(skuId)
+                .orElseGet(() -> Inventory.createEmpty(skuId));
+            inventory.receive(quantity, command.getReference());
+            saveInventoryPort.save(inventory);
+            eventPublisher.publishAll(inventory.pullDomainEvents());
+        }
+        // 재고 이동 기록은 입고 이벤트로 원장 기록기가 남김
         
-        // 재고 이동 기록 생성 및 저장
-        StockMovement movement = StockMovement.create(
-            skuId,
-            quantity,
-            MovementType.RECEIVE,
-            command.getReference(),
-            LocalDateTime.now(clock)
-        );
-        saveStockMovementPort.save(movement);
+        // 핫 SKU이면 입고 수량을 카운터에 반영 (커밋 이후 반영)
+        hotStockCounterPort.increase(skuId, quantity);
     }
 }
\ No newline at end of file
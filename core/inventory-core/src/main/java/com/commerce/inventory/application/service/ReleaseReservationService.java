@@ -2,8 +2,12 @@ package com.commerce.inventory.application.usecase;
 
 import com.commerce.inventory.application.usecase.ReleaseReservationCommand;
 import com.commerce.inventory.application.usecase.ReleaseReservationUseCase;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
 import com.commerce.inventory.domain.exception.InvalidInventoryException;
 import com.commerce.inventory.domain.exception.InvalidReservationIdException;
 import com.commerce.inventory.domain.model.Inventory;
@@ -25,6 +29,9 @@ public class ReleaseReservationService implements ReleaseReservationUseCase {
     private final SaveReservationPort saveReservationPort;
     private final LoadInventoryPort loadInventoryPort;
     private final SaveInventoryPort saveInventoryPort;
+    private final AdjustInventoryPort adjustInventoryPort;
+    private final HotStockCounterPort hotStockCounterPort;
+    private final EventPublisher eventPublisher;
     
     @Override
     public void release(ReleaseReservationCommand command) {
@@ -36,15 +43,21 @@ public class ReleaseReservationService implements ReleaseReservationUseCase {
         // 이 호출만으로 '실패-빠르게'가 가능하며 코드도 간결해집니다.
         reservation.release();
 
-        // 3. 재고 조회
-        Inventory inventory = findInventoryOrThrow(reservation.getSkuId());
+        // 3. 재고의 예약 수량을 조회 없이 복원하고, 반영하지 못하면 재고를 조회해 도메인 규칙으로 복원
+        if (adjustInventoryPort.tryRelease(reservation.getSkuId(), reservation.getQuantity())) {
+            saveReservationPort.save(reservation);
+            eventPublisher.publish(new ReservationReleasedEvent(reservation.getSkuId(), reservation.getId(), reservation.getQuantity()));
+        } else {
+            Inventory inventory = findInventoryOrThrow(reservation.getSkuId());
+            inventory.releaseReservedQuantity(reservation.getQuantity(), reservation.getId());
 
-        // 4. 재고의 예약 수량 복원
-        inventory.releaseReservedQuantity(reservation.getQuantity(), reservation.getId());
+            saveReservationPort.save(reservation);
+            saveInventoryPort.save(inventory);
+            eventPublisher.publishAll(inventory.pullDomainEvents());
+        }
 
-        // 5. 영속성 처리
-        saveReservationPort.save(reservation);
-        saveInventoryPort.save(inventory);
+        // 4. 핫 SKU이면 해제된 수량을 카운터에 되돌림 (커밋 이후 반영)
+        hotStockCounterPort.increase(reservation.getSkuId(), reservation.getQuantity());
     }
 
     private Reservation findReservationOrThrow(String reservationIdValue) {
@@ -0,0 +1,106 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.application.util.ValidationHelper;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationStatus;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 예약 일괄 해제 서비스
+ *
+ * <p>주문의 예약을 (주문 ID) 인덱스로 한 번에 조회하고, 관련 재고를 SKU ID 순서로 한 번에 잠근 뒤
+ * SKU별 해제 수량을 반영해 예약과 재고를 각각 일괄 저장합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReleaseReservationsByOrderService implements ReleaseReservationsByOrderUseCase {
+
+    private final LoadReservationPort loadReservationPort;
+    private final SaveReservationPort saveReservationPort;
+    private final LoadInventoryPort loadInventoryPort;
+    private final SaveInventoryPort saveInventoryPort;
+    private final HotStockCounterPort hotStockCounterPort;
+    private final EventPublisher eventPublisher;
+
+    @Override
+    public int releaseByOrder(ReleaseReservationsByOrderCommand command) {
+        ValidationHelper.validateNotNull(command, "예약 해제 요청이 null일 수 없습니다");
+        ValidationHelper.validateNotEmpty(command.getOrderId(), "주문 ID");
+
+        // 1. 주문의 활성 예약 조회
+        List<Reservation> reservations = loadReservationPort.findByOrderId(command.getOrderId()).stream()
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.ACTIVE)
+                .collect(Collectors.toList());
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 관련 재고를 한 번에 잠가 조회
+        Map<SkuId, List<Reservation>> reservationsBySku = reservations.stream()
+                .collect(Collectors.groupingBy(
+                        Reservation::getSkuId,
+                        () -> new TreeMap<>(Comparator.comparing(SkuId::value)),
+                        Collectors.toList()
+                ));
+        Map<SkuId, Inventory> inventories = loadInventoryPort.loadBySkuIdsWithLock(new HashSet<>(reservationsBySku.keySet()));
+
+        // 3. 예약 해제 및 SKU별 예약 수량 복원
+        List<Inventory> modifiedInventories = new ArrayList<>();
+        reservationsBySku.forEach((skuId, skuReservations) -> {
+            Inventory inventory = inventories.get(skuId);
+            if (inventory == null) {
+                throw new InvalidInventoryException("재고를 찾을 수 없습니다: " + skuId.value());
+            }
+
+            skuReservations.forEach(reservation -> {
+                reservation.release();
+                inventory.releaseReservedQuantity(reservation.getQuantity(), reservation.getId());
+            });
+            modifiedInventories.add(inventory);
+        });
+
+        // 4. 예약과 재고를 일괄 저장
+        saveReservationPort.saveAll(reservations);
+        saveInventoryPort.saveAll(modifiedInventories);
+
+        // 5. 핫 SKU이면 해제된 수량을 카운터에 되돌리고 (커밋 이후 반영) 이벤트 발행
+        List<DomainEvent> events = new ArrayList<>();
+        reservationsBySku.forEach((skuId, skuReservations) -> hotStockCounterPort.increase(skuId, sumQuantity(skuReservations)));
+        modifiedInventories.forEach(inventory -> events.addAll(inventory.pullDomainEvents()));
+        eventPublisher.publishAll(events);
+
+        log.debug("주문 예약 일괄 해제: orderId={}, reservations={}, skus={}",
+                command.getOrderId(), reservations.size(), reservationsBySku.size());
+        return reservations.size();
+    }
+
+    private Quantity sumQuantity(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(Reservation::getQuantity)
+                .reduce(Quantity.zero(), Quantity::add);
+    }
+}
@@ -0,0 +1,228 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.ReservationContentionMetricsPort;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경합 적응형 예약 잠금 정책
+ *
+ * <p>낙관적 방식으로 처리한 예약의 버전 충돌 비율을 SKU별 슬라이딩 윈도우({@code bucketCount}개의 시간 버킷)로 집계합니다.
+ * 윈도우 안의 표본이 {@code minSamples} 이상이고 충돌 비율이 {@code conflictThreshold} 이상인 SKU는 비관적 방식으로 전환합니다.
+ * 비관적 방식으로 처리한 예약은 충돌하지 않아 표본을 남기지 않으므로, 충돌 기록이 윈도우 밖으로 밀려나면 다시 낙관적 방식으로
+ * 돌아가 경합이 계속되는지 확인합니다.</p>
+ *
+ * <p>한 예약에 여러 SKU가 있으면 호출자가 충돌한 SKU에만 충돌을 기록하고, 어느 SKU에서 충돌했는지 알 수 없을 때만
+ * 낙관적으로 처리한 SKU 모두에 충돌을 기록합니다. 상태는 노드별로 따로 유지됩니다.</p>
+ */
+@Slf4j
+public class ReservationContentionPolicy {
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int minSamples;
+    private final double conflictThreshold;
+    private final int maxTrackedSkus;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final ReservationContentionMetricsPort metricsPort;
+    private final Map<SkuId, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictionBucket = new AtomicLong(Long.MIN_VALUE);
+
+    public ReservationContentionPolicy(
+            Clock clock,
+            Duration window,
+            int bucketCount,
+            int minSamples,
+            double conflictThreshold,
+            int maxTrackedSkus,
+            int maxAttempts,
+            Duration baseBackoff,
+            Duration maxBackoff,
+            ReservationContentionMetricsPort metricsPort
+    ) {
+        if (bucketCount < 1 || window == null || window.toMillis() < bucketCount) {
+            throw new IllegalArgumentException("윈도우는 버킷 수 이상의 밀리초여야 합니다: window=" + window + ", buckets=" + bucketCount);
+        }
+        if (minSamples < 1 || conflictThreshold <= 0 || conflictThreshold > 1) {
+            throw new IllegalArgumentException("최소 표본 수는 1 이상, 충돌 비율 기준은 0 초과 1 이하여야 합니다");
+        }
+        if (maxTrackedSkus < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("추적 SKU 수와 시도 횟수는 1 이상이어야 합니다");
+        }
+        if (baseBackoff == null || baseBackoff.isNegative() || maxBackoff == null || maxBackoff.compareTo(baseBackoff) < 0) {
+            throw new IllegalArgumentException("재시도 대기 시간은 0 이상이고 최대값 이하여야 합니다");
+        }
+        this.clock = clock;
+        this.bucketMillis = window.toMillis() / bucketCount;
+        this.bucketCount = bucketCount;
+        this.minSamples = minSamples;
+        this.conflictThreshold = conflictThreshold;
+        this.maxTrackedSkus = maxTrackedSkus;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.metricsPort = metricsPort;
+    }
+
+    /**
+     * 주어진 SKU 중 비관적 방식으로 처리할 SKU를 반환하고, 방식별 선택 수를 기록합니다.
+     */
+    public Set<SkuId> selectPessimistic(Collection<SkuId> skuIds) {
+        long bucket = currentBucket();
+        Set<SkuId> pessimistic = new HashSet<>();
+        for (SkuId skuId : skuIds) {
+            Window window = windows.get(skuId);
+            if (window != null && window.refresh(bucket) == ReservationLockMode.PESSIMISTIC) {
+                pessimistic.add(skuId);
+            }
+        }
+
+        if (!pessimistic.isEmpty()) {
+            metricsPort.recordDecision(ReservationLockMode.PESSIMISTIC, pessimistic.size());
+        }
+        if (pessimistic.size() < skuIds.size()) {
+            metricsPort.recordDecision(ReservationLockMode.OPTIMISTIC, skuIds.size() - pessimistic.size());
+        }
+        return pessimistic;
+    }
+
+    /**
+     * 낙관적 방식으로 처리한 SKU의 결과를 윈도우에 기록합니다.
+     *
+     * @param conflicted 버전 충돌로 실패했으면 true
+     */
+    public void recordOptimisticOutcome(Collection<SkuId> skuIds, boolean conflicted) {
+        if (skuIds.isEmpty()) {
+            return;
+        }
+
+        long bucket = currentBucket();
+        for (SkuId skuId : skuIds) {
+            windows.computeIfAbsent(skuId, Window::new).record(bucket, conflicted);
+        }
+        if (windows.size() > maxTrackedSkus) {
+            evictIdle(bucket);
+        }
+    }
+
+    /**
+     * 낙관적 예약의 최대 시도 횟수 (첫 시도 포함)
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * {@code attempt}번째 시도가 충돌한 뒤 기다릴 시간을 반환합니다.
+     *
+     * <p>충돌한 요청들이 같은 시점에 다시 몰리지 않도록 지수적으로 늘어나는 상한 안에서 무작위로 고릅니다 (full jitter).</p>
+     */
+    public long backoffMillis(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << shift);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 현재 비관적 방식으로 처리하는 SKU 수 (테스트 및 모니터링 용도)
+     */
+    int contendedSkuCount() {
+        long bucket = currentBucket();
+        return (int) windows.values().stream()
+                .filter(window -> window.refresh(bucket) == ReservationLockMode.PESSIMISTIC)
+                .count();
+    }
+
+    private long currentBucket() {
+        return clock.millis() / bucketMillis;
+    }
+
+    /**
+     * 윈도우 동안 기록이 없는 SKU를 정리합니다. 많은 SKU가 한꺼번에 들어와도 버킷마다 한 번만 전체를 훑습니다.
+     */
+    private void evictIdle(long bucket) {
+        long last = lastEvictionBucket.get();
+        if (last >= bucket || !lastEvictionBucket.compareAndSet(last, bucket)) {
+            return;
+        }
+
+        windows.entrySet().removeIf(entry -> {
+            Window window = entry.getValue();
+            if (!window.isIdle(bucket)) {
+                return false;
+            }
+            window.refresh(bucket);
+            return true;
+        });
+    }
+
+    private final class Window {
+
+        private final SkuId skuId;
+        private final long[] epochs = new long[bucketCount];
+        private final int[] attempts = new int[bucketCount];
+        private final int[] conflicts = new int[bucketCount];
+        private long lastRecordedBucket = Long.MIN_VALUE;
+        private ReservationLockMode mode = ReservationLockMode.OPTIMISTIC;
+
+        private Window(SkuId skuId) {
+            this.skuId = skuId;
+            Arrays.fill(epochs, Long.MIN_VALUE);
+        }
+
+        synchronized void record(long bucket, boolean conflicted) {
+            int index = (int) Math.floorMod(bucket, (long) bucketCount);
+            if (epochs[index] != bucket) {
+                epochs[index] = bucket;
+                attempts[index] = 0;
+                conflicts[index] = 0;
+            }
+            attempts[index]++;
+            if (conflicted) {
+                conflicts[index]++;
+            }
+            lastRecordedBucket = Math.max(lastRecordedBucket, bucket);
+            refresh(bucket);
+        }
+
+        synchronized ReservationLockMode refresh(long bucket) {
+            long totalAttempts = 0;
+            long totalConflicts = 0;
+            for (int i = 0; i < bucketCount; i++) {
+                if (epochs[i] > bucket - bucketCount) {
+                    totalAttempts += attempts[i];
+                    totalConflicts += conflicts[i];
+                }
+            }
+
+            ReservationLockMode next = totalAttempts >= minSamples && totalConflicts >= totalAttempts * conflictThreshold
+                    ? ReservationLockMode.PESSIMISTIC
+                    : ReservationLockMode.OPTIMISTIC;
+            if (next != mode) {
+                log.info("예약 잠금 방식 변경: skuId={}, mode={}, attempts={}, conflicts={}",
+                        skuId.value(), next, totalAttempts, totalConflicts);
+                metricsPort.recordModeChange(next);
+                mode = next;
+            }
+            return mode;
+        }
+
+        synchronized boolean isIdle(long bucket) {
+            return lastRecordedBucket <= bucket - bucketCount;
+        }
+    }
+}
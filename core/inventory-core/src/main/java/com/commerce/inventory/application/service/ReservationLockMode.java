@@ -0,0 +1,11 @@
+package com.commerce.inventory.application.service;
+
+/**
+ * 예약 시 재고 행 동시성 제어 방식
+ */
+public enum ReservationLockMode {
+    /** 잠그지 않고 읽은 뒤 버전 검사로 충돌을 감지하고, 충돌하면 다시 시도 */
+    OPTIMISTIC,
+    /** 재고 행을 잠가 읽어 충돌 없이 차례로 처리 */
+    PESSIMISTIC
+}
@@ -1,12 +1,18 @@
 package com.commerce.inventory.application.usecase;
 
 import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
 import com.commerce.inventory.application.usecase.BundleReservationResponse;
 import com.commerce.inventory.application.usecase.BundleReservationStatus;
 import com.commerce.inventory.application.usecase.ReserveBundleStockCommand;
 import com.commerce.inventory.application.usecase.ReserveBundleStockUseCase;
 import com.commerce.inventory.application.usecase.SkuReservationStatus;
+import com.commerce.inventory.application.service.ReservationContentionPolicy;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.InventoryVersionConflictException;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.ReservationContentionMetricsPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
 import com.commerce.inventory.domain.exception.InsufficientStockException;
 import com.commerce.inventory.domain.exception.InvalidInventoryException;
@@ -21,14 +27,32 @@ import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 번들 재고 예약 서비스
+ *
+ * <p>SKU마다 {@link ReservationContentionPolicy}가 고른 방식으로 재고를 읽습니다. 경합이 적은 SKU는 잠그지 않고 읽어
+ * 버전 검사로 충돌을 감지하고, 충돌이 잦은 SKU는 재고 행을 잠가 읽습니다. 충돌은 버전이 맞지 않은 SKU에만 기록하므로 핫 SKU와
+ * 함께 주문되는 SKU가 덩달아 잠금 방식으로 전환되지 않습니다. 충돌하면 예약 전체를 새 트랜잭션에서
+ * 무작위 대기 후 다시 시도하며, 시도 횟수를 모두 쓰면 실패 응답을 돌려줍니다.</p>
+ *
+ * <p>핫 SKU 항목은 단건 예약과 마찬가지로 재고 행을 읽지 않고 {@link HotStockCounterPort}에서 먼저 차감해, 카운터가
+ * 재고 행 경로의 예약을 모른 채 가용 재고를 부풀리지 않게 합니다. 나머지 항목이 실패하면 차감한 수량을 되돌립니다.
+ * 재고를 읽은 뒤 핫 SKU로 전환된 SKU가 있으면 일시적인 실패로 응답해 호출자가 다시 요청하게 합니다. 잠그지 않고 읽은 SKU가 읽은 뒤 커밋 전에
+ * 전환되는 좁은 구간은 카운터 재조정이 바로잡습니다.</p>
+ *
+ * <p>시도마다 트랜잭션을 새로 시작하므로 호출자의 트랜잭션 밖에서 호출해야 합니다. 재고 도메인 이벤트는 원장 기록이 예약과
+ * 함께 커밋되도록 시도의 트랜잭션 안에서 발행하며, 외부로는 커밋된 시도의 이벤트만 전달됩니다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -43,9 +67,13 @@ public class ReserveBundleStockService implements ReserveBundleStockUseCase {
     private final SaveReservationPort saveReservationPort;
     private final Clock clock;
     private final Validator validator;
+    private final ReservationContentionPolicy contentionPolicy;
+    private final ReservationContentionMetricsPort contentionMetricsPort;
+    private final TransactionOperations transactionOperations;
+    private final EventPublisher eventPublisher;
+    private final HotStockCounterPort hotStockCounterPort;
     
     @Override
-    @Transactional
     public BundleReservationResponse execute(ReserveBundleStockCommand command) {
         // command null 체크를 먼저 수행
         if (command == null) {
@@ -66,14 +94,21 @@ public class ReserveBundleStockService implements ReserveBundleStockUseCase {
                 return createSuccessResponse(sagaId, orderId, Collections.emptyList());
             }
 
-            // 2. 총 필요 수량 집계
-            Map<SkuId, Quantity> totalRequiredQuantities = calculateTotalRequiredQuantities(skuRequests);
+            // 2. 핫 SKU 항목은 카운터에서 먼저 차감
+            List<SkuReservationRequest> rowRequests = new ArrayList<>();
+            List<Reservation> hotReservations = reserveHotRequests(command, skuRequests, rowRequests);
 
-            // 3. 재고 조회 및 검증
-            Map<SkuId, Inventory> inventoryMap = loadAndValidateInventories(totalRequiredQuantities);
-
-            // 4. 예약 생성 및 저장
-            List<Reservation> savedReservations = createAndSaveReservations(command, skuRequests, inventoryMap);
+            // 3. 나머지 항목의 총 필요 수량 집계 후 재고 조회, 검증 및 예약 저장 (충돌하면 다시 시도)
+            List<Reservation> savedReservations = new ArrayList<>(hotReservations);
+            try {
+                if (!rowRequests.isEmpty()) {
+                    Map<SkuId, Quantity> totalRequiredQuantities = calculateTotalRequiredQuantities(rowRequests);
+                    savedReservations.addAll(reserveWithRetry(command, rowRequests, totalRequiredQuantities));
+                }
+            } catch (RuntimeException e) {
+                cancelHotReservations(hotReservations);
+                throw e;
+            }
             
             // 5. 성공 응답 생성
             return createSuccessResponse(sagaId, orderId, savedReservations);
@@ -87,12 +122,114 @@ public class ReserveBundleStockService implements ReserveBundleStockUseCase {
         } catch (ArithmeticException e) {
             log.error("번들 재고 예약 실패 (수량 계산 오버플로우): sagaId={}, error={}", sagaId, e.getMessage(), e);
             return createFailureResponse(sagaId, orderId, "요청 수량이 너무 많아 처리할 수 없습니다.");
-        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+        } catch (ConcurrencyFailureException e) {
             log.warn("번들 재고 예약 중 동시성 충돌 발생: sagaId={}, error={}", sagaId, e.getMessage());
             return createFailureResponse(sagaId, orderId, "일시적인 오류가 발생했습니다. 다시 시도해주세요.");
         }
     }
 
+    private List<Reservation> reserveWithRetry(
+        ReserveBundleStockCommand command,
+        List<SkuReservationRequest> skuRequests,
+        Map<SkuId, Quantity> totalRequiredQuantities
+    ) {
+        for (int attempt = 1; ; attempt++) {
+            Set<SkuId> lockedSkuIds = contentionPolicy.selectPessimistic(totalRequiredQuantities.keySet());
+            Set<SkuId> optimisticSkuIds = new HashSet<>(totalRequiredQuantities.keySet());
+            optimisticSkuIds.removeAll(lockedSkuIds);
+
+            try {
+                List<Reservation> savedReservations = transactionOperations.execute(status -> {
+                    Map<SkuId, Inventory> inventoryMap = loadAndValidateInventories(totalRequiredQuantities, lockedSkuIds);
+                    List<DomainEvent> events = new ArrayList<>();
+                    List<Reservation> reservations = createAndSaveReservations(command, skuRequests, inventoryMap, events);
+                    eventPublisher.publishAll(events);
+                    return reservations;
+                });
+                contentionPolicy.recordOptimisticOutcome(optimisticSkuIds, false);
+                return savedReservations;
+            } catch (OptimisticLockingFailureException e) {
+                recordConflict(optimisticSkuIds, e);
+                boolean retry = attempt < contentionPolicy.maxAttempts();
+                contentionMetricsPort.recordConflict(retry);
+                if (!retry) {
+                    throw e;
+                }
+                log.debug("번들 재고 예약 충돌로 다시 시도: sagaId={}, attempt={}", command.getSagaId(), attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * 충돌한 SKU에만 충돌을, 함께 낙관적으로 처리한 나머지 SKU에는 성공을 기록합니다.
+     * 충돌한 SKU를 알 수 없으면 낙관적으로 처리한 SKU 모두에 충돌을 기록합니다.
+     */
+    private void recordConflict(Set<SkuId> optimisticSkuIds, OptimisticLockingFailureException e) {
+        if (!(e instanceof InventoryVersionConflictException conflict)) {
+            contentionPolicy.recordOptimisticOutcome(optimisticSkuIds, true);
+            return;
+        }
+        Set<SkuId> conflicted = new HashSet<>(optimisticSkuIds);
+        conflicted.retainAll(conflict.getSkuIds());
+        Set<SkuId> unaffected = new HashSet<>(optimisticSkuIds);
+        unaffected.removeAll(conflicted);
+        contentionPolicy.recordOptimisticOutcome(conflicted, true);
+        contentionPolicy.recordOptimisticOutcome(unaffected, false);
+    }
+
+    private List<Reservation> reserveHotRequests(
+        ReserveBundleStockCommand command,
+        List<SkuReservationRequest> skuRequests,
+        List<SkuReservationRequest> rowRequests
+    ) {
+        Set<SkuId> hotSkuIds = hotStockCounterPort.findHotSkuIds(
+            skuRequests.stream().map(SkuReservationRequest::skuId).collect(Collectors.toSet()));
+        if (hotSkuIds.isEmpty()) {
+            rowRequests.addAll(skuRequests);
+            return Collections.emptyList();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Reservation> hotReservations = new ArrayList<>();
+        for (SkuReservationRequest request : skuRequests) {
+            if (!hotSkuIds.contains(request.skuId())) {
+                rowRequests.add(request);
+                continue;
+            }
+
+            Reservation reservation = Reservation.createWithTTL(
+                request.skuId(), request.quantity(), command.getOrderId(), defaultTtlSeconds, now);
+
+            switch (hotStockCounterPort.tryReserve(reservation)) {
+                case RESERVED -> hotReservations.add(reservation);
+                // 조회 직후 핫 SKU에서 해제된 경우 재고 행 경로로 예약
+                case NOT_HOT -> rowRequests.add(request);
+                case INSUFFICIENT -> {
+                    cancelHotReservations(hotReservations);
+                    throw new InsufficientStockException(
+                        String.format("재고가 부족합니다. SKU: %s, 요청 수량: %d",
+                            request.skuId().value(), request.quantity().value())
+                    );
+                }
+            }
+        }
+        return hotReservations;
+    }
+
+    private void cancelHotReservations(List<Reservation> hotReservations) {
+        hotReservations.forEach(hotStockCounterPort::cancel);
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        try {
+            Thread.sleep(contentionPolicy.backoffMillis(attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
     private List<SkuReservationRequest> parseSkuRequests(ReserveBundleStockCommand command) {
         return command.getBundleItems().stream()
             .flatMap(bundleItem -> bundleItem.getSkuMappings().stream()
@@ -114,13 +251,30 @@ public class ReserveBundleStockService implements ReserveBundleStockUseCase {
             ));
     }
 
-    private Map<SkuId, Inventory> loadAndValidateInventories(Map<SkuId, Quantity> totalRequiredQuantities) {
-        // 모든 재고 정보 한 번에 조회
+    private Map<SkuId, Inventory> loadAndValidateInventories(
+        Map<SkuId, Quantity> totalRequiredQuantities,
+        Set<SkuId> lockedSkuIds
+    ) {
+        // 경합이 잦은 SKU는 잠가서, 나머지는 잠그지 않고 한 번에 조회
         List<SkuId> allSkuIds = new ArrayList<>(totalRequiredQuantities.keySet());
-        Map<SkuId, Inventory> inventoryMap = loadInventoryPort.loadAllByIds(allSkuIds);
+        List<SkuId> optimisticSkuIds = allSkuIds.stream()
+                .filter(skuId -> !lockedSkuIds.contains(skuId))
+                .collect(Collectors.toList());
+        Map<SkuId, Inventory> inventoryMap = new HashMap<>();
+        if (!lockedSkuIds.isEmpty()) {
+            inventoryMap.putAll(loadInventoryPort.loadBySkuIdsWithLock(lockedSkuIds));
+        }
+        if (!optimisticSkuIds.isEmpty()) {
+            inventoryMap.putAll(loadInventoryPort.loadAllByIds(optimisticSkuIds));
+        }
         
         // 존재하지 않는 SKU 검증
         validateInventoryExists(allSkuIds, inventoryMap);
+
+        // 읽는 동안 핫 SKU로 전환되었으면 카운터와 어긋나지 않도록 다시 시도하게 함
+        if (!hotStockCounterPort.findHotSkuIds(inventoryMap.keySet()).isEmpty()) {
+            throw new ConcurrencyFailureException("예약 중 핫 SKU로 전환되었습니다. 다시 시도해주세요");
+        }
         
         // 모든 항목에 대한 재고 가용성 사전 확인
         validateInventoryAvailability(totalRequiredQuantities, inventoryMap);
@@ -158,7 +312,8 @@ public class ReserveBundleStockService implements ReserveBundleStockUseCase {
     private List<Reservation> createAndSaveReservations(
         ReserveBundleStockCommand command,
         List<SkuReservationRequest> skuRequests,
-        Map<SkuId, Inventory> inventoryMap
+        Map<SkuId, Inventory> inventoryMap,
+        List<DomainEvent> events
     ) {
         Set<Inventory> modifiedInventories = new HashSet<>();
         List<Reservation> reservationsToSave = new ArrayList<>(skuRequests.size());
@@ -179,12 +334,11 @@ public class ReserveBundleStockService implements ReserveBundleStockUseCase {
         }
         
         // 예약 정보 일괄 저장
-        List<Reservation> savedReservations = reservationsToSave.stream()
-                .map(saveReservationPort::save)
-                .collect(Collectors.toList());
+        List<Reservation> savedReservations = saveReservationPort.saveAll(reservationsToSave);
         
         // 변경된 재고 정보 일괄 저장
         saveInventoryPort.saveAll(modifiedInventories);
+        modifiedInventories.forEach(inventory -> events.addAll(inventory.pullDomainEvents()));
         
         return savedReservations;
     }
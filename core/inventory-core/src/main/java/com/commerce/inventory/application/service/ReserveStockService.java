@@ -1,13 +1,20 @@
 package com.commerce.inventory.application.service;
 
 import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
 import com.commerce.inventory.application.usecase.ReserveStockCommand;
 import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.application.usecase.ManageHotStockUseCase;
+import com.commerce.inventory.application.usecase.ReserveStockBatchUseCase;
 import com.commerce.inventory.application.usecase.ReserveStockUseCase;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
 import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
 import com.commerce.inventory.application.util.ValidationHelper;
+import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.StockReservedEvent;
 import com.commerce.inventory.domain.exception.InsufficientStockException;
 import com.commerce.inventory.domain.exception.InvalidReservationException;
 import com.commerce.inventory.domain.exception.InvalidSkuIdException;
@@ -18,6 +25,7 @@ import com.commerce.inventory.domain.model.SkuId;
 import com.commerce.inventory.application.service.port.out.LoadReservationPort;
 import com.commerce.inventory.application.service.port.out.SaveReservationPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,19 +34,32 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 재고 예약 서비스
+ *
+ * <p>핫 SKU 항목은 재고 행을 잠그지 않고 {@link HotStockCounterPort}에서 원자적으로 차감한 뒤,
+ * 예약은 대기 목록을 거쳐 {@link ManageHotStockUseCase#flushPendingReservations(String)}에서 일괄 저장됩니다.
+ * 나머지 항목은 SKU별 합산 수량을 {@link AdjustInventoryPort}의 조건부 갱신으로 먼저 예약하고,
+ * 반영하지 못한 항목(재고 없음, 재고 부족, 샤드 사용)만 재고 행을 잠가 도메인 규칙으로 예약합니다.</p>
+ *
+ * <p>{@link #executeBatch(List)}는 동시에 들어온 여러 요청을 하나의 트랜잭션으로 묶어, SKU별 잠금과 커밋 비용을
+ * 요청들이 나눠 갖게 합니다. 핫 SKU가 포함된 요청은 묶지 않고 개별 처리 대상으로 돌려보냅니다.</p>
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class ReserveStockService implements ReserveStockUseCase {
+public class ReserveStockService implements ReserveStockUseCase, ReserveStockBatchUseCase {
     
     private static final int DEFAULT_TTL_SECONDS = 900; // 15분
     private static final int BATCH_SIZE = 1000; // IN 절 제한을 위한 배치 크기
     
     private final LoadInventoryPort loadInventoryPort;
     private final SaveInventoryPort saveInventoryPort;
+    private final AdjustInventoryPort adjustInventoryPort;
     private final LoadReservationPort loadReservationPort;
     private final SaveReservationPort saveReservationPort;
     private final EventPublisher eventPublisher;
+    private final HotStockCounterPort hotStockCounterPort;
     private final Clock clock;
     
     @Override
@@ -48,12 +69,291 @@ public class ReserveStockService implements ReserveStockUseCase {
         LocalDateTime currentTime = LocalDateTime.now(clock);
         int ttlSeconds = Optional.ofNullable(request.getTtlSeconds()).orElse(DEFAULT_TTL_SECONDS);
         
+        // 핫 SKU 항목은 카운터에서 먼저 차감하고, 나머지 항목은 재고 행에 예약
+        List<ReserveStockCommand.ReservationItem> rowItems = new ArrayList<>();
+        List<Reservation> hotReservations = reserveHotItems(request, ttlSeconds, currentTime, rowItems);
+        
+        List<Reservation> savedReservations = new ArrayList<>(hotReservations);
+        try {
+            if (!rowItems.isEmpty()) {
+                savedReservations.addAll(reserveOnInventoryRows(request.getOrderId(), rowItems, ttlSeconds, currentTime));
+            }
+        } catch (RuntimeException e) {
+            cancelHotReservations(hotReservations);
+            throw e;
+        }
+        
+        // DTO 변환
+        List<ReserveStockResponse.ReservationResult> results = convertToResults(savedReservations);
+        
+        return ReserveStockResponse.builder()
+                .reservations(results)
+                .build();
+    }
+    
+    @Override
+    public List<Result> executeBatch(List<ReserveStockCommand> commands) {
+        LocalDateTime currentTime = LocalDateTime.now(clock);
+        Result[] results = new Result[commands.size()];
+        
+        // 요청별 검증 실패는 해당 요청에만 반영
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                validateRequest(commands.get(i));
+                candidates.add(i);
+            } catch (RuntimeException e) {
+                results[i] = Result.failure(e);
+            }
+        }
+        
+        // 핫 SKU가 포함된 요청은 카운터 경로로 개별 처리
+        Set<SkuId> hotSkuIds = hotStockCounterPort.findHotSkuIds(skuIdsOf(commands, candidates));
+        candidates = deferRequestsContaining(commands, candidates, hotSkuIds, results);
+        
+        // 요청 전체의 SKU를 한 번씩만 잠금
+        Map<SkuId, Inventory> inventories = fetchInventoriesInBatches(skuIdsOf(commands, candidates));
+        
+        // 잠금을 기다리는 동안 핫 SKU로 전환된 SKU의 요청도 개별 처리
+        Set<SkuId> turnedHot = hotStockCounterPort.findHotSkuIds(inventories.keySet());
+        candidates = deferRequestsContaining(commands, candidates, turnedHot, results);
+        
+        Map<Integer, List<Reservation>> reservationsByRequest = new LinkedHashMap<>();
+        Set<Inventory> modifiedInventories = new LinkedHashSet<>();
+        for (int index : candidates) {
+            ReserveStockCommand command = commands.get(index);
+            try {
+                List<Reservation> reservations = reserveInBatch(command, inventories, currentTime);
+                reservationsByRequest.put(index, reservations);
+                reservations.forEach(reservation -> modifiedInventories.add(inventories.get(reservation.getSkuId())));
+            } catch (InsufficientStockException | InvalidSkuIdException | InvalidReservationException e) {
+                results[index] = Result.failure(e);
+            }
+        }
+        
+        // 모든 요청의 예약과 재고를 한 번에 저장하고 이벤트 발행
+        reservationsByRequest.forEach((index, reservations) -> {
+            List<Reservation> savedReservations = saveAllReservations(reservations);
+            results[index] = Result.success(ReserveStockResponse.builder()
+                    .reservations(convertToResults(savedReservations))
+                    .build());
+        });
+        if (!modifiedInventories.isEmpty()) {
+            saveInventoryPort.saveAll(new ArrayList<>(modifiedInventories));
+            modifiedInventories.forEach(inventory -> eventPublisher.publishAll(inventory.pullDomainEvents()));
+        }
+        
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * 요청의 모든 항목을 반영할 수 있는지 먼저 확인한 뒤 반영하므로, 실패한 요청은 재고를 바꾸지 않습니다.
+     */
+    private List<Reservation> reserveInBatch(
+            ReserveStockCommand command,
+            Map<SkuId, Inventory> inventories,
+            LocalDateTime currentTime
+    ) {
+        Set<SkuId> requestedSkuIds = command.getItems().stream()
+                .map(item -> new SkuId(item.getSkuId()))
+                .collect(Collectors.toSet());
+        validateAllSkusExist(requestedSkuIds, requestedSkuIds.stream()
+                .filter(inventories::containsKey)
+                .collect(Collectors.toSet()));
+        
+        Map<String, Integer> totalQuantityBySku = command.getItems().stream()
+                .collect(Collectors.groupingBy(
+                        ReserveStockCommand.ReservationItem::getSkuId,
+                        Collectors.summingInt(ReserveStockCommand.ReservationItem::getQuantity)
+                ));
+        Map<SkuId, Inventory> requestedInventories = requestedSkuIds.stream()
+                .collect(Collectors.toMap(skuId -> skuId, inventories::get));
+        validateAndBuildInventoryMap(totalQuantityBySku, requestedInventories);
+        
+        int ttlSeconds = Optional.ofNullable(command.getTtlSeconds()).orElse(DEFAULT_TTL_SECONDS);
+        List<Reservation> reservations = command.getItems().stream()
+                .map(item -> Reservation.createWithTTL(
+                        new SkuId(item.getSkuId()),
+                        Quantity.of(item.getQuantity()),
+                        command.getOrderId(),
+                        ttlSeconds,
+                        currentTime))
+                .collect(Collectors.toList());
+        reservations.forEach(reservation -> inventories.get(reservation.getSkuId()).applyReservation(reservation));
+        
+        return reservations;
+    }
+    
+    private Set<SkuId> skuIdsOf(List<ReserveStockCommand> commands, List<Integer> indexes) {
+        return indexes.stream()
+                .flatMap(index -> commands.get(index).getItems().stream())
+                .map(item -> new SkuId(item.getSkuId()))
+                .collect(Collectors.toSet());
+    }
+    
+    private List<Integer> deferRequestsContaining(
+            List<ReserveStockCommand> commands,
+            List<Integer> indexes,
+            Set<SkuId> skuIds,
+            Result[] results
+    ) {
+        if (skuIds.isEmpty()) {
+            return indexes;
+        }
+        
+        List<Integer> remaining = new ArrayList<>();
+        for (int index : indexes) {
+            boolean containsSku = commands.get(index).getItems().stream()
+                    .anyMatch(item -> skuIds.contains(new SkuId(item.getSkuId())));
+            if (containsSku) {
+                results[index] = Result.deferred();
+            } else {
+                remaining.add(index);
+            }
+        }
+        return remaining;
+    }
+    
+    private List<Reservation> reserveHotItems(
+            ReserveStockCommand request,
+            int ttlSeconds,
+            LocalDateTime currentTime,
+            List<ReserveStockCommand.ReservationItem> lockedItems
+    ) {
+        Set<SkuId> requestedSkuIds = request.getItems().stream()
+                .map(item -> new SkuId(item.getSkuId()))
+                .collect(Collectors.toSet());
+        Set<SkuId> hotSkuIds = hotStockCounterPort.findHotSkuIds(requestedSkuIds);
+        
+        List<Reservation> hotReservations = new ArrayList<>();
+        for (ReserveStockCommand.ReservationItem item : request.getItems()) {
+            SkuId skuId = new SkuId(item.getSkuId());
+            if (!hotSkuIds.contains(skuId)) {
+                lockedItems.add(item);
+                continue;
+            }
+            
+            Reservation reservation = Reservation.createWithTTL(
+                    skuId, Quantity.of(item.getQuantity()), request.getOrderId(), ttlSeconds, currentTime);
+            
+            switch (hotStockCounterPort.tryReserve(reservation)) {
+                case RESERVED -> hotReservations.add(reservation);
+                // 조회 직후 핫 SKU에서 해제된 경우 재고 행을 잠가 예약
+                case NOT_HOT -> lockedItems.add(item);
+                case INSUFFICIENT -> {
+                    cancelHotReservations(hotReservations);
+                    throw new InsufficientStockException(
+                            String.format("재고가 부족합니다. SKU: %s, 요청 수량: %d",
+                                    item.getSkuId(), item.getQuantity())
+                    );
+                }
+            }
+        }
+        
+        return hotReservations;
+    }
+    
+    private void cancelHotReservations(List<Reservation> hotReservations) {
+        hotReservations.forEach(hotStockCounterPort::cancel);
+    }
+    
+    private List<Reservation> reserveOnInventoryRows(
+            String orderId,
+            List<ReserveStockCommand.ReservationItem> items,
+            int ttlSeconds,
+            LocalDateTime currentTime
+    ) {
+        List<ReserveStockCommand.ReservationItem> lockedItems = new ArrayList<>();
+        List<DomainEvent> events = new ArrayList<>();
+        List<Reservation> savedReservations = new ArrayList<>(
+                reserveAtomically(orderId, items, ttlSeconds, currentTime, lockedItems, events));
+        
+        if (!lockedItems.isEmpty()) {
+            savedReservations.addAll(reserveWithLock(orderId, lockedItems, ttlSeconds, currentTime));
+        }
+        
+        // 잠금 경로가 실패하면 함께 롤백되므로 모든 항목을 예약한 뒤 발행
+        eventPublisher.publishAll(events);
+        return savedReservations;
+    }
+    
+    /**
+     * SKU별 합산 수량을 조건부 갱신 한 번으로 예약합니다. 반영하지 못한 SKU의 항목은 {@code lockedItems}에 담아
+     * 잠금 경로에서 재고 부족 여부를 판단하게 합니다. 갱신한 행은 잠기므로 교착을 피하도록 SKU ID 순서로 갱신합니다.
+     */
+    private List<Reservation> reserveAtomically(
+            String orderId,
+            List<ReserveStockCommand.ReservationItem> items,
+            int ttlSeconds,
+            LocalDateTime currentTime,
+            List<ReserveStockCommand.ReservationItem> lockedItems,
+            List<DomainEvent> events
+    ) {
+        Map<String, List<ReserveStockCommand.ReservationItem>> itemsBySku = items.stream()
+                .collect(Collectors.groupingBy(
+                        ReserveStockCommand.ReservationItem::getSkuId,
+                        TreeMap::new,
+                        Collectors.toList()
+                ));
+        
+        List<Reservation> reservations = new ArrayList<>();
+        Set<SkuId> reservedSkuIds = new HashSet<>();
+        for (Map.Entry<String, List<ReserveStockCommand.ReservationItem>> entry : itemsBySku.entrySet()) {
+            SkuId skuId = new SkuId(entry.getKey());
+            int totalQuantity = entry.getValue().stream()
+                    .mapToInt(ReserveStockCommand.ReservationItem::getQuantity)
+                    .sum();
+            
+            Optional<Quantity> remaining = adjustInventoryPort.tryReserve(skuId, Quantity.of(totalQuantity));
+            if (remaining.isEmpty()) {
+                lockedItems.addAll(entry.getValue());
+                continue;
+            }
+            
+            reservedSkuIds.add(skuId);
+            for (ReserveStockCommand.ReservationItem item : entry.getValue()) {
+                Reservation reservation = Reservation.createWithTTL(
+                        skuId, Quantity.of(item.getQuantity()), orderId, ttlSeconds, currentTime);
+                reservations.add(reservation);
+                events.add(new StockReservedEvent(skuId, reservation));
+            }
+            if (remaining.get().isZero()) {
+                events.add(new StockDepletedEvent(skuId));
+            }
+        }
+        
+        if (reservations.isEmpty()) {
+            return reservations;
+        }
+        
+        // 갱신 전에 핫 SKU로 전환되었으면 카운터와 어긋나지 않도록 다시 시도하게 함
+        if (!hotStockCounterPort.findHotSkuIds(reservedSkuIds).isEmpty()) {
+            throw new ConcurrencyFailureException("예약 중 핫 SKU로 전환되었습니다. 다시 시도해주세요");
+        }
+        
+        return saveAllReservations(reservations);
+    }
+    
+    private List<Reservation> reserveWithLock(
+            String orderId,
+            List<ReserveStockCommand.ReservationItem> items,
+            int ttlSeconds,
+            LocalDateTime currentTime
+    ) {
         // 재고 확인 및 잠금
-        Map<String, Inventory> inventoryMap = lockAndVerifyInventories(request.getItems());
+        Map<String, Inventory> inventoryMap = lockAndVerifyInventories(items);
+        
+        // 잠금을 기다리는 동안 핫 SKU로 전환되었으면 카운터와 어긋나지 않도록 다시 시도하게 함
+        Set<SkuId> lockedSkuIds = inventoryMap.values().stream()
+                .map(Inventory::getSkuId)
+                .collect(Collectors.toSet());
+        if (!hotStockCounterPort.findHotSkuIds(lockedSkuIds).isEmpty()) {
+            throw new ConcurrencyFailureException("예약 중 핫 SKU로 전환되었습니다. 다시 시도해주세요");
+        }
         
         // 예약 도메인 객체 생성
         List<Reservation> reservations = performReservations(
-                request, inventoryMap, ttlSeconds, currentTime
+                orderId, items, inventoryMap, ttlSeconds, currentTime
         );
         
         // 예약 저장 - 일괄 처리로 성능 개선
@@ -66,18 +366,11 @@ public class ReserveStockService implements ReserveStockUseCase {
         inventoryMap.values().forEach(inventory -> 
             eventPublisher.publishAll(inventory.pullDomainEvents()));
         
-        // DTO 변환
-        List<ReserveStockResponse.ReservationResult> results = convertToResults(savedReservations);
-        
-        return ReserveStockResponse.builder()
-                .reservations(results)
-                .build();
+        return savedReservations;
     }
     
     private List<Reservation> saveAllReservations(List<Reservation> reservations) {
-        return reservations.stream()
-                .map(saveReservationPort::save)
-                .collect(Collectors.toList());
+        return saveReservationPort.saveAll(reservations);
     }
     
     private Map<String, Inventory> lockAndVerifyInventories(List<ReserveStockCommand.ReservationItem> items) {
@@ -105,7 +398,10 @@ public class ReserveStockService implements ReserveStockUseCase {
     
     private Map<SkuId, Inventory> fetchInventoriesInBatches(Set<SkuId> skuIds) {
         Map<SkuId, Inventory> result = new HashMap<>();
-        List<SkuId> skuIdList = new ArrayList<>(skuIds);
+        // 청크 경계와 관계없이 모든 트랜잭션이 같은 순서로 잠그도록 SKU ID 순으로 정렬한 뒤 나눔
+        List<SkuId> skuIdList = skuIds.stream()
+                .sorted(Comparator.comparing(SkuId::value))
+                .collect(Collectors.toList());
         
         for (int i = 0; i < skuIdList.size(); i += BATCH_SIZE) {
             int endIndex = Math.min(i + BATCH_SIZE, skuIdList.size());
@@ -161,16 +457,17 @@ public class ReserveStockService implements ReserveStockUseCase {
     }
     
     private List<Reservation> performReservations(
-            ReserveStockCommand request,
+            String orderId,
+            List<ReserveStockCommand.ReservationItem> items,
             Map<String, Inventory> inventoryMap,
             int ttlSeconds,
             LocalDateTime currentTime
     ) {
-        return request.getItems().stream()
+        return items.stream()
                 .map(item -> createReservation(
                         item,
                         inventoryMap.get(item.getSkuId()),
-                        request.getOrderId(),
+                        orderId,
                         ttlSeconds,
                         currentTime
                 ))
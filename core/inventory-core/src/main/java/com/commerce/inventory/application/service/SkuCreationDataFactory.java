@@ -0,0 +1,58 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.usecase.CreateSkuCommand;
+import com.commerce.inventory.domain.exception.InvalidVolumeException;
+import com.commerce.inventory.domain.exception.InvalidWeightException;
+import com.commerce.inventory.domain.model.SkuCode;
+import com.commerce.inventory.domain.model.SkuCreationData;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.Volume;
+import com.commerce.inventory.domain.model.VolumeUnit;
+import com.commerce.inventory.domain.model.Weight;
+import com.commerce.inventory.domain.model.WeightUnit;
+
+/**
+ * SKU 생성 커맨드를 도메인 생성 데이터로 바꿉니다. 단건 등록과 대량 등록이 같은 규칙을 쓰도록 한곳에 둡니다.
+ */
+public final class SkuCreationDataFactory {
+
+    private SkuCreationDataFactory() {
+    }
+
+    public static SkuCreationData create(CreateSkuCommand request, SkuCode skuCode) {
+        SkuCreationData.SkuCreationDataBuilder builder = SkuCreationData.builder()
+                .id(SkuId.generate())
+                .code(skuCode)
+                .name(request.getName())
+                .description(request.getDescription());
+
+        addWeight(builder, request);
+        addVolume(builder, request);
+
+        return builder.build();
+    }
+
+    private static void addWeight(SkuCreationData.SkuCreationDataBuilder builder, CreateSkuCommand request) {
+        boolean weightValueProvided = request.getWeight() != null;
+        boolean weightUnitProvided = request.getWeightUnit() != null && !request.getWeightUnit().trim().isEmpty();
+        if (weightValueProvided != weightUnitProvided) {
+            throw new InvalidWeightException("무게와 무게 단위는 모두 제공되거나 모두 제공되지 않아야 합니다.");
+        }
+        if (weightValueProvided) {
+            WeightUnit weightUnit = WeightUnit.fromString(request.getWeightUnit());
+            builder.weight(Weight.of(request.getWeight(), weightUnit));
+        }
+    }
+
+    private static void addVolume(SkuCreationData.SkuCreationDataBuilder builder, CreateSkuCommand request) {
+        boolean volumeValueProvided = request.getVolume() != null;
+        boolean volumeUnitProvided = request.getVolumeUnit() != null && !request.getVolumeUnit().trim().isEmpty();
+        if (volumeValueProvided != volumeUnitProvided) {
+            throw new InvalidVolumeException("부피와 부피 단위는 모두 제공되거나 모두 제공되지 않아야 합니다.");
+        }
+        if (volumeValueProvided) {
+            VolumeUnit volumeUnit = VolumeUnit.fromString(request.getVolumeUnit());
+            builder.volume(Volume.of(request.getVolume(), volumeUnit));
+        }
+    }
+}
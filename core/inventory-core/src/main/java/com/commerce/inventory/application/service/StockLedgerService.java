@@ -0,0 +1,182 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadStockMovementPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSnapshotPort;
+import com.commerce.inventory.application.usecase.StockLedgerAudit;
+import com.commerce.inventory.application.usecase.StockLedgerUseCase;
+import com.commerce.inventory.domain.exception.InvalidSkuException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import com.commerce.inventory.domain.model.StockMovement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 원장 서비스
+ *
+ * <p>임의 시점의 재고는 그 시점 이전의 가장 최근 스냅샷부터 이후 이동 기록만 (SKU, 순번) 인덱스 범위로 읽어 계산하므로,
+ * 원장 전체를 읽지 않고 스냅샷 간격 이하의 기록만 반영합니다. 스냅샷도 재고 행이 아니라 이전 스냅샷과 원장으로 계산해
+ * 저장하므로 원장과 항상 일치합니다.</p>
+ *
+ * <p>시점은 이동 기록이 원장 순번을 받은 시각으로 비교합니다. 지연 기록 모드에서는 대기 기록 ID 순서, 여러 기록기, 대기 테이블을
+ * 거치지 않는 기록 때문에 변경 시각이 순번 순과 다르지만, 순번을 받은 시각은 같은 SKU에서 순번과 함께 증가하므로 그 시점 이후
+ * 기록을 만나면 멈추고 스냅샷도 그 시각으로 고를 수 있습니다. 지연 기록 모드의 시점 조회는 그만큼 늦게 반영된 원장을 보여 줍니다.</p>
+ *
+ * <p>검증은 {@link LoadInventoryPort#loadExclusively(SkuId)}로 샤드를 사용하는 재고의 모든 샤드와 SKU 행을 잠가, SKU의 변경과
+ * 순번 할당이 커밋되지 않는 상태에서 원장으로 계산한 수량과 재고 행의 수량을 비교합니다. 지연 기록 모드에서 아직 순번을
+ * 받지 못한 대기 기록은 마지막 순번 뒤에 이어 반영합니다. 이동 기록이 없던 시기에 쌓인 재고는 원장에 없으므로 불일치로 나타납니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockLedgerService implements StockLedgerUseCase {
+
+    @Value("${inventory.ledger.replay-page-size:5000}")
+    private int replayPageSize;
+
+    @Value("${inventory.ledger.snapshot-interval:1000}")
+    private long snapshotInterval;
+
+    private final LoadInventoryPort loadInventoryPort;
+    private final LoadStockMovementPort loadStockMovementPort;
+    private final StockLedgerSequencePort stockLedgerSequencePort;
+    private final StockLedgerSnapshotPort stockLedgerSnapshotPort;
+    private final TransactionOperations transactionOperations;
+    private final Set<SkuId> snapshotRequests = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public StockLedgerState stateAt(SkuId skuId, LocalDateTime at) {
+        StockLedgerState state = (at == null
+                ? stockLedgerSnapshotPort.findLatest(skuId)
+                : stockLedgerSnapshotPort.findLatestAtOrBefore(skuId, at))
+                .orElseGet(() -> StockLedgerState.initial(skuId));
+        replay(state, Long.MAX_VALUE, at);
+        return state;
+    }
+
+    @Override
+    public StockLedgerAudit audit(SkuId skuId) {
+        return transactionOperations.execute(status -> {
+            // 모든 샤드와 SKU 행을 잠가 변경과 순번 할당을 막은 상태에서 비교
+            Inventory inventory = loadInventoryPort.loadExclusively(skuId)
+                    .orElseThrow(() -> InvalidSkuException.notFound(skuId));
+            long sequence = stockLedgerSequencePort.currentSequence(skuId);
+
+            StockLedgerState state = stockLedgerSnapshotPort.findLatest(skuId)
+                    .filter(snapshot -> snapshot.getSequence() <= sequence)
+                    .orElseGet(() -> StockLedgerState.initial(skuId));
+            int replayed = replay(state, sequence, null);
+            long verifiedSequence = state.getSequence();
+            for (StockMovement movement : loadStockMovementPort.findUnsequencedBySkuId(skuId)) {
+                state.apply(movement.withSequence(state.getSequence() + 1));
+                replayed++;
+            }
+
+            return new StockLedgerAudit(
+                    skuId,
+                    verifiedSequence,
+                    state.getTotalQuantity(),
+                    state.getReservedQuantity(),
+                    inventory.getTotalQuantity().value(),
+                    inventory.getReservedQuantity().value(),
+                    replayed
+            );
+        });
+    }
+
+    @Override
+    public void requestSnapshot(SkuId skuId) {
+        snapshotRequests.add(skuId);
+    }
+
+    @Override
+    public void recorded(List<StockMovement> movements) {
+        Map<SkuId, LongSummaryStatistics> sequences = movements.stream()
+                .filter(movement -> movement.getSequence() != null)
+                .collect(Collectors.groupingBy(StockMovement::getSkuId,
+                        Collectors.summarizingLong(StockMovement::getSequence)));
+        sequences.forEach((skuId, range) -> {
+            if (range.getMax() / snapshotInterval > (range.getMin() - 1) / snapshotInterval) {
+                requestSnapshot(skuId);
+            }
+        });
+    }
+
+    @Override
+    public int snapshotPending(int maxSkus) {
+        List<SkuId> batch = new ArrayList<>();
+        for (SkuId skuId : snapshotRequests) {
+            if (batch.size() >= maxSkus) {
+                break;
+            }
+            batch.add(skuId);
+        }
+
+        int saved = 0;
+        for (SkuId skuId : batch) {
+            snapshotRequests.remove(skuId);
+            try {
+                if (snapshot(skuId)) {
+                    saved++;
+                }
+            } catch (RuntimeException e) {
+                snapshotRequests.add(skuId);
+                log.warn("재고 원장 스냅샷 저장 실패: skuId={}", skuId.value(), e);
+            }
+        }
+        return saved;
+    }
+
+    private boolean snapshot(SkuId skuId) {
+        StockLedgerState state = stockLedgerSnapshotPort.findLatest(skuId)
+                .orElseGet(() -> StockLedgerState.initial(skuId));
+        long previous = state.getSequence();
+        replay(state, Long.MAX_VALUE, null);
+        if (state.getSequence() == previous) {
+            return false;
+        }
+
+        stockLedgerSnapshotPort.save(state);
+        log.debug("재고 원장 스냅샷 저장: skuId={}, sequence={}", skuId.value(), state.getSequence());
+        return true;
+    }
+
+    /**
+     * 상태의 다음 순번부터 {@code toSequence}까지, {@code at} 이후 순번을 받은 기록을 만나기 전까지 반영합니다.
+     *
+     * @return 반영한 이동 기록 수
+     */
+    private int replay(StockLedgerState state, long toSequence, LocalDateTime at) {
+        int replayed = 0;
+        while (state.getSequence() < toSequence) {
+            List<StockMovement> page = loadStockMovementPort.findBySkuIdAfterSequence(
+                    state.getSkuId(), state.getSequence(), replayPageSize);
+            for (StockMovement movement : page) {
+                if (movement.getSequence() > toSequence || (at != null && movement.getRecordedAt().isAfter(at))) {
+                    return replayed;
+                }
+                state.apply(movement);
+                replayed++;
+            }
+            if (page.size() < replayPageSize) {
+                break;
+            }
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,48 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.model.SkuId;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 수량 조건부 변경 포트
+ *
+ * <p>재고를 조회해 변경한 뒤 저장하는 대신, 조건을 붙인 하나의 갱신으로 수량을 바꿉니다.
+ * 조건을 만족하지 않아 반영하지 못한 경우(재고가 없음, 수량 부족, 샤드를 사용하는 재고)에는 아무것도 바꾸지 않으므로,
+ * 호출자는 재고를 조회해 도메인 규칙으로 처리하는 기존 경로로 넘어가면 됩니다.</p>
+ *
+ * <p>반영된 재고 행은 트랜잭션이 끝날 때까지 잠기며 버전도 올라가므로, 같은 재고를 조회해 저장하는 다른 트랜잭션과 충돌을 감지합니다.</p>
+ */
+public interface AdjustInventoryPort {
+
+    /**
+     * 가용 재고가 충분할 때만 예약 수량을 늘립니다.
+     *
+     * @return 반영 후 남은 가용 수량. 반영하지 못했으면 빈 값
+     */
+    Optional<Quantity> tryReserve(SkuId skuId, Quantity quantity);
+
+    /**
+     * 예약 수량이 충분할 때만 예약 수량을 줄입니다.
+     *
+     * @return 반영 여부
+     */
+    boolean tryRelease(SkuId skuId, Quantity quantity);
+
+    /**
+     * 재고가 있을 때 총 수량을 늘립니다.
+     *
+     * @return 반영 여부
+     */
+    boolean tryReceive(SkuId skuId, Quantity quantity);
+
+    /**
+     * 여러 SKU의 총 수량을 SKU ID 순으로 늘립니다. 재고가 없거나 샤드를 사용하는 SKU는 반영하지 않습니다.
+     *
+     * @return 반영된 SKU ID
+     */
+    Set<SkuId> tryReceiveAll(Map<SkuId, Quantity> quantities);
+}
@@ -0,0 +1,112 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.SkuId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 핫 SKU 가용 재고 카운터 포트
+ *
+ * <p>플래시 세일처럼 한 SKU에 예약이 몰릴 때, 가용 재고를 외부 카운터에 미러링하고
+ * 확인과 차감을 원자적으로 수행해 재고 행 잠금 없이 예약을 받습니다. 차감에 성공한 예약은
+ * 대기 목록에 쌓였다가 {@link #findPendingReservations(SkuId, int)}로 꺼내 일괄 저장합니다. 저장할 때 재고에 반영하지 못한
+ * 예약은 실패 목록으로 옮겨 보상 처리합니다.</p>
+ *
+ * <p>카운터가 있는 SKU만 핫 SKU입니다. 카운터를 사용하지 않는 환경에서는 모든 SKU가 핫 SKU가 아닙니다.</p>
+ */
+public interface HotStockCounterPort {
+
+    /**
+     * 카운터 차감 결과
+     */
+    enum ReserveResult {
+        /** 차감하고 대기 목록에 추가함 */
+        RESERVED,
+        /** 가용 재고가 부족함 */
+        INSUFFICIENT,
+        /** 핫 SKU가 아님 (카운터가 없음) */
+        NOT_HOT
+    }
+
+    /**
+     * 주어진 SKU 중 핫 SKU만 반환합니다.
+     */
+    Set<SkuId> findHotSkuIds(Collection<SkuId> skuIds);
+
+    /**
+     * 현재 핫 SKU 전체를 반환합니다.
+     */
+    Set<SkuId> findAllHotSkuIds();
+
+    /**
+     * 가용 재고를 확인하고 예약 수량만큼 차감한 뒤, 예약을 대기 목록에 추가합니다.
+     */
+    ReserveResult tryReserve(Reservation reservation);
+
+    /**
+     * 아직 저장되지 않은 예약을 대기 목록에서 제거하고 차감한 수량을 되돌립니다.
+     * 같은 요청의 다른 항목이 실패했을 때 보상 처리로 사용합니다.
+     */
+    void cancel(Reservation reservation);
+
+    /**
+     * 예약 해제, 입고처럼 가용 재고가 늘어난 만큼 카운터를 늘립니다.
+     * 핫 SKU가 아니면 아무 일도 하지 않으며, 트랜잭션 안에서 호출하면 커밋 이후에 반영합니다.
+     */
+    void increase(SkuId skuId, Quantity quantity);
+
+    /**
+     * 저장을 기다리는 예약을 먼저 들어온 순서대로 최대 {@code limit}개 조회합니다. 대기 목록에서 제거하지는 않습니다.
+     */
+    List<Reservation> findPendingReservations(SkuId skuId, int limit);
+
+    /**
+     * 저장을 마친 예약을 대기 목록에서 제거합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 제거합니다.
+     */
+    void acknowledge(SkuId skuId, Collection<Reservation> reservations);
+
+    /**
+     * 재고에 반영하지 못한 예약을 대기 목록에서 실패 목록으로 옮깁니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 옮깁니다.
+     */
+    void deadLetter(SkuId skuId, Collection<Reservation> reservations);
+
+    /**
+     * 실패 목록에 예약이 남아 있는 SKU를 반환합니다. 핫 SKU에서 해제된 SKU도 포함합니다.
+     */
+    Set<SkuId> findSkuIdsWithFailedReservations();
+
+    /**
+     * 보상 처리를 기다리는 실패 예약을 먼저 들어온 순서대로 최대 {@code limit}개 조회합니다. 실패 목록에서 제거하지는 않습니다.
+     */
+    List<Reservation> findFailedReservations(SkuId skuId, int limit);
+
+    /**
+     * 보상 처리를 마친 예약을 실패 목록에서 제거합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 제거합니다.
+     */
+    void resolveFailed(SkuId skuId, Collection<Reservation> reservations);
+
+    /**
+     * 카운터를 만들거나 다시 맞춥니다. 카운터 값은 저장된 가용 재고에서 대기 중인 예약 수량을 뺀 값입니다.
+     *
+     * <p>{@code persistedReservations}는 이미 저장되어 가용 재고에 반영되었지만 아직 대기 목록에 남아 있는 예약으로,
+     * 수량을 합산하기 전에 같은 원자적 연산 안에서 대기 목록에서 제거해 두 번 빼지 않게 합니다.</p>
+     *
+     * @param persistedReservations 대기 목록에서 제거할 이미 저장된 예약
+     * @param create 카운터가 없을 때 새로 만들지 여부
+     * @return 설정한 카운터 값, 카운터가 없고 {@code create}가 false이면 -1
+     */
+    long synchronize(SkuId skuId, Quantity persistedAvailableQuantity,
+                     Collection<Reservation> persistedReservations, boolean create);
+
+    /**
+     * 카운터를 제거해 핫 SKU에서 해제합니다. 대기 목록은 그대로 남습니다.
+     */
+    void remove(SkuId skuId);
+}
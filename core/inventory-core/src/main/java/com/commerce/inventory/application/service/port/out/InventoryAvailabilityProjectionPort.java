@@ -0,0 +1,22 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.domain.model.SkuId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가용 재고 읽기 모델 포트
+ *
+ * <p>읽기 모델은 재고 테이블과 별도로 저장하며, 조회는 재고 테이블이나 재고 행 잠금을 사용하지 않습니다.</p>
+ */
+public interface InventoryAvailabilityProjectionPort {
+
+    Map<SkuId, InventoryAvailabilityView> findAllByIds(List<SkuId> skuIds);
+
+    /**
+     * 행이 없으면 만들고, 있으면 뷰의 버전이 저장된 버전보다 클 때만 덮어씁니다.
+     */
+    void saveAll(List<InventoryAvailabilityView> views);
+}
@@ -0,0 +1,28 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.domain.model.SkuId;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Set;
+
+/**
+ * 재고를 저장하다 버전 충돌이 난 경우 {@link SaveInventoryPort}가 던지는 예외
+ *
+ * <p>충돌한 행을 알 수 있으면 그 SKU만, 알 수 없으면 저장하려던 모든 SKU를 {@link #getSkuIds()}로 제공합니다.</p>
+ */
+public class InventoryVersionConflictException extends OptimisticLockingFailureException {
+
+    private final Set<SkuId> skuIds;
+
+    public InventoryVersionConflictException(String message, Set<SkuId> skuIds, Throwable cause) {
+        super(message, cause);
+        this.skuIds = Set.copyOf(skuIds);
+    }
+
+    /**
+     * 충돌한 SKU
+     */
+    public Set<SkuId> getSkuIds() {
+        return skuIds;
+    }
+}
@@ -0,0 +1,50 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 만료 예약 조회 포트
+ *
+ * <p>만료 시각이 지난 활성 예약을 (만료 시각, 예약 ID) 순서의 키셋 페이지로 조회합니다. 예약은 {@link #partitionCount()}개의
+ * 파티션으로 나뉘며, 여러 노드가 파티션을 나눠 맡아 정리할 수 있습니다.</p>
+ */
+public interface LoadExpiredReservationPort {
+
+    /**
+     * 마지막으로 조회한 예약의 위치. 다음 페이지는 이 위치 다음부터 조회합니다.
+     */
+    record Cursor(LocalDateTime expiresAt, ReservationId reservationId) {
+
+        public static Cursor of(Reservation reservation) {
+            return new Cursor(reservation.getExpiresAt(), reservation.getId());
+        }
+    }
+
+    int partitionCount();
+
+    /**
+     * 파티션에서 {@code after} 다음의 만료된 활성 예약을 최대 {@code limit}개 잠가서 조회합니다.
+     * 다른 트랜잭션이 잠근 예약은 기다리지 않고 건너뜁니다.
+     *
+     * @param after 첫 페이지면 null
+     */
+    List<Reservation> findExpiredActiveWithLock(int partition, LocalDateTime currentTime, Cursor after, int limit);
+
+    /**
+     * 지정한 예약 중 만료된 활성 예약을 잠가서 조회합니다. 다른 트랜잭션이 잠근 예약은 기다리지 않고 건너뜁니다.
+     */
+    List<Reservation> findExpiredActiveByIdsWithLock(Collection<ReservationId> reservationIds, LocalDateTime currentTime);
+
+    /**
+     * 파티션에서 {@code after} 다음의 활성 예약을 만료 시각 순서로 최대 {@code limit}개 조회합니다. 잠그지 않습니다.
+     * 만료 시각에 맞춰 예약을 정리하는 타이머가 임대를 얻은 파티션의 예약을 채울 때 사용합니다.
+     *
+     * @param after 첫 페이지면 null
+     */
+    List<Reservation> findActive(int partition, Cursor after, int limit);
+}
@@ -13,5 +13,22 @@ public interface LoadInventoryPort {
     
     Map<SkuId, Inventory> loadAllByIds(List<SkuId> skuIds);
     
+    /**
+     * 재고를 잠가서 조회합니다. 샤드를 사용하는 재고는 SKU 전체가 아니라 샤드 하나만 잠그고
+     * 그 샤드를 우선 샤드로 지정하며, 다른 샤드의 변경은 저장 시 버전으로 충돌을 감지합니다.
+     */
     Map<SkuId, Inventory> loadBySkuIdsWithLock(Set<SkuId> skuIds);
+    
+    /**
+     * 샤드를 사용하는 재고는 모든 샤드를, 그다음 SKU 행을 잠가서 조회합니다. 트랜잭션이 끝날 때까지 SKU의 어떤 변경도
+     * 커밋되지 않으므로 원장 검증처럼 SKU 전체를 멈춰야 할 때만 사용합니다.
+     */
+    Optional<Inventory> loadExclusively(SkuId skuId);
+    
+    /**
+     * SKU ID 순으로 {@code after} 다음부터 최대 {@code limit}개의 재고 SKU ID를 조회합니다.
+     *
+     * @param after 이전 페이지의 마지막 SKU ID, 처음이면 {@code null}
+     */
+    List<SkuId> findSkuIdsAfter(SkuId after, int limit);
 }
\ No newline at end of file
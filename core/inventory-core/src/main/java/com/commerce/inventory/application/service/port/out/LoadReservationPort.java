@@ -2,7 +2,9 @@ package com.commerce.inventory.application.service.port.out;
 
 import com.commerce.inventory.domain.model.Reservation;
 import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +13,9 @@ public interface LoadReservationPort {
     List<Reservation> findAllById(List<ReservationId> ids);
     Optional<Reservation> findByOrderIdAndInventoryId(String orderId, String inventoryId);
     List<Reservation> findByOrderId(String orderId);
+    
+    /**
+     * 주문에서 주어진 SKU들의 예약을 한 번에 조회합니다.
+     */
+    List<Reservation> findByOrderIdAndSkuIds(String orderId, Collection<SkuId> skuIds);
 }
\ No newline at end of file
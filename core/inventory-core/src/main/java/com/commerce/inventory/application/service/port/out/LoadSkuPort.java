@@ -4,10 +4,22 @@ import com.commerce.inventory.domain.model.Sku;
 import com.commerce.inventory.domain.model.SkuCode;
 import com.commerce.inventory.domain.model.SkuId;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface LoadSkuPort {
     Optional<Sku> load(SkuId skuId);
     boolean exists(SkuId skuId);
     boolean existsByCode(SkuCode code);
+    
+    /**
+     * 주어진 SKU ID 중 존재하는 것만 한 번의 조회로 돌려줍니다.
+     */
+    Set<SkuId> findExistingIds(Collection<SkuId> skuIds);
+    
+    /**
+     * 주어진 SKU 코드 중 이미 사용 중인 것만 한 번의 조회로 돌려줍니다.
+     */
+    Set<SkuCode> findExistingCodes(Collection<SkuCode> codes);
 }
\ No newline at end of file
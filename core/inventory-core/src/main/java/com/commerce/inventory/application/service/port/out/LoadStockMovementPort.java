@@ -0,0 +1,24 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockMovement;
+
+import java.util.List;
+
+/**
+ * 재고 원장 조회 포트
+ */
+public interface LoadStockMovementPort {
+
+    /**
+     * SKU의 원장에서 {@code afterSequence} 다음 순번부터 최대 {@code limit}개의 이동 기록을 순번 순으로 조회합니다.
+     * (SKU, 순번) 인덱스 범위만 읽으므로 원장 크기와 관계없이 조회한 개수에 비례합니다.
+     */
+    List<StockMovement> findBySkuIdAfterSequence(SkuId skuId, long afterSequence, int limit);
+
+    /**
+     * 커밋됐지만 아직 순번을 할당받지 못해 원장에 없는 SKU의 이동 기록을 저장 순으로 조회합니다.
+     * 순번을 변경 트랜잭션에서 바로 할당하는 구현은 항상 빈 목록을 반환합니다.
+     */
+    List<StockMovement> findUnsequencedBySkuId(SkuId skuId);
+}
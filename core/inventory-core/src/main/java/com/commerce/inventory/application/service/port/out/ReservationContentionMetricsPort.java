@@ -0,0 +1,29 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.application.service.ReservationLockMode;
+
+/**
+ * 예약 경합 지표 포트
+ *
+ * <p>SKU별 잠금 방식 선택과 낙관적 충돌 결과를 기록합니다. SKU ID는 태그로 남기지 않으며,
+ * 방식이 바뀐 SKU는 로그로 확인합니다.</p>
+ */
+public interface ReservationContentionMetricsPort {
+
+    /**
+     * 예약 한 건에서 주어진 방식으로 처리하기로 한 SKU 수를 기록합니다.
+     */
+    void recordDecision(ReservationLockMode mode, int skuCount);
+
+    /**
+     * SKU의 잠금 방식이 바뀐 것을 기록합니다.
+     */
+    void recordModeChange(ReservationLockMode mode);
+
+    /**
+     * 낙관적 예약의 버전 충돌을 기록합니다.
+     *
+     * @param retried 다시 시도했으면 true, 시도 횟수를 모두 써서 실패로 끝났으면 false
+     */
+    void recordConflict(boolean retried);
+}
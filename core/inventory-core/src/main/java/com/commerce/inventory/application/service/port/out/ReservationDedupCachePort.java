@@ -0,0 +1,28 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.domain.model.ReservationId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 요청 중복 제거 캐시 포트
+ *
+ * <p>(주문 ID, SKU ID)마다 처음 응답한 예약의 ID만 보관합니다. 예약 상태는 해제·만료로 바뀌므로 보관하지 않고,
+ * 같은 요청이 다시 들어오면 보관한 ID로 저장소에서 현재 상태를 읽습니다. 크기와 보관 기간이 제한되므로 캐시에 없다고 해서
+ * 원래 예약이 없다는 뜻은 아닙니다.</p>
+ */
+public interface ReservationDedupCachePort {
+
+    /**
+     * 주문의 SKU별 예약 ID를 조회합니다. 캐시에 없는 SKU는 결과에 포함되지 않습니다.
+     */
+    Map<String, List<ReservationId>> findAll(String orderId, Collection<String> skuIds);
+
+    /**
+     * 주문의 예약 ID를 SKU별로 묶어 보관합니다. 이미 있는 SKU는 덮어씁니다.
+     */
+    void putAll(String orderId, Collection<ReserveStockResponse.ReservationResult> results);
+}
@@ -0,0 +1,38 @@
+package com.commerce.inventory.application.service.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 만료 예약 정리 파티션 임대 포트
+ *
+ * <p>파티션마다 임대를 가진 노드 하나만 만료 예약을 정리합니다. 임대가 끝나기 전에 다시 얻으면 갱신되고,
+ * 임대가 끝난 파티션은 다른 노드가 넘겨받습니다. 노드는 주기마다 살아 있음을 기록하며, 살아 있는 노드 수로
+ * 노드마다 가질 파티션 수의 상한을 정합니다.</p>
+ */
+public interface ReservationExpiryLeasePort {
+
+    /**
+     * 파티션의 임대를 얻거나 갱신합니다. 다른 노드가 유효한 임대를 갖고 있으면 얻지 못합니다.
+     *
+     * @return 임대를 얻었으면 true
+     */
+    boolean tryAcquire(int partition, String owner, LocalDateTime currentTime, LocalDateTime leaseUntil);
+
+    /**
+     * 노드가 가진 파티션의 임대를 끝내 다른 노드가 바로 넘겨받을 수 있게 합니다.
+     */
+    void release(int partition, String owner, LocalDateTime currentTime);
+
+    /**
+     * 노드가 유효한 임대를 가진 파티션을 반환합니다.
+     */
+    Set<Integer> findOwnedPartitions(String owner, LocalDateTime currentTime);
+
+    /**
+     * 노드가 {@code aliveUntil}까지 살아 있음을 기록합니다.
+     *
+     * @return 기록이 유효한 노드 수 (자신 포함)
+     */
+    int heartbeat(String owner, LocalDateTime currentTime, LocalDateTime aliveUntil);
+}
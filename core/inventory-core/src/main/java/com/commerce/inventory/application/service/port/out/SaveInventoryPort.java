@@ -6,5 +6,14 @@ import java.util.Collection;
 
 public interface SaveInventoryPort {
     void save(Inventory inventory);
+    
+    /**
+     * 재고를 일괄 저장합니다. 버전이 충돌하면 충돌한 SKU를 담은 {@link InventoryVersionConflictException}을 던집니다.
+     */
     void saveAll(Collection<Inventory> inventories);
+    
+    /**
+     * 샤드를 사용하지 않는 새 재고를 기존 행 조회 없이 일괄 INSERT합니다.
+     */
+    void createAll(Collection<Inventory> inventories);
 }
\ No newline at end of file
@@ -2,6 +2,13 @@ package com.commerce.inventory.application.service.port.out;
 
 import com.commerce.inventory.domain.model.Reservation;
 
+import java.util.List;
+
 public interface SaveReservationPort {
     Reservation save(Reservation reservation);
+    
+    /**
+     * 여러 예약을 한 번에 저장합니다. 새 예약은 JDBC 배치로 묶어 INSERT합니다.
+     */
+    List<Reservation> saveAll(List<Reservation> reservations);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.commerce.inventory.application.service.port.out;
 
 import com.commerce.inventory.domain.model.Sku;
 
+import java.util.Collection;
+
 /**
  * SKU 저장 포트
  */
@@ -13,4 +15,13 @@ public interface SaveSkuPort {
      * @return 저장된 SKU
      */
     Sku save(Sku sku);
+
+    /**
+     * 새 SKU를 기존 행 조회 없이 일괄 INSERT합니다.
+     *
+     * @param skus 아직 저장한 적 없는 SKU
+     * @throws com.commerce.inventory.domain.exception.DuplicateSkuCodeException 이미 쓰이는 SKU 코드가 있는 경우
+     * @throws org.springframework.dao.DataIntegrityViolationException 코드 중복이 아닌 제약을 위반한 경우
+     */
+    void createAll(Collection<Sku> skus);
 }
\ No newline at end of file
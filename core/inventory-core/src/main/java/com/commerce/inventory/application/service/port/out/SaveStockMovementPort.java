@@ -2,6 +2,14 @@ package com.commerce.inventory.application.service.port.out;
 
 import com.commerce.inventory.domain.model.StockMovement;
 
+import java.util.List;
+
 public interface SaveStockMovementPort {
     void save(StockMovement stockMovement);
-}
\ No newline at end of file
+    
+    /**
+     * 여러 이동 기록을 일괄 저장합니다.
+     * 지연 기록 모드에서는 같은 트랜잭션에서 대기 테이블에 저장되고 원장에는 나중에 옮겨집니다.
+     */
+    void saveAll(List<StockMovement> stockMovements);
+}
@@ -0,0 +1,25 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.domain.model.SkuId;
+
+/**
+ * SKU별 원장 순번 포트
+ *
+ * <p>순번은 재고 행에 두고 증가시키므로, 순번을 할당한 트랜잭션이 끝날 때까지 같은 SKU의 다른 할당은 기다립니다.
+ * 롤백되면 할당도 함께 취소되어 커밋된 원장에는 빈 순번이 생기지 않습니다. 지연 기록 모드에서는 변경 트랜잭션이 아니라
+ * {@link StockMovementOutboxPort#flush(int)}가 할당합니다.</p>
+ */
+public interface StockLedgerSequencePort {
+
+    /**
+     * {@code count}개의 순번을 할당합니다.
+     *
+     * @return 할당한 마지막 순번. 할당한 순번은 {@code 반환값 - count + 1}부터 반환값까지
+     */
+    long allocate(SkuId skuId, int count);
+
+    /**
+     * 마지막으로 할당된 순번을 조회합니다. 재고가 없으면 0입니다.
+     */
+    long currentSequence(SkuId skuId);
+}
@@ -0,0 +1,25 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 재고 원장 스냅샷 포트
+ */
+public interface StockLedgerSnapshotPort {
+
+    /**
+     * 가장 큰 순번의 스냅샷을 조회합니다.
+     */
+    Optional<StockLedgerState> findLatest(SkuId skuId);
+
+    /**
+     * 마지막 반영 시각이 {@code at} 이전인 스냅샷 중 가장 큰 순번의 스냅샷을 조회합니다.
+     */
+    Optional<StockLedgerState> findLatestAtOrBefore(SkuId skuId, LocalDateTime at);
+
+    void save(StockLedgerState state);
+}
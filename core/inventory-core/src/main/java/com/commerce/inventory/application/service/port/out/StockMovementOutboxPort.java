@@ -0,0 +1,27 @@
+package com.commerce.inventory.application.service.port.out;
+
+import com.commerce.inventory.domain.model.StockMovement;
+
+import java.util.List;
+
+/**
+ * 지연 기록 모드에서 대기 중인 이동 기록을 원장으로 옮기는 포트
+ *
+ * <p>이동 기록은 변경 트랜잭션 안에서 순번 없이 대기 테이블에 먼저 저장되고, 이 포트가 별도 트랜잭션에서 SKU마다 순번을
+ * 한 번에 할당해 원장에 일괄 저장합니다. 변경 트랜잭션은 순번을 할당하지 않으므로 SKU 행을 잠그지 않습니다.</p>
+ */
+public interface StockMovementOutboxPort {
+
+    /**
+     * 가장 오래된 대기 기록부터 최대 {@code limit}개에 SKU ID 순으로 순번을 할당해 원장에 저장하고 대기 테이블에서 지웁니다.
+     * 할당, 저장, 삭제는 한 트랜잭션이므로 실패하면 모두 취소되어 다음 호출에서 다시 옮깁니다.
+     *
+     * @return 순번을 할당해 옮긴 이동 기록
+     */
+    List<StockMovement> flush(int limit);
+
+    /**
+     * 대기 중인 이동 기록 수
+     */
+    long countPending();
+}
@@ -0,0 +1,15 @@
+package com.commerce.inventory.application.usecase;
+
+/**
+ * 대량 처리에서 반영하지 못한 줄
+ *
+ * @param lineNumber 입력에서의 줄 번호 (1부터)
+ * @param key        줄을 식별하는 값 (SKU ID, SKU 코드 등). 읽지 못한 줄이면 {@code null}
+ * @param message    반영하지 못한 이유
+ */
+public record BulkImportLineError(
+        long lineNumber,
+        String key,
+        String message
+) {
+}
@@ -0,0 +1,29 @@
+package com.commerce.inventory.application.usecase;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 처리 진행 상황
+ *
+ * @param jobId           작업 ID
+ * @param status          진행 상태
+ * @param processedLines  처리한 줄 수
+ * @param succeededLines  반영한 줄 수
+ * @param failedLines     반영하지 못한 줄 수
+ * @param errorsTruncated 보관 한도를 넘어 일부 줄의 오류를 보관하지 않았는지 여부
+ * @param failureReason   작업이 중단된 이유 (중단되지 않았으면 {@code null})
+ * @param startedAt       시작 시각
+ * @param finishedAt      종료 시각 (진행 중이면 {@code null})
+ */
+public record BulkImportReport(
+        String jobId,
+        BulkImportStatus status,
+        long processedLines,
+        long succeededLines,
+        long failedLines,
+        boolean errorsTruncated,
+        String failureReason,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
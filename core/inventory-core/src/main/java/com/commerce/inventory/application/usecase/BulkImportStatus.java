@@ -0,0 +1,7 @@
+package com.commerce.inventory.application.usecase;
+
+public enum BulkImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,35 @@
+package com.commerce.inventory.application.usecase;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대량 입고 유스케이스
+ *
+ * <p>입력을 끝까지 읽지 않고 정해진 줄 수의 청크마다 처리하므로 입력 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 청크마다 SKU 존재 여부를 한 번에 확인하고, SKU별로 합산한 수량을 한 트랜잭션에서 반영합니다.
+ * 반영하지 못한 줄은 줄 번호와 이유를 작업 보고서에 남기고 다음 줄을 계속 처리합니다.</p>
+ */
+public interface BulkReceiveStockUseCase {
+
+    /**
+     * 입력의 모든 줄을 호출한 스레드에서 입고 처리하고, 입력을 끝까지 읽은 뒤에 반환합니다.
+     * 처리 중에도 {@link #getReports()}나 {@link #getReport(String)}로 진행 상황을 조회할 수 있습니다.
+     *
+     * @return 완료(또는 중단)된 작업 보고서
+     */
+    BulkImportReport receive(Iterator<BulkStockReceiptLine> lines);
+
+    Optional<BulkImportReport> getReport(String jobId);
+
+    /**
+     * 보관 중인 작업 보고서를 최근 시작한 순으로 조회합니다.
+     */
+    List<BulkImportReport> getReports();
+
+    /**
+     * 작업에서 반영하지 못한 줄을 줄 번호 순으로 조회합니다.
+     */
+    List<BulkImportLineError> getErrors(String jobId, int offset, int limit);
+}
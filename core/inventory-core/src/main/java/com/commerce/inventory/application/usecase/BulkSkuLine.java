@@ -0,0 +1,23 @@
+package com.commerce.inventory.application.usecase;
+
+/**
+ * 대량 SKU 등록 입력의 한 줄
+ *
+ * @param lineNumber 입력에서의 줄 번호 (1부터)
+ * @param command    SKU 생성 커맨드 (읽지 못했으면 {@code null})
+ * @param error      줄을 읽지 못한 이유 (읽었으면 {@code null})
+ */
+public record BulkSkuLine(
+        long lineNumber,
+        CreateSkuCommand command,
+        String error
+) {
+
+    public static BulkSkuLine of(long lineNumber, CreateSkuCommand command) {
+        return new BulkSkuLine(lineNumber, command, null);
+    }
+
+    public static BulkSkuLine invalid(long lineNumber, String error) {
+        return new BulkSkuLine(lineNumber, null, error);
+    }
+}
@@ -0,0 +1,27 @@
+package com.commerce.inventory.application.usecase;
+
+/**
+ * 대량 입고 입력의 한 줄
+ *
+ * @param lineNumber 입력에서의 줄 번호 (1부터)
+ * @param skuId      SKU ID
+ * @param quantity   입고 수량
+ * @param reference  참조 번호. 비어 있으면 작업 ID를 사용
+ * @param error      줄을 읽지 못한 이유 (읽었으면 {@code null})
+ */
+public record BulkStockReceiptLine(
+        long lineNumber,
+        String skuId,
+        Integer quantity,
+        String reference,
+        String error
+) {
+
+    public static BulkStockReceiptLine of(long lineNumber, String skuId, Integer quantity, String reference) {
+        return new BulkStockReceiptLine(lineNumber, skuId, quantity, reference, null);
+    }
+
+    public static BulkStockReceiptLine invalid(long lineNumber, String error) {
+        return new BulkStockReceiptLine(lineNumber, null, null, null, error);
+    }
+}
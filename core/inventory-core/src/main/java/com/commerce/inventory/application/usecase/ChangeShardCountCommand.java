@@ -0,0 +1,19 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.domain.model.Inventory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChangeShardCountCommand {
+    @NotBlank(message = "SKU ID는 필수입니다")
+    private final String skuId;
+    
+    @Min(value = 1, message = "샤드 수는 1 이상이어야 합니다")
+    @Max(value = Inventory.MAX_SHARD_COUNT, message = "샤드 수가 최대값을 초과했습니다")
+    private final int shardCount;
+}
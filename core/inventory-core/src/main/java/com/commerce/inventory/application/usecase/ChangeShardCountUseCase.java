@@ -0,0 +1,11 @@
+package com.commerce.inventory.application.usecase;
+
+/**
+ * 재고 샤드 수 변경 유스케이스
+ *
+ * <p>예약이 몰리는 SKU의 재고를 여러 행으로 나눠 같은 SKU의 예약이 동시에 처리되도록 합니다.
+ * 샤드 수를 1로 바꾸면 다시 한 행으로 합칩니다.</p>
+ */
+public interface ChangeShardCountUseCase {
+    void changeShardCount(ChangeShardCountCommand command);
+}
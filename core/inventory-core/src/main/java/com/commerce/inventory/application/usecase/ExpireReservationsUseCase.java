@@ -0,0 +1,44 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
+import com.commerce.inventory.domain.model.ReservationId;
+
+import java.util.List;
+
+/**
+ * 만료 예약 정리 유스케이스
+ *
+ * <p>만료 시각이 지난 활성 예약을 파티션별로 정해진 크기씩 만료 처리하고, 예약 수량을 재고에 되돌립니다.
+ * 묶음마다 별도 트랜잭션에서 처리하며, 재고는 묶음 안에서 SKU별로 합산해 한 번만 갱신합니다.</p>
+ */
+public interface ExpireReservationsUseCase {
+
+    /**
+     * 정리할 파티션의 임대를 얻거나 갱신합니다. 살아 있는 노드 수로 나눈 몫(올림)까지만 가집니다.
+     *
+     * @return 이 노드가 임대를 가진 파티션 목록
+     */
+    List<Integer> claimPartitions(String owner);
+
+    /**
+     * 파티션에서 {@code after} 다음의 만료 예약을 한 묶음 정리합니다.
+     *
+     * @param after 첫 묶음이면 null
+     */
+    Result expireBatch(int partition, LoadExpiredReservationPort.Cursor after);
+
+    /**
+     * 지정한 예약 중 만료 시각이 지난 활성 예약만 한 트랜잭션에서 정리합니다. 다른 노드가 정리 중인 예약은 건너뜁니다.
+     *
+     * @return 만료 처리한 예약 수
+     */
+    int expire(List<ReservationId> reservationIds);
+
+    /**
+     * @param expiredCount 만료 처리한 예약 수
+     * @param next 다음 묶음의 시작 위치
+     * @param hasMore 남은 만료 예약이 더 있을 수 있는지 여부
+     */
+    record Result(int expiredCount, LoadExpiredReservationPort.Cursor next, boolean hasMore) {
+    }
+}
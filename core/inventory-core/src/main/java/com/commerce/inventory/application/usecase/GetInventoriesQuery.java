@@ -0,0 +1,16 @@
+package com.commerce.inventory.application.usecase;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record GetInventoriesQuery(
+        @NotEmpty(message = "SKU ID 목록은 최소 1개 이상 필요합니다")
+        @Size(max = GetInventoriesQuery.MAX_SKU_IDS, message = "한 번에 조회할 수 있는 SKU는 최대 5000개입니다")
+        List<@NotBlank(message = "SKU ID는 필수입니다") String> skuIds
+) {
+    
+    public static final int MAX_SKU_IDS = 5000;
+}
@@ -0,0 +1,14 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.application.usecase.UseCase;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 조회 유스케이스
+ * 
+ * <p>여러 SKU의 재고 정보(총 수량, 예약 수량, 가용 수량)를 한 번에 조회합니다.
+ * 요청된 SKU마다 하나의 응답을 요청 순서대로 반환하며, 재고가 존재하지 않는 SKU는 모든 수량을 0으로 반환합니다.</p>
+ */
+public interface GetInventoriesUseCase extends UseCase<GetInventoriesQuery, List<InventoryResponse>> {
+}
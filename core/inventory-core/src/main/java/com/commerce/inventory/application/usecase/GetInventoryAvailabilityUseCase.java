@@ -0,0 +1,12 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.application.usecase.UseCase;
+
+/**
+ * 읽기 모델 기반 가용 재고 조회 유스케이스
+ *
+ * <p>재고 테이블 대신 가용 재고 읽기 모델에서 여러 SKU의 수량을 조회하고, 읽기 모델이 뒤처진 정도를 함께 반환합니다.
+ * 재고 행 잠금과 무관하게 응답하는 대신 최근 변경이 늦게 보일 수 있으며, 읽기 모델에 없는 SKU는 모든 수량을 0으로 반환합니다.</p>
+ */
+public interface GetInventoryAvailabilityUseCase extends UseCase<GetInventoriesQuery, InventoryAvailabilityResponse> {
+}
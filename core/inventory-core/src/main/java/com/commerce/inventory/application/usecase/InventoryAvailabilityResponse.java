@@ -0,0 +1,12 @@
+package com.commerce.inventory.application.usecase;
+
+import java.util.List;
+
+/**
+ * 읽기 모델 기반 가용 재고 조회 결과
+ *
+ * @param items 요청 순서대로의 SKU별 수량
+ * @param lag   조회 시점에 읽기 모델이 뒤처진 정도
+ */
+public record InventoryAvailabilityResponse(List<InventoryResponse> items, ProjectionLag lag) {
+}
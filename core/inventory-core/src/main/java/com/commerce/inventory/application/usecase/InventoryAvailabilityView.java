@@ -0,0 +1,37 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가용 재고 읽기 모델의 한 행
+ *
+ * @param version   반영한 재고의 상태 버전 ({@link Inventory#getStateVersion()})
+ * @param updatedAt 읽기 모델에 반영한 시각
+ */
+public record InventoryAvailabilityView(
+        SkuId skuId,
+        int totalQuantity,
+        int reservedQuantity,
+        int availableQuantity,
+        Long version,
+        LocalDateTime updatedAt
+) {
+    
+    public static InventoryAvailabilityView of(Inventory inventory, LocalDateTime updatedAt) {
+        return new InventoryAvailabilityView(
+            inventory.getSkuId(),
+            inventory.getTotalQuantity().value(),
+            inventory.getReservedQuantity().value(),
+            inventory.getAvailableQuantity().value(),
+            inventory.getStateVersion(),
+            updatedAt
+        );
+    }
+    
+    public InventoryResponse toResponse() {
+        return new InventoryResponse(skuId.value(), totalQuantity, reservedQuantity, availableQuantity, version);
+    }
+}
@@ -2,18 +2,24 @@ package com.commerce.inventory.application.usecase;
 
 import com.commerce.inventory.domain.model.Inventory;
 
-public record InventoryResponse(String skuId, int totalQuantity, int reservedQuantity, int availableQuantity) {
+/**
+ * 재고 수량 조회 결과
+ *
+ * @param version 조회 시점의 재고 상태 버전 ({@link Inventory#getStateVersion()}, 재고가 없는 SKU는 {@code null})
+ */
+public record InventoryResponse(String skuId, int totalQuantity, int reservedQuantity, int availableQuantity, Long version) {
     
     public static InventoryResponse from(Inventory inventory) {
         return new InventoryResponse(
             inventory.getSkuId().value(),
             inventory.getTotalQuantity().value(),
             inventory.getReservedQuantity().value(),
-            inventory.getAvailableQuantity().value()
+            inventory.getAvailableQuantity().value(),
+            inventory.getStateVersion()
         );
     }
     
     public static InventoryResponse empty(String skuId) {
-        return new InventoryResponse(skuId, 0, 0, 0);
+        return new InventoryResponse(skuId, 0, 0, 0, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.commerce.inventory.application.usecase;
+
+/**
+ * 핫 SKU 재고 카운터 관리 유스케이스
+ *
+ * <p>핫 SKU로 지정된 SKU는 가용 재고를 카운터에 미러링하여 재고 행 잠금 없이 예약을 받습니다.
+ * 카운터에서 차감된 예약은 {@link #flushPendingReservations(String)}로 일괄 저장되고,
+ * {@link #reconcile(String)}로 저장된 재고와 카운터를 다시 맞춥니다. 저장할 때 재고에 반영하지 못한 예약은
+ * {@link #compensateFailedReservations(String)}로 보상 처리합니다.</p>
+ */
+public interface ManageHotStockUseCase {
+
+    /**
+     * SKU를 핫 SKU로 지정하고 저장된 가용 재고로 카운터를 적재합니다.
+     *
+     * @return 적재한 카운터 값
+     */
+    long activate(String skuId);
+
+    /**
+     * 핫 SKU 지정을 해제합니다. 카운터를 제거한 뒤 대기 중인 예약을 모두 저장합니다.
+     */
+    void deactivate(String skuId);
+
+    /**
+     * 저장된 가용 재고에서 대기 중인 예약 수량을 뺀 값으로 카운터를 다시 맞춥니다.
+     *
+     * @return 맞춘 카운터 값, 핫 SKU가 아니면 -1
+     */
+    long reconcile(String skuId);
+
+    /**
+     * 카운터에서 차감된 예약 중 저장을 기다리는 예약을 일괄 저장합니다.
+     *
+     * @return 새로 저장한 예약 수
+     */
+    int flushPendingReservations(String skuId);
+
+    /**
+     * 저장할 때 재고에 반영하지 못한 예약을 보상 처리합니다. 예약한 주문의 저장된 예약을 해제하고
+     * 실패 이벤트를 발행한 뒤 실패 목록에서 제거합니다.
+     *
+     * @return 보상 처리한 예약 수
+     */
+    int compensateFailedReservations(String skuId);
+}
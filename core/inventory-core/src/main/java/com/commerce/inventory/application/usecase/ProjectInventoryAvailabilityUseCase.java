@@ -0,0 +1,36 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.domain.model.SkuId;
+
+/**
+ * 가용 재고 읽기 모델 반영 유스케이스
+ *
+ * <p>재고 도메인 이벤트로 변경된 SKU를 {@link #markChanged(SkuId)}로 표시해 두면,
+ * {@link #projectPending(int)}가 표시된 SKU의 현재 재고를 읽어 읽기 모델에 반영합니다.</p>
+ */
+public interface ProjectInventoryAvailabilityUseCase {
+
+    /**
+     * 커밋된 변경이 있는 SKU를 반영 대상으로 표시합니다.
+     */
+    void markChanged(SkuId skuId);
+
+    /**
+     * 표시된 SKU를 최대 {@code maxSkus}개까지 읽기 모델에 반영합니다. 실패하면 다음 호출에서 다시 반영합니다.
+     *
+     * @return 반영한 SKU 수
+     */
+    int projectPending(int maxSkus);
+
+    /**
+     * 모든 재고를 {@code batchSize}개씩 읽기 모델에 다시 반영합니다.
+     *
+     * @return 반영한 SKU 수
+     */
+    int rebuild(int batchSize);
+
+    /**
+     * 이 인스턴스에서 커밋된 변경 기준으로 읽기 모델이 뒤처진 정도를 반환합니다. 다른 인스턴스의 미반영 변경은 포함하지 않습니다.
+     */
+    ProjectionLag lag();
+}
@@ -0,0 +1,21 @@
+package com.commerce.inventory.application.usecase;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가용 재고 읽기 모델이 쓰기 모델보다 뒤처진 정도
+ *
+ * <p>변경 표시를 가진 인스턴스 하나의 값입니다. 다른 인스턴스에서 커밋된 변경은 그 인스턴스가 반영하므로 여기에는 포함되지 않습니다.</p>
+ *
+ * @param pendingSkuCount       변경됐지만 아직 반영하지 않은 SKU 수
+ * @param oldestPendingChangeAt 반영하지 않은 변경 중 가장 오래된 변경의 커밋 시각 (없으면 {@code null})
+ * @param lastProjectedAt       마지막으로 반영한 시각 (없으면 {@code null})
+ * @param lagMillis             가장 오래된 미반영 변경의 경과 시간, 미반영 변경이 없으면 0
+ */
+public record ProjectionLag(
+        int pendingSkuCount,
+        LocalDateTime oldestPendingChangeAt,
+        LocalDateTime lastProjectedAt,
+        long lagMillis
+) {
+}
@@ -0,0 +1,16 @@
+package com.commerce.inventory.application.usecase;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+
+@Getter
+@Builder
+@RequiredArgsConstructor
+public class ReleaseReservationsByOrderCommand {
+    
+    @NotBlank(message = "주문 ID는 필수입니다")
+    private final String orderId;
+}
@@ -0,0 +1,14 @@
+package com.commerce.inventory.application.usecase;
+
+/**
+ * 주문 예약 일괄 해제 유스케이스
+ *
+ * <p>주문의 활성 예약을 모두 한 트랜잭션에서 해제합니다. 이미 해제·확정·만료된 예약은 건너뛰므로 여러 번 호출해도 같은 결과입니다.</p>
+ */
+public interface ReleaseReservationsByOrderUseCase {
+    
+    /**
+     * @return 해제한 예약 수
+     */
+    int releaseByOrder(ReleaseReservationsByOrderCommand command);
+}
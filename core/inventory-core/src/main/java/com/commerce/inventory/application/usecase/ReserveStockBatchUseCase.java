@@ -0,0 +1,39 @@
+package com.commerce.inventory.application.usecase;
+
+import java.util.List;
+
+/**
+ * 재고 예약 일괄 처리 유스케이스
+ *
+ * <p>여러 예약 요청을 하나의 트랜잭션에서 요청 순서대로 처리합니다. 각 SKU는 한 번만 잠그며,
+ * 재고 부족처럼 요청 하나에만 해당하는 실패는 그 요청의 결과로만 반환하고 나머지 요청은 계속 처리합니다.</p>
+ */
+public interface ReserveStockBatchUseCase {
+
+    /**
+     * @return 요청과 같은 순서의 결과 목록
+     */
+    List<Result> executeBatch(List<ReserveStockCommand> commands);
+
+    /**
+     * 요청별 처리 결과. 응답과 실패가 모두 없으면 일괄 처리 대상이 아니어서 개별로 처리해야 하는 요청입니다.
+     */
+    record Result(ReserveStockResponse response, RuntimeException failure) {
+
+        public static Result success(ReserveStockResponse response) {
+            return new Result(response, null);
+        }
+
+        public static Result failure(RuntimeException failure) {
+            return new Result(null, failure);
+        }
+
+        public static Result deferred() {
+            return new Result(null, null);
+        }
+
+        public boolean isDeferred() {
+            return response == null && failure == null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.domain.model.SkuId;
+
+/**
+ * 재고 원장 검증 결과
+ *
+ * @param skuId                     SKU ID
+ * @param sequence                  검증한 마지막 원장 순번
+ * @param ledgerTotalQuantity       원장으로 계산한 총 수량
+ * @param ledgerReservedQuantity    원장으로 계산한 예약 수량
+ * @param inventoryTotalQuantity    재고 행의 총 수량
+ * @param inventoryReservedQuantity 재고 행의 예약 수량
+ * @param replayedMovements         스냅샷 이후 반영한 이동 기록 수 (순번을 받지 못한 대기 기록 포함)
+ */
+public record StockLedgerAudit(
+        SkuId skuId,
+        long sequence,
+        long ledgerTotalQuantity,
+        long ledgerReservedQuantity,
+        long inventoryTotalQuantity,
+        long inventoryReservedQuantity,
+        int replayedMovements
+) {
+
+    public boolean isConsistent() {
+        return ledgerTotalQuantity == inventoryTotalQuantity
+                && ledgerReservedQuantity == inventoryReservedQuantity;
+    }
+}
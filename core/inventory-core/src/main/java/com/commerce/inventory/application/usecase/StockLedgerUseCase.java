@@ -0,0 +1,46 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import com.commerce.inventory.domain.model.StockMovement;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 원장 유스케이스
+ *
+ * <p>수량을 바꾸는 모든 변경은 SKU별 순번을 붙인 이동 기록으로 원장에 남고, 주기적으로 저장한 스냅샷부터 이후 기록만
+ * 이어서 반영해 임의 시점의 재고를 다시 계산합니다.</p>
+ */
+public interface StockLedgerUseCase {
+
+    /**
+     * {@code at} 시점의 재고 상태를 원장으로 계산합니다.
+     *
+     * @param at 조회 시점, {@code null}이면 마지막 기록까지. 이동 기록이 원장 순번을 받은 시각과 비교
+     */
+    StockLedgerState stateAt(SkuId skuId, LocalDateTime at);
+
+    /**
+     * 원장으로 계산한 재고와 재고 행의 수량을 비교합니다.
+     */
+    StockLedgerAudit audit(SkuId skuId);
+
+    /**
+     * SKU를 스냅샷 대상으로 표시합니다.
+     */
+    void requestSnapshot(SkuId skuId);
+
+    /**
+     * 순번을 할당해 원장에 저장한 이동 기록을 알립니다. 할당한 순번이 스냅샷 간격을 넘은 SKU는 스냅샷 대상으로 표시합니다.
+     */
+    void recorded(List<StockMovement> movements);
+
+    /**
+     * 표시된 SKU를 최대 {@code maxSkus}개까지 스냅샷으로 저장합니다. 실패한 SKU는 다음 호출에서 다시 저장합니다.
+     *
+     * @return 저장한 스냅샷 수
+     */
+    int snapshotPending(int maxSkus);
+}
@@ -0,0 +1,35 @@
+package com.commerce.inventory.domain.event;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.Getter;
+
+/**
+ * 핫 SKU 카운터에서 예약됐다고 응답한 예약을 재고에 반영하지 못해 취소했을 때 발행되는 이벤트
+ */
+@Getter
+public class HotStockReservationFailedEvent extends AbstractInventoryEvent {
+    private final SkuId skuId;
+    private final ReservationId reservationId;
+    private final Quantity quantity;
+    private final String orderId;
+
+    public HotStockReservationFailedEvent(SkuId skuId, ReservationId reservationId, Quantity quantity, String orderId) {
+        super();
+        this.skuId = skuId;
+        this.reservationId = reservationId;
+        this.quantity = quantity;
+        this.orderId = orderId;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return skuId.value();
+    }
+
+    @Override
+    public String getEventType() {
+        return "inventory.reservation.failed";
+    }
+}
@@ -0,0 +1,27 @@
+package com.commerce.inventory.domain.event;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.Getter;
+
+@Getter
+public class ReservationConfirmedEvent extends AbstractInventoryEvent {
+    private final SkuId skuId;
+    private final Quantity quantity;
+
+    public ReservationConfirmedEvent(SkuId skuId, Quantity quantity) {
+        super();
+        this.skuId = skuId;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return skuId.value();
+    }
+
+    @Override
+    public String getEventType() {
+        return "inventory.reservation.confirmed";
+    }
+}
@@ -1,5 +1,6 @@
 package com.commerce.inventory.domain.event;
 
+import com.commerce.common.domain.model.Quantity;
 import com.commerce.inventory.domain.model.ReservationId;
 import com.commerce.inventory.domain.model.SkuId;
 import lombok.Getter;
@@ -8,11 +9,13 @@ import lombok.Getter;
 public class ReservationReleasedEvent extends AbstractInventoryEvent {
     private final SkuId skuId;
     private final ReservationId reservationId;
+    private final Quantity quantity;
 
-    public ReservationReleasedEvent(SkuId skuId, ReservationId reservationId) {
+    public ReservationReleasedEvent(SkuId skuId, ReservationId reservationId, Quantity quantity) {
         super();
         this.skuId = skuId;
         this.reservationId = reservationId;
+        this.quantity = quantity;
     }
 
     @Override
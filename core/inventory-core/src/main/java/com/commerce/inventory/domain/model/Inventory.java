@@ -8,18 +8,51 @@ import com.commerce.inventory.domain.event.StockReceivedEvent;
 import com.commerce.inventory.domain.event.StockReservedEvent;
 import com.commerce.inventory.domain.event.ReservationReleasedEvent;
 import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.ReservationConfirmedEvent;
+import com.commerce.inventory.domain.event.StockDeductedEvent;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
+/**
+ * 재고 애그리게이트
+ *
+ * <p>예약이 몰리는 SKU는 재고를 여러 샤드({@link InventoryShard})로 나눠 저장할 수 있습니다.
+ * 샤드를 사용해도 수량과 메서드는 SKU 전체 기준 그대로이며, 각 변경을 어느 샤드에 반영할지는
+ * 애그리게이트 안에서 결정합니다. 예약은 우선 샤드({@link #preferShard(int)})부터 재고가 충분한 샤드를 고르고,
+ * 충분한 샤드가 없으면 다른 샤드의 가용 재고를 옮겨와 한 샤드에서 예약합니다.</p>
+ */
 @Getter
 public class Inventory extends AggregateRoot<SkuId> {
     
+    public static final int MAX_SHARD_COUNT = 64;
+    private static final Comparator<Quantity> QUANTITY_ORDER = Comparator.comparingInt(Quantity::value);
+    
     private final SkuId skuId;
     private Quantity totalQuantity;
     private Quantity reservedQuantity;
     private Long version;
     
+    /**
+     * 샤드를 사용하지 않으면 비어 있음
+     */
+    private final List<InventoryShard> shards = new ArrayList<>();
+    
+    /**
+     * 샤드 수를 줄이면서 없어진 샤드 (저장소에서 삭제할 대상)
+     */
+    private final List<InventoryShard> retiredShards = new ArrayList<>();
+    private Integer preferredShardNo;
+    private boolean shardLayoutChanged;
+    
     private Inventory(SkuId skuId, Quantity totalQuantity, Quantity reservedQuantity) {
         this(skuId, totalQuantity, reservedQuantity, 0L);
     }
@@ -64,6 +97,103 @@ public class Inventory extends AggregateRoot<SkuId> {
         return new Inventory(skuId, totalQuantity, reservedQuantity, version, createdAt, updatedAt);
     }
     
+    /**
+     * 샤드로 나눠 저장된 재고를 복원합니다. 수량은 샤드 수량의 합계입니다.
+     */
+    public static Inventory restore(SkuId skuId, List<InventoryShard> shards, Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        if (shards == null || shards.isEmpty()) {
+            throw new InvalidInventoryException("샤드 목록은 비어 있을 수 없습니다");
+        }
+        
+        Quantity total = shards.stream().map(InventoryShard::getTotalQuantity).reduce(Quantity.zero(), Quantity::add);
+        Quantity reserved = shards.stream().map(InventoryShard::getReservedQuantity).reduce(Quantity.zero(), Quantity::add);
+        
+        Inventory inventory = new Inventory(skuId, total, reserved, version, createdAt, updatedAt);
+        inventory.shards.addAll(shards);
+        inventory.shards.sort(Comparator.comparingInt(InventoryShard::getShardNo));
+        return inventory;
+    }
+    
+    public List<InventoryShard> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+    
+    public List<InventoryShard> getRetiredShards() {
+        return Collections.unmodifiableList(retiredShards);
+    }
+    
+    public boolean isSharded() {
+        return !shards.isEmpty();
+    }
+    
+    public int getShardCount() {
+        return isSharded() ? shards.size() : 1;
+    }
+    
+    /**
+     * 샤드의 변경까지 반영한 상태 버전을 반환합니다. 읽기 모델처럼 재고가 바뀌었는지 비교할 때 사용합니다.
+     *
+     * <p>샤드를 사용하는 SKU는 SKU 행이 경합 지점이 되지 않도록 샤드 구성이 바뀔 때만 SKU 행의 버전이 오르고, 수량 변경은
+     * 샤드 행의 버전만 올립니다. 그래서 SKU 행의 버전을 상위 32비트에, 샤드 버전의 합을 하위 32비트에 둡니다.
+     * 샤드 수를 줄이면 샤드 버전의 합이 줄 수 있지만 같은 저장에서 SKU 행의 버전이 오르므로 상태 버전은 줄지 않습니다.</p>
+     */
+    public long getStateVersion() {
+        long shardVersions = shards.stream()
+                .map(InventoryShard::getVersion)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+        return ((version != null ? version : 0L) << 32) + shardVersions;
+    }
+    
+    /**
+     * 이후 변경을 먼저 반영할 샤드를 지정합니다. 저장소가 행 잠금을 잡은 샤드를 지정하는 용도입니다.
+     */
+    public void preferShard(int shardNo) {
+        if (shardNo < 0 || shardNo >= shards.size()) {
+            throw new InvalidInventoryException("존재하지 않는 샤드입니다: " + shardNo);
+        }
+        this.preferredShardNo = shardNo;
+    }
+    
+    /**
+     * 샤드 수를 바꾸고 예약 수량과 가용 재고를 새 샤드에 고르게 나눕니다. 1이면 샤드를 사용하지 않습니다.
+     */
+    public void changeShardCount(int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARD_COUNT) {
+            throw new InvalidInventoryException(
+                String.format("샤드 수는 1 이상 %d 이하여야 합니다: %d", MAX_SHARD_COUNT, shardCount)
+            );
+        }
+        if (shardCount == getShardCount()) {
+            return;
+        }
+        
+        List<InventoryShard> redistributed = new ArrayList<>(shardCount);
+        if (shardCount > 1) {
+            int reserved = reservedQuantity.value();
+            int available = getAvailableQuantity().value();
+            for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+                int shardReserved = reserved / shardCount + (shardNo < reserved % shardCount ? 1 : 0);
+                int shardAvailable = available / shardCount + (shardNo < available % shardCount ? 1 : 0);
+                // 기존 샤드 행은 버전을 이어받아 동시 변경을 감지
+                Long shardVersion = shardNo < shards.size() ? shards.get(shardNo).getVersion() : null;
+                redistributed.add(InventoryShard.allocate(
+                        shardNo, Quantity.of(shardReserved + shardAvailable), Quantity.of(shardReserved), shardVersion));
+            }
+        }
+        
+        int firstRetiredShardNo = shardCount > 1 ? shardCount : 0;
+        this.shards.stream()
+                .filter(shard -> shard.getShardNo() >= firstRetiredShardNo)
+                .forEach(retiredShards::add);
+        this.shards.clear();
+        this.shards.addAll(redistributed);
+        this.preferredShardNo = null;
+        this.shardLayoutChanged = true;
+        updateTimestamp();
+    }
+    
     public Quantity getAvailableQuantity() {
         return totalQuantity.subtract(reservedQuantity);
     }
@@ -78,6 +208,12 @@ public class Inventory extends AggregateRoot<SkuId> {
         }
         
         this.totalQuantity = this.totalQuantity.add(quantity);
+        if (isSharded()) {
+            // 가용 재고가 가장 적은 샤드에 입고해 샤드 간 재고를 맞춤
+            InventoryShard target = preferredShard()
+                    .orElseGet(() -> shards.stream().min(Comparator.comparing(InventoryShard::getAvailableQuantity, QUANTITY_ORDER)).orElseThrow());
+            target.increaseTotal(quantity);
+        }
         updateTimestamp();
         
         // 도메인 이벤트 발생
@@ -92,8 +228,33 @@ public class Inventory extends AggregateRoot<SkuId> {
             );
         }
         
-        this.reservedQuantity = this.reservedQuantity.add(quantity);
         Reservation reservation = Reservation.create(this.skuId, quantity, orderId, ttlSeconds);
+        applyReservation(reservation);
+        
+        return reservation;
+    }
+    
+    /**
+     * 이미 생성된 예약을 재고에 반영합니다.
+     * 핫 SKU 카운터에서 먼저 차감된 예약을 일괄 반영할 때 사용합니다.
+     */
+    public void applyReservation(Reservation reservation) {
+        if (reservation == null || !this.skuId.equals(reservation.getSkuId())) {
+            throw new InvalidInventoryException("재고와 SKU가 일치하는 예약만 반영할 수 있습니다");
+        }
+        
+        Quantity quantity = reservation.getQuantity();
+        if (!canReserve(quantity)) {
+            throw new InsufficientStockException(
+                String.format("재고가 부족합니다. 가용 재고: %d, 요청 수량: %d", 
+                    getAvailableQuantity().value(), quantity.value())
+            );
+        }
+        
+        this.reservedQuantity = this.reservedQuantity.add(quantity);
+        if (isSharded()) {
+            selectShardFor(quantity).reserve(quantity);
+        }
         
         // 도메인 이벤트 발생
         this.raise(new StockReservedEvent(this.skuId, reservation));
@@ -102,8 +263,6 @@ public class Inventory extends AggregateRoot<SkuId> {
         if (getAvailableQuantity().isZero()) {
             this.raise(new StockDepletedEvent(this.skuId));
         }
-        
-        return reservation;
     }
     
     public void releaseReservedQuantity(Quantity quantity, ReservationId reservationId) {
@@ -119,9 +278,12 @@ public class Inventory extends AggregateRoot<SkuId> {
         }
         
         this.reservedQuantity = this.reservedQuantity.subtract(quantity);
+        if (isSharded()) {
+            takeFromShards(quantity, InventoryShard::getReservedQuantity, InventoryShard::release);
+        }
         
         // 도메인 이벤트 발생
-        this.raise(new ReservationReleasedEvent(this.skuId, reservationId));
+        this.raise(new ReservationReleasedEvent(this.skuId, reservationId, quantity));
     }
     
     public void confirmReservedQuantity(Quantity quantity) {
@@ -138,9 +300,15 @@ public class Inventory extends AggregateRoot<SkuId> {
         
         this.totalQuantity = this.totalQuantity.subtract(quantity);
         this.reservedQuantity = this.reservedQuantity.subtract(quantity);
+        if (isSharded()) {
+            takeFromShards(quantity, InventoryShard::getReservedQuantity, (shard, taken) -> {
+                shard.decreaseTotal(taken);
+                shard.release(taken);
+            });
+        }
         
-        // 도메인 이벤트 발생 (추후 구현)
-        // this.raise(new ReservationConfirmedEvent(this.skuId, quantity));
+        // 도메인 이벤트 발생
+        this.raise(new ReservationConfirmedEvent(this.skuId, quantity));
     }
     
     public void deduct(Quantity quantity, String reference) {
@@ -152,9 +320,89 @@ public class Inventory extends AggregateRoot<SkuId> {
         }
         
         this.totalQuantity = this.totalQuantity.subtract(quantity);
+        if (isSharded()) {
+            // 가용 재고에서 먼저 차감하고, 부족하면 나머지를 총 수량에서 차감
+            Quantity remaining = takeFromShards(quantity, InventoryShard::getAvailableQuantity, InventoryShard::decreaseTotal);
+            takeFromShards(remaining, InventoryShard::getTotalQuantity, InventoryShard::decreaseTotal);
+        }
         
-        // 도메인 이벤트 발생 (추후 구현)
-        // this.raise(new StockDeductedEvent(this.skuId, quantity, reference));
+        // 도메인 이벤트 발생
+        this.raise(new StockDeductedEvent(this.skuId, quantity, reference));
+    }
+    
+    /**
+     * 예약할 샤드를 고릅니다. 우선 샤드부터 차례로 재고가 충분한 샤드를 찾고,
+     * 없으면 가용 재고가 가장 많은 샤드로 다른 샤드의 가용 재고를 옮겨 예약할 수 있게 합니다.
+     * 호출 전에 SKU 전체 가용 재고가 충분한지 확인되어 있어야 합니다.
+     */
+    private InventoryShard selectShardFor(Quantity quantity) {
+        int start = preferredShardNo != null ? preferredShardNo : 0;
+        for (int i = 0; i < shards.size(); i++) {
+            InventoryShard shard = shards.get((start + i) % shards.size());
+            if (shard.getAvailableQuantity().isGreaterThanOrEqualTo(quantity)) {
+                return shard;
+            }
+        }
+        
+        InventoryShard target = shards.stream()
+                .max(Comparator.comparing(InventoryShard::getAvailableQuantity, QUANTITY_ORDER))
+                .orElseThrow();
+        Quantity shortage = quantity.subtract(target.getAvailableQuantity());
+        for (InventoryShard source : shardsByDescending(InventoryShard::getAvailableQuantity)) {
+            if (shortage.isZero()) {
+                break;
+            }
+            if (source == target) {
+                continue;
+            }
+            Quantity moved = min(shortage, source.getAvailableQuantity());
+            source.decreaseTotal(moved);
+            target.increaseTotal(moved);
+            shortage = shortage.subtract(moved);
+        }
+        return target;
+    }
+    
+    /**
+     * 우선 샤드부터, 그다음은 {@code capacity}가 큰 샤드부터 차례로 {@code quantity}를 나눠 반영하고 남은 수량을 반환합니다.
+     */
+    private Quantity takeFromShards(
+            Quantity quantity,
+            Function<InventoryShard, Quantity> capacity,
+            BiConsumer<InventoryShard, Quantity> action
+    ) {
+        List<InventoryShard> ordered = new ArrayList<>(shardsByDescending(capacity));
+        preferredShard().ifPresent(preferred -> {
+            ordered.remove(preferred);
+            ordered.add(0, preferred);
+        });
+        
+        Quantity remaining = quantity;
+        for (InventoryShard shard : ordered) {
+            if (remaining.isZero()) {
+                break;
+            }
+            Quantity taken = min(remaining, capacity.apply(shard));
+            if (!taken.isZero()) {
+                action.accept(shard, taken);
+                remaining = remaining.subtract(taken);
+            }
+        }
+        return remaining;
+    }
+    
+    private List<InventoryShard> shardsByDescending(Function<InventoryShard, Quantity> key) {
+        return shards.stream()
+                .sorted(Comparator.comparing(key, QUANTITY_ORDER.reversed()))
+                .toList();
+    }
+    
+    private Optional<InventoryShard> preferredShard() {
+        return preferredShardNo != null ? Optional.of(shards.get(preferredShardNo)) : Optional.empty();
+    }
+    
+    private static Quantity min(Quantity a, Quantity b) {
+        return a.isLessThanOrEqualTo(b) ? a : b;
     }
     
     private void validateCreate(SkuId skuId, Quantity totalQuantity, Quantity reservedQuantity) {
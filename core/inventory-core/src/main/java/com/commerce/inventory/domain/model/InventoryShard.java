@@ -0,0 +1,71 @@
+package com.commerce.inventory.domain.model;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import lombok.Getter;
+
+/**
+ * 재고 샤드
+ *
+ * <p>한 SKU의 재고를 여러 행으로 나눠 저장할 때의 한 조각입니다. 샤드의 수량 합계가
+ * {@link Inventory}의 수량이며, 수량 변경은 {@link Inventory}를 통해서만 이루어집니다.</p>
+ */
+@Getter
+public class InventoryShard {
+
+    private final int shardNo;
+    private Quantity totalQuantity;
+    private Quantity reservedQuantity;
+    private final Long version;
+    private boolean changed;
+
+    private InventoryShard(int shardNo, Quantity totalQuantity, Quantity reservedQuantity, Long version, boolean changed) {
+        if (shardNo < 0) {
+            throw new InvalidInventoryException("샤드 번호는 0 이상이어야 합니다");
+        }
+        if (totalQuantity == null || reservedQuantity == null) {
+            throw new InvalidInventoryException("샤드 수량은 필수입니다");
+        }
+        if (reservedQuantity.value() > totalQuantity.value()) {
+            throw new InvalidInventoryException("샤드의 예약 수량은 총 수량을 초과할 수 없습니다");
+        }
+
+        this.shardNo = shardNo;
+        this.totalQuantity = totalQuantity;
+        this.reservedQuantity = reservedQuantity;
+        this.version = version;
+        this.changed = changed;
+    }
+
+    public static InventoryShard restore(int shardNo, Quantity totalQuantity, Quantity reservedQuantity, Long version) {
+        return new InventoryShard(shardNo, totalQuantity, reservedQuantity, version, false);
+    }
+
+    static InventoryShard allocate(int shardNo, Quantity totalQuantity, Quantity reservedQuantity, Long version) {
+        return new InventoryShard(shardNo, totalQuantity, reservedQuantity, version, true);
+    }
+
+    public Quantity getAvailableQuantity() {
+        return totalQuantity.subtract(reservedQuantity);
+    }
+
+    void reserve(Quantity quantity) {
+        this.reservedQuantity = this.reservedQuantity.add(quantity);
+        this.changed = true;
+    }
+
+    void release(Quantity quantity) {
+        this.reservedQuantity = this.reservedQuantity.subtract(quantity);
+        this.changed = true;
+    }
+
+    void increaseTotal(Quantity quantity) {
+        this.totalQuantity = this.totalQuantity.add(quantity);
+        this.changed = true;
+    }
+
+    void decreaseTotal(Quantity quantity) {
+        this.totalQuantity = this.totalQuantity.subtract(quantity);
+        this.changed = true;
+    }
+}
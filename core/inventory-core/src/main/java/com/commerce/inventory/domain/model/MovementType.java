@@ -4,7 +4,10 @@ public enum MovementType {
     RECEIVE("재고 입고"),  // 구매 주문에 의한 재고 입고
     INBOUND("입고 예정"),  // 입고 예정 재고 (추후 확장을 위해 예약)
     OUTBOUND("출고"),
-    ADJUSTMENT("조정");
+    ADJUSTMENT("조정"),
+    RESERVE("예약"),      // 가용 재고를 예약 재고로 전환
+    RELEASE("예약 해제"),  // 예약 재고를 가용 재고로 복원
+    CONFIRM("예약 확정");  // 예약 재고를 출고로 차감
     
     private final String description;
     
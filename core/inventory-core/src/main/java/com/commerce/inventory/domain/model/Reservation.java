@@ -143,6 +143,22 @@ public class Reservation extends BaseEntity<ReservationId> {
         markAsUpdated();
     }
     
+    /**
+     * 만료 시각이 지난 활성 예약을 만료 처리합니다. 예약 수량의 복원은 재고에서 따로 처리합니다.
+     */
+    public void expire(LocalDateTime currentTime) {
+        if (status != ReservationStatus.ACTIVE) {
+            throw new InvalidReservationStateException("활성 상태의 예약만 만료할 수 있습니다");
+        }
+        
+        if (!isExpired(currentTime)) {
+            throw new InvalidReservationStateException("만료 시각이 지나지 않은 예약은 만료할 수 없습니다");
+        }
+        
+        this.status = ReservationStatus.EXPIRED;
+        markAsUpdated();
+    }
+    
     private void validateCreate(
             ReservationId id,
             SkuId skuId,
@@ -0,0 +1,96 @@
+package com.commerce.inventory.domain.model;
+
+import com.commerce.inventory.domain.exception.InvalidStockMovementException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장을 순서대로 반영한 SKU의 재고 상태
+ *
+ * <p>원장 순번 {@link #getSequence()}까지의 이동 기록을 모두 반영한 총 수량과 예약 수량을 나타내며,
+ * 스냅샷으로 저장했다가 그 다음 순번부터 이어서 반영할 수 있습니다. 원장은 빈틈없이 기록되므로
+ * 순번이 건너뛰거나 되돌아가는 이동 기록은 받지 않습니다. {@link #getAsOf()}는 마지막으로 반영한 기록이 원장 순번을 받은
+ * 시각이므로 순번과 함께 증가합니다.</p>
+ *
+ * <p>수량은 원장을 검증하는 용도이므로 음수가 되더라도 그대로 두고, 재고와 비교해 불일치로 드러냅니다.</p>
+ */
+@Getter
+public class StockLedgerState {
+
+    private final SkuId skuId;
+    private long sequence;
+    private long totalQuantity;
+    private long reservedQuantity;
+    private LocalDateTime asOf;
+
+    private StockLedgerState(SkuId skuId, long sequence, long totalQuantity, long reservedQuantity, LocalDateTime asOf) {
+        if (skuId == null) {
+            throw new InvalidStockMovementException("SKU ID는 필수입니다");
+        }
+        if (sequence < 0) {
+            throw new InvalidStockMovementException("원장 순번은 0 이상이어야 합니다");
+        }
+
+        this.skuId = skuId;
+        this.sequence = sequence;
+        this.totalQuantity = totalQuantity;
+        this.reservedQuantity = reservedQuantity;
+        this.asOf = asOf;
+    }
+
+    /**
+     * 이동 기록이 하나도 없는 상태
+     */
+    public static StockLedgerState initial(SkuId skuId) {
+        return new StockLedgerState(skuId, 0, 0, 0, null);
+    }
+
+    public static StockLedgerState restore(
+            SkuId skuId,
+            long sequence,
+            long totalQuantity,
+            long reservedQuantity,
+            LocalDateTime asOf
+    ) {
+        return new StockLedgerState(skuId, sequence, totalQuantity, reservedQuantity, asOf);
+    }
+
+    /**
+     * 다음 순번의 이동 기록을 반영합니다.
+     */
+    public void apply(StockMovement movement) {
+        if (!skuId.equals(movement.getSkuId())) {
+            throw new InvalidStockMovementException(
+                    String.format("다른 SKU의 이동 기록입니다. 원장: %s, 이동 기록: %s", skuId.value(), movement.getSkuId().value()));
+        }
+        if (movement.getSequence() == null || movement.getSequence() != sequence + 1) {
+            throw new InvalidStockMovementException(
+                    String.format("원장 순번이 이어지지 않습니다. SKU: %s, 기대 순번: %d, 실제 순번: %s",
+                            skuId.value(), sequence + 1, movement.getSequence()));
+        }
+
+        int quantity = movement.getQuantity().value();
+        switch (movement.getType()) {
+            case RECEIVE -> totalQuantity += quantity;
+            case OUTBOUND -> totalQuantity -= quantity;
+            case RESERVE -> reservedQuantity += quantity;
+            case RELEASE -> reservedQuantity -= quantity;
+            case CONFIRM -> {
+                totalQuantity -= quantity;
+                reservedQuantity -= quantity;
+            }
+            default -> throw new InvalidStockMovementException("원장에 반영할 수 없는 이동 유형입니다: " + movement.getType());
+        }
+        this.sequence = movement.getSequence();
+        this.asOf = movement.getRecordedAt();
+    }
+
+    public long getAvailableQuantity() {
+        return totalQuantity - reservedQuantity;
+    }
+
+    public StockLedgerState copy() {
+        return new StockLedgerState(skuId, sequence, totalQuantity, reservedQuantity, asOf);
+    }
+}
@@ -17,6 +17,17 @@ public class StockMovement extends AggregateRoot<MovementId> {
     private final String reference;
     private final LocalDateTime timestamp;
     
+    /**
+     * SKU별 원장 순번. 1부터 빈틈없이 증가하며, 원장에 기록되기 전이면 {@code null}
+     */
+    private final Long sequence;
+    
+    /**
+     * 원장 순번을 받은 시각. 같은 SKU에서는 순번 순과 같은 순서이며, 원장에 기록되기 전이면 {@code null}.
+     * {@link #getTimestamp()}는 변경이 일어난 시각이므로 지연 기록 모드에서는 순번 순과 다를 수 있음
+     */
+    private final LocalDateTime recordedAt;
+    
     private StockMovement(
             MovementId id,
             SkuId skuId,
@@ -24,8 +35,24 @@ public class StockMovement extends AggregateRoot<MovementId> {
             Quantity quantity,
             String reference,
             LocalDateTime timestamp
+    ) {
+        this(id, skuId, type, quantity, reference, timestamp, null, null);
+    }
+    
+    private StockMovement(
+            MovementId id,
+            SkuId skuId,
+            MovementType type,
+            Quantity quantity,
+            String reference,
+            LocalDateTime timestamp,
+            Long sequence,
+            LocalDateTime recordedAt
     ) {
         validateCreate(id, skuId, type, quantity, reference);
+        if (sequence != null && sequence <= 0) {
+            throw new InvalidStockMovementException("원장 순번은 1 이상이어야 합니다");
+        }
         
         this.id = id;
         this.skuId = skuId;
@@ -33,6 +60,8 @@ public class StockMovement extends AggregateRoot<MovementId> {
         this.quantity = quantity;
         this.reference = reference;
         this.timestamp = timestamp;
+        this.sequence = sequence;
+        this.recordedAt = sequence == null ? null : recordedAt;
     }
     
     public static StockMovement create(
@@ -46,6 +75,31 @@ public class StockMovement extends AggregateRoot<MovementId> {
         return new StockMovement(id, skuId, type, quantity, reference, timestamp);
     }
     
+    public static StockMovement restore(
+            MovementId id,
+            SkuId skuId,
+            MovementType type,
+            Quantity quantity,
+            String reference,
+            LocalDateTime timestamp,
+            Long sequence
+    ) {
+        return restore(id, skuId, type, quantity, reference, timestamp, sequence, timestamp);
+    }
+    
+    public static StockMovement restore(
+            MovementId id,
+            SkuId skuId,
+            MovementType type,
+            Quantity quantity,
+            String reference,
+            LocalDateTime timestamp,
+            Long sequence,
+            LocalDateTime recordedAt
+    ) {
+        return new StockMovement(id, skuId, type, quantity, reference, timestamp, sequence, recordedAt);
+    }
+    
     public static StockMovement create(
             SkuId skuId,
             Quantity quantity,
@@ -89,6 +143,20 @@ public class StockMovement extends AggregateRoot<MovementId> {
         );
     }
     
+    /**
+     * 원장 순번을 부여한 이동 기록을 반환합니다. 변경과 같은 트랜잭션에서 순번을 할당한 뒤 만든 기록이므로 변경 시각에 기록된 것으로 봅니다.
+     */
+    public StockMovement withSequence(long sequence) {
+        return withSequence(sequence, timestamp);
+    }
+    
+    /**
+     * {@code recordedAt}에 원장 순번을 부여한 이동 기록을 반환합니다.
+     */
+    public StockMovement withSequence(long sequence, LocalDateTime recordedAt) {
+        return new StockMovement(id, skuId, type, quantity, reference, timestamp, sequence, recordedAt);
+    }
+    
     public boolean isInbound() {
         return type == MovementType.INBOUND;
     }
@@ -0,0 +1,175 @@
+package com.commerce.inventory.application.event;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.SaveStockMovementPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
+import com.commerce.inventory.application.usecase.StockLedgerUseCase;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
+import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.model.MovementType;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockMovement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerRecorder 테스트")
+class StockLedgerRecorderTest {
+
+    private static final SkuId SKU_A = SkuId.of("SKU-A");
+    private static final SkuId SKU_B = SkuId.of("SKU-B");
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private SaveStockMovementPort saveStockMovementPort;
+
+    @Mock
+    private StockLedgerSequencePort stockLedgerSequencePort;
+
+    @Mock
+    private StockLedgerUseCase stockLedgerUseCase;
+
+    private StockLedgerRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new StockLedgerRecorder(
+                saveStockMovementPort,
+                stockLedgerSequencePort,
+                stockLedgerUseCase,
+                TransactionOperations.withoutTransaction(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+
+        // @Value 필드 설정
+        ReflectionTestUtils.setField(recorder, "writeBehind", false);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(recorder);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Test
+    @DisplayName("트랜잭션의 기록을 모아 커밋 직전에 SKU 순으로 순번을 할당하고 한 번에 저장한다")
+    void shouldAllocateSequencesAndSaveBeforeCommit() {
+        // given
+        given(stockLedgerSequencePort.allocate(SKU_A, 1)).willReturn(5L);
+        given(stockLedgerSequencePort.allocate(SKU_B, 2)).willReturn(2L);
+
+        // when
+        recorder.record(new StockReceivedEvent(SKU_B, Quantity.of(10), "PO-1"));
+        recorder.record(new StockReceivedEvent(SKU_A, Quantity.of(3), "PO-2"));
+        recorder.record(new ReservationReleasedEvent(SKU_B, new ReservationId("RES-1"), Quantity.of(4)));
+        then(stockLedgerSequencePort).should(never()).allocate(any(), anyInt());
+        commit();
+
+        // then
+        InOrder order = inOrder(stockLedgerSequencePort);
+        order.verify(stockLedgerSequencePort).allocate(SKU_A, 1);
+        order.verify(stockLedgerSequencePort).allocate(SKU_B, 2);
+
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        then(saveStockMovementPort).should().saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(m -> m.getSkuId().value(), StockMovement::getType, StockMovement::getSequence, StockMovement::getReference)
+                .containsExactly(
+                        tuple("SKU-A", MovementType.RECEIVE, 5L, "PO-2"),
+                        tuple("SKU-B", MovementType.RECEIVE, 1L, "PO-1"),
+                        tuple("SKU-B", MovementType.RELEASE, 2L, "RES-1"));
+        assertThat(captor.getValue())
+                .allMatch(m -> m.getTimestamp().equals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC)));
+        assertThat(TransactionSynchronizationManager.hasResource(recorder)).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋 이후 순번을 할당한 기록을 원장 유스케이스에 알린다")
+    void shouldNotifyRecordedMovementsAfterCommit() {
+        // given
+        given(stockLedgerSequencePort.allocate(SKU_A, 1)).willReturn(10L);
+        given(stockLedgerSequencePort.allocate(SKU_B, 1)).willReturn(9L);
+
+        // when
+        recorder.record(new StockReceivedEvent(SKU_A, Quantity.of(1), "PO-1"));
+        recorder.record(new StockReceivedEvent(SKU_B, Quantity.of(1), "PO-2"));
+        commit();
+
+        // then
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        then(stockLedgerUseCase).should().recorded(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(m -> m.getSkuId().value(), StockMovement::getSequence)
+                .containsExactly(tuple("SKU-A", 10L), tuple("SKU-B", 9L));
+    }
+
+    @Test
+    @DisplayName("지연 기록 모드에서는 순번을 할당하지 않고 저장해 SKU 행을 건드리지 않는다")
+    void shouldSaveWithoutSequenceInWriteBehindMode() {
+        // given
+        ReflectionTestUtils.setField(recorder, "writeBehind", true);
+
+        // when
+        recorder.record(new StockReceivedEvent(SKU_A, Quantity.of(1), "PO-1"));
+        recorder.record(new ReservationReleasedEvent(SKU_A, new ReservationId("RES-1"), Quantity.of(1)));
+        commit();
+
+        // then
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        then(saveStockMovementPort).should().saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(StockMovement::getType, StockMovement::getSequence)
+                .containsExactly(tuple(MovementType.RECEIVE, null), tuple(MovementType.RELEASE, null));
+        then(stockLedgerSequencePort).shouldHaveNoInteractions();
+        then(stockLedgerUseCase).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("수량을 바꾸지 않는 이벤트는 기록하지 않는다")
+    void shouldIgnoreEventsWithoutQuantityChange() {
+        // when
+        recorder.record(new StockDepletedEvent(SKU_A));
+
+        // then
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        then(saveStockMovementPort).should(never()).saveAll(any());
+    }
+}
@@ -0,0 +1,233 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.LoadSkuPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveSkuPort;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkImportStatus;
+import com.commerce.inventory.application.usecase.BulkSkuLine;
+import com.commerce.inventory.application.usecase.CreateSkuCommand;
+import com.commerce.inventory.domain.exception.DuplicateSkuCodeException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Sku;
+import com.commerce.inventory.domain.model.SkuCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkCreateSkuService 테스트")
+class BulkCreateSkuServiceTest {
+
+    @Mock
+    private LoadSkuPort loadSkuPort;
+
+    @Mock
+    private SaveSkuPort saveSkuPort;
+
+    @Mock
+    private SaveInventoryPort saveInventoryPort;
+
+    private BulkCreateSkuService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkCreateSkuService(
+                loadSkuPort,
+                saveSkuPort,
+                saveInventoryPort,
+                TransactionOperations.withoutTransaction(),
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC)
+        );
+
+        // @Value 필드 설정
+        ReflectionTestUtils.setField(service, "chunkSize", 3);
+        ReflectionTestUtils.setField(service, "maxErrorsPerJob", 100);
+        ReflectionTestUtils.setField(service, "maxJobs", 10);
+    }
+
+    private static BulkSkuLine line(long lineNumber, String code) {
+        return BulkSkuLine.of(lineNumber, CreateSkuCommand.builder()
+                .code(code)
+                .name("상품 " + code)
+                .build());
+    }
+
+    @Test
+    @DisplayName("청크마다 코드 중복을 한 번에 확인하고 SKU와 빈 재고를 함께 일괄 등록한다")
+    void shouldCreateSkusAndInventoriesPerChunk() {
+        // given
+        given(loadSkuPort.findExistingCodes(anyCollection())).willReturn(Set.of());
+
+        // when
+        BulkImportReport report = service.create(List.of(
+                line(1, "SKU-A"),
+                line(2, "SKU-B"),
+                line(3, "SKU-C"),
+                line(4, "SKU-D")
+        ).iterator());
+
+        // then
+        assertThat(report.status()).isEqualTo(BulkImportStatus.COMPLETED);
+        assertThat(report.succeededLines()).isEqualTo(4);
+        then(loadSkuPort).should(times(2)).findExistingCodes(anyCollection());
+
+        ArgumentCaptor<Collection<Sku>> skus = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<Inventory>> inventories = ArgumentCaptor.forClass(Collection.class);
+        then(saveSkuPort).should(times(2)).createAll(skus.capture());
+        then(saveInventoryPort).should(times(2)).createAll(inventories.capture());
+        assertThat(skus.getAllValues().get(0))
+                .extracting(sku -> sku.getCode().value())
+                .containsExactly("SKU-A", "SKU-B", "SKU-C");
+        assertThat(inventories.getAllValues().get(0))
+                .extracting(Inventory::getSkuId)
+                .containsExactlyElementsOf(skus.getAllValues().get(0).stream().map(Sku::getId).toList());
+    }
+
+    @Test
+    @DisplayName("이미 있는 코드, 입력 안에서 겹치는 코드, 형식 오류의 줄은 줄 번호 순으로 오류에 남긴다")
+    void shouldReportDuplicatesPerLine() {
+        // given
+        given(loadSkuPort.findExistingCodes(anyCollection())).willReturn(Set.of(SkuCode.of("SKU-X")));
+
+        // when
+        BulkImportReport report = service.create(List.of(
+                line(1, "SKU-X"),
+                line(2, "SKU-A"),
+                line(3, "SKU-A"),
+                BulkSkuLine.invalid(4, "JSON 형식이 아닙니다"),
+                line(5, "SKU B")
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(1);
+        assertThat(report.failedLines()).isEqualTo(4);
+        assertThat(service.getErrors(report.jobId(), 0, 10))
+                .extracting(BulkImportLineError::lineNumber, BulkImportLineError::message)
+                .containsExactly(
+                        tuple(1L, "이미 존재하는 SKU 코드입니다: SKU-X"),
+                        tuple(3L, "2번 줄과 SKU 코드가 중복됩니다"),
+                        tuple(4L, "JSON 형식이 아닙니다"),
+                        tuple(5L, "SKU 코드는 영문자, 숫자, 하이픈, 언더스코어만 허용됩니다: SKU B"));
+    }
+
+    @Test
+    @DisplayName("확인 뒤 다른 요청이 같은 코드를 등록해 INSERT가 실패하면 다시 확인해 그 줄만 빼고 등록한다")
+    void shouldRecheckCodesWhenInsertConflicts() {
+        // given
+        given(loadSkuPort.findExistingCodes(anyCollection()))
+                .willReturn(Set.of())
+                .willReturn(Set.of(SkuCode.of("SKU-B")));
+        willThrow(new DuplicateSkuCodeException("이미 존재하는 SKU 코드가 포함되어 있습니다"))
+                .willDoNothing()
+                .given(saveSkuPort).createAll(anyCollection());
+
+        // when
+        BulkImportReport report = service.create(List.of(
+                line(1, "SKU-A"),
+                line(2, "SKU-B")
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(1);
+        assertThat(service.getErrors(report.jobId(), 0, 10))
+                .extracting(BulkImportLineError::lineNumber, BulkImportLineError::key)
+                .containsExactly(tuple(2L, "SKU-B"));
+        then(saveInventoryPort).should(times(1)).createAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("코드 중복이 아닌 제약 위반은 다시 시도하지 않고 줄마다 등록해 위반한 줄만 오류로 남긴다")
+    void shouldFailOnlyViolatingLineOnOtherConstraint() {
+        // given
+        given(loadSkuPort.findExistingCodes(anyCollection())).willReturn(Set.of());
+        willThrow(new DataIntegrityViolationException("NULL not allowed for column \"NAME\""))
+                .willDoNothing()
+                .willThrow(new DataIntegrityViolationException("NULL not allowed for column \"NAME\""))
+                .willDoNothing()
+                .given(saveSkuPort).createAll(anyCollection());
+
+        // when
+        BulkImportReport report = service.create(List.of(
+                line(1, "SKU-A"),
+                line(2, "SKU-B"),
+                line(3, "SKU-C")
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(2);
+        assertThat(service.getErrors(report.jobId(), 0, 10))
+                .extracting(BulkImportLineError::lineNumber, BulkImportLineError::message)
+                .containsExactly(tuple(2L, "등록 실패: NULL not allowed for column \"NAME\""));
+        then(loadSkuPort).should(times(1)).findExistingCodes(anyCollection());
+        then(saveSkuPort).should(times(4)).createAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("이름이 없는 줄은 오류로 남기고 같은 청크의 나머지 줄은 등록한다")
+    void shouldRejectLineWithoutName() {
+        // given
+        given(loadSkuPort.findExistingCodes(anyCollection())).willReturn(Set.of());
+
+        // when
+        BulkImportReport report = service.create(List.of(
+                line(1, "SKU-A"),
+                BulkSkuLine.of(2, CreateSkuCommand.builder().code("SKU-B").build()),
+                line(3, "SKU-C")
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(2);
+        assertThat(service.getErrors(report.jobId(), 0, 10))
+                .extracting(BulkImportLineError::lineNumber, BulkImportLineError::message)
+                .containsExactly(tuple(2L, "SKU 이름은 필수입니다"));
+
+        ArgumentCaptor<Collection<Sku>> skus = ArgumentCaptor.forClass(Collection.class);
+        then(saveSkuPort).should().createAll(skus.capture());
+        assertThat(skus.getValue())
+                .extracting(sku -> sku.getCode().value())
+                .containsExactly("SKU-A", "SKU-C");
+    }
+
+    @Test
+    @DisplayName("무게 값과 단위가 짝이 맞지 않는 줄은 단건 등록과 같은 이유로 오류에 남긴다")
+    void shouldApplySingleCreateRules() {
+        // given
+        given(loadSkuPort.findExistingCodes(anyCollection())).willReturn(Set.of());
+
+        // when
+        BulkImportReport report = service.create(List.of(
+                BulkSkuLine.of(1, CreateSkuCommand.builder().code("SKU-A").name("상품").weight(1.5).build()),
+                BulkSkuLine.of(2, CreateSkuCommand.builder().code("SKU-B").name("상품").weight(1.5).weightUnit("KG").build())
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(1);
+        assertThat(service.getErrors(report.jobId(), 0, 10))
+                .extracting(BulkImportLineError::lineNumber, BulkImportLineError::message)
+                .containsExactly(tuple(1L, "무게와 무게 단위는 모두 제공되거나 모두 제공되지 않아야 합니다."));
+    }
+}
@@ -0,0 +1,269 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadSkuPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.usecase.BulkImportLineError;
+import com.commerce.inventory.application.usecase.BulkImportReport;
+import com.commerce.inventory.application.usecase.BulkImportStatus;
+import com.commerce.inventory.application.usecase.BulkStockReceiptLine;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkReceiveStockService 테스트")
+class BulkReceiveStockServiceTest {
+
+    private static final SkuId SKU_A = SkuId.of("SKU-A");
+    private static final SkuId SKU_B = SkuId.of("SKU-B");
+
+    @Mock
+    private LoadSkuPort loadSkuPort;
+
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+
+    @Mock
+    private SaveInventoryPort saveInventoryPort;
+
+    @Mock
+    private AdjustInventoryPort adjustInventoryPort;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private BulkReceiveStockService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkReceiveStockService(
+                loadSkuPort,
+                loadInventoryPort,
+                saveInventoryPort,
+                adjustInventoryPort,
+                hotStockCounterPort,
+                eventPublisher,
+                TransactionOperations.withoutTransaction(),
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC)
+        );
+
+        // @Value 필드 설정
+        ReflectionTestUtils.setField(service, "chunkSize", 3);
+        ReflectionTestUtils.setField(service, "maxErrorsPerJob", 100);
+        ReflectionTestUtils.setField(service, "maxJobs", 10);
+    }
+
+    @Test
+    @DisplayName("청크마다 SKU 존재를 한 번에 확인하고 SKU별로 합산한 수량을 반영한다")
+    void shouldAggregatePerSkuPerChunk() {
+        // given
+        given(loadSkuPort.findExistingIds(anyCollection())).willReturn(Set.of(SKU_A, SKU_B));
+        given(adjustInventoryPort.tryReceiveAll(anyMap())).willReturn(Set.of(SKU_A, SKU_B));
+
+        // when
+        BulkImportReport report = service.receive(List.of(
+                BulkStockReceiptLine.of(1, "SKU-A", 10, "PO-1"),
+                BulkStockReceiptLine.of(2, "SKU-B", 5, "PO-1"),
+                BulkStockReceiptLine.of(3, "SKU-A", 7, "PO-1"),
+                BulkStockReceiptLine.of(4, "SKU-A", 1, "PO-2")
+        ).iterator());
+
+        // then
+        assertThat(report.status()).isEqualTo(BulkImportStatus.COMPLETED);
+        assertThat(report.succeededLines()).isEqualTo(4);
+        then(loadSkuPort).should(times(2)).findExistingIds(anyCollection());
+        then(adjustInventoryPort).should().tryReceiveAll(Map.of(SKU_A, Quantity.of(17), SKU_B, Quantity.of(5)));
+        then(adjustInventoryPort).should().tryReceiveAll(Map.of(SKU_A, Quantity.of(1)));
+
+        ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(eventPublisher).should(times(2)).publishAll(captor.capture());
+        assertThat(captor.getAllValues().get(0))
+                .extracting(event -> ((StockReceivedEvent) event).getSkuId(), event -> ((StockReceivedEvent) event).getQuantity())
+                .containsExactly(tuple(SKU_A, Quantity.of(17)), tuple(SKU_B, Quantity.of(5)));
+    }
+
+    @Test
+    @DisplayName("형식 오류, 없는 SKU의 줄은 줄 번호 순으로 오류에 남기고 나머지는 반영한다")
+    void shouldReportLineErrors() {
+        // given
+        given(loadSkuPort.findExistingIds(anyCollection())).willReturn(Set.of(SKU_A));
+        given(adjustInventoryPort.tryReceiveAll(anyMap())).willReturn(Set.of(SKU_A));
+
+        // when
+        BulkImportReport report = service.receive(List.of(
+                BulkStockReceiptLine.of(1, "SKU-X", 10, "PO-1"),
+                BulkStockReceiptLine.invalid(2, "JSON 형식이 아닙니다"),
+                BulkStockReceiptLine.of(3, "SKU-A", 0, "PO-1"),
+                BulkStockReceiptLine.of(4, "SKU-A", 3, null)
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(1);
+        assertThat(report.failedLines()).isEqualTo(3);
+        assertThat(service.getErrors(report.jobId(), 0, 10))
+                .extracting(BulkImportLineError::lineNumber, BulkImportLineError::message)
+                .containsExactly(
+                        tuple(1L, "SKU를 찾을 수 없습니다"),
+                        tuple(2L, "JSON 형식이 아닙니다"),
+                        tuple(3L, "입고 수량은 0보다 커야 합니다"));
+
+        // 참조 번호가 없으면 작업 ID로 기록
+        ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(eventPublisher).should().publishAll(captor.capture());
+        assertThat(((StockReceivedEvent) captor.getValue().get(0)).getReference()).isEqualTo(report.jobId());
+    }
+
+    @Test
+    @DisplayName("조건부 갱신으로 반영하지 못한 SKU는 재고를 조회하고, 재고가 없으면 새로 만들어 INSERT한다")
+    void shouldFallBackToDomainPathForMissingInventory() {
+        // given
+        given(loadSkuPort.findExistingIds(anyCollection())).willReturn(Set.of(SKU_A, SKU_B));
+        given(adjustInventoryPort.tryReceiveAll(anyMap())).willReturn(Set.of(SKU_A));
+        given(loadInventoryPort.loadAllByIds(List.of(SKU_B))).willReturn(Map.of());
+
+        // when
+        service.receive(List.of(
+                BulkStockReceiptLine.of(1, "SKU-A", 10, "PO-1"),
+                BulkStockReceiptLine.of(2, "SKU-B", 5, "PO-1")
+        ).iterator());
+
+        // then
+        then(saveInventoryPort).should(never()).saveAll(any());
+        ArgumentCaptor<Collection<Inventory>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(saveInventoryPort).should().createAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(inventory -> {
+            assertThat(inventory.getSkuId()).isEqualTo(SKU_B);
+            assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(5));
+        });
+        then(hotStockCounterPort).should().increase(SKU_A, Quantity.of(10));
+        then(hotStockCounterPort).should().increase(SKU_B, Quantity.of(5));
+    }
+
+    @Test
+    @DisplayName("새 재고를 만드는 사이 다른 입고가 같은 재고를 먼저 만들면 청크를 다시 시도해 그 재고에 수량을 더한다")
+    void shouldRetryWhenInventoryCreatedConcurrently() {
+        // given
+        given(loadSkuPort.findExistingIds(anyCollection())).willReturn(Set.of(SKU_A));
+        given(adjustInventoryPort.tryReceiveAll(anyMap()))
+                .willReturn(Set.of())
+                .willReturn(Set.of(SKU_A));
+        given(loadInventoryPort.loadAllByIds(List.of(SKU_A))).willReturn(Map.of());
+        willThrow(new DataIntegrityViolationException("PRIMARY KEY ON inventory(sku_id)"))
+                .given(saveInventoryPort).createAll(anyCollection());
+
+        // when
+        BulkImportReport report = service.receive(List.of(
+                BulkStockReceiptLine.of(1, "SKU-A", 5, "PO-1")
+        ).iterator());
+
+        // then
+        assertThat(report.succeededLines()).isEqualTo(1);
+        assertThat(report.failedLines()).isZero();
+        then(adjustInventoryPort).should(times(2)).tryReceiveAll(Map.of(SKU_A, Quantity.of(5)));
+        then(saveInventoryPort).should(times(1)).createAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 계속되면 청크의 줄을 오류로 남기고 다음 청크를 계속 처리한다")
+    void shouldRejectChunkAfterRetries() {
+        // given
+        given(loadSkuPort.findExistingIds(anyCollection())).willReturn(Set.of(SKU_A));
+        given(adjustInventoryPort.tryReceiveAll(anyMap()))
+                .willThrow(new OptimisticLockingFailureException("conflict"))
+                .willThrow(new OptimisticLockingFailureException("conflict"))
+                .willThrow(new OptimisticLockingFailureException("conflict"))
+                .willReturn(Set.of(SKU_A));
+
+        // when
+        BulkImportReport report = service.receive(List.of(
+                BulkStockReceiptLine.of(1, "SKU-A", 1, "PO-1"),
+                BulkStockReceiptLine.of(2, "SKU-A", 1, "PO-1"),
+                BulkStockReceiptLine.of(3, "SKU-A", 1, "PO-1"),
+                BulkStockReceiptLine.of(4, "SKU-A", 1, "PO-2")
+        ).iterator());
+
+        // then
+        assertThat(report.status()).isEqualTo(BulkImportStatus.COMPLETED);
+        assertThat(report.failedLines()).isEqualTo(3);
+        assertThat(report.succeededLines()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입력을 더 읽을 수 없으면 반영한 청크는 유지하고 작업을 중단 상태로 남긴다")
+    void shouldFailJobWhenInputBreaks() {
+        // given
+        Iterator<BulkStockReceiptLine> broken = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                if (read >= 3) {
+                    throw new IllegalStateException("연결이 끊어졌습니다");
+                }
+                return true;
+            }
+
+            @Override
+            public BulkStockReceiptLine next() {
+                if (read >= 3) {
+                    throw new NoSuchElementException();
+                }
+                read++;
+                return BulkStockReceiptLine.of(read, "SKU-A", 1, "PO-1");
+            }
+        };
+        given(loadSkuPort.findExistingIds(anyCollection())).willReturn(Set.of(SKU_A));
+        given(adjustInventoryPort.tryReceiveAll(anyMap())).willReturn(Set.of(SKU_A));
+
+        // when
+        BulkImportReport report = service.receive(broken);
+
+        // then
+        assertThat(report.status()).isEqualTo(BulkImportStatus.FAILED);
+        assertThat(report.failureReason()).isEqualTo("연결이 끊어졌습니다");
+        assertThat(report.succeededLines()).isEqualTo(3);
+        assertThat(service.getReport(report.jobId())).contains(report);
+        then(saveInventoryPort).should(never()).saveAll(any());
+    }
+}
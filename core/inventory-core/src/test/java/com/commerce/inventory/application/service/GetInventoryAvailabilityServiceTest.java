@@ -0,0 +1,82 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.InventoryAvailabilityProjectionPort;
+import com.commerce.inventory.application.usecase.GetInventoriesQuery;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityResponse;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.application.usecase.InventoryResponse;
+import com.commerce.inventory.application.usecase.ProjectInventoryAvailabilityUseCase;
+import com.commerce.inventory.application.usecase.ProjectionLag;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetInventoryAvailabilityService 테스트")
+class GetInventoryAvailabilityServiceTest {
+
+    @Mock
+    private InventoryAvailabilityProjectionPort projectionPort;
+
+    @Mock
+    private ProjectInventoryAvailabilityUseCase projectInventoryAvailabilityUseCase;
+
+    private GetInventoryAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetInventoryAvailabilityService(
+                projectionPort,
+                projectInventoryAvailabilityUseCase,
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    @Test
+    @DisplayName("읽기 모델의 수량을 요청 순서대로 반환하고 없는 SKU는 0으로 채운다")
+    void shouldReturnProjectedQuantitiesInRequestOrder() {
+        // given
+        SkuId sku1 = new SkuId("SKU-001");
+        SkuId sku2 = new SkuId("SKU-002");
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        ProjectionLag lag = new ProjectionLag(1, now.minusSeconds(1), now, 1000);
+        given(projectInventoryAvailabilityUseCase.lag()).willReturn(lag);
+        given(projectionPort.findAllByIds(List.of(sku2, sku1)))
+                .willReturn(Map.of(sku1, new InventoryAvailabilityView(sku1, 100, 30, 70, 4L, now)));
+
+        // when
+        InventoryAvailabilityResponse response = service.execute(
+                new GetInventoriesQuery(List.of("SKU-002", "SKU-001", "SKU-002")));
+
+        // then
+        assertThat(response.items()).containsExactly(
+                InventoryResponse.empty("SKU-002"),
+                new InventoryResponse("SKU-001", 100, 30, 70, 4L)
+        );
+        assertThat(response.lag()).isEqualTo(lag);
+    }
+
+    @Test
+    @DisplayName("SKU ID 목록이 비어있으면 읽기 모델을 조회하지 않는다")
+    void shouldRejectEmptySkuIds() {
+        assertThatThrownBy(() -> service.execute(new GetInventoriesQuery(List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(projectionPort).should(never()).findAllByIds(any());
+    }
+}
@@ -0,0 +1,152 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.usecase.ReserveStockBatchUseCase;
+import com.commerce.inventory.application.usecase.ReserveStockCommand;
+import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.application.usecase.ReserveStockUseCase;
+import com.commerce.inventory.domain.exception.InsufficientStockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupCommitReserveStockService 테스트")
+class GroupCommitReserveStockServiceTest {
+
+    @Mock
+    private ReserveStockUseCase delegate;
+
+    @Mock
+    private ReserveStockBatchUseCase batchUseCase;
+
+    private GroupCommitReserveStockService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    private ReserveStockCommand createCommand(String orderId) {
+        return ReserveStockCommand.builder()
+                .orderId(orderId)
+                .ttlSeconds(900)
+                .items(List.of(ReserveStockCommand.ReservationItem.builder()
+                        .skuId("SKU001")
+                        .quantity(1)
+                        .build()))
+                .build();
+    }
+
+    private ReserveStockResponse createResponse() {
+        return ReserveStockResponse.builder()
+                .reservations(List.of())
+                .build();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 들어온 요청을 한 번에 일괄 처리한다")
+    void shouldProcessConcurrentRequestsInOneBatch() {
+        // given
+        service = new GroupCommitReserveStockService(delegate, batchUseCase, Duration.ofMillis(500), 2, 1);
+        ReserveStockResponse response1 = createResponse();
+        ReserveStockResponse response2 = createResponse();
+        given(batchUseCase.executeBatch(anyList())).willReturn(List.of(
+                ReserveStockBatchUseCase.Result.success(response1),
+                ReserveStockBatchUseCase.Result.success(response2)
+        ));
+
+        // when
+        CompletableFuture<ReserveStockResponse> first = CompletableFuture.supplyAsync(
+                () -> service.execute(createCommand("ORDER-1")));
+        CompletableFuture<ReserveStockResponse> second = CompletableFuture.supplyAsync(
+                () -> service.execute(createCommand("ORDER-2")));
+
+        // then
+        assertThat(List.of(first.orTimeout(5, TimeUnit.SECONDS).join(), second.orTimeout(5, TimeUnit.SECONDS).join()))
+                .containsExactlyInAnyOrder(response1, response2);
+        then(batchUseCase).should().executeBatch(anyList());
+        then(delegate).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("요청별 실패는 해당 호출자에게만 전달된다")
+    void shouldThrowFailureOfOwnRequest() {
+        // given
+        service = new GroupCommitReserveStockService(delegate, batchUseCase, Duration.ZERO, 1, 1);
+        given(batchUseCase.executeBatch(anyList())).willReturn(List.of(
+                ReserveStockBatchUseCase.Result.failure(new InsufficientStockException("재고가 부족합니다"))
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(createCommand("ORDER-1")))
+                .isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 처리 대상이 아닌 요청은 개별로 처리한다")
+    void shouldDelegateDeferredRequest() {
+        // given
+        service = new GroupCommitReserveStockService(delegate, batchUseCase, Duration.ZERO, 1, 1);
+        ReserveStockCommand command = createCommand("ORDER-1");
+        ReserveStockResponse response = createResponse();
+        given(batchUseCase.executeBatch(anyList())).willReturn(List.of(ReserveStockBatchUseCase.Result.deferred()));
+        given(delegate.execute(command)).willReturn(response);
+
+        // when
+        ReserveStockResponse result = service.execute(command);
+
+        // then
+        assertThat(result).isSameAs(response);
+        then(delegate).should().execute(command);
+    }
+
+    @Test
+    @DisplayName("일괄 트랜잭션이 실패하면 묶인 요청 모두 같은 예외를 받는다")
+    void shouldPropagateBatchFailureToAllCallers() {
+        // given
+        service = new GroupCommitReserveStockService(delegate, batchUseCase, Duration.ZERO, 1, 1);
+        IllegalStateException failure = new IllegalStateException("DB 오류");
+        given(batchUseCase.executeBatch(anyList())).willThrow(failure);
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(createCommand("ORDER-1")))
+                .isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("종료 후 들어온 요청은 개별로 처리한다")
+    void shouldDelegateAfterClose() {
+        // given
+        service = new GroupCommitReserveStockService(delegate, batchUseCase, Duration.ZERO, 1, 1);
+        ReserveStockCommand command = createCommand("ORDER-1");
+        given(delegate.execute(command)).willReturn(createResponse());
+        service.close();
+
+        // when
+        service.execute(command);
+
+        // then
+        then(delegate).should(timeout(1000)).execute(command);
+        then(batchUseCase).should(never()).executeBatch(anyList());
+        assertThat(service.queuedCount()).isZero();
+    }
+}
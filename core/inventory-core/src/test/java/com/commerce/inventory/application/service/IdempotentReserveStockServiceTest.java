@@ -0,0 +1,208 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.ReservationDedupCachePort;
+import com.commerce.inventory.application.usecase.ReserveStockCommand;
+import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.application.usecase.ReserveStockUseCase;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentReserveStockService 테스트")
+class IdempotentReserveStockServiceTest {
+
+    private static final String ORDER_ID = "ORDER-001";
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private ReserveStockUseCase delegate;
+
+    @Mock
+    private LoadReservationPort loadReservationPort;
+
+    @Mock
+    private ReservationDedupCachePort reservationDedupCachePort;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
+    private IdempotentReserveStockService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotentReserveStockService(
+                delegate, loadReservationPort, reservationDedupCachePort, hotStockCounterPort, 4);
+    }
+
+    private ReserveStockCommand createCommand(String... skuIds) {
+        return ReserveStockCommand.builder()
+                .orderId(ORDER_ID)
+                .ttlSeconds(900)
+                .items(Arrays.stream(skuIds)
+                        .map(skuId -> ReserveStockCommand.ReservationItem.builder()
+                                .skuId(skuId)
+                                .quantity(1)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private ReserveStockResponse.ReservationResult result(String reservationId, String skuId) {
+        return ReserveStockResponse.ReservationResult.builder()
+                .reservationId(reservationId)
+                .skuId(skuId)
+                .quantity(1)
+                .expiresAt(FIXED_TIME.plusMinutes(15))
+                .status("ACTIVE")
+                .build();
+    }
+
+    private Reservation reservation(String reservationId, String skuId) {
+        return Reservation.create(
+                new ReservationId(reservationId), new SkuId(skuId), Quantity.of(1), ORDER_ID,
+                FIXED_TIME.plusMinutes(15), FIXED_TIME);
+    }
+
+    @Test
+    @DisplayName("캐시에 원래 예약 ID가 있으면 기본 키로 현재 상태를 읽어 돌려주고 예약 서비스를 거치지 않는다")
+    void shouldReturnCachedReservationWithCurrentStatus() {
+        // given
+        Reservation released = reservation("R1", "SKU001");
+        released.release();
+        given(reservationDedupCachePort.findAll(eq(ORDER_ID), anyCollection()))
+                .willReturn(Map.of("SKU001", List.of(new ReservationId("R1"))));
+        given(loadReservationPort.findAllById(List.of(new ReservationId("R1")))).willReturn(List.of(released));
+
+        // when
+        ReserveStockResponse response = service.execute(createCommand("SKU001"));
+
+        // then
+        assertThat(response.getReservations())
+                .extracting(ReserveStockResponse.ReservationResult::getReservationId,
+                        ReserveStockResponse.ReservationResult::getStatus)
+                .containsExactly(tuple("R1", "RELEASED"));
+        then(loadReservationPort).should(never()).findByOrderIdAndSkuIds(any(), anyCollection());
+        then(delegate).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 저장소에서 원래 예약을 찾아 돌려주고 캐시에 넣는다")
+    void shouldFallBackToStoredReservation() {
+        // given
+        Reservation stored = reservation("R1", "SKU001");
+        given(reservationDedupCachePort.findAll(eq(ORDER_ID), anyCollection())).willReturn(Map.of());
+        given(loadReservationPort.findByOrderIdAndSkuIds(ORDER_ID, List.of(new SkuId("SKU001"))))
+                .willReturn(List.of(stored));
+
+        // when
+        ReserveStockResponse response = service.execute(createCommand("SKU001"));
+
+        // then
+        assertThat(response.getReservations())
+                .extracting(ReserveStockResponse.ReservationResult::getReservationId)
+                .containsExactly("R1");
+        then(reservationDedupCachePort).should().putAll(eq(ORDER_ID), anyList());
+        then(delegate).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("핫 SKU의 예약이 아직 저장되지 않았으면 대기 목록에서 같은 주문의 예약을 찾아 다시 예약하지 않는다")
+    void shouldReturnPendingHotSkuReservation() {
+        // given
+        SkuId hotSkuId = new SkuId("SKU001");
+        Reservation otherOrder = Reservation.create(
+                new ReservationId("R9"), hotSkuId, Quantity.of(1), "ORDER-999", FIXED_TIME.plusMinutes(15), FIXED_TIME);
+        given(reservationDedupCachePort.findAll(eq(ORDER_ID), anyCollection()))
+                .willReturn(Map.of("SKU001", List.of(new ReservationId("R1"))));
+        // 카운터에서 차감됐지만 일괄 저장 전이라 저장소에는 없음
+        given(loadReservationPort.findAllById(List.of(new ReservationId("R1")))).willReturn(List.of());
+        given(hotStockCounterPort.findHotSkuIds(List.of(hotSkuId))).willReturn(Set.of(hotSkuId));
+        given(hotStockCounterPort.findPendingReservations(hotSkuId, Integer.MAX_VALUE))
+                .willReturn(List.of(otherOrder, reservation("R1", "SKU001")));
+
+        // when
+        ReserveStockResponse response = service.execute(createCommand("SKU001"));
+
+        // then
+        assertThat(response.getReservations())
+                .extracting(ReserveStockResponse.ReservationResult::getReservationId,
+                        ReserveStockResponse.ReservationResult::getStatus)
+                .containsExactly(tuple("R1", "ACTIVE"));
+        then(loadReservationPort).should(never()).findByOrderIdAndSkuIds(any(), anyCollection());
+        then(delegate).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("원래 예약이 없는 SKU만 새로 예약하고 요청 순서대로 합쳐 돌려준다")
+    void shouldReserveOnlyMissingSkus() {
+        // given
+        given(reservationDedupCachePort.findAll(eq(ORDER_ID), anyCollection()))
+                .willReturn(Map.of("SKU002", List.of(new ReservationId("R2"))));
+        given(loadReservationPort.findAllById(List.of(new ReservationId("R2"))))
+                .willReturn(List.of(reservation("R2", "SKU002")));
+        given(loadReservationPort.findByOrderIdAndSkuIds(ORDER_ID, List.of(new SkuId("SKU001"))))
+                .willReturn(List.of());
+        List<ReserveStockResponse.ReservationResult> created = List.of(result("R1", "SKU001"));
+        given(delegate.execute(any())).willReturn(ReserveStockResponse.builder()
+                .reservations(created)
+                .build());
+
+        // when
+        ReserveStockResponse response = service.execute(createCommand("SKU001", "SKU002"));
+
+        // then
+        ArgumentCaptor<ReserveStockCommand> captor = ArgumentCaptor.forClass(ReserveStockCommand.class);
+        then(delegate).should().execute(captor.capture());
+        assertThat(captor.getValue().getItems())
+                .extracting(ReserveStockCommand.ReservationItem::getSkuId)
+                .containsExactly("SKU001");
+        assertThat(captor.getValue().getTtlSeconds()).isEqualTo(900);
+        then(reservationDedupCachePort).should().putAll(ORDER_ID, created);
+        assertThat(response.getReservations())
+                .extracting(ReserveStockResponse.ReservationResult::getReservationId)
+                .containsExactly("R1", "R2");
+    }
+
+    @Test
+    @DisplayName("주문 ID가 없는 요청은 멱등 처리 없이 예약 서비스로 넘긴다")
+    void shouldDelegateInvalidCommand() {
+        // given
+        ReserveStockCommand command = ReserveStockCommand.builder()
+                .items(List.of())
+                .build();
+
+        // when
+        service.execute(command);
+
+        // then
+        then(delegate).should().execute(command);
+        then(reservationDedupCachePort).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,142 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.InventoryAvailabilityProjectionPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.application.usecase.ProjectionLag;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryAvailabilityProjectionService 테스트")
+class InventoryAvailabilityProjectionServiceTest {
+
+    private static final SkuId SKU_1 = new SkuId("SKU-001");
+    private static final SkuId SKU_2 = new SkuId("SKU-002");
+    private static final Instant START = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+
+    @Mock
+    private InventoryAvailabilityProjectionPort projectionPort;
+
+    @Mock
+    private Clock clock;
+
+    private InventoryAvailabilityProjectionService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        lenient().when(clock.instant()).thenReturn(START);
+        service = new InventoryAvailabilityProjectionService(
+                loadInventoryPort, projectionPort, TransactionOperations.withoutTransaction(), clock);
+    }
+
+    @Test
+    @DisplayName("여러 번 변경된 SKU도 한 번만 읽어 현재 재고로 반영한다")
+    void shouldProjectCurrentInventoryOncePerSku() {
+        // given
+        service.markChanged(SKU_1);
+        service.markChanged(SKU_1);
+        Inventory inventory = Inventory.restore(SKU_1, Quantity.of(100), Quantity.of(30), 7L);
+        given(loadInventoryPort.loadAllByIds(List.of(SKU_1))).willReturn(Map.of(SKU_1, inventory));
+
+        // when
+        int projected = service.projectPending(10);
+
+        // then
+        assertThat(projected).isEqualTo(1);
+        ArgumentCaptor<List<InventoryAvailabilityView>> captor = ArgumentCaptor.forClass(List.class);
+        then(projectionPort).should().saveAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new InventoryAvailabilityView(
+                SKU_1, 100, 30, 70, 7L, LocalDateTime.ofInstant(START, ZoneOffset.UTC)));
+        assertThat(service.lag().pendingSkuCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("표시된 SKU가 없으면 재고를 읽지 않는다")
+    void shouldSkipWhenNothingPending() {
+        assertThat(service.projectPending(10)).isZero();
+        then(loadInventoryPort).should(never()).loadAllByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 원래 변경 시각으로 다시 표시한다")
+    void shouldRequeueOnFailure() {
+        // given
+        service.markChanged(SKU_1);
+        given(loadInventoryPort.loadAllByIds(anyList())).willThrow(new IllegalStateException("db down"));
+        given(clock.instant()).willReturn(START.plusMillis(500));
+
+        // when & then
+        assertThatThrownBy(() -> service.projectPending(10)).isInstanceOf(IllegalStateException.class);
+        ProjectionLag lag = service.lag();
+        assertThat(lag.pendingSkuCount()).isEqualTo(1);
+        assertThat(lag.oldestPendingChangeAt()).isEqualTo(LocalDateTime.ofInstant(START, ZoneOffset.UTC));
+        assertThat(lag.lagMillis()).isEqualTo(500);
+        assertThat(lag.lastProjectedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("뒤처진 정도는 가장 오래된 미반영 변경부터 잰다")
+    void shouldMeasureLagFromOldestPendingChange() {
+        // given
+        service.markChanged(SKU_1);
+        given(clock.instant()).willReturn(START.plusMillis(200));
+        service.markChanged(SKU_2);
+        given(clock.instant()).willReturn(START.plusMillis(300));
+
+        // when
+        ProjectionLag lag = service.lag();
+
+        // then
+        assertThat(lag.pendingSkuCount()).isEqualTo(2);
+        assertThat(lag.lagMillis()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("재구성은 SKU ID 순으로 페이지를 나누어 모든 재고를 반영한다")
+    void shouldRebuildPageByPage() {
+        // given
+        given(loadInventoryPort.findSkuIdsAfter(null, 1)).willReturn(List.of(SKU_1));
+        given(loadInventoryPort.findSkuIdsAfter(SKU_1, 1)).willReturn(List.of(SKU_2));
+        given(loadInventoryPort.findSkuIdsAfter(SKU_2, 1)).willReturn(List.of());
+        given(loadInventoryPort.loadAllByIds(any())).willReturn(Map.of());
+
+        // when
+        int projected = service.rebuild(1);
+
+        // then
+        assertThat(projected).isEqualTo(2);
+        then(projectionPort).should(times(2)).saveAll(anyList());
+        assertThat(service.lag().lastProjectedAt()).isNotNull();
+    }
+}
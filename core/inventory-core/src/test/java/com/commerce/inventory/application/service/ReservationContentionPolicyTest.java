@@ -0,0 +1,139 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.inventory.application.service.port.out.ReservationContentionMetricsPort;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationContentionPolicy 테스트")
+class ReservationContentionPolicyTest {
+
+    private static final SkuId HOT_SKU = new SkuId("SKU-HOT");
+    private static final SkuId COLD_SKU = new SkuId("SKU-COLD");
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private ReservationContentionMetricsPort metricsPort;
+
+    private ReservationContentionPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(START_MILLIS);
+        // 10초 윈도우를 1초 버킷 10개로 나누고, 표본 4개 이상에서 충돌 비율 50% 이상이면 비관적 방식
+        policy = new ReservationContentionPolicy(
+                clock, Duration.ofSeconds(10), 10, 4, 0.5, 100, 3,
+                Duration.ofMillis(10), Duration.ofMillis(50), metricsPort);
+    }
+
+    private void record(SkuId skuId, int successes, int conflicts) {
+        for (int i = 0; i < successes; i++) {
+            policy.recordOptimisticOutcome(List.of(skuId), false);
+        }
+        for (int i = 0; i < conflicts; i++) {
+            policy.recordOptimisticOutcome(List.of(skuId), true);
+        }
+    }
+
+    @Test
+    @DisplayName("기록이 없는 SKU는 낙관적 방식으로 처리한다")
+    void shouldSelectOptimisticForUnknownSku() {
+        assertThat(policy.selectPessimistic(List.of(HOT_SKU, COLD_SKU))).isEmpty();
+        then(metricsPort).should().recordDecision(ReservationLockMode.OPTIMISTIC, 2);
+    }
+
+    @Test
+    @DisplayName("충돌 비율이 기준 이상인 SKU만 비관적 방식으로 전환한다")
+    void shouldSwitchContendedSkuToPessimistic() {
+        // given
+        record(HOT_SKU, 1, 3);
+        record(COLD_SKU, 9, 1);
+
+        // when
+        Set<SkuId> pessimistic = policy.selectPessimistic(List.of(HOT_SKU, COLD_SKU));
+
+        // then
+        assertThat(pessimistic).containsExactly(HOT_SKU);
+        assertThat(policy.contendedSkuCount()).isEqualTo(1);
+        then(metricsPort).should().recordModeChange(ReservationLockMode.PESSIMISTIC);
+        then(metricsPort).should().recordDecision(ReservationLockMode.PESSIMISTIC, 1);
+        then(metricsPort).should().recordDecision(ReservationLockMode.OPTIMISTIC, 1);
+    }
+
+    @Test
+    @DisplayName("표본이 최소 개수보다 적으면 모두 충돌해도 전환하지 않는다")
+    void shouldNotSwitchWithTooFewSamples() {
+        record(HOT_SKU, 0, 3);
+
+        assertThat(policy.selectPessimistic(List.of(HOT_SKU))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("충돌 기록이 윈도우 밖으로 밀려나면 다시 낙관적 방식으로 돌아간다")
+    void shouldReturnToOptimisticAfterWindow() {
+        // given
+        record(HOT_SKU, 0, 4);
+        assertThat(policy.selectPessimistic(List.of(HOT_SKU))).containsExactly(HOT_SKU);
+
+        // when
+        given(clock.millis()).willReturn(START_MILLIS + Duration.ofSeconds(10).toMillis());
+
+        // then
+        assertThat(policy.selectPessimistic(List.of(HOT_SKU))).isEmpty();
+        then(metricsPort).should().recordModeChange(ReservationLockMode.OPTIMISTIC);
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 버킷만 충돌 비율에 반영한다")
+    void shouldSlideWindow() {
+        // given - 5초 전 충돌 4건, 현재 성공 4건
+        record(HOT_SKU, 0, 4);
+        given(clock.millis()).willReturn(START_MILLIS + 5_000);
+        record(HOT_SKU, 4, 0);
+        assertThat(policy.selectPessimistic(List.of(HOT_SKU))).containsExactly(HOT_SKU);
+
+        // when - 충돌 버킷이 빠지고 성공 버킷만 남음
+        given(clock.millis()).willReturn(START_MILLIS + 10_000);
+
+        // then
+        assertThat(policy.selectPessimistic(List.of(HOT_SKU))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 늘어나는 상한 안에서 고르고 최대값을 넘지 않는다")
+    void shouldJitterBackoffWithinCap() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoffMillis(1)).isBetween(0L, 10L);
+            assertThat(policy.backoffMillis(2)).isBetween(0L, 20L);
+            assertThat(policy.backoffMillis(10)).isBetween(0L, 50L);
+        }
+    }
+
+    @Test
+    @DisplayName("윈도우가 버킷 수보다 짧으면 생성할 수 없다")
+    void shouldRejectInvalidWindow() {
+        assertThatThrownBy(() -> new ReservationContentionPolicy(
+                clock, Duration.ofMillis(5), 10, 4, 0.5, 100, 3,
+                Duration.ZERO, Duration.ZERO, metricsPort))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.LoadStockMovementPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSnapshotPort;
+import com.commerce.inventory.domain.model.MovementId;
+import com.commerce.inventory.domain.model.MovementType;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import com.commerce.inventory.domain.model.StockMovement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 원장 전체 재생과 스냅샷 이후 재생의 비용 비교
+ *
+ * <p>SKU 하나에 1천만 건의 이동 기록이 쌓인 원장에서 처음부터 반영하는 경우와, 스냅샷 간격마다 저장한 스냅샷부터
+ * 남은 기록만 반영하는 경우의 읽은 기록 수와 소요 시간을 비교합니다. 이동 기록은 페이지를 요청할 때 만들어 저장소 I/O 대신
+ * 기록 생성과 반영 비용만 잽니다. 기본 테스트에서는 제외되며 {@code ./gradlew :inventory-core:benchmark}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DisplayName("재고 원장 재생 벤치마크")
+class StockLedgerReplayBenchmark {
+
+    private static final SkuId SKU_ID = SkuId.of("SKU-BENCH");
+    private static final long MOVEMENTS = 10_000_000L;
+    private static final long SNAPSHOT_INTERVAL = 1_000L;
+    private static final int PAGE_SIZE = 5_000;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final MovementId MOVEMENT_ID = new MovementId("bench");
+
+    // 입고 10, 예약 3, 예약 해제 1, 예약 확정 2를 반복 (주기마다 총 수량 +8, 예약 수량 0)
+    private static final MovementType[] TYPES = {MovementType.RECEIVE, MovementType.RESERVE, MovementType.RELEASE, MovementType.CONFIRM};
+    private static final int[] QUANTITIES = {10, 3, 1, 2};
+
+    @Test
+    @DisplayName("스냅샷부터 재생하면 원장 크기와 관계없이 스냅샷 간격 이하의 기록만 읽는다")
+    void compareFullReplayWithSnapshotReplay() {
+        AtomicLong read = new AtomicLong();
+        LoadStockMovementPort ledger = new LoadStockMovementPort() {
+            @Override
+            public List<StockMovement> findBySkuIdAfterSequence(SkuId skuId, long afterSequence, int limit) {
+                List<StockMovement> page = new ArrayList<>(limit);
+                for (long sequence = afterSequence + 1; sequence <= Math.min(afterSequence + limit, MOVEMENTS); sequence++) {
+                    page.add(movementAt(sequence));
+                }
+                read.addAndGet(page.size());
+                return page;
+            }
+
+            @Override
+            public List<StockMovement> findUnsequencedBySkuId(SkuId skuId) {
+                return List.of();
+            }
+        };
+
+        // 마지막 스냅샷 (스냅샷 간격마다 저장했다면 가장 최근 것)
+        long snapshotSequence = (MOVEMENTS - 1) / SNAPSHOT_INTERVAL * SNAPSHOT_INTERVAL;
+        StockLedgerState snapshot = expectedAt(snapshotSequence);
+
+        StockLedgerService fullReplay = service(ledger, null);
+        StockLedgerService snapshotReplay = service(ledger, snapshot);
+
+        // 워밍업
+        fullReplay.stateAt(SKU_ID, null);
+        snapshotReplay.stateAt(SKU_ID, null);
+
+        read.set(0);
+        long startedAt = System.nanoTime();
+        StockLedgerState full = fullReplay.stateAt(SKU_ID, null);
+        long fullNanos = System.nanoTime() - startedAt;
+        long fullRead = read.getAndSet(0);
+
+        startedAt = System.nanoTime();
+        StockLedgerState fromSnapshot = snapshotReplay.stateAt(SKU_ID, null);
+        long snapshotNanos = System.nanoTime() - startedAt;
+        long snapshotRead = read.get();
+
+        System.out.printf("%-18s %12s %12s%n", "mode", "movements", "time(ms)");
+        System.out.printf("%-18s %12d %12.2f%n", "full-replay", fullRead, fullNanos / 1_000_000.0);
+        System.out.printf("%-18s %12d %12.2f%n", "snapshot+tail", snapshotRead, snapshotNanos / 1_000_000.0);
+
+        StockLedgerState expected = expectedAt(MOVEMENTS);
+        for (StockLedgerState state : List.of(full, fromSnapshot)) {
+            assertThat(state.getSequence()).isEqualTo(MOVEMENTS);
+            assertThat(state.getTotalQuantity()).isEqualTo(expected.getTotalQuantity());
+            assertThat(state.getReservedQuantity()).isEqualTo(expected.getReservedQuantity());
+        }
+        assertThat(fullRead).isEqualTo(MOVEMENTS);
+        assertThat(snapshotRead).isLessThanOrEqualTo(SNAPSHOT_INTERVAL);
+    }
+
+    private static StockLedgerService service(LoadStockMovementPort ledger, StockLedgerState snapshot) {
+        StockLedgerSnapshotPort snapshots = new StockLedgerSnapshotPort() {
+            @Override
+            public Optional<StockLedgerState> findLatest(SkuId skuId) {
+                return Optional.ofNullable(snapshot).map(StockLedgerState::copy);
+            }
+
+            @Override
+            public Optional<StockLedgerState> findLatestAtOrBefore(SkuId skuId, LocalDateTime at) {
+                return findLatest(skuId);
+            }
+
+            @Override
+            public void save(StockLedgerState state) {
+            }
+        };
+
+        StockLedgerService service = new StockLedgerService(
+                null, ledger, null, snapshots, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(service, "replayPageSize", PAGE_SIZE);
+        return service;
+    }
+
+    private static StockMovement movementAt(long sequence) {
+        int index = (int) ((sequence - 1) % TYPES.length);
+        return StockMovement.restore(
+                MOVEMENT_ID,
+                SKU_ID,
+                TYPES[index],
+                Quantity.of(QUANTITIES[index]),
+                "REF",
+                START.plusNanos(sequence * 1_000L),
+                sequence
+        );
+    }
+
+    /**
+     * 반복 주기로 계산한 {@code sequence}까지의 상태
+     */
+    private static StockLedgerState expectedAt(long sequence) {
+        long cycles = sequence / TYPES.length;
+        StockLedgerState state = StockLedgerState.restore(SKU_ID, cycles * TYPES.length, cycles * 8, 0, null);
+        for (long next = state.getSequence() + 1; next <= sequence; next++) {
+            state.apply(movementAt(next));
+        }
+        return state;
+    }
+}
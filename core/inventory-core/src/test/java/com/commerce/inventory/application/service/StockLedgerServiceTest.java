@@ -0,0 +1,271 @@
+package com.commerce.inventory.application.service;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadStockMovementPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSnapshotPort;
+import com.commerce.inventory.application.usecase.StockLedgerAudit;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.MovementType;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import com.commerce.inventory.domain.model.StockMovement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerService 테스트")
+class StockLedgerServiceTest {
+
+    private static final SkuId SKU_ID = SkuId.of("SKU-001");
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+
+    @Mock
+    private LoadStockMovementPort loadStockMovementPort;
+
+    @Mock
+    private StockLedgerSequencePort stockLedgerSequencePort;
+
+    @Mock
+    private StockLedgerSnapshotPort stockLedgerSnapshotPort;
+
+    private StockLedgerService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StockLedgerService(
+                loadInventoryPort,
+                loadStockMovementPort,
+                stockLedgerSequencePort,
+                stockLedgerSnapshotPort,
+                TransactionOperations.withoutTransaction()
+        );
+
+        // @Value 필드 설정
+        ReflectionTestUtils.setField(service, "replayPageSize", 2);
+        ReflectionTestUtils.setField(service, "snapshotInterval", 10L);
+    }
+
+    private static StockMovement movement(MovementType type, int quantity, long sequence) {
+        return StockMovement.create(SKU_ID, Quantity.of(quantity), type, "REF-" + sequence, FIXED_TIME.plusMinutes(sequence))
+                .withSequence(sequence);
+    }
+
+    @Test
+    @DisplayName("최근 스냅샷 이후의 이동 기록만 페이지 단위로 반영한다")
+    void shouldReplayTailAfterLatestSnapshot() {
+        // given
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID))
+                .willReturn(Optional.of(StockLedgerState.restore(SKU_ID, 10, 100, 20, FIXED_TIME.plusMinutes(10))));
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 10, 2))
+                .willReturn(List.of(movement(MovementType.RESERVE, 5, 11), movement(MovementType.RECEIVE, 50, 12)));
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 12, 2))
+                .willReturn(List.of(movement(MovementType.RELEASE, 20, 13)));
+
+        // when
+        StockLedgerState state = service.stateAt(SKU_ID, null);
+
+        // then
+        assertThat(state.getSequence()).isEqualTo(13);
+        assertThat(state.getTotalQuantity()).isEqualTo(150);
+        assertThat(state.getReservedQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("시점 조회는 그 시점 이전 스냅샷부터 반영하고 이후 기록에서 멈춘다")
+    void shouldStopAtRequestedTime() {
+        // given
+        LocalDateTime at = FIXED_TIME.plusMinutes(2);
+        given(stockLedgerSnapshotPort.findLatestAtOrBefore(SKU_ID, at)).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 0, 2))
+                .willReturn(List.of(movement(MovementType.RECEIVE, 100, 1), movement(MovementType.RESERVE, 30, 2)));
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 2, 2))
+                .willReturn(List.of(movement(MovementType.RESERVE, 40, 3), movement(MovementType.RESERVE, 10, 4)));
+
+        // when
+        StockLedgerState state = service.stateAt(SKU_ID, at);
+
+        // then
+        assertThat(state.getSequence()).isEqualTo(2);
+        assertThat(state.getReservedQuantity()).isEqualTo(30);
+        then(stockLedgerSnapshotPort).should(never()).findLatest(any());
+    }
+
+    @Test
+    @DisplayName("시점 조회는 변경 시각이 아니라 순번을 받은 시각으로 비교해 늦게 옮겨진 대기 기록도 순번 순으로 반영한다")
+    void shouldCompareRecordedTimeForInterleavedStagedAndOverflowWrites() {
+        // given
+        // 1번은 대기 테이블이 가득 차 바로 저장된 나중 변경, 2~3번은 그 전에 대기 테이블에 저장됐다가 나중에 옮겨진 변경
+        LocalDateTime overflowRecordedAt = FIXED_TIME.plusSeconds(10);
+        LocalDateTime flushRecordedAt = FIXED_TIME.plusSeconds(20);
+        StockMovement overflow = StockMovement.create(SKU_ID, Quantity.of(100), MovementType.RECEIVE, "PO-3",
+                FIXED_TIME.plusSeconds(5)).withSequence(1, overflowRecordedAt);
+        StockMovement stagedFirst = StockMovement.create(SKU_ID, Quantity.of(30), MovementType.RESERVE, "RES-1",
+                FIXED_TIME).withSequence(2, flushRecordedAt);
+        StockMovement stagedSecond = StockMovement.create(SKU_ID, Quantity.of(20), MovementType.RESERVE, "RES-2",
+                FIXED_TIME.plusSeconds(1)).withSequence(3, flushRecordedAt);
+        given(stockLedgerSnapshotPort.findLatestAtOrBefore(eq(SKU_ID), any())).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 0, 2)).willReturn(List.of(overflow, stagedFirst));
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 2, 2)).willReturn(List.of(stagedSecond));
+
+        // when
+        StockLedgerState beforeFlush = service.stateAt(SKU_ID, FIXED_TIME.plusSeconds(15));
+        StockLedgerState afterFlush = service.stateAt(SKU_ID, flushRecordedAt);
+
+        // then
+        assertThat(beforeFlush.getSequence()).isEqualTo(1);
+        assertThat(beforeFlush.getTotalQuantity()).isEqualTo(100);
+        assertThat(beforeFlush.getReservedQuantity()).isZero();
+        assertThat(beforeFlush.getAsOf()).isEqualTo(overflowRecordedAt);
+        assertThat(afterFlush.getSequence()).isEqualTo(3);
+        assertThat(afterFlush.getReservedQuantity()).isEqualTo(50);
+        assertThat(afterFlush.getAsOf()).isEqualTo(flushRecordedAt);
+    }
+
+    @Test
+    @DisplayName("검증은 모든 샤드와 SKU 행을 잠근 재고의 원장 순번까지만 반영해 재고 행과 비교한다")
+    void shouldAuditUpToCurrentSequence() {
+        // given
+        Inventory inventory = Inventory.restore(SKU_ID, Quantity.of(100), Quantity.of(30), 3L);
+        given(loadInventoryPort.loadExclusively(SKU_ID)).willReturn(Optional.of(inventory));
+        given(stockLedgerSequencePort.currentSequence(SKU_ID)).willReturn(2L);
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID)).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 0, 2))
+                .willReturn(List.of(movement(MovementType.RECEIVE, 100, 1), movement(MovementType.RESERVE, 30, 2)));
+
+        // when
+        StockLedgerAudit audit = service.audit(SKU_ID);
+
+        // then
+        assertThat(audit.isConsistent()).isTrue();
+        assertThat(audit.sequence()).isEqualTo(2);
+        assertThat(audit.replayedMovements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증은 아직 순번을 받지 못한 대기 기록을 마지막 순번 뒤에 이어 반영한다")
+    void shouldAuditWithUnsequencedMovements() {
+        // given
+        Inventory inventory = Inventory.restore(SKU_ID, Quantity.of(100), Quantity.of(30), 3L);
+        given(loadInventoryPort.loadExclusively(SKU_ID)).willReturn(Optional.of(inventory));
+        given(stockLedgerSequencePort.currentSequence(SKU_ID)).willReturn(1L);
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID)).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 0, 2))
+                .willReturn(List.of(movement(MovementType.RECEIVE, 100, 1)));
+        given(loadStockMovementPort.findUnsequencedBySkuId(SKU_ID))
+                .willReturn(List.of(StockMovement.create(SKU_ID, Quantity.of(30), MovementType.RESERVE, "RES-1", FIXED_TIME)));
+
+        // when
+        StockLedgerAudit audit = service.audit(SKU_ID);
+
+        // then
+        assertThat(audit.isConsistent()).isTrue();
+        assertThat(audit.sequence()).isEqualTo(1);
+        assertThat(audit.ledgerReservedQuantity()).isEqualTo(30);
+        assertThat(audit.replayedMovements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("원장에 없는 수량이 재고 행에 있으면 불일치로 보고한다")
+    void shouldReportMismatch() {
+        // given
+        Inventory inventory = Inventory.restore(SKU_ID, Quantity.of(120), Quantity.of(0), 1L);
+        given(loadInventoryPort.loadExclusively(SKU_ID)).willReturn(Optional.of(inventory));
+        given(stockLedgerSequencePort.currentSequence(SKU_ID)).willReturn(1L);
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID)).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 0, 2))
+                .willReturn(List.of(movement(MovementType.RECEIVE, 100, 1)));
+
+        // when
+        StockLedgerAudit audit = service.audit(SKU_ID);
+
+        // then
+        assertThat(audit.isConsistent()).isFalse();
+        assertThat(audit.ledgerTotalQuantity()).isEqualTo(100);
+        assertThat(audit.inventoryTotalQuantity()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("표시된 SKU의 스냅샷을 원장으로 계산해 저장한다")
+    void shouldSaveSnapshotFromLedger() {
+        // given
+        service.requestSnapshot(SKU_ID);
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID)).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(SKU_ID, 0, 2))
+                .willReturn(List.of(movement(MovementType.RECEIVE, 100, 1)));
+
+        // when
+        int saved = service.snapshotPending(10);
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        ArgumentCaptor<StockLedgerState> captor = ArgumentCaptor.forClass(StockLedgerState.class);
+        then(stockLedgerSnapshotPort).should().save(captor.capture());
+        assertThat(captor.getValue().getSequence()).isEqualTo(1);
+        assertThat(captor.getValue().getTotalQuantity()).isEqualTo(100);
+        assertThat(service.snapshotPending(10)).isZero();
+    }
+
+    @Test
+    @DisplayName("원장에 저장한 기록의 순번이 스냅샷 간격을 넘은 SKU만 스냅샷 대상으로 표시한다")
+    void shouldRequestSnapshotWhenIntervalCrossed() {
+        // given
+        SkuId other = SkuId.of("SKU-002");
+        StockMovement otherMovement = StockMovement.create(other, Quantity.of(1), MovementType.RECEIVE, "PO-1", FIXED_TIME)
+                .withSequence(9);
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID)).willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(any(), anyLong(), anyInt())).willReturn(List.of());
+
+        // when
+        service.recorded(List.of(movement(MovementType.RECEIVE, 1, 9), movement(MovementType.RECEIVE, 1, 10), otherMovement));
+        service.snapshotPending(10);
+
+        // then
+        then(stockLedgerSnapshotPort).should().findLatest(SKU_ID);
+        then(stockLedgerSnapshotPort).should(never()).findLatest(other);
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장에 실패한 SKU는 다음 호출에서 다시 저장한다")
+    void shouldRetrySnapshotOnFailure() {
+        // given
+        service.requestSnapshot(SKU_ID);
+        given(stockLedgerSnapshotPort.findLatest(SKU_ID))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(Optional.empty());
+        given(loadStockMovementPort.findBySkuIdAfterSequence(any(), anyLong(), anyInt()))
+                .willReturn(List.of(movement(MovementType.RECEIVE, 100, 1)));
+
+        // when
+        int first = service.snapshotPending(10);
+        int second = service.snapshotPending(10);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+    }
+}
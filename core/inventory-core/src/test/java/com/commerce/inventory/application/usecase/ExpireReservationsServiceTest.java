@@ -0,0 +1,263 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.ReservationExpiryLeasePort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.ReservationStatus;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpireReservationsService 테스트")
+class ExpireReservationsServiceTest {
+
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime CURRENT_TIME = FIXED_TIME.plusHours(2);
+    private static final SkuId SKU_A = new SkuId("SKU-A");
+    private static final SkuId SKU_B = new SkuId("SKU-B");
+
+    @Mock
+    private LoadExpiredReservationPort loadExpiredReservationPort;
+
+    @Mock
+    private ReservationExpiryLeasePort reservationExpiryLeasePort;
+
+    @Mock
+    private SaveReservationPort saveReservationPort;
+
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+
+    @Mock
+    private SaveInventoryPort saveInventoryPort;
+
+    @Mock
+    private AdjustInventoryPort adjustInventoryPort;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private ExpireReservationsService sut;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(CURRENT_TIME.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        sut = new ExpireReservationsService(
+                loadExpiredReservationPort,
+                reservationExpiryLeasePort,
+                saveReservationPort,
+                loadInventoryPort,
+                saveInventoryPort,
+                adjustInventoryPort,
+                hotStockCounterPort,
+                eventPublisher,
+                clock
+        );
+        // @Value 필드 설정
+        ReflectionTestUtils.setField(sut, "batchSize", 3);
+        ReflectionTestUtils.setField(sut, "leaseDuration", Duration.ofSeconds(30));
+    }
+
+    private Reservation expiredReservation(String id, SkuId skuId, int quantity) {
+        return Reservation.create(
+                new ReservationId(id),
+                skuId,
+                Quantity.of(quantity),
+                "ORDER-" + id,
+                FIXED_TIME.plusHours(1),
+                FIXED_TIME
+        );
+    }
+
+    @Test
+    @DisplayName("만료 예약을 SKU별로 합산해 재고를 한 번씩 되돌리고 해제 이벤트를 한 번에 발행한다")
+    void shouldReleaseAggregatedQuantityPerSku() {
+        // given
+        Reservation first = expiredReservation("R1", SKU_A, 2);
+        Reservation second = expiredReservation("R2", SKU_A, 3);
+        Reservation third = expiredReservation("R3", SKU_B, 4);
+        given(loadExpiredReservationPort.findExpiredActiveWithLock(0, CURRENT_TIME, null, 3))
+                .willReturn(List.of(first, second, third));
+        given(adjustInventoryPort.tryRelease(any(SkuId.class), any(Quantity.class))).willReturn(true);
+
+        // when
+        ExpireReservationsUseCase.Result result = sut.expireBatch(0, null);
+
+        // then
+        then(adjustInventoryPort).should().tryRelease(SKU_A, Quantity.of(5));
+        then(adjustInventoryPort).should().tryRelease(SKU_B, Quantity.of(4));
+        then(loadInventoryPort).should(never()).loadBySkuIdsWithLock(any());
+        then(saveReservationPort).should().saveAll(anyList());
+        then(hotStockCounterPort).should().increase(SKU_A, Quantity.of(5));
+        then(eventPublisher).should().publishAll(argThat(events -> events.size() == 3));
+
+        assertThat(List.of(first, second, third))
+                .extracting(Reservation::getStatus)
+                .containsOnly(ReservationStatus.EXPIRED);
+        assertThat(result.expiredCount()).isEqualTo(3);
+        assertThat(result.next()).isEqualTo(LoadExpiredReservationPort.Cursor.of(third));
+        assertThat(result.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조건부 갱신으로 반영하지 못한 SKU는 재고를 잠가서 되돌린다")
+    void shouldFallBackToLockedInventory() {
+        // given
+        Reservation reservation = expiredReservation("R1", SKU_A, 2);
+        Inventory inventory = Inventory.create(SKU_A, Quantity.of(10), Quantity.of(5));
+        given(loadExpiredReservationPort.findExpiredActiveWithLock(0, CURRENT_TIME, null, 3))
+                .willReturn(List.of(reservation));
+        given(adjustInventoryPort.tryRelease(SKU_A, Quantity.of(2))).willReturn(false);
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_A))).willReturn(Map.of(SKU_A, inventory));
+
+        // when
+        ExpireReservationsUseCase.Result result = sut.expireBatch(0, null);
+
+        // then
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(3));
+        then(saveInventoryPort).should().saveAll(List.of(inventory));
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(result.expiredCount()).isEqualTo(1);
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고에 되돌릴 수 없는 예약은 재고를 바꾸지 않고 만료해 다음 주기에 다시 잡히지 않게 한다")
+    void shouldExpireWithoutRestoringWhenInventoryCannotBeRestored() {
+        // given
+        Reservation restorable = expiredReservation("R1", SKU_A, 4);
+        Reservation mismatched = expiredReservation("R2", SKU_A, 8);
+        Inventory inventory = Inventory.create(SKU_A, Quantity.of(10), Quantity.of(5));
+        given(loadExpiredReservationPort.findExpiredActiveWithLock(0, CURRENT_TIME, null, 3))
+                .willReturn(List.of(restorable, mismatched));
+        given(adjustInventoryPort.tryRelease(SKU_A, Quantity.of(12))).willReturn(false);
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_A))).willReturn(Map.of(SKU_A, inventory));
+
+        // when
+        ExpireReservationsUseCase.Result result = sut.expireBatch(0, null);
+
+        // then
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(1));
+        then(saveInventoryPort).should().saveAll(List.of(inventory));
+        assertThat(List.of(restorable, mismatched))
+                .extracting(Reservation::getStatus)
+                .containsOnly(ReservationStatus.EXPIRED);
+        then(saveReservationPort).should().saveAll(List.of(restorable, mismatched));
+        then(hotStockCounterPort).should().increase(SKU_A, Quantity.of(4));
+        then(eventPublisher).should().publishAll(argThat(events -> events.size() == 1));
+        assertThat(result.expiredCount()).isEqualTo(2);
+        assertThat(result.next()).isEqualTo(LoadExpiredReservationPort.Cursor.of(mismatched));
+    }
+
+    @Test
+    @DisplayName("임대를 얻은 파티션만 반환하고, 임대 획득 중 오류가 난 파티션은 건너뛴다")
+    void shouldReturnOnlyClaimedPartitions() {
+        // given
+        given(loadExpiredReservationPort.partitionCount()).willReturn(3);
+        LocalDateTime leaseUntil = CURRENT_TIME.plusSeconds(30);
+        given(reservationExpiryLeasePort.heartbeat("node-1", CURRENT_TIME, leaseUntil)).willReturn(1);
+        given(reservationExpiryLeasePort.findOwnedPartitions("node-1", CURRENT_TIME)).willReturn(Set.of());
+        given(reservationExpiryLeasePort.tryAcquire(0, "node-1", CURRENT_TIME, leaseUntil)).willReturn(true);
+        given(reservationExpiryLeasePort.tryAcquire(1, "node-1", CURRENT_TIME, leaseUntil)).willReturn(false);
+        given(reservationExpiryLeasePort.tryAcquire(eq(2), anyString(), any(), any()))
+                .willThrow(new IllegalStateException("duplicate key"));
+
+        // when
+        List<Integer> claimed = sut.claimPartitions("node-1");
+
+        // then
+        assertThat(claimed).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("살아 있는 노드 수로 나눈 몫까지만 파티션을 가지며, 가진 파티션을 먼저 갱신하고 넘친 파티션은 반환한다")
+    void shouldCapClaimsByLiveNodes() {
+        // given
+        given(loadExpiredReservationPort.partitionCount()).willReturn(16);
+        LocalDateTime leaseUntil = CURRENT_TIME.plusSeconds(30);
+        given(reservationExpiryLeasePort.heartbeat("node-1", CURRENT_TIME, leaseUntil)).willReturn(3);
+        given(reservationExpiryLeasePort.findOwnedPartitions("node-1", CURRENT_TIME))
+                .willReturn(Set.of(2, 4, 6, 8, 10, 12, 14));
+        given(reservationExpiryLeasePort.tryAcquire(anyInt(), eq("node-1"), eq(CURRENT_TIME), eq(leaseUntil)))
+                .willReturn(true);
+
+        // when
+        List<Integer> claimed = sut.claimPartitions("node-1");
+
+        // then
+        assertThat(claimed).containsExactly(2, 4, 6, 8, 10, 12);
+        then(reservationExpiryLeasePort).should().release(14, "node-1", CURRENT_TIME);
+        then(reservationExpiryLeasePort).should(never()).tryAcquire(eq(0), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("지정한 예약 중 잠근 만료 활성 예약만 정리하고, 다른 노드가 잠갔거나 이미 정리한 예약은 건너뛴다")
+    void shouldExpireOnlyLockedExpiredReservationsById() {
+        // given
+        Reservation expired = expiredReservation("R1", SKU_A, 2);
+        List<ReservationId> ids = List.of(expired.getId(), new ReservationId("R2"), new ReservationId("R3"));
+        given(loadExpiredReservationPort.findExpiredActiveByIdsWithLock(ids, CURRENT_TIME)).willReturn(List.of(expired));
+        given(adjustInventoryPort.tryRelease(SKU_A, Quantity.of(2))).willReturn(true);
+
+        // when
+        int expiredCount = sut.expire(ids);
+
+        // then
+        assertThat(expiredCount).isEqualTo(1);
+        assertThat(expired.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        then(saveReservationPort).should().saveAll(List.of(expired));
+    }
+
+    @Test
+    @DisplayName("지정한 예약을 모두 다른 노드가 처리 중이면 아무것도 바꾸지 않는다")
+    void shouldSkipWhenNoReservationLocked() {
+        // given
+        List<ReservationId> ids = List.of(new ReservationId("R1"));
+        given(loadExpiredReservationPort.findExpiredActiveByIdsWithLock(ids, CURRENT_TIME)).willReturn(List.of());
+
+        // when
+        int expiredCount = sut.expire(ids);
+
+        // then
+        assertThat(expiredCount).isZero();
+        then(saveReservationPort).should(never()).saveAll(anyList());
+        then(eventPublisher).should(never()).publishAll(any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetInventoriesUseCase 테스트")
+class GetInventoriesUseCaseTest {
+    
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+    
+    private GetInventoriesUseCase getInventoriesUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        getInventoriesUseCase = new GetInventoriesService(loadInventoryPort, validator);
+    }
+    
+    @Test
+    @DisplayName("여러 SKU의 재고를 한 번의 조회로 요청 순서대로 반환한다")
+    void execute_WithMultipleSkuIds_ShouldLoadAllAtOnce() {
+        // Given
+        SkuId sku1 = new SkuId("SKU-001");
+        SkuId sku2 = new SkuId("SKU-002");
+        Inventory inventory1 = Inventory.create(sku1, Quantity.of(100), Quantity.of(30));
+        Inventory inventory2 = Inventory.create(sku2, Quantity.of(50), Quantity.of(0));
+        
+        when(loadInventoryPort.loadAllByIds(List.of(sku2, sku1)))
+            .thenReturn(Map.of(sku1, inventory1, sku2, inventory2));
+        
+        // When
+        List<InventoryResponse> responses = getInventoriesUseCase.execute(
+            new GetInventoriesQuery(List.of("SKU-002", "SKU-001"))
+        );
+        
+        // Then
+        assertThat(responses).containsExactly(
+            InventoryResponse.from(inventory2),
+            InventoryResponse.from(inventory1)
+        );
+    }
+    
+    @Test
+    @DisplayName("재고가 없는 SKU는 0 수량으로 반환하고 중복 SKU는 한 번만 반환한다")
+    void execute_WithMissingAndDuplicateSkuIds_ShouldReturnEmptyForMissing() {
+        // Given
+        SkuId sku1 = new SkuId("SKU-001");
+        SkuId missing = new SkuId("SKU-999");
+        Inventory inventory1 = Inventory.create(sku1, Quantity.of(10), Quantity.of(5));
+        
+        when(loadInventoryPort.loadAllByIds(List.of(sku1, missing)))
+            .thenReturn(Map.of(sku1, inventory1));
+        
+        // When
+        List<InventoryResponse> responses = getInventoriesUseCase.execute(
+            new GetInventoriesQuery(List.of("SKU-001", "SKU-999", "SKU-001"))
+        );
+        
+        // Then
+        assertThat(responses).containsExactly(
+            InventoryResponse.from(inventory1),
+            InventoryResponse.empty("SKU-999")
+        );
+    }
+    
+    @Test
+    @DisplayName("빈 SKU 목록으로 조회 시 유효성 검사 실패")
+    void execute_WithEmptySkuIds_ShouldThrowValidationException() {
+        // Given
+        GetInventoriesQuery query = new GetInventoriesQuery(Collections.emptyList());
+        
+        // When & Then
+        assertThatThrownBy(() -> getInventoriesUseCase.execute(query))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("SKU ID 목록은 최소 1개 이상 필요합니다");
+        
+        verify(loadInventoryPort, never()).loadAllByIds(any());
+    }
+    
+    @Test
+    @DisplayName("null query로 조회 시 예외 발생")
+    void execute_WithNullQuery_ShouldThrowException() {
+        assertThatThrownBy(() -> getInventoriesUseCase.execute(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+        verify(loadInventoryPort, never()).loadAllByIds(any());
+    }
+}
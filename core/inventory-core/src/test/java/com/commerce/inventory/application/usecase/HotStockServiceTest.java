@@ -0,0 +1,266 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.domain.event.HotStockReservationFailedEvent;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotStockService 테스트")
+class HotStockServiceTest {
+
+    private static final SkuId SKU_ID = new SkuId("SKU001");
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+
+    @Mock
+    private SaveInventoryPort saveInventoryPort;
+
+    @Mock
+    private LoadReservationPort loadReservationPort;
+
+    @Mock
+    private SaveReservationPort saveReservationPort;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private ReleaseReservationsByOrderUseCase releaseReservationsByOrderUseCase;
+
+    private HotStockService hotStockService;
+
+    @BeforeEach
+    void setUp() {
+        hotStockService = new HotStockService(
+                loadInventoryPort,
+                saveInventoryPort,
+                loadReservationPort,
+                saveReservationPort,
+                hotStockCounterPort,
+                eventPublisher,
+                releaseReservationsByOrderUseCase
+        );
+    }
+
+    private Reservation createReservation(String reservationId, int quantity) {
+        return Reservation.create(
+                new ReservationId(reservationId),
+                SKU_ID,
+                Quantity.of(quantity),
+                "ORDER-" + reservationId,
+                FIXED_TIME.plusMinutes(15),
+                FIXED_TIME
+        );
+    }
+
+    @Test
+    @DisplayName("핫 SKU 지정 시 잠근 재고의 가용 수량으로 카운터를 생성한다")
+    void activate_ShouldSynchronizeCounterWithAvailableQuantity() {
+        // given
+        Inventory inventory = Inventory.create(SKU_ID, Quantity.of(100), Quantity.of(30));
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of(SKU_ID, inventory));
+        given(hotStockCounterPort.synchronize(SKU_ID, Quantity.of(70), List.of(), true)).willReturn(70L);
+
+        // when
+        long counter = hotStockService.activate(SKU_ID.value());
+
+        // then
+        assertThat(counter).isEqualTo(70L);
+    }
+
+    @Test
+    @DisplayName("재고가 없는 SKU는 핫 SKU로 지정할 수 없다")
+    void activate_WithoutInventory_ShouldThrowException() {
+        // given
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> hotStockService.activate(SKU_ID.value()))
+                .isInstanceOf(InvalidInventoryException.class);
+        then(hotStockCounterPort).should(never()).synchronize(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("대기 예약을 재고에 반영해 저장하고 대기 목록에서 제거한다")
+    void flushPendingReservations_ShouldApplyAndAcknowledge() {
+        // given
+        Inventory inventory = Inventory.create(SKU_ID, Quantity.of(100), Quantity.of(0));
+        Reservation first = createReservation("RES-1", 3);
+        Reservation second = createReservation("RES-2", 5);
+        List<Reservation> pending = List.of(first, second);
+
+        given(hotStockCounterPort.findPendingReservations(SKU_ID, 500)).willReturn(pending);
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of(SKU_ID, inventory));
+        given(loadReservationPort.findAllById(anyList())).willReturn(List.of());
+
+        // when
+        int flushed = hotStockService.flushPendingReservations(SKU_ID.value());
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(8));
+        then(saveReservationPort).should().saveAll(List.of(first, second));
+        then(saveInventoryPort).should().save(inventory);
+        then(hotStockCounterPort).should().acknowledge(SKU_ID, pending);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 대기 예약은 다시 반영하지 않고 대기 목록에서만 제거한다")
+    void flushPendingReservations_ShouldSkipPersistedReservations() {
+        // given
+        Inventory inventory = Inventory.create(SKU_ID, Quantity.of(100), Quantity.of(3));
+        Reservation persisted = createReservation("RES-1", 3);
+        List<Reservation> pending = List.of(persisted);
+
+        given(hotStockCounterPort.findPendingReservations(SKU_ID, 500)).willReturn(pending);
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of(SKU_ID, inventory));
+        given(loadReservationPort.findAllById(anyList())).willReturn(List.of(persisted));
+
+        // when
+        int flushed = hotStockService.flushPendingReservations(SKU_ID.value());
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(3));
+        then(saveReservationPort).should(never()).saveAll(anyList());
+        then(saveInventoryPort).should(never()).save(any());
+        then(hotStockCounterPort).should().acknowledge(SKU_ID, pending);
+    }
+
+    @Test
+    @DisplayName("재고에 반영하지 못한 대기 예약은 대기 목록에서 제거하지 않고 실패 목록으로 옮긴다")
+    void flushPendingReservations_ShouldDeadLetterUnappliedReservations() {
+        // given
+        Inventory inventory = Inventory.create(SKU_ID, Quantity.of(5), Quantity.of(0));
+        Reservation applied = createReservation("RES-1", 3);
+        Reservation unapplied = createReservation("RES-2", 5);
+
+        given(hotStockCounterPort.findPendingReservations(SKU_ID, 500)).willReturn(List.of(applied, unapplied));
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of(SKU_ID, inventory));
+        given(loadReservationPort.findAllById(anyList())).willReturn(List.of());
+
+        // when
+        int flushed = hotStockService.flushPendingReservations(SKU_ID.value());
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(3));
+        then(saveReservationPort).should().saveAll(List.of(applied));
+        then(hotStockCounterPort).should().acknowledge(SKU_ID, List.of(applied));
+        then(hotStockCounterPort).should().deadLetter(SKU_ID, List.of(unapplied));
+    }
+
+    @Test
+    @DisplayName("실패 예약을 보상 처리하면 주문의 예약을 해제하고 실패 이벤트를 발행한 뒤 실패 목록에서 제거한다")
+    void compensateFailedReservations_ShouldReleaseOrderAndPublishEvent() {
+        // given
+        Reservation failed = createReservation("RES-1", 5);
+        given(hotStockCounterPort.findFailedReservations(SKU_ID, 500)).willReturn(List.of(failed));
+
+        // when
+        int compensated = hotStockService.compensateFailedReservations(SKU_ID.value());
+
+        // then
+        assertThat(compensated).isEqualTo(1);
+        then(releaseReservationsByOrderUseCase).should()
+                .releaseByOrder(argThat(command -> command.getOrderId().equals("ORDER-RES-1")));
+        then(eventPublisher).should().publish(argThat(event -> event instanceof HotStockReservationFailedEvent failedEvent
+                && failedEvent.getReservationId().equals(failed.getId())
+                && failedEvent.getOrderId().equals("ORDER-RES-1")));
+        then(hotStockCounterPort).should().resolveFailed(SKU_ID, List.of(failed));
+    }
+
+    @Test
+    @DisplayName("재조정 시 이미 저장되었지만 대기 목록에 남은 예약을 함께 넘겨 수량을 두 번 빼지 않게 한다")
+    void reconcile_ShouldPassPersistedPendingReservations() {
+        // given
+        Inventory inventory = Inventory.create(SKU_ID, Quantity.of(100), Quantity.of(3));
+        Reservation persisted = createReservation("RES-1", 3);
+        Reservation pending = createReservation("RES-2", 5);
+
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of(SKU_ID, inventory));
+        given(hotStockCounterPort.findPendingReservations(SKU_ID, Integer.MAX_VALUE)).willReturn(List.of(persisted, pending));
+        given(loadReservationPort.findAllById(anyList())).willReturn(List.of(persisted));
+        given(hotStockCounterPort.synchronize(SKU_ID, Quantity.of(97), List.of(persisted), false)).willReturn(92L);
+
+        // when
+        long counter = hotStockService.reconcile(SKU_ID.value());
+
+        // then
+        assertThat(counter).isEqualTo(92L);
+    }
+
+    @Test
+    @DisplayName("대기 예약이 없으면 재고를 잠그지 않는다")
+    void flushPendingReservations_WithoutPending_ShouldNotLockInventory() {
+        // given
+        given(hotStockCounterPort.findPendingReservations(SKU_ID, 500)).willReturn(List.of());
+
+        // when
+        int flushed = hotStockService.flushPendingReservations(SKU_ID.value());
+
+        // then
+        assertThat(flushed).isZero();
+        then(loadInventoryPort).should(never()).loadBySkuIdsWithLock(any());
+    }
+
+    @Test
+    @DisplayName("핫 SKU 해제 시 카운터를 먼저 제거한 뒤 남은 대기 예약을 모두 저장한다")
+    void deactivate_ShouldRemoveCounterThenFlushAllPending() {
+        // given
+        Inventory inventory = Inventory.create(SKU_ID, Quantity.of(100), Quantity.of(0));
+        List<Reservation> pending = List.of(createReservation("RES-1", 2));
+
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_ID))).willReturn(Map.of(SKU_ID, inventory));
+        given(hotStockCounterPort.findPendingReservations(SKU_ID, Integer.MAX_VALUE)).willReturn(pending);
+        given(loadReservationPort.findAllById(anyList())).willReturn(List.of());
+
+        // when
+        hotStockService.deactivate(SKU_ID.value());
+
+        // then
+        InOrder inOrder = inOrder(hotStockCounterPort);
+        inOrder.verify(hotStockCounterPort).remove(SKU_ID);
+        inOrder.verify(hotStockCounterPort).findPendingReservations(SKU_ID, Integer.MAX_VALUE);
+        inOrder.verify(hotStockCounterPort).acknowledge(SKU_ID, pending);
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(2));
+    }
+}
@@ -1,19 +1,21 @@
 package com.commerce.inventory.application.usecase;
 
 import com.commerce.common.domain.model.Quantity;
+import com.commerce.common.event.DomainEvent;
 import com.commerce.inventory.application.usecase.ReceiveStockCommand;
 import com.commerce.inventory.application.usecase.ReceiveStockUseCase;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
 import com.commerce.inventory.application.service.port.out.LoadSkuPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
-import com.commerce.inventory.application.service.port.out.SaveStockMovementPort;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
 import com.commerce.inventory.domain.exception.InvalidSkuException;
 import com.commerce.inventory.domain.model.Inventory;
-import com.commerce.inventory.domain.model.MovementType;
 import com.commerce.inventory.domain.model.Sku;
 import com.commerce.inventory.domain.model.SkuCode;
 import com.commerce.inventory.domain.model.SkuId;
-import com.commerce.inventory.domain.model.StockMovement;
 import com.commerce.inventory.domain.model.Weight;
 import com.commerce.inventory.domain.model.WeightUnit;
 import jakarta.validation.ConstraintViolation;
@@ -33,6 +35,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -40,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,11 +87,17 @@ class ReceiveStockUseCaseTest {
     private SaveInventoryPort saveInventoryPort;
     
     @Mock
-    private SaveStockMovementPort saveStockMovementPort;
+    private AdjustInventoryPort adjustInventoryPort;
+    
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
     
     @Mock
     private Validator validator;
     
+    @Mock
+    private EventPublisher eventPublisher;
+    
     private Clock fixedClock;
     private ReceiveStockUseCase useCase;
     
@@ -98,9 +108,10 @@ class ReceiveStockUseCaseTest {
             loadSkuPort,
             loadInventoryPort,
             saveInventoryPort,
-            saveStockMovementPort,
-            fixedClock,
-            validator
+            adjustInventoryPort,
+            hotStockCounterPort,
+            validator,
+            eventPublisher
         );
     }
     
@@ -162,14 +173,38 @@ class ReceiveStockUseCaseTest {
         assertThat(savedInventory.getAvailableQuantity().value())
             .isEqualTo(DEFAULT_INITIAL_STOCK + DEFAULT_QUANTITY);
         
-        ArgumentCaptor<StockMovement> movementCaptor = ArgumentCaptor.forClass(StockMovement.class);
-        verify(saveStockMovementPort).save(movementCaptor.capture());
+        // 재고 이동 기록은 입고 이벤트로 남음
+        ArgumentCaptor<List<DomainEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(eventsCaptor.capture());
+        
+        assertThat(eventsCaptor.getValue())
+            .singleElement()
+            .isInstanceOfSatisfying(StockReceivedEvent.class, event -> {
+                assertThat(event.getSkuId()).isEqualTo(skuId);
+                assertThat(event.getQuantity()).isEqualTo(Quantity.of(DEFAULT_QUANTITY));
+                assertThat(event.getReference()).isEqualTo(DEFAULT_REFERENCE);
+            });
+    }
+    
+    @Test
+    @DisplayName("재고 행이 있으면 조회 없이 조건부 갱신으로 입고한다")
+    void receive_WithExistingInventoryRow_ShouldAdjustWithoutLoading() {
+        // Given
+        SkuId skuId = SkuId.generate();
+        ReceiveStockCommand command = createDefaultCommand(skuId);
+        
+        when(loadSkuPort.exists(skuId)).thenReturn(true);
+        when(adjustInventoryPort.tryReceive(skuId, Quantity.of(DEFAULT_QUANTITY))).thenReturn(true);
+        mockValidationSuccess(command);
         
-        StockMovement savedMovement = movementCaptor.getValue();
-        assertThat(savedMovement.getSkuId()).isEqualTo(skuId);
-        assertThat(savedMovement.getQuantity()).isEqualTo(Quantity.of(DEFAULT_QUANTITY));
-        assertThat(savedMovement.getType()).isEqualTo(MovementType.RECEIVE);
-        assertThat(savedMovement.getReference()).isEqualTo(DEFAULT_REFERENCE);
+        // When
+        useCase.receive(command);
+        
+        // Then
+        verify(loadInventoryPort, never()).load(any());
+        verify(saveInventoryPort, never()).save(any());
+        verify(hotStockCounterPort).increase(skuId, Quantity.of(DEFAULT_QUANTITY));
+        verify(eventPublisher).publish(any(StockReceivedEvent.class));
     }
     
     @Test
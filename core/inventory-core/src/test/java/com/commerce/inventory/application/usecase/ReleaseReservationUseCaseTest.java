@@ -3,8 +3,12 @@ package com.commerce.inventory.application.usecase;
 import com.commerce.common.domain.model.Quantity;
 import com.commerce.inventory.application.usecase.ReleaseReservationCommand;
 import com.commerce.inventory.application.usecase.ReleaseReservationUseCase;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
 import com.commerce.inventory.domain.exception.InvalidReservationIdException;
 import com.commerce.inventory.domain.exception.InvalidReservationStateException;
 import com.commerce.inventory.domain.exception.InvalidInventoryException;
@@ -54,13 +58,25 @@ class ReleaseReservationUseCaseTest {
     @Mock
     private SaveInventoryPort saveInventoryPort;
 
+    @Mock
+    private AdjustInventoryPort adjustInventoryPort;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         useCase = new ReleaseReservationService(
             loadReservationPort,
             saveReservationPort,
             loadInventoryPort,
-            saveInventoryPort
+            saveInventoryPort,
+            adjustInventoryPort,
+            hotStockCounterPort,
+            eventPublisher
         );
     }
     
@@ -106,11 +122,38 @@ class ReleaseReservationUseCaseTest {
         // Then
         then(saveReservationPort).should().save(reservation);
         then(saveInventoryPort).should().save(inventory);
+        then(hotStockCounterPort).should().increase(SKU_ID, reservation.getQuantity());
         
         assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RELEASED);
         assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(40));
     }
     
+    @Test
+    @DisplayName("조건부 갱신으로 예약 수량을 복원하면 재고를 조회하지 않는다")
+    void shouldReleaseWithoutLoadingInventoryWhenAdjusted() {
+        // Given
+        Reservation reservation = createDefaultReservation(RESERVATION_ID, SKU_ID);
+        
+        given(loadReservationPort.findById(RESERVATION_ID))
+            .willReturn(Optional.of(reservation));
+        given(adjustInventoryPort.tryRelease(SKU_ID, reservation.getQuantity()))
+            .willReturn(true);
+        
+        ReleaseReservationCommand command = createCommand(RESERVATION_ID_VALUE);
+        
+        // When
+        useCase.release(command);
+        
+        // Then
+        then(saveReservationPort).should().save(reservation);
+        then(loadInventoryPort).should(never()).load(any());
+        then(saveInventoryPort).should(never()).save(any());
+        then(hotStockCounterPort).should().increase(SKU_ID, reservation.getQuantity());
+        then(eventPublisher).should().publish(any(ReservationReleasedEvent.class));
+        
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RELEASED);
+    }
+    
     @Test
     @DisplayName("존재하지 않는 예약 ID로 해제 시도시 예외가 발생한다")
     void shouldThrowExceptionWhenReservationNotFound() {
@@ -0,0 +1,179 @@
+package com.commerce.inventory.application.usecase;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.LoadReservationPort;
+import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.SaveReservationPort;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import com.commerce.inventory.domain.exception.InvalidReservationException;
+import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.ReservationStatus;
+import com.commerce.inventory.domain.model.SkuId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReleaseReservationsByOrderService 테스트")
+class ReleaseReservationsByOrderServiceTest {
+
+    private static final String ORDER_ID = "ORDER-001";
+    private static final SkuId SKU_A = new SkuId("SKU-A");
+    private static final SkuId SKU_B = new SkuId("SKU-B");
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private LoadReservationPort loadReservationPort;
+
+    @Mock
+    private SaveReservationPort saveReservationPort;
+
+    @Mock
+    private LoadInventoryPort loadInventoryPort;
+
+    @Mock
+    private SaveInventoryPort saveInventoryPort;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private ReleaseReservationsByOrderService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReleaseReservationsByOrderService(
+                loadReservationPort,
+                saveReservationPort,
+                loadInventoryPort,
+                saveInventoryPort,
+                hotStockCounterPort,
+                eventPublisher
+        );
+    }
+
+    private Reservation reservation(String id, SkuId skuId, int quantity) {
+        return Reservation.create(
+                new ReservationId(id), skuId, Quantity.of(quantity), ORDER_ID,
+                FIXED_TIME.plusMinutes(15), FIXED_TIME);
+    }
+
+    private ReleaseReservationsByOrderCommand command(String orderId) {
+        return ReleaseReservationsByOrderCommand.builder()
+                .orderId(orderId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("주문의 예약을 SKU별로 모아 재고를 한 번에 잠그고 일괄 저장한다")
+    void shouldReleaseAllReservationsOfOrder() {
+        // given
+        Reservation r1 = reservation("R1", SKU_A, 3);
+        Reservation r2 = reservation("R2", SKU_A, 2);
+        Reservation r3 = reservation("R3", SKU_B, 4);
+        Inventory inventoryA = Inventory.create(SKU_A, Quantity.of(100), Quantity.of(5));
+        Inventory inventoryB = Inventory.create(SKU_B, Quantity.of(100), Quantity.of(4));
+        given(loadReservationPort.findByOrderId(ORDER_ID)).willReturn(List.of(r1, r2, r3));
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_A, SKU_B)))
+                .willReturn(Map.of(SKU_A, inventoryA, SKU_B, inventoryB));
+
+        // when
+        int released = service.releaseByOrder(command(ORDER_ID));
+
+        // then
+        assertThat(released).isEqualTo(3);
+        assertThat(List.of(r1, r2, r3))
+                .extracting(Reservation::getStatus)
+                .containsOnly(ReservationStatus.RELEASED);
+        assertThat(inventoryA.getReservedQuantity()).isEqualTo(Quantity.zero());
+        assertThat(inventoryB.getReservedQuantity()).isEqualTo(Quantity.zero());
+        then(loadInventoryPort).should().loadBySkuIdsWithLock(Set.of(SKU_A, SKU_B));
+        then(saveReservationPort).should().saveAll(List.of(r1, r2, r3));
+        then(saveInventoryPort).should().saveAll(List.of(inventoryA, inventoryB));
+        then(hotStockCounterPort).should().increase(SKU_A, Quantity.of(5));
+        then(hotStockCounterPort).should().increase(SKU_B, Quantity.of(4));
+        then(eventPublisher).should().publishAll(anyList());
+    }
+
+    @Test
+    @DisplayName("활성 상태가 아닌 예약은 건너뛴다")
+    void shouldSkipInactiveReservations() {
+        // given
+        Reservation active = reservation("R1", SKU_A, 3);
+        Reservation released = reservation("R2", SKU_B, 2);
+        released.release();
+        Inventory inventoryA = Inventory.create(SKU_A, Quantity.of(100), Quantity.of(3));
+        given(loadReservationPort.findByOrderId(ORDER_ID)).willReturn(List.of(active, released));
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_A))).willReturn(Map.of(SKU_A, inventoryA));
+
+        // when
+        int count = service.releaseByOrder(command(ORDER_ID));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        then(saveReservationPort).should().saveAll(List.of(active));
+        then(hotStockCounterPort).should(never()).increase(SKU_B, Quantity.of(2));
+    }
+
+    @Test
+    @DisplayName("해제할 예약이 없으면 재고를 잠그지 않는다")
+    void shouldDoNothingWhenNoActiveReservation() {
+        // given
+        given(loadReservationPort.findByOrderId(ORDER_ID)).willReturn(List.of());
+
+        // when
+        int count = service.releaseByOrder(command(ORDER_ID));
+
+        // then
+        assertThat(count).isZero();
+        then(loadInventoryPort).shouldHaveNoInteractions();
+        then(saveReservationPort).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("재고가 없는 SKU의 예약이 있으면 예외가 발생한다")
+    void shouldThrowWhenInventoryMissing() {
+        // given
+        given(loadReservationPort.findByOrderId(ORDER_ID)).willReturn(List.of(reservation("R1", SKU_A, 3)));
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(SKU_A))).willReturn(Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> service.releaseByOrder(command(ORDER_ID)))
+                .isInstanceOf(InvalidInventoryException.class)
+                .hasMessage("재고를 찾을 수 없습니다: " + SKU_A.value());
+        then(saveReservationPort).should(never()).saveAll(any());
+        then(saveInventoryPort).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("주문 ID가 비어있으면 예외가 발생한다")
+    void shouldThrowWhenOrderIdBlank() {
+        assertThatThrownBy(() -> service.releaseByOrder(command(" ")))
+                .isInstanceOf(InvalidReservationException.class);
+        then(loadReservationPort).shouldHaveNoInteractions();
+    }
+}
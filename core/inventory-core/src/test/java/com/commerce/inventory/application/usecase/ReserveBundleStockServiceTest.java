@@ -5,7 +5,13 @@ import com.commerce.inventory.application.usecase.BundleReservationResponse;
 import com.commerce.inventory.application.usecase.BundleReservationStatus;
 import com.commerce.inventory.application.usecase.ReserveBundleStockCommand;
 import com.commerce.inventory.application.usecase.SkuReservationStatus;
+import com.commerce.inventory.application.service.ReservationContentionPolicy;
+import com.commerce.inventory.application.service.ReservationLockMode;
+import com.commerce.inventory.application.service.port.out.EventPublisher;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.application.service.port.out.InventoryVersionConflictException;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
+import com.commerce.inventory.application.service.port.out.ReservationContentionMetricsPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
 import com.commerce.inventory.domain.exception.InsufficientStockException;
 import com.commerce.inventory.domain.exception.InvalidInventoryException;
@@ -20,9 +26,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -52,7 +61,17 @@ class ReserveBundleStockServiceTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private ReservationContentionMetricsPort contentionMetricsPort;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private HotStockCounterPort hotStockCounterPort;
+
     private Clock fixedClock;
+    private ReservationContentionPolicy contentionPolicy;
     private ReserveBundleStockService sut;
 
     @BeforeEach
@@ -60,6 +79,10 @@ class ReserveBundleStockServiceTest {
         // 고정된 시간으로 Clock 생성
         Instant fixedInstant = Instant.parse("2024-01-01T10:00:00Z");
         fixedClock = Clock.fixed(fixedInstant, ZoneId.of("UTC"));
+        contentionPolicy = new ReservationContentionPolicy(
+            fixedClock, Duration.ofSeconds(10), 10, 2, 0.5, 100, 3,
+            Duration.ZERO, Duration.ZERO, contentionMetricsPort
+        );
         
         sut = new ReserveBundleStockService(
             loadInventoryPort,
@@ -67,7 +90,12 @@ class ReserveBundleStockServiceTest {
             loadReservationPort,
             saveReservationPort,
             fixedClock,
-            validator
+            validator,
+            contentionPolicy,
+            contentionMetricsPort,
+            TransactionOperations.withoutTransaction(),
+            eventPublisher,
+            hotStockCounterPort
         );
         
         // @Value 필드 설정
@@ -121,7 +149,7 @@ class ReserveBundleStockServiceTest {
             new SkuId("SKU-002"), inventory2
         );
         given(loadInventoryPort.loadAllByIds(anyList())).willReturn(inventoryMap);
-        given(saveReservationPort.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
         // When
         BundleReservationResponse response = sut.execute(command);
@@ -147,7 +175,7 @@ class ReserveBundleStockServiceTest {
 
         // 재고 저장 확인
         then(saveInventoryPort).should(times(1)).saveAll(anyCollection());
-        then(saveReservationPort).should(times(2)).save(any(Reservation.class)); // 2개의 예약 저장 확인
+        then(saveReservationPort).should().saveAll(argThat(reservations -> reservations.size() == 2)); // 2개의 예약 일괄 저장 확인
     }
 
     @Test
@@ -251,7 +279,7 @@ class ReserveBundleStockServiceTest {
             new SkuId("SKU-003"), inventory3
         );
         given(loadInventoryPort.loadAllByIds(anyList())).willReturn(inventoryMap);
-        given(saveReservationPort.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
         // When
         BundleReservationResponse response = sut.execute(command);
@@ -268,7 +296,7 @@ class ReserveBundleStockServiceTest {
         assertThat(sku001TotalQuantity).isEqualTo(2);
 
         then(saveInventoryPort).should(times(1)).saveAll(anyCollection());
-        then(saveReservationPort).should(times(3)).save(any(Reservation.class)); // 3개의 예약 저장 확인
+        then(saveReservationPort).should().saveAll(argThat(reservations -> reservations.size() == 3)); // 3개의 예약 일괄 저장 확인
     }
 
     @Test
@@ -315,7 +343,7 @@ class ReserveBundleStockServiceTest {
         
         // 사전 검증에서 실패하므로 save 메서드는 호출되지 않음
         then(saveInventoryPort).should(never()).saveAll(anyCollection());
-        then(saveReservationPort).should(never()).save(any(Reservation.class));
+        then(saveReservationPort).should(never()).saveAll(anyList());
     }
 
     @Test
@@ -376,7 +404,7 @@ class ReserveBundleStockServiceTest {
         // 실제 예약 로직이 실행되지 않아 save 메서드들이 호출되지 않음
         then(saveInventoryPort).should(never()).saveAll(anyCollection());
         then(saveInventoryPort).should(never()).save(any(Inventory.class));
-        then(saveReservationPort).should(never()).save(any(Reservation.class));
+        then(saveReservationPort).should(never()).saveAll(anyList());
     }
 
     @Test
@@ -407,7 +435,7 @@ class ReserveBundleStockServiceTest {
             new SkuId("SKU-001"), inventory
         );
         given(loadInventoryPort.loadAllByIds(anyList())).willReturn(inventoryMap);
-        given(saveReservationPort.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
         // When
         BundleReservationResponse response = sut.execute(command);
@@ -462,7 +490,7 @@ class ReserveBundleStockServiceTest {
             new SkuId("SKU-001"), inventory
         );
         given(loadInventoryPort.loadAllByIds(anyList())).willReturn(inventoryMap);
-        given(saveReservationPort.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
 
         // When
         BundleReservationResponse response = sut.execute(command);
@@ -567,4 +595,214 @@ class ReserveBundleStockServiceTest {
         assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.FAILED);
         assertThat(response.getFailureReason()).isEqualTo("요청 수량이 너무 많아 처리할 수 없습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("버전 충돌이 발생하면 새로 조회해 다시 예약한다")
+    void reserveBundleStock_optimisticConflict_retried() {
+        // Given
+        ReserveBundleStockCommand command = singleSkuCommand("SKU-001", 2);
+        Inventory inventory = Inventory.createWithInitialStock(new SkuId("SKU-001"), Quantity.of(10));
+        given(loadInventoryPort.loadAllByIds(anyList())).willReturn(Map.of(new SkuId("SKU-001"), inventory));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new OptimisticLockingFailureException("동시성 충돌"))
+            .willDoNothing()
+            .given(saveInventoryPort).saveAll(anyCollection());
+
+        // When
+        BundleReservationResponse response = sut.execute(command);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.COMPLETED);
+        then(loadInventoryPort).should(times(2)).loadAllByIds(anyList());
+        then(contentionMetricsPort).should().recordConflict(true);
+    }
+
+    @Test
+    @DisplayName("충돌이 이어지면 잠금 조회로 전환하고, 시도 횟수를 모두 쓰면 실패 응답을 반환한다")
+    void reserveBundleStock_optimisticConflict_exhausted() {
+        // Given
+        SkuId skuId = new SkuId("SKU-001");
+        ReserveBundleStockCommand command = singleSkuCommand("SKU-001", 2);
+        Inventory inventory = Inventory.createWithInitialStock(skuId, Quantity.of(10));
+        given(loadInventoryPort.loadAllByIds(anyList())).willReturn(Map.of(skuId, inventory));
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(skuId))).willReturn(Map.of(skuId, inventory));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new OptimisticLockingFailureException("동시성 충돌"))
+            .given(saveInventoryPort).saveAll(anyCollection());
+
+        // When
+        BundleReservationResponse response = sut.execute(command);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.FAILED);
+        assertThat(response.getFailureReason()).isEqualTo("일시적인 오류가 발생했습니다. 다시 시도해주세요.");
+        then(saveInventoryPort).should(times(3)).saveAll(anyCollection());
+        // 두 번 충돌해 충돌 비율 기준을 넘었으므로 세 번째 시도는 잠가서 조회
+        then(loadInventoryPort).should(times(2)).loadAllByIds(anyList());
+        then(loadInventoryPort).should().loadBySkuIdsWithLock(Set.of(skuId));
+        then(contentionMetricsPort).should(times(2)).recordConflict(true);
+        then(contentionMetricsPort).should().recordConflict(false);
+    }
+
+    @Test
+    @DisplayName("충돌이 잦은 SKU는 재고 행을 잠가 조회하고 나머지는 잠그지 않고 조회한다")
+    void reserveBundleStock_contendedSku_lockedRead() {
+        // Given
+        SkuId hotSkuId = new SkuId("SKU-001");
+        SkuId coldSkuId = new SkuId("SKU-002");
+        contentionPolicy.recordOptimisticOutcome(Set.of(hotSkuId), true);
+        contentionPolicy.recordOptimisticOutcome(Set.of(hotSkuId), true);
+
+        ReserveBundleStockCommand.BundleItem bundleItem = ReserveBundleStockCommand.BundleItem.builder()
+            .productOptionId("OPTION-001")
+            .skuMappings(List.of(
+                ReserveBundleStockCommand.SkuMapping.builder().skuId("SKU-001").quantity(1).build(),
+                ReserveBundleStockCommand.SkuMapping.builder().skuId("SKU-002").quantity(1).build()
+            ))
+            .quantity(1)
+            .build();
+        ReserveBundleStockCommand command = ReserveBundleStockCommand.builder()
+            .orderId("ORDER-001")
+            .sagaId("BUNDLE-RESERVATION-001")
+            .bundleItems(List.of(bundleItem))
+            .build();
+
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(hotSkuId)))
+            .willReturn(Map.of(hotSkuId, Inventory.createWithInitialStock(hotSkuId, Quantity.of(10))));
+        given(loadInventoryPort.loadAllByIds(List.of(coldSkuId)))
+            .willReturn(Map.of(coldSkuId, Inventory.createWithInitialStock(coldSkuId, Quantity.of(10))));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BundleReservationResponse response = sut.execute(command);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.COMPLETED);
+        assertThat(response.getSkuReservations()).hasSize(2);
+        then(contentionMetricsPort).should().recordDecision(ReservationLockMode.PESSIMISTIC, 1);
+        then(contentionMetricsPort).should().recordDecision(ReservationLockMode.OPTIMISTIC, 1);
+    }
+
+    @Test
+    @DisplayName("충돌한 SKU에만 충돌을 기록해 함께 주문된 SKU는 잠그지 않고 조회한다")
+    void reserveBundleStock_conflictOnOneSku_chargedToThatSkuOnly() {
+        // Given
+        SkuId hotSkuId = new SkuId("SKU-001");
+        SkuId coldSkuId = new SkuId("SKU-002");
+        ReserveBundleStockCommand command = twoSkuCommand("SKU-001", "SKU-002");
+
+        given(loadInventoryPort.loadAllByIds(anyList())).willAnswer(invocation -> {
+            Map<SkuId, Inventory> inventories = new HashMap<>();
+            for (SkuId skuId : invocation.<List<SkuId>>getArgument(0)) {
+                inventories.put(skuId, Inventory.createWithInitialStock(skuId, Quantity.of(10)));
+            }
+            return inventories;
+        });
+        given(loadInventoryPort.loadBySkuIdsWithLock(Set.of(hotSkuId)))
+            .willReturn(Map.of(hotSkuId, Inventory.createWithInitialStock(hotSkuId, Quantity.of(10))));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        InventoryVersionConflictException conflict = new InventoryVersionConflictException(
+            "동시성 충돌", Set.of(hotSkuId), new OptimisticLockingFailureException("동시성 충돌"));
+        willThrow(conflict)
+            .willThrow(conflict)
+            .willDoNothing()
+            .given(saveInventoryPort).saveAll(anyCollection());
+
+        // When
+        BundleReservationResponse response = sut.execute(command);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.COMPLETED);
+        // 세 번째 시도에서는 충돌한 SKU만 잠가서 조회하고 함께 주문된 SKU는 그대로 잠그지 않고 조회
+        then(loadInventoryPort).should().loadBySkuIdsWithLock(Set.of(hotSkuId));
+        then(loadInventoryPort).should().loadAllByIds(List.of(coldSkuId));
+        assertThat(contentionPolicy.selectPessimistic(Set.of(hotSkuId, coldSkuId))).containsExactly(hotSkuId);
+    }
+
+    @Test
+    @DisplayName("핫 SKU 항목은 재고 행을 읽지 않고 카운터에서 차감하고 나머지 항목만 재고 행에 예약한다")
+    void reserveBundleStock_hotSku_reservedOnCounter() {
+        // Given
+        SkuId hotSkuId = new SkuId("SKU-001");
+        SkuId coldSkuId = new SkuId("SKU-002");
+        ReserveBundleStockCommand command = twoSkuCommand("SKU-001", "SKU-002");
+
+        given(hotStockCounterPort.findHotSkuIds(anyCollection())).willAnswer(invocation ->
+            invocation.<Collection<SkuId>>getArgument(0).contains(hotSkuId) ? Set.of(hotSkuId) : Set.of());
+        given(hotStockCounterPort.tryReserve(any(Reservation.class))).willReturn(HotStockCounterPort.ReserveResult.RESERVED);
+        given(loadInventoryPort.loadAllByIds(List.of(coldSkuId)))
+            .willReturn(Map.of(coldSkuId, Inventory.createWithInitialStock(coldSkuId, Quantity.of(10))));
+        given(saveReservationPort.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BundleReservationResponse response = sut.execute(command);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.COMPLETED);
+        assertThat(response.getSkuReservations())
+            .extracting(BundleReservationResponse.SkuReservation::getSkuId)
+            .containsExactlyInAnyOrder("SKU-001", "SKU-002");
+        then(hotStockCounterPort).should().tryReserve(argThat(reservation -> reservation.getSkuId().equals(hotSkuId)));
+        then(loadInventoryPort).should(never()).loadAllByIds(argThat(ids -> ids.contains(hotSkuId)));
+        then(hotStockCounterPort).should(never()).cancel(any());
+    }
+
+    @Test
+    @DisplayName("재고 행 항목이 실패하면 카운터에서 차감한 핫 SKU 항목을 되돌린다")
+    void reserveBundleStock_rowFailure_cancelsHotReservation() {
+        // Given
+        SkuId hotSkuId = new SkuId("SKU-001");
+        SkuId coldSkuId = new SkuId("SKU-002");
+        ReserveBundleStockCommand command = twoSkuCommand("SKU-001", "SKU-002");
+
+        given(hotStockCounterPort.findHotSkuIds(anyCollection())).willAnswer(invocation ->
+            invocation.<Collection<SkuId>>getArgument(0).contains(hotSkuId) ? Set.of(hotSkuId) : Set.of());
+        given(hotStockCounterPort.tryReserve(any(Reservation.class))).willReturn(HotStockCounterPort.ReserveResult.RESERVED);
+        given(loadInventoryPort.loadAllByIds(List.of(coldSkuId)))
+            .willReturn(Map.of(coldSkuId, Inventory.createWithInitialStock(coldSkuId, Quantity.of(0))));
+
+        // When
+        BundleReservationResponse response = sut.execute(command);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(BundleReservationStatus.FAILED);
+        then(hotStockCounterPort).should().cancel(argThat(reservation -> reservation.getSkuId().equals(hotSkuId)));
+        then(saveReservationPort).should(never()).saveAll(anyList());
+    }
+
+    private ReserveBundleStockCommand twoSkuCommand(String firstSkuId, String secondSkuId) {
+        ReserveBundleStockCommand.BundleItem bundleItem = ReserveBundleStockCommand.BundleItem.builder()
+            .productOptionId("OPTION-001")
+            .skuMappings(List.of(
+                ReserveBundleStockCommand.SkuMapping.builder().skuId(firstSkuId).quantity(1).build(),
+                ReserveBundleStockCommand.SkuMapping.builder().skuId(secondSkuId).quantity(1).build()
+            ))
+            .quantity(1)
+            .build();
+
+        return ReserveBundleStockCommand.builder()
+            .orderId("ORDER-001")
+            .sagaId("BUNDLE-RESERVATION-001")
+            .bundleItems(List.of(bundleItem))
+            .build();
+    }
+
+    private ReserveBundleStockCommand singleSkuCommand(String skuId, int quantity) {
+        ReserveBundleStockCommand.BundleItem bundleItem = ReserveBundleStockCommand.BundleItem.builder()
+            .productOptionId("OPTION-001")
+            .skuMappings(List.of(
+                ReserveBundleStockCommand.SkuMapping.builder()
+                    .skuId(skuId)
+                    .quantity(quantity)
+                    .build()
+            ))
+            .quantity(1)
+            .build();
+
+        return ReserveBundleStockCommand.builder()
+            .orderId("ORDER-001")
+            .sagaId("BUNDLE-RESERVATION-001")
+            .bundleItems(List.of(bundleItem))
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.commerce.inventory.domain.event;
 
+import com.commerce.common.domain.model.Quantity;
 import com.commerce.inventory.domain.model.ReservationId;
 import com.commerce.inventory.domain.model.SkuId;
 import org.junit.jupiter.api.Test;
@@ -15,11 +16,12 @@ class ReservationReleasedEventTest {
         ReservationId reservationId = ReservationId.generate();
         
         // when
-        ReservationReleasedEvent event = new ReservationReleasedEvent(skuId, reservationId);
+        ReservationReleasedEvent event = new ReservationReleasedEvent(skuId, reservationId, Quantity.of(3));
         
         // then
         assertThat(event.getSkuId()).isEqualTo(skuId);
         assertThat(event.getReservationId()).isEqualTo(reservationId);
+        assertThat(event.getQuantity()).isEqualTo(Quantity.of(3));
         assertThat(event.getAggregateId()).isEqualTo(skuId.value());
         assertThat(event.getEventType()).isEqualTo("inventory.reservation.released");
         assertThat(event.getEventId()).isNotNull();
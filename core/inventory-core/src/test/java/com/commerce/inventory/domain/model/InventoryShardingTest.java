@@ -0,0 +1,214 @@
+package com.commerce.inventory.domain.model;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.exception.InsufficientStockException;
+import com.commerce.inventory.domain.exception.InvalidInventoryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InventoryShardingTest {
+
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private Inventory shardedInventory(InventoryShard... shards) {
+        return Inventory.restore(SkuId.generate(), List.of(shards), 1L, FIXED_TIME, FIXED_TIME);
+    }
+
+    private InventoryShard shard(int shardNo, int total, int reserved) {
+        return InventoryShard.restore(shardNo, Quantity.of(total), Quantity.of(reserved), 1L);
+    }
+
+    @Test
+    @DisplayName("샤드로 복원한 재고의 수량은 샤드 수량의 합계다")
+    void shouldSumShardQuantities() {
+        // when
+        Inventory inventory = shardedInventory(shard(0, 10, 2), shard(1, 20, 5), shard(2, 30, 0));
+
+        // then
+        assertThat(inventory.isSharded()).isTrue();
+        assertThat(inventory.getShardCount()).isEqualTo(3);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(60));
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(7));
+        assertThat(inventory.getAvailableQuantity()).isEqualTo(Quantity.of(53));
+    }
+
+    @Test
+    @DisplayName("예약은 우선 샤드에 재고가 충분하면 우선 샤드에만 반영된다")
+    void shouldReserveOnPreferredShard() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 10, 0), shard(1, 10, 0), shard(2, 10, 0));
+        inventory.preferShard(1);
+
+        // when
+        inventory.reserve(Quantity.of(4), "ORDER-001", 900);
+
+        // then
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(4));
+        assertThat(inventory.getShards().get(1).getReservedQuantity()).isEqualTo(Quantity.of(4));
+        assertThat(inventory.getShards()).filteredOn(InventoryShard::isChanged)
+                .extracting(InventoryShard::getShardNo)
+                .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("우선 샤드의 재고가 부족하면 다음 샤드 중 재고가 충분한 샤드에 예약한다")
+    void shouldFallBackToNextShardWithEnoughStock() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 10, 0), shard(1, 10, 9), shard(2, 10, 0));
+        inventory.preferShard(1);
+
+        // when
+        inventory.reserve(Quantity.of(5), "ORDER-001", 900);
+
+        // then
+        assertThat(inventory.getShards().get(1).getReservedQuantity()).isEqualTo(Quantity.of(9));
+        assertThat(inventory.getShards().get(2).getReservedQuantity()).isEqualTo(Quantity.of(5));
+    }
+
+    @Test
+    @DisplayName("한 샤드로 부족하면 다른 샤드의 가용 재고를 옮겨와 예약한다")
+    void shouldRebalanceWhenNoSingleShardHasEnoughStock() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 5, 0), shard(1, 3, 0), shard(2, 4, 2));
+
+        // when
+        inventory.reserve(Quantity.of(9), "ORDER-001", 900);
+
+        // then
+        InventoryShard target = inventory.getShards().get(0);
+        assertThat(target.getReservedQuantity()).isEqualTo(Quantity.of(9));
+        assertThat(target.getTotalQuantity()).isEqualTo(Quantity.of(9));
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(12));
+        assertThat(inventory.getAvailableQuantity()).isEqualTo(Quantity.of(1));
+        assertThat(inventory.getShards().stream().mapToInt(s -> s.getTotalQuantity().value()).sum()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("SKU 전체 가용 재고가 부족하면 샤드를 바꾸지 않고 예외가 발생한다")
+    void shouldThrowWhenTotalAvailableIsInsufficient() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 5, 0), shard(1, 3, 0));
+
+        // when & then
+        assertThatThrownBy(() -> inventory.reserve(Quantity.of(9), "ORDER-001", 900))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(inventory.getShards()).noneMatch(InventoryShard::isChanged);
+    }
+
+    @Test
+    @DisplayName("예약 해제 수량은 여러 샤드에 나눠 반영할 수 있다")
+    void shouldReleaseAcrossShards() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 10, 3), shard(1, 10, 4));
+
+        // when
+        inventory.releaseReservedQuantity(Quantity.of(6), ReservationId.generate());
+
+        // then
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(1));
+        assertThat(inventory.getShards().stream().mapToInt(s -> s.getReservedQuantity().value()).sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입고는 가용 재고가 가장 적은 샤드에 반영된다")
+    void shouldReceiveIntoLeastAvailableShard() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 10, 0), shard(1, 10, 8), shard(2, 10, 1));
+
+        // when
+        inventory.receive(Quantity.of(5), "PO-001");
+
+        // then
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(35));
+        assertThat(inventory.getShards().get(1).getTotalQuantity()).isEqualTo(Quantity.of(15));
+    }
+
+    @Test
+    @DisplayName("샤드 수를 늘리면 예약 수량과 가용 재고를 고르게 나눈다")
+    void shouldRedistributeWhenShardingInventory() {
+        // given
+        Inventory inventory = Inventory.restore(SkuId.generate(), Quantity.of(100), Quantity.of(10), 3L, FIXED_TIME, FIXED_TIME);
+
+        // when
+        inventory.changeShardCount(4);
+
+        // then
+        assertThat(inventory.isShardLayoutChanged()).isTrue();
+        assertThat(inventory.getShardCount()).isEqualTo(4);
+        assertThat(inventory.getShards()).extracting(s -> s.getAvailableQuantity().value())
+                .containsExactly(23, 23, 22, 22);
+        assertThat(inventory.getShards()).extracting(s -> s.getReservedQuantity().value())
+                .containsExactly(3, 3, 2, 2);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(100));
+        assertThat(inventory.getRetiredShards()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤드 수를 줄이면 없어진 샤드를 삭제 대상으로 남기고 기존 샤드의 버전을 유지한다")
+    void shouldRetireShardsWhenShrinking() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 10, 1), shard(1, 10, 2), shard(2, 10, 3));
+
+        // when
+        inventory.changeShardCount(2);
+
+        // then
+        assertThat(inventory.getShards()).extracting(InventoryShard::getVersion).containsExactly(1L, 1L);
+        assertThat(inventory.getRetiredShards()).extracting(InventoryShard::getShardNo).containsExactly(2);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(30));
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(6));
+    }
+
+    @Test
+    @DisplayName("샤드 수를 1로 바꾸면 샤드를 사용하지 않는다")
+    void shouldUnshardInventory() {
+        // given
+        Inventory inventory = shardedInventory(shard(0, 10, 1), shard(1, 10, 2));
+
+        // when
+        inventory.changeShardCount(1);
+
+        // then
+        assertThat(inventory.isSharded()).isFalse();
+        assertThat(inventory.getRetiredShards()).hasSize(2);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(20));
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(3));
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 샤드 수로 바꿀 수 없다")
+    void shouldRejectInvalidShardCount() {
+        // given
+        Inventory inventory = Inventory.createWithInitialStock(SkuId.generate(), Quantity.of(10));
+
+        // when & then
+        assertThatThrownBy(() -> inventory.changeShardCount(0))
+                .isInstanceOf(InvalidInventoryException.class);
+        assertThatThrownBy(() -> inventory.changeShardCount(Inventory.MAX_SHARD_COUNT + 1))
+                .isInstanceOf(InvalidInventoryException.class);
+    }
+
+    @Test
+    @DisplayName("상태 버전은 SKU 행 버전이 같아도 샤드 버전이 오르면 오르고, 샤드를 줄인 뒤에도 줄지 않는다")
+    void shouldReflectShardVersionsInStateVersion() {
+        // given
+        SkuId skuId = SkuId.generate();
+        Inventory before = Inventory.restore(skuId, List.of(
+                InventoryShard.restore(0, Quantity.of(10), Quantity.of(0), 7L),
+                InventoryShard.restore(1, Quantity.of(10), Quantity.of(0), 9L)), 1L, FIXED_TIME, FIXED_TIME);
+        Inventory shardChanged = Inventory.restore(skuId, List.of(
+                InventoryShard.restore(0, Quantity.of(10), Quantity.of(1), 8L),
+                InventoryShard.restore(1, Quantity.of(10), Quantity.of(0), 9L)), 1L, FIXED_TIME, FIXED_TIME);
+        Inventory unsharded = Inventory.restore(skuId, Quantity.of(20), Quantity.of(1), 2L, FIXED_TIME, FIXED_TIME);
+
+        // then
+        assertThat(shardChanged.getStateVersion()).isGreaterThan(before.getStateVersion());
+        assertThat(unsharded.getStateVersion()).isGreaterThan(shardChanged.getStateVersion());
+    }
+}
@@ -259,6 +259,42 @@ class ReservationTest {
                 .hasMessage("해제된 예약은 확정할 수 없습니다");
     }
 
+    @Test
+    @DisplayName("만료 시각이 지난 활성 예약을 만료 처리할 수 있다")
+    void shouldExpireReservation() {
+        // given
+        Reservation reservation = Reservation.createWithTTL(
+                SkuId.generate(), Quantity.of(10), "ORDER-2024-001", 3600, FIXED_TIME
+        );
+
+        // when
+        reservation.expire(FIXED_TIME.plusHours(2));
+
+        // then
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나지 않았거나 활성 상태가 아닌 예약은 만료할 수 없다")
+    void shouldThrowExceptionWhenExpireNotExpiredOrInactiveReservation() {
+        // given
+        Reservation notExpired = Reservation.createWithTTL(
+                SkuId.generate(), Quantity.of(10), "ORDER-2024-001", 3600, FIXED_TIME
+        );
+        Reservation released = Reservation.createWithTTL(
+                SkuId.generate(), Quantity.of(10), "ORDER-2024-002", 3600, FIXED_TIME
+        );
+        released.release();
+
+        // when & then
+        assertThatThrownBy(() -> notExpired.expire(FIXED_TIME))
+                .isInstanceOf(InvalidReservationStateException.class)
+                .hasMessage("만료 시각이 지나지 않은 예약은 만료할 수 없습니다");
+        assertThatThrownBy(() -> released.expire(FIXED_TIME.plusHours(2)))
+                .isInstanceOf(InvalidReservationStateException.class)
+                .hasMessage("활성 상태의 예약만 만료할 수 있습니다");
+    }
+
     @Test
     @DisplayName("저장된 예약을 버전 정보와 함께 복원할 수 있다")
     void shouldRestoreReservationWithVersion() {
@@ -0,0 +1,82 @@
+package com.commerce.inventory.domain.model;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.exception.InvalidStockMovementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StockLedgerState 테스트")
+class StockLedgerStateTest {
+
+    private static final SkuId SKU_ID = SkuId.of("SKU-001");
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private static StockMovement movement(MovementType type, int quantity, long sequence) {
+        return StockMovement.create(SKU_ID, Quantity.of(quantity), type, "REF-" + sequence, FIXED_TIME.plusSeconds(sequence))
+                .withSequence(sequence);
+    }
+
+    @Test
+    @DisplayName("이동 기록을 순번대로 반영해 총 수량과 예약 수량을 계산한다")
+    void shouldApplyMovementsInSequence() {
+        // given
+        StockLedgerState state = StockLedgerState.initial(SKU_ID);
+
+        // when
+        state.apply(movement(MovementType.RECEIVE, 100, 1));
+        state.apply(movement(MovementType.RESERVE, 30, 2));
+        state.apply(movement(MovementType.RELEASE, 10, 3));
+        state.apply(movement(MovementType.CONFIRM, 20, 4));
+        state.apply(movement(MovementType.OUTBOUND, 5, 5));
+
+        // then
+        assertThat(state.getSequence()).isEqualTo(5);
+        assertThat(state.getTotalQuantity()).isEqualTo(75);
+        assertThat(state.getReservedQuantity()).isZero();
+        assertThat(state.getAvailableQuantity()).isEqualTo(75);
+        assertThat(state.getAsOf()).isEqualTo(FIXED_TIME.plusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("순번이 이어지지 않는 이동 기록은 반영하지 않는다")
+    void shouldRejectSequenceGap() {
+        // given
+        StockLedgerState state = StockLedgerState.restore(SKU_ID, 10, 50, 0, FIXED_TIME);
+
+        // when & then
+        assertThatThrownBy(() -> state.apply(movement(MovementType.RECEIVE, 1, 12)))
+                .isInstanceOf(InvalidStockMovementException.class)
+                .hasMessageContaining("기대 순번: 11");
+        assertThat(state.getSequence()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("순번이 없는 이동 기록은 반영하지 않는다")
+    void shouldRejectMovementWithoutSequence() {
+        // given
+        StockLedgerState state = StockLedgerState.initial(SKU_ID);
+        StockMovement movement = StockMovement.create(SKU_ID, Quantity.of(1), MovementType.RECEIVE, "PO-1", FIXED_TIME);
+
+        // when & then
+        assertThatThrownBy(() -> state.apply(movement))
+                .isInstanceOf(InvalidStockMovementException.class);
+    }
+
+    @Test
+    @DisplayName("다른 SKU의 이동 기록은 반영하지 않는다")
+    void shouldRejectOtherSku() {
+        // given
+        StockLedgerState state = StockLedgerState.initial(SKU_ID);
+        StockMovement movement = StockMovement.create(SkuId.of("SKU-002"), Quantity.of(1), MovementType.RECEIVE, "PO-1", FIXED_TIME)
+                .withSequence(1);
+
+        // when & then
+        assertThatThrownBy(() -> state.apply(movement))
+                .isInstanceOf(InvalidStockMovementException.class);
+    }
+}
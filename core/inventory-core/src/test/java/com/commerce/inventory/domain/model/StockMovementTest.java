@@ -205,4 +205,34 @@ class StockMovementTest {
         assertThat(movement.isInbound()).isFalse();
         assertThat(movement.isOutbound()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("원장 순번을 부여해도 나머지 값은 그대로다")
+    void shouldKeepValuesWhenSequenceAssigned() {
+        // given
+        StockMovement movement = StockMovement.create(
+                SkuId.generate(), Quantity.of(10), MovementType.RESERVE, "RES-001", FIXED_TIME);
+
+        // when
+        StockMovement sequenced = movement.withSequence(42);
+
+        // then
+        assertThat(movement.getSequence()).isNull();
+        assertThat(sequenced.getSequence()).isEqualTo(42L);
+        assertThat(sequenced.getId()).isEqualTo(movement.getId());
+        assertThat(sequenced.getType()).isEqualTo(MovementType.RESERVE);
+        assertThat(sequenced.getTimestamp()).isEqualTo(FIXED_TIME);
+    }
+
+    @Test
+    @DisplayName("원장 순번은 1 이상이어야 한다")
+    void shouldRejectNonPositiveSequence() {
+        // given
+        StockMovement movement = StockMovement.create(
+                SkuId.generate(), Quantity.of(10), MovementType.RESERVE, "RES-001", FIXED_TIME);
+
+        // when & then
+        assertThatThrownBy(() -> movement.withSequence(0))
+                .isInstanceOf(InvalidStockMovementException.class);
+    }
+}
@@ -0,0 +1,16 @@
+package com.commerce.product.application.service.port.out;
+
+/**
+ * 가용 재고 캐시 무효화를 위한 포트 인터페이스
+ * Inventory 서비스의 재고 변경 이벤트를 수신한 어댑터가 이 인터페이스를 통해 캐시를 무효화합니다.
+ */
+public interface InventoryCachePort {
+    
+    /**
+     * SKU의 캐시된 가용 재고를 무효화합니다.
+     *
+     * @param skuId 재고가 변경된 SKU ID
+     * @param reason 무효화 원인 (이벤트 타입 등)
+     */
+    void evict(String skuId, String reason);
+}
@@ -0,0 +1,14 @@
+package com.commerce.product.domain.model.inventory;
+
+/**
+ * Inventory 서비스의 한 시점 스냅샷에서 읽은 SKU 재고 정보
+ *
+ * <p>같은 조회에서 얻은 스냅샷들은 동일한 DB 스냅샷을 기준으로 하므로,
+ * 락 없이도 서로 일관된 수량 묶음으로 계산에 사용할 수 있습니다.</p>
+ *
+ * @param skuId SKU ID
+ * @param availableQuantity 가용 재고 수량
+ * @param version 스냅샷 시점의 재고 버전 (재고 정보가 없는 SKU는 {@code null})
+ */
+public record InventorySnapshot(String skuId, int availableQuantity, Long version) {
+}
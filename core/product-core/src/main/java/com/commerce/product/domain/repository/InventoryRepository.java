@@ -1,17 +1,105 @@
 package com.commerce.product.domain.repository;
 
 import com.commerce.product.domain.model.inventory.Inventory;
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
 import com.commerce.product.domain.model.inventory.SkuId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 
 public interface InventoryRepository extends Repository {
     
     int getAvailableQuantity(String skuId);
     
+    /**
+     * 여러 SKU의 가용 재고를 한 번의 요청으로 조회합니다.
+     * 재고 정보가 없는 SKU는 결과 맵에 포함되지 않으므로 호출 측에서 0으로 간주해야 합니다.
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU ID별 가용 재고 수량
+     */
+    Map<String, Integer> getAvailableQuantities(Collection<String> skuIds);
+    
+    /**
+     * 캐시를 거치지 않고 Inventory 서비스에서 직접 가용 재고를 조회합니다.
+     * 재고 예약 직전 확인처럼 최신 값이 필요한 경우에 사용합니다.
+     *
+     * @param skuId 조회할 SKU ID
+     * @return 가용 재고 수량
+     */
+    default int getLatestAvailableQuantity(String skuId) {
+        return getAvailableQuantity(skuId);
+    }
+    
+    /**
+     * 캐시를 거치지 않고 Inventory 서비스에서 직접 여러 SKU의 가용 재고를 조회합니다.
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU ID별 가용 재고 수량
+     * @see #getLatestAvailableQuantity(String)
+     */
+    default Map<String, Integer> getLatestAvailableQuantities(Collection<String> skuIds) {
+        return getAvailableQuantities(skuIds);
+    }
+    
+    /**
+     * 여러 SKU의 가용 재고와 재고 버전을 Inventory 서비스의 단일 스냅샷에서 조회합니다.
+     * 캐시를 거치지 않으며, 서로 다른 시점의 값이 섞이지 않아야 하는 묶음 재고 계산에 사용합니다.
+     * 재고 정보가 없는 SKU는 결과 맵에 포함되지 않습니다.
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU ID별 재고 스냅샷
+     */
+    Map<String, InventorySnapshot> getInventorySnapshots(Collection<String> skuIds);
+    
+    /**
+     * {@link #getAvailableQuantity(String)}의 비동기 버전입니다.
+     * 구현체가 논블로킹 호출을 지원하지 않으면 호출 스레드에서 조회한 뒤 완료된 Future를 반환합니다.
+     *
+     * @param skuId 조회할 SKU ID
+     * @return 가용 재고 수량
+     */
+    default CompletableFuture<Integer> getAvailableQuantityAsync(String skuId) {
+        return CompletableFuture.completedFuture(getAvailableQuantity(skuId));
+    }
+    
+    /**
+     * {@link #getAvailableQuantities(Collection)}의 비동기 버전입니다.
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU ID별 가용 재고 수량
+     * @see #getAvailableQuantityAsync(String)
+     */
+    default CompletableFuture<Map<String, Integer>> getAvailableQuantitiesAsync(Collection<String> skuIds) {
+        return CompletableFuture.completedFuture(getAvailableQuantities(skuIds));
+    }
+    
+    /**
+     * {@link #getLatestAvailableQuantities(Collection)}의 비동기 버전입니다.
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU ID별 가용 재고 수량
+     * @see #getAvailableQuantityAsync(String)
+     */
+    default CompletableFuture<Map<String, Integer>> getLatestAvailableQuantitiesAsync(Collection<String> skuIds) {
+        return CompletableFuture.completedFuture(getLatestAvailableQuantities(skuIds));
+    }
+    
+    /**
+     * {@link #getInventorySnapshots(Collection)}의 비동기 버전입니다.
+     *
+     * @param skuIds 조회할 SKU ID 목록
+     * @return SKU ID별 재고 스냅샷
+     * @see #getAvailableQuantityAsync(String)
+     */
+    default CompletableFuture<Map<String, InventorySnapshot>> getInventorySnapshotsAsync(Collection<String> skuIds) {
+        return CompletableFuture.completedFuture(getInventorySnapshots(skuIds));
+    }
+    
     String reserveStock(String skuId, int quantity, String orderId);
     
     void releaseReservation(String reservationId);
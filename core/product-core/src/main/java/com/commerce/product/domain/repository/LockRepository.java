@@ -3,6 +3,8 @@ package com.commerce.product.domain.repository;
 import com.commerce.product.domain.model.DistributedLock;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LockRepository {
@@ -11,6 +13,25 @@ public interface LockRepository {
     
     boolean releaseLock(DistributedLock lock);
     
+    /**
+     * 여러 키의 락을 한 번에 획득합니다.
+     * 모든 키를 획득하거나 하나도 획득하지 않으므로, 일부 락만 보유한 채 대기하는 일이 없습니다.
+     *
+     * @param keys 락 키 목록 (중복은 제거됩니다)
+     * @param leaseDuration 락 유지 시간
+     * @param waitTimeout 모든 락을 획득할 때까지 기다릴 최대 시간
+     * @return 키 순으로 정렬된 획득한 락 목록, 대기 시간 안에 모두 획득하지 못하면 empty
+     */
+    Optional<List<DistributedLock>> acquireLocks(Collection<String> keys, Duration leaseDuration, Duration waitTimeout);
+    
+    /**
+     * 여러 락을 한 번에 해제합니다. 이미 만료되었거나 소유하지 않은 락은 건너뜁니다.
+     *
+     * @param locks 해제할 락 목록
+     * @return 모든 락이 해제되었으면 true
+     */
+    boolean releaseLocks(Collection<DistributedLock> locks);
+    
     Optional<DistributedLock> extendLock(DistributedLock lock, Duration newLeaseDuration);
     
     boolean isLocked(String key);
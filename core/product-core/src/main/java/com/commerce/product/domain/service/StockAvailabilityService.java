@@ -40,7 +40,7 @@ public interface StockAvailabilityService {
     
     /**
      * 묶음 옵션의 재고 가용성을 확인합니다.
-     * 분산 락을 사용하여 원자성을 보장합니다.
+     * 분산 락 없이 Inventory 서비스의 단일 스냅샷에서 읽은 수량으로 계산합니다.
      */
     CompletableFuture<BundleAvailabilityResult> checkBundleAvailability(SkuMapping skuMapping);
     
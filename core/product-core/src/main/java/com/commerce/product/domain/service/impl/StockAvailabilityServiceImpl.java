@@ -5,6 +5,7 @@ import com.commerce.product.domain.exception.LockAcquisitionException;
 import com.commerce.product.domain.model.DistributedLock;
 import com.commerce.product.domain.model.ProductOption;
 import com.commerce.product.domain.model.SkuMapping;
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
 import com.commerce.product.domain.repository.InventoryRepository;
 import com.commerce.product.domain.repository.LockRepository;
 import com.commerce.product.domain.repository.ProductRepository;
@@ -19,7 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
@@ -39,10 +39,7 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
     
     @Override
     public boolean checkSingleOption(String skuId, int requestedQuantity) {
-        if (requestedQuantity < 0) {
-            throw new IllegalArgumentException(
-                    String.format("Requested quantity cannot be negative: %d for SKU: %s", requestedQuantity, skuId));
-        }
+        validateRequestedQuantity(skuId, requestedQuantity);
         
         if (requestedQuantity == 0) {
             return true;
@@ -50,32 +47,117 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
         
         int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
         
-        if (availableQuantity < 0) {
-            throw new IllegalStateException(
-                    String.format("Available quantity cannot be negative: %d for SKU: %s", availableQuantity, skuId));
+        return hasSufficientStock(skuId, availableQuantity, requestedQuantity);
+    }
+    
+    @Override
+    public boolean checkBundleOption(ProductOption bundleOption, int requestedQuantity) {
+        if (!bundleOption.isBundle()) {
+            return checkSingleOption(bundleOption.getSingleSkuId(), requestedQuantity);
         }
         
-        boolean isAvailable = availableQuantity >= requestedQuantity;
+        Map<String, Integer> requiredQuantities = requiredQuantities(bundleOption, requestedQuantity);
+        Map<String, Integer> availableQuantities = fetchAvailableQuantities(requiredQuantities);
         
-        if (!isAvailable) {
-            log.debug("Insufficient stock for SKU: {}. Available: {}, Requested: {}", 
-                    skuId, availableQuantity, requestedQuantity);
+        return isOptionAvailable(requiredQuantities, availableQuantities);
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Boolean>> checkMultipleOptions(
+            List<ProductOption> options, Map<String, Integer> quantities) {
+        
+        Map<String, Boolean> results = new HashMap<>();
+        Map<String, Map<String, Integer>> requiredByOption = new LinkedHashMap<>();
+        Map<String, Integer> allRequired = new HashMap<>();
+        
+        try {
+            for (ProductOption option : options) {
+                String optionName = option.getName();
+                Integer requestedQuantity = quantities.get(optionName);
+                
+                if (requestedQuantity == null) {
+                    results.put(optionName, false);
+                    continue;
+                }
+                
+                Map<String, Integer> required = requiredQuantities(option, requestedQuantity);
+                requiredByOption.put(optionName, required);
+                required.forEach((skuId, quantity) -> allRequired.merge(skuId, quantity, Math::max));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
         
-        return isAvailable;
+        // 모든 옵션의 SKU를 한 번의 일괄 조회로 가져온다
+        return fetchAvailableQuantitiesAsync(allRequired)
+                .thenApply(availableQuantities -> {
+                    requiredByOption.forEach((optionName, required) ->
+                            results.put(optionName, isOptionAvailable(required, availableQuantities)));
+                    return results;
+                });
     }
     
-    @Override
-    public boolean checkBundleOption(ProductOption bundleOption, int requestedQuantity) {
-        if (!bundleOption.isBundle()) {
-            return checkSingleOption(bundleOption.getSingleSkuId(), requestedQuantity);
+    /**
+     * 옵션 수량을 SKU별 필요 수량으로 변환한다. 음수 수량은 조회 전에 거부한다.
+     */
+    private Map<String, Integer> requiredQuantities(ProductOption option, int requestedQuantity) {
+        Map<String, Integer> required = new LinkedHashMap<>();
+        
+        if (!option.isBundle()) {
+            validateRequestedQuantity(option.getSingleSkuId(), requestedQuantity);
+            required.put(option.getSingleSkuId(), requestedQuantity);
+            return required;
         }
         
-        for (Map.Entry<String, Integer> entry : bundleOption.getSkuMapping().mappings().entrySet()) {
-            String skuId = entry.getKey();
+        for (Map.Entry<String, Integer> entry : option.getSkuMapping().mappings().entrySet()) {
             int requiredQuantity = entry.getValue() * requestedQuantity;
+            validateRequestedQuantity(entry.getKey(), requiredQuantity);
+            required.put(entry.getKey(), requiredQuantity);
+        }
+        
+        return required;
+    }
+    
+    /**
+     * 필요 수량이 0보다 큰 SKU만 일괄 조회한다.
+     */
+    private Map<String, Integer> fetchAvailableQuantities(Map<String, Integer> requiredQuantities) {
+        List<String> skuIds = requiredQuantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        
+        if (skuIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        return inventoryRepository.getAvailableQuantities(skuIds);
+    }
+    
+    private CompletableFuture<Map<String, Integer>> fetchAvailableQuantitiesAsync(Map<String, Integer> requiredQuantities) {
+        List<String> skuIds = requiredQuantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        
+        if (skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        
+        return inventoryRepository.getAvailableQuantitiesAsync(skuIds);
+    }
+    
+    private boolean isOptionAvailable(Map<String, Integer> requiredQuantities, Map<String, Integer> availableQuantities) {
+        for (Map.Entry<String, Integer> entry : requiredQuantities.entrySet()) {
+            String skuId = entry.getKey();
+            int requiredQuantity = entry.getValue();
+            
+            if (requiredQuantity == 0) {
+                continue;
+            }
             
-            if (!checkSingleOption(skuId, requiredQuantity)) {
+            int availableQuantity = availableQuantities.getOrDefault(skuId, 0);
+            if (!hasSufficientStock(skuId, availableQuantity, requiredQuantity)) {
                 return false;
             }
         }
@@ -83,35 +165,27 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
         return true;
     }
     
-    @Override
-    public CompletableFuture<Map<String, Boolean>> checkMultipleOptions(
-            List<ProductOption> options, Map<String, Integer> quantities) {
+    private void validateRequestedQuantity(String skuId, int requestedQuantity) {
+        if (requestedQuantity < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Requested quantity cannot be negative: %d for SKU: %s", requestedQuantity, skuId));
+        }
+    }
+    
+    private boolean hasSufficientStock(String skuId, int availableQuantity, int requestedQuantity) {
+        if (availableQuantity < 0) {
+            throw new IllegalStateException(
+                    String.format("Available quantity cannot be negative: %d for SKU: %s", availableQuantity, skuId));
+        }
         
-        return CompletableFuture.supplyAsync(() -> {
-            Map<String, Boolean> results = new ConcurrentHashMap<>();
-            
-            List<CompletableFuture<Void>> futures = options.stream()
-                    .map(option -> CompletableFuture.runAsync(() -> {
-                        String optionName = option.getName();
-                        Integer requestedQuantity = quantities.get(optionName);
-                        
-                        if (requestedQuantity == null) {
-                            results.put(optionName, false);
-                            return;
-                        }
-                        
-                        boolean available = option.isBundle() 
-                                ? checkBundleOption(option, requestedQuantity)
-                                : checkSingleOption(option.getSingleSkuId(), requestedQuantity);
-                        
-                        results.put(optionName, available);
-                    }))
-                    .collect(Collectors.toList());
-            
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-            
-            return results;
-        });
+        boolean isAvailable = availableQuantity >= requestedQuantity;
+        
+        if (!isAvailable) {
+            log.debug("Insufficient stock for SKU: {}. Available: {}, Requested: {}", 
+                    skuId, availableQuantity, requestedQuantity);
+        }
+        
+        return isAvailable;
     }
     
     @Override
@@ -131,7 +205,7 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
             DistributedLock lock = lockOpt.get();
             
             try {
-                int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
+                int availableQuantity = inventoryRepository.getLatestAvailableQuantity(skuId);
                 
                 if (availableQuantity < quantity) {
                     log.info("Insufficient stock for SKU: {}. Available: {}, Requested: {}", 
@@ -148,7 +222,7 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
             } finally {
                 lockRepository.releaseLock(lock);
             }
-        });
+        }, ioTaskExecutor);
     }
     
     @Override
@@ -174,28 +248,24 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
             // 데드락 방지를 위해 SKU ID 순서대로 정렬
             Collections.sort(skuIds);
             
-            Map<String, DistributedLock> locks = new LinkedHashMap<>();
+            List<DistributedLock> locks = List.of();
             Map<String, String> reservations = new LinkedHashMap<>();
             
             try {
-                // 모든 락 획득
-                for (String skuId : skuIds) {
-                    Optional<DistributedLock> lockOpt = lockRepository.acquireLock(
-                        "stock:" + skuId, 
-                        DEFAULT_LEASE_DURATION, 
-                        DEFAULT_WAIT_TIMEOUT
-                    );
-                    
-                    if (lockOpt.isEmpty()) {
-                        log.warn("Failed to acquire lock for SKU: {} in bundle", skuId);
-                        throw new LockAcquisitionException("Unable to acquire lock for bundle SKU: " + skuId);
-                    }
-                    locks.put(skuId, lockOpt.get());
-                }
+                // 모든 SKU의 락을 한 번에 획득 (일부만 획득한 상태로 대기하지 않음)
+                List<String> lockKeys = skuIds.stream()
+                    .map(skuId -> "stock:" + skuId)
+                    .collect(Collectors.toList());
+                locks = lockRepository.acquireLocks(lockKeys, DEFAULT_LEASE_DURATION, DEFAULT_WAIT_TIMEOUT)
+                    .orElseThrow(() -> {
+                        log.warn("Failed to acquire locks for bundle SKUs: {}", skuIds);
+                        return new LockAcquisitionException("Unable to acquire locks for bundle SKUs: " + skuIds);
+                    });
                 
-                // 재고 가용성 체크
+                // 재고 가용성 체크 (락을 보유한 상태에서 일괄 조회)
+                Map<String, Integer> availableQuantities = inventoryRepository.getLatestAvailableQuantities(skuIds);
                 for (String skuId : skuIds) {
-                    int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
+                    int availableQuantity = availableQuantities.getOrDefault(skuId, 0);
                     int requiredQuantity = requiredQuantities.get(skuId);
                     
                     if (availableQuantity < requiredQuantity) {
@@ -225,10 +295,9 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
                 return false;
                 
             } finally {
-                // 역순으로 락 해제
                 releaseLocks(locks);
             }
-        });
+        }, ioTaskExecutor);
     }
     
     private void compensateReservations(Map<String, String> reservations) {
@@ -259,28 +328,26 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
     
     @Override
     public Map<String, Integer> getBundleAvailableQuantity(ProductOption bundleOption) {
+        Set<String> skuIds = bundleOption.getSkuMapping().mappings().keySet();
+        Map<String, Integer> availableQuantities = inventoryRepository.getAvailableQuantities(skuIds);
         Map<String, Integer> quantities = new HashMap<>();
         
-        for (String skuId : bundleOption.getSkuMapping().mappings().keySet()) {
-            quantities.put(skuId, getAvailableQuantity(skuId));
+        for (String skuId : skuIds) {
+            quantities.put(skuId, availableQuantities.getOrDefault(skuId, 0));
         }
         
         return quantities;
     }
     
-    private void releaseLocks(Map<String, DistributedLock> locks) {
-        List<String> reverseSkuIds = new ArrayList<>(locks.keySet());
-        Collections.reverse(reverseSkuIds);
+    private void releaseLocks(List<DistributedLock> locks) {
+        if (locks.isEmpty()) {
+            return;
+        }
         
-        for (String skuId : reverseSkuIds) {
-            DistributedLock lock = locks.get(skuId);
-            if (lock != null) {
-                try {
-                    lockRepository.releaseLock(lock);
-                } catch (Exception e) {
-                    log.error("Error releasing lock for SKU: {}", skuId, e);
-                }
-            }
+        try {
+            lockRepository.releaseLocks(locks);
+        } catch (Exception e) {
+            log.error("Error releasing locks: {}", locks, e);
         }
     }
     
@@ -293,12 +360,7 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
         }, ioTaskExecutor).thenCompose(option -> {
             if (!option.isBundle()) {
                 // 단일 SKU 옵션
-                String skuId = option.getSingleSkuId();
-                int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
-                AvailabilityResult result = availableQuantity > 0 
-                    ? AvailabilityResult.available(availableQuantity)
-                    : AvailabilityResult.unavailable();
-                return CompletableFuture.completedFuture(result);
+                return checkSingleSkuAvailability(option.getSingleSkuId());
             }
             
             // 묶음 옵션
@@ -311,57 +373,45 @@ public class StockAvailabilityServiceImpl implements StockAvailabilityService {
     
     @Override
     public CompletableFuture<AvailabilityResult> checkSingleSkuAvailability(String skuId) {
-        return CompletableFuture.supplyAsync(() -> {
-            // N+1 문제를 방지하기 위해 SKU ID를 직접 받아 처리
-            int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
-            AvailabilityResult result = availableQuantity > 0 
+        // N+1 문제를 방지하기 위해 SKU ID를 직접 받아 처리
+        // 응답을 기다리는 동안 스레드를 점유하지 않도록 비동기 조회 결과에 이어서 계산한다
+        return inventoryRepository.getAvailableQuantityAsync(skuId)
+            .thenApply(availableQuantity -> availableQuantity > 0 
                 ? AvailabilityResult.available(availableQuantity)
-                : AvailabilityResult.unavailable();
-            return result;
-        }, ioTaskExecutor);
+                : AvailabilityResult.unavailable());
     }
     
     @Override
     public CompletableFuture<BundleAvailabilityResult> checkBundleAvailability(SkuMapping skuMapping) {
-        return CompletableFuture.supplyAsync(() -> {
-            // 분산 락을 사용하여 번들 재고 확인의 원자성 보장
-            List<String> skuIds = new ArrayList<>(skuMapping.mappings().keySet());
-            Collections.sort(skuIds); // 데드락 방지
-            
-            String lockKey = "bundle-stock-check:" + String.join(":", skuIds);
-            Optional<DistributedLock> lockOpt = lockRepository.acquireLock(lockKey, DEFAULT_LEASE_DURATION, DEFAULT_WAIT_TIMEOUT);
+        // 조회 전용 경로이므로 분산 락 없이 Inventory 서비스의 단일 스냅샷에서 읽은 수량으로 계산
+        // 원자성이 필요한 재고 차감은 예약 경로(Saga)에서 락을 잡고 다시 확인한다
+        return inventoryRepository.getInventorySnapshotsAsync(skuMapping.mappings().keySet())
+            .thenApply(snapshots -> toBundleAvailabilityResult(skuMapping, snapshots));
+    }
+    
+    private BundleAvailabilityResult toBundleAvailabilityResult(SkuMapping skuMapping, 
+                                                                Map<String, InventorySnapshot> snapshots) {
+        List<BundleAvailabilityResult.SkuAvailabilityDetail> details = new ArrayList<>();
+        int minAvailableSets = Integer.MAX_VALUE;
+        
+        for (Map.Entry<String, Integer> entry : skuMapping.mappings().entrySet()) {
+            String skuId = entry.getKey();
+            int requiredQuantity = entry.getValue();
+            InventorySnapshot snapshot = snapshots.get(skuId);
+            int availableQuantity = snapshot != null ? snapshot.availableQuantity() : 0;
+            int availableSets = requiredQuantity > 0 ? availableQuantity / requiredQuantity : 0;
             
-            if (lockOpt.isEmpty()) {
-                throw new LockAcquisitionException("Unable to acquire lock for bundle stock check");
-            }
+            details.add(new BundleAvailabilityResult.SkuAvailabilityDetail(
+                skuId, requiredQuantity, availableQuantity, availableSets,
+                snapshot != null ? snapshot.version() : null
+            ));
             
-            DistributedLock lock = lockOpt.get();
-            
-            try {
-                List<BundleAvailabilityResult.SkuAvailabilityDetail> details = new ArrayList<>();
-                int minAvailableSets = Integer.MAX_VALUE;
-                
-                for (Map.Entry<String, Integer> entry : skuMapping.mappings().entrySet()) {
-                    String skuId = entry.getKey();
-                    int requiredQuantity = entry.getValue();
-                    int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
-                    int availableSets = requiredQuantity > 0 ? availableQuantity / requiredQuantity : 0;
-                    
-                    details.add(new BundleAvailabilityResult.SkuAvailabilityDetail(
-                        skuId, requiredQuantity, availableQuantity, availableSets
-                    ));
-                    
-                    minAvailableSets = Math.min(minAvailableSets, availableSets);
-                }
-                
-                return minAvailableSets > 0 
-                    ? BundleAvailabilityResult.available(minAvailableSets, details)
-                    : BundleAvailabilityResult.unavailable(details);
-                    
-            } finally {
-                lockRepository.releaseLock(lock);
-            }
-        }, ioTaskExecutor);
+            minAvailableSets = Math.min(minAvailableSets, availableSets);
+        }
+        
+        return minAvailableSets > 0 
+            ? BundleAvailabilityResult.available(minAvailableSets, details)
+            : BundleAvailabilityResult.unavailable(details);
     }
     
     @Override
@@ -7,12 +7,20 @@ public record BundleAvailabilityResult(
     int availableSets,
     List<SkuAvailabilityDetail> details
 ) {
+    /**
+     * @param version 계산에 사용한 재고 스냅샷의 버전 (알 수 없으면 {@code null})
+     */
     public record SkuAvailabilityDetail(
         String skuId,
         int requiredQuantity,
         int availableQuantity,
-        int availableSets
-    ) {}
+        int availableSets,
+        Long version
+    ) {
+        public SkuAvailabilityDetail(String skuId, int requiredQuantity, int availableQuantity, int availableSets) {
+            this(skuId, requiredQuantity, availableQuantity, availableSets, null);
+        }
+    }
     
     public static BundleAvailabilityResult available(int availableSets, List<SkuAvailabilityDetail> details) {
         return new BundleAvailabilityResult(true, availableSets, details);
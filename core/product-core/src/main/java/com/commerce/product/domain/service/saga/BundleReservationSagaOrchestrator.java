@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,6 +29,7 @@ public class BundleReservationSagaOrchestrator {
     private final LockRepository lockRepository;
     private final SagaRepository sagaRepository;
     private final DomainEventPublisher eventPublisher;
+    private final Executor ioTaskExecutor;
     
     private static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(30);
     private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(5);
@@ -75,7 +77,7 @@ public class BundleReservationSagaOrchestrator {
                 
                 throw new CompletionException(e);
             }
-        });
+        }, ioTaskExecutor);
     }
     
     private void executeReservationSteps(BundleReservationSaga saga) {
@@ -83,17 +85,20 @@ public class BundleReservationSagaOrchestrator {
         List<String> sortedSkuIds = new ArrayList<>(requiredQuantities.keySet());
         Collections.sort(sortedSkuIds); // 데드락 방지를 위한 정렬
         
-        Map<String, DistributedLock> locks = new LinkedHashMap<>();
+        List<DistributedLock> locks = List.of();
         Map<String, String> reservations = new LinkedHashMap<>();
         
         try {
-            // 모든 락 획득
-            acquireAllLocks(sortedSkuIds, locks);
+            // 모든 락을 한 번에 획득
+            locks = acquireAllLocks(sortedSkuIds);
+            
+            // 락 획득 후 모든 SKU의 가용 재고를 한 번에 조회
+            Map<String, Integer> availableQuantities = inventoryRepository.getLatestAvailableQuantities(sortedSkuIds);
             
             // 재고 가용성 체크 및 예약
             for (String skuId : sortedSkuIds) {
                 try {
-                    int availableQuantity = inventoryRepository.getAvailableQuantity(skuId);
+                    int availableQuantity = availableQuantities.getOrDefault(skuId, 0);
                     int requiredQuantity = requiredQuantities.get(skuId);
                     
                     if (availableQuantity < requiredQuantity) {
@@ -148,21 +153,16 @@ public class BundleReservationSagaOrchestrator {
                 ));
     }
     
-    private void acquireAllLocks(List<String> skuIds, Map<String, DistributedLock> locks) {
-        for (String skuId : skuIds) {
-            Optional<DistributedLock> lockOpt = lockRepository.acquireLock(
-                "stock:" + skuId, 
-                DEFAULT_LEASE_DURATION, 
-                DEFAULT_WAIT_TIMEOUT
-            );
-            
-            if (lockOpt.isEmpty()) {
-                log.warn("Failed to acquire lock for SKU: {}", skuId);
-                throw new LockAcquisitionException("Unable to acquire lock for SKU: " + skuId);
-            }
-            
-            locks.put(skuId, lockOpt.get());
-        }
+    private List<DistributedLock> acquireAllLocks(List<String> skuIds) {
+        List<String> lockKeys = skuIds.stream()
+                .map(skuId -> "stock:" + skuId)
+                .collect(Collectors.toList());
+        
+        return lockRepository.acquireLocks(lockKeys, DEFAULT_LEASE_DURATION, DEFAULT_WAIT_TIMEOUT)
+                .orElseThrow(() -> {
+                    log.warn("Failed to acquire locks for SKUs: {}", skuIds);
+                    return new LockAcquisitionException("Unable to acquire locks for SKUs: " + skuIds);
+                });
     }
     
     private void compensateReservations(BundleReservationSaga saga, Map<String, String> reservations) {
@@ -213,19 +213,15 @@ public class BundleReservationSagaOrchestrator {
         }
     }
     
-    private void releaseLocks(Map<String, DistributedLock> locks) {
-        List<String> reverseSkuIds = new ArrayList<>(locks.keySet());
-        Collections.reverse(reverseSkuIds);
+    private void releaseLocks(List<DistributedLock> locks) {
+        if (locks.isEmpty()) {
+            return;
+        }
         
-        for (String skuId : reverseSkuIds) {
-            DistributedLock lock = locks.get(skuId);
-            if (lock != null) {
-                try {
-                    lockRepository.releaseLock(lock);
-                } catch (Exception e) {
-                    log.error("Error releasing lock for SKU: {}", skuId, e);
-                }
-            }
+        try {
+            lockRepository.releaseLocks(locks);
+        } catch (Exception e) {
+            log.error("Error releasing locks: {}", locks, e);
         }
     }
 }
\ No newline at end of file
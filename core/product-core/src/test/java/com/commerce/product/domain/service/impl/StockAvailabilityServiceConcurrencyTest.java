@@ -78,6 +78,15 @@ class StockAvailabilityServiceConcurrencyTest {
                 String skuId = invocation.getArgument(0);
                 return stockMap.getOrDefault(skuId, new AtomicInteger(0)).get();
             });
+        when(inventoryRepository.getLatestAvailableQuantity(anyString()))
+            .thenAnswer(invocation -> {
+                String skuId = invocation.getArgument(0);
+                return stockMap.getOrDefault(skuId, new AtomicInteger(0)).get();
+            });
+        when(inventoryRepository.getAvailableQuantities(anyCollection()))
+            .thenAnswer(invocation -> availableQuantitiesOf(invocation.getArgument(0)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+            .thenAnswer(invocation -> availableQuantitiesOf(invocation.getArgument(0)));
         
         // 재고 예약 Mock
         when(inventoryRepository.reserveStock(anyString(), anyInt(), anyString()))
@@ -133,6 +142,54 @@ class StockAvailabilityServiceConcurrencyTest {
                 DistributedLock lock = invocation.getArgument(0);
                 return activeLocks.remove("stock:" + lock.key(), lock);
             });
+        
+        // 다중 락 Mock - 모든 키를 획득하거나 하나도 보유하지 않음
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
+            .thenAnswer(invocation -> {
+                Collection<String> keys = invocation.getArgument(0);
+                Duration leaseDuration = invocation.getArgument(1);
+                Duration waitTimeout = invocation.getArgument(2);
+                List<String> sortedKeys = keys.stream().distinct().sorted().toList();
+                
+                long startTime = System.currentTimeMillis();
+                
+                while (System.currentTimeMillis() - startTime < waitTimeout.toMillis()) {
+                    String lockId = UUID.randomUUID().toString();
+                    List<DistributedLock> locks = new ArrayList<>();
+                    for (String key : sortedKeys) {
+                        DistributedLock newLock = new DistributedLock(key, lockId, Instant.now(), leaseDuration);
+                        if (activeLocks.putIfAbsent(key, newLock) != null) {
+                            break;
+                        }
+                        locks.add(newLock);
+                    }
+                    
+                    if (locks.size() == sortedKeys.size()) {
+                        return Optional.of(locks);
+                    }
+                    // 일부만 획득했으면 모두 되돌린 뒤 재시도
+                    locks.forEach(lock -> activeLocks.remove(lock.key(), lock));
+                    
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return Optional.empty();
+                    }
+                }
+                
+                return Optional.empty();
+            });
+        
+        when(lockRepository.releaseLocks(anyCollection()))
+            .thenAnswer(invocation -> {
+                Collection<DistributedLock> locks = invocation.getArgument(0);
+                boolean released = true;
+                for (DistributedLock lock : locks) {
+                    released &= activeLocks.remove(lock.key(), lock);
+                }
+                return released;
+            });
     }
     
     @Test
@@ -374,4 +431,12 @@ class StockAvailabilityServiceConcurrencyTest {
         
         executor.shutdown();
     }
-}
\ No newline at end of file
+    
+    private Map<String, Integer> availableQuantitiesOf(Collection<String> skuIds) {
+        Map<String, Integer> quantities = new HashMap<>();
+        for (String skuId : skuIds) {
+            quantities.put(skuId, stockMap.getOrDefault(skuId, new AtomicInteger(0)).get());
+        }
+        return quantities;
+    }
+}
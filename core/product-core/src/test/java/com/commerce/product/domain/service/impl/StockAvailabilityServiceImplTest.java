@@ -3,6 +3,7 @@ package com.commerce.product.domain.service.impl;
 import com.commerce.common.event.DomainEventPublisher;
 import com.commerce.product.domain.exception.LockAcquisitionException;
 import com.commerce.product.domain.model.*;
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
 import com.commerce.product.domain.repository.InventoryRepository;
 import com.commerce.product.domain.repository.LockRepository;
 import com.commerce.product.domain.repository.ProductRepository;
@@ -108,25 +109,21 @@ class StockAvailabilityServiceImplTest {
     @Test
     @DisplayName("묶음 옵션의 모든 SKU 재고가 충분하면 true를 반환한다")
     void checkBundleOption_AllAvailable() {
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(50);
+        when(inventoryRepository.getAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100, "SKU002", 50));
 
         boolean result = stockAvailabilityService.checkBundleOption(bundleOption, 10);
 
         assertThat(result).isTrue();
-        verify(inventoryRepository).getAvailableQuantity("SKU001");
-        verify(inventoryRepository).getAvailableQuantity("SKU002");
+        verify(inventoryRepository).getAvailableQuantities(anyCollection());
+        verify(inventoryRepository, never()).getAvailableQuantity(anyString());
     }
 
     @Test
     @DisplayName("묶음 옵션의 일부 SKU 재고가 부족하면 false를 반환한다")
     void checkBundleOption_PartiallyNotAvailable() {
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(5);
+        when(inventoryRepository.getAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100, "SKU002", 5));
 
         boolean result = stockAvailabilityService.checkBundleOption(bundleOption, 10);
 
@@ -141,10 +138,8 @@ class StockAvailabilityServiceImplTest {
         quantities.put("Single Option", 10);
         quantities.put("Bundle Option", 5);
 
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(50);
+        when(inventoryRepository.getAvailableQuantitiesAsync(anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of("SKU001", 100, "SKU002", 50)));
 
         CompletableFuture<Map<String, Boolean>> future = 
                 stockAvailabilityService.checkMultipleOptions(options, quantities);
@@ -152,6 +147,9 @@ class StockAvailabilityServiceImplTest {
 
         assertThat(result).containsEntry("Single Option", true);
         assertThat(result).containsEntry("Bundle Option", true);
+        // 모든 옵션의 SKU를 한 번의 일괄 조회로 확인한다
+        verify(inventoryRepository, times(1)).getAvailableQuantitiesAsync(anyCollection());
+        verify(inventoryRepository, never()).getAvailableQuantity(anyString());
     }
 
     @Test
@@ -162,7 +160,7 @@ class StockAvailabilityServiceImplTest {
         
         when(lockRepository.acquireLock(eq("stock:SKU001"), any(Duration.class), any(Duration.class)))
                 .thenReturn(Optional.of(lock));
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
+        when(inventoryRepository.getLatestAvailableQuantity("SKU001"))
                 .thenReturn(100);
         when(inventoryRepository.reserveStock("SKU001", 10, orderId))
                 .thenReturn("RESERVATION001");
@@ -184,7 +182,7 @@ class StockAvailabilityServiceImplTest {
         
         when(lockRepository.acquireLock(eq("stock:SKU001"), any(Duration.class), any(Duration.class)))
                 .thenReturn(Optional.of(lock));
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
+        when(inventoryRepository.getLatestAvailableQuantity("SKU001"))
                 .thenReturn(5);
 
         CompletableFuture<Boolean> future = 
@@ -203,14 +201,10 @@ class StockAvailabilityServiceImplTest {
         DistributedLock lock1 = new DistributedLock("stock:SKU001", "lock-123", Instant.now(), Duration.ofSeconds(30));
         DistributedLock lock2 = new DistributedLock("stock:SKU002", "lock-456", Instant.now(), Duration.ofSeconds(30));
         
-        when(lockRepository.acquireLock(eq("stock:SKU001"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock1));
-        when(lockRepository.acquireLock(eq("stock:SKU002"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock2));
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(50);
+        when(lockRepository.acquireLocks(eq(List.of("stock:SKU001", "stock:SKU002")), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock1, lock2)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100, "SKU002", 50));
         when(inventoryRepository.reserveStock("SKU001", 10, orderId))
                 .thenReturn("RESERVATION001");
         when(inventoryRepository.reserveStock("SKU002", 5, orderId))
@@ -223,8 +217,7 @@ class StockAvailabilityServiceImplTest {
         assertThat(result).isTrue();
         verify(inventoryRepository).reserveStock("SKU001", 10, orderId);
         verify(inventoryRepository).reserveStock("SKU002", 5, orderId);
-        verify(lockRepository).releaseLock(lock2);
-        verify(lockRepository).releaseLock(lock1);
+        verify(lockRepository).releaseLocks(List.of(lock1, lock2));
     }
 
     @Test
@@ -234,14 +227,10 @@ class StockAvailabilityServiceImplTest {
         DistributedLock lock1 = new DistributedLock("stock:SKU001", "lock-123", Instant.now(), Duration.ofSeconds(30));
         DistributedLock lock2 = new DistributedLock("stock:SKU002", "lock-456", Instant.now(), Duration.ofSeconds(30));
         
-        when(lockRepository.acquireLock(eq("stock:SKU001"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock1));
-        when(lockRepository.acquireLock(eq("stock:SKU002"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock2));
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(2);
+        when(lockRepository.acquireLocks(eq(List.of("stock:SKU001", "stock:SKU002")), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock1, lock2)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100, "SKU002", 2));
 
         CompletableFuture<Boolean> future = 
                 stockAvailabilityService.reserveBundleStock(bundleOption, 5, orderId);
@@ -251,8 +240,7 @@ class StockAvailabilityServiceImplTest {
         // 재고 체크 단계에서 실패하므로 예약이 발생하지 않음
         verify(inventoryRepository, never()).reserveStock(anyString(), anyInt(), anyString());
         verify(inventoryRepository, never()).releaseReservation(anyString());
-        verify(lockRepository).releaseLock(lock2);
-        verify(lockRepository).releaseLock(lock1);
+        verify(lockRepository).releaseLocks(List.of(lock1, lock2));
     }
 
     @Test
@@ -262,14 +250,10 @@ class StockAvailabilityServiceImplTest {
         DistributedLock lock1 = new DistributedLock("stock:SKU001", "lock-123", Instant.now(), Duration.ofSeconds(30));
         DistributedLock lock2 = new DistributedLock("stock:SKU002", "lock-456", Instant.now(), Duration.ofSeconds(30));
         
-        when(lockRepository.acquireLock(eq("stock:SKU001"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock1));
-        when(lockRepository.acquireLock(eq("stock:SKU002"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock2));
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(50);
+        when(lockRepository.acquireLocks(eq(List.of("stock:SKU001", "stock:SKU002")), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock1, lock2)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100, "SKU002", 50));
         when(inventoryRepository.reserveStock("SKU001", 10, orderId))
                 .thenReturn("RESERVATION001");
         when(inventoryRepository.reserveStock("SKU002", 5, orderId))
@@ -281,8 +265,7 @@ class StockAvailabilityServiceImplTest {
 
         assertThat(result).isFalse();
         verify(inventoryRepository).releaseReservation("RESERVATION001");
-        verify(lockRepository).releaseLock(lock2);
-        verify(lockRepository).releaseLock(lock1);
+        verify(lockRepository).releaseLocks(List.of(lock1, lock2));
     }
 
     @Test
@@ -311,10 +294,8 @@ class StockAvailabilityServiceImplTest {
     @Test
     @DisplayName("묶음 옵션의 가용 재고량을 조회할 수 있다")
     void getBundleAvailableQuantity() {
-        when(inventoryRepository.getAvailableQuantity("SKU001"))
-                .thenReturn(100);
-        when(inventoryRepository.getAvailableQuantity("SKU002"))
-                .thenReturn(50);
+        when(inventoryRepository.getAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100, "SKU002", 50));
 
         Map<String, Integer> quantities = 
                 stockAvailabilityService.getBundleAvailableQuantity(bundleOption);
@@ -322,16 +303,81 @@ class StockAvailabilityServiceImplTest {
         assertThat(quantities).containsEntry("SKU001", 100);
         assertThat(quantities).containsEntry("SKU002", 50);
     }
+
+    @Test
+    @DisplayName("묶음 재고 확인은 락 없이 단일 스냅샷의 수량으로 계산한다")
+    void checkBundleAvailability_UsesSnapshotWithoutLock() throws ExecutionException, InterruptedException {
+        when(inventoryRepository.getInventorySnapshotsAsync(anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(
+                        "SKU001", new InventorySnapshot("SKU001", 30, 4L),
+                        "SKU002", new InventorySnapshot("SKU002", 20, 9L)
+                )));
+
+        BundleAvailabilityResult result = stockAvailabilityService
+                .checkBundleAvailability(bundleOption.getSkuMapping()).get();
+
+        assertThat(result.isAvailable()).isTrue();
+        assertThat(result.availableSets()).isEqualTo(15); // min(30/2, 20/1)
+        assertThat(result.details())
+                .extracting(BundleAvailabilityResult.SkuAvailabilityDetail::skuId,
+                        BundleAvailabilityResult.SkuAvailabilityDetail::version)
+                .containsExactlyInAnyOrder(
+                        org.assertj.core.groups.Tuple.tuple("SKU001", 4L),
+                        org.assertj.core.groups.Tuple.tuple("SKU002", 9L)
+                );
+        verifyNoInteractions(lockRepository);
+        verify(inventoryRepository, never()).getAvailableQuantities(anyCollection());
+    }
+
+    @Test
+    @DisplayName("단일 SKU 재고 확인은 비동기 조회 결과에 이어서 계산한다")
+    void checkSingleSkuAvailability_ComposesAsyncLookup() throws ExecutionException, InterruptedException {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        when(inventoryRepository.getAvailableQuantityAsync("SKU001")).thenReturn(pending);
+
+        CompletableFuture<AvailabilityResult> future = stockAvailabilityService.checkSingleSkuAvailability("SKU001");
+
+        // 응답이 오기 전에는 완료되지 않으며 블로킹 조회도 호출하지 않는다
+        assertThat(future).isNotDone();
+        pending.complete(7);
+
+        assertThat(future.get().isAvailable()).isTrue();
+        assertThat(future.get().availableQuantity()).isEqualTo(7);
+        verify(inventoryRepository, never()).getAvailableQuantity(anyString());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 SKU가 있으면 묶음 재고가 없는 것으로 판단한다")
+    void checkBundleAvailability_MissingSkuInSnapshot() throws ExecutionException, InterruptedException {
+        when(inventoryRepository.getInventorySnapshotsAsync(anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        Map.of("SKU001", new InventorySnapshot("SKU001", 30, 4L))));
+
+        BundleAvailabilityResult result = stockAvailabilityService
+                .checkBundleAvailability(bundleOption.getSkuMapping()).get();
+
+        assertThat(result.isAvailable()).isFalse();
+        assertThat(result.availableSets()).isZero();
+        verifyNoInteractions(lockRepository);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 결과에 없는 SKU는 가용 재고 0으로 간주한다")
+    void checkBundleOption_MissingSkuTreatedAsZero() {
+        when(inventoryRepository.getAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 100));
+
+        boolean result = stockAvailabilityService.checkBundleOption(bundleOption, 1);
+
+        assertThat(result).isFalse();
+    }
     
     @Test
     @DisplayName("묶음 옵션 예약 중 락 획득 실패 시 false를 반환한다")
     void reserveBundleStock_LockAcquisitionFails() throws ExecutionException, InterruptedException {
         String orderId = "ORDER001";
-        DistributedLock lock1 = new DistributedLock("stock:SKU001", "lock-123", Instant.now(), Duration.ofSeconds(30));
         
-        when(lockRepository.acquireLock(eq("stock:SKU001"), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock1));
-        when(lockRepository.acquireLock(eq("stock:SKU002"), any(Duration.class), any(Duration.class)))
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
                 .thenReturn(Optional.empty());
 
         CompletableFuture<Boolean> future = 
@@ -339,7 +385,9 @@ class StockAvailabilityServiceImplTest {
         Boolean result = future.get();
 
         assertThat(result).isFalse();
-        verify(lockRepository).releaseLock(lock1);
+        // 일부 락만 획득하는 경우가 없으므로 해제할 락도 없다
+        verify(lockRepository, never()).releaseLocks(anyCollection());
+        verify(lockRepository, never()).acquireLock(anyString(), any(Duration.class), any(Duration.class));
         verify(inventoryRepository, never()).reserveStock(anyString(), anyInt(), anyString());
     }
 
@@ -357,7 +405,7 @@ class StockAvailabilityServiceImplTest {
         assertThatThrownBy(() -> future.get())
                 .hasCauseInstanceOf(LockAcquisitionException.class);
         
-        verify(inventoryRepository, never()).getAvailableQuantity(anyString());
+        verify(inventoryRepository, never()).getLatestAvailableQuantity(anyString());
         verify(inventoryRepository, never()).reserveStock(anyString(), anyInt(), anyString());
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -52,7 +53,7 @@ class BundleReservationSagaOrchestratorTest {
     @BeforeEach
     void setUp() {
         orchestrator = new BundleReservationSagaOrchestrator(
-            inventoryRepository, lockRepository, sagaRepository, eventPublisher
+            inventoryRepository, lockRepository, sagaRepository, eventPublisher, Runnable::run
         );
     }
     
@@ -65,10 +66,10 @@ class BundleReservationSagaOrchestratorTest {
         SkuMapping skuMapping = SkuMapping.of(Map.of("SKU001", 2, "SKU002", 1));
         int quantity = 3;
         
-        when(lockRepository.acquireLock(anyString(), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock));
-        when(inventoryRepository.getAvailableQuantity("SKU001")).thenReturn(10);
-        when(inventoryRepository.getAvailableQuantity("SKU002")).thenReturn(5);
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 10, "SKU002", 5));
         when(inventoryRepository.reserveStock("SKU001", 6, orderId)).thenReturn("RES-SKU001");
         when(inventoryRepository.reserveStock("SKU002", 3, orderId)).thenReturn("RES-SKU002");
         
@@ -81,7 +82,8 @@ class BundleReservationSagaOrchestratorTest {
         verify(sagaRepository, atLeastOnce()).update(any(BundleReservationSaga.class));
         verify(inventoryRepository).reserveStock("SKU001", 6, orderId);
         verify(inventoryRepository).reserveStock("SKU002", 3, orderId);
-        verify(lockRepository, times(2)).releaseLock(lock);
+        verify(lockRepository).acquireLocks(eq(List.of("stock:SKU001", "stock:SKU002")), any(Duration.class), any(Duration.class));
+        verify(lockRepository).releaseLocks(List.of(lock));
         
         ArgumentCaptor<BundleReservationCompletedEvent> eventCaptor = 
                 ArgumentCaptor.forClass(BundleReservationCompletedEvent.class);
@@ -101,10 +103,10 @@ class BundleReservationSagaOrchestratorTest {
         SkuMapping skuMapping = SkuMapping.of(Map.of("SKU001", 2, "SKU002", 1));
         int quantity = 3;
         
-        when(lockRepository.acquireLock(anyString(), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock));
-        when(inventoryRepository.getAvailableQuantity("SKU001")).thenReturn(10);
-        when(inventoryRepository.getAvailableQuantity("SKU002")).thenReturn(1); // 부족
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 10, "SKU002", 1)); // 부족
         when(inventoryRepository.reserveStock("SKU001", 6, orderId)).thenReturn("RES-SKU001");
         
         // When
@@ -124,7 +126,7 @@ class BundleReservationSagaOrchestratorTest {
         String reservationId = "RES-001";
         SkuMapping skuMapping = SkuMapping.of(Map.of("SKU001", 1));
         
-        when(lockRepository.acquireLock(anyString(), any(Duration.class), any(Duration.class)))
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
                 .thenReturn(Optional.empty());
         
         // When & Then
@@ -142,10 +144,10 @@ class BundleReservationSagaOrchestratorTest {
         String reservationId = "RES-001";
         SkuMapping skuMapping = SkuMapping.of(Map.of("SKU001", 1, "SKU002", 1));
         
-        when(lockRepository.acquireLock(anyString(), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock));
-        when(inventoryRepository.getAvailableQuantity("SKU001")).thenReturn(10);
-        when(inventoryRepository.getAvailableQuantity("SKU002")).thenReturn(10);
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 10, "SKU002", 10));
         when(inventoryRepository.reserveStock("SKU001", 1, orderId)).thenReturn("RES-SKU001");
         when(inventoryRepository.reserveStock("SKU002", 1, orderId))
                 .thenThrow(new RuntimeException("Database error"));
@@ -167,9 +169,10 @@ class BundleReservationSagaOrchestratorTest {
         String reservationId = "RES-001";
         SkuMapping skuMapping = SkuMapping.of(Map.of("SKU001", 1, "SKU002", 1, "SKU003", 1));
         
-        when(lockRepository.acquireLock(anyString(), any(Duration.class), any(Duration.class)))
-                .thenReturn(Optional.of(lock));
-        when(inventoryRepository.getAvailableQuantity(anyString())).thenReturn(10);
+        when(lockRepository.acquireLocks(anyCollection(), any(Duration.class), any(Duration.class)))
+                .thenReturn(Optional.of(List.of(lock)));
+        when(inventoryRepository.getLatestAvailableQuantities(anyCollection()))
+                .thenReturn(Map.of("SKU001", 10, "SKU002", 10, "SKU003", 10));
         when(inventoryRepository.reserveStock("SKU001", 1, orderId)).thenReturn("RES-SKU001");
         when(inventoryRepository.reserveStock("SKU002", 1, orderId)).thenReturn("RES-SKU002");
         when(inventoryRepository.reserveStock("SKU003", 1, orderId))
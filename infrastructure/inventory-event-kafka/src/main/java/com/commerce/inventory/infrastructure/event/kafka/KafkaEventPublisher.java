@@ -1,6 +1,7 @@
 package com.commerce.inventory.infrastructure.event.kafka;
 
 import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.domain.event.AbstractInventoryEvent;
 import com.commerce.inventory.application.service.port.out.EventPublisher;
 import com.commerce.inventory.infrastructure.event.kafka.retry.RetryableEventStore;
 import com.commerce.inventory.infrastructure.event.serialization.EventMessage;
@@ -73,6 +74,10 @@ public class KafkaEventPublisher implements EventPublisher {
         if (event instanceof AggregateEvent) {
             return ((AggregateEvent) event).getAggregateId();
         }
+        // 재고 도메인 이벤트는 SKU ID를 키로 사용해 같은 SKU의 이벤트 순서를 보장
+        if (event instanceof AbstractInventoryEvent) {
+            return ((AbstractInventoryEvent) event).getAggregateId();
+        }
         // Default to event type for non-aggregate events
         return event.eventType();
     }
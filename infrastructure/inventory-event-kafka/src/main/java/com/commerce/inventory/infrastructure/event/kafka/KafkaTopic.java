@@ -10,7 +10,8 @@ public enum KafkaTopic {
         "StockReceivedEvent", 
         "StockReservedEvent", 
         "StockDepletedEvent", 
-        "ReservationReleasedEvent"),
+        "ReservationReleasedEvent",
+        "HotStockReservationFailedEvent"),
     
     // SKU 관련 이벤트
     SKU_EVENTS("inventory-sku-events",
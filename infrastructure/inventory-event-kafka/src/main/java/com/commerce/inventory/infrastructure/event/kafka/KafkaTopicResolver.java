@@ -38,6 +38,12 @@ public class KafkaTopicResolver {
             return kafkaTopic.getTopicName();
         }
         
+        // 재고 도메인 이벤트는 "inventory.stock.reserved"처럼 점으로 구분된 타입을 쓰므로 클래스 이름으로 다시 확인
+        kafkaTopic = KafkaTopic.findByEventType(event.getClass().getSimpleName());
+        if (kafkaTopic != null) {
+            return kafkaTopic.getTopicName();
+        }
+        
         // 이벤트 타입 기반 토픽 생성
         return generateTopicName(eventType);
     }
@@ -1,6 +1,7 @@
 package com.commerce.inventory.infrastructure.event.serialization;
 
 import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.domain.event.AbstractInventoryEvent;
 import com.commerce.inventory.infrastructure.event.kafka.AggregateEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -94,6 +95,10 @@ public class EventSerializer {
         if (event instanceof AggregateEvent) {
             return ((AggregateEvent) event).getAggregateId();
         }
+        // 재고 도메인 이벤트의 aggregateId는 SKU ID
+        if (event instanceof AbstractInventoryEvent) {
+            return ((AbstractInventoryEvent) event).getAggregateId();
+        }
         return null;
     }
     
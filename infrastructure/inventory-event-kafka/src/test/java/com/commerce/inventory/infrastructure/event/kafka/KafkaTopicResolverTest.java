@@ -1,6 +1,12 @@
 package com.commerce.inventory.infrastructure.event.kafka;
 
+import com.commerce.common.domain.model.Quantity;
 import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.domain.event.ReservationReleasedEvent;
+import com.commerce.inventory.domain.event.StockDepletedEvent;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -141,6 +147,21 @@ class KafkaTopicResolverTest {
         assertThat(topic).isEqualTo(expectedTopic);
     }
     
+    @Test
+    @DisplayName("점으로 구분된 타입을 쓰는 재고 도메인 이벤트는 클래스 이름으로 재고 토픽을 찾는다")
+    void testResolveInventoryDomainEventTopics() {
+        // Given
+        SkuId skuId = new SkuId("SKU-001");
+        
+        // When & Then
+        assertThat(topicResolver.resolveTopic(new StockReceivedEvent(skuId, Quantity.of(10), "PO-001")))
+            .isEqualTo("inventory-stock-events");
+        assertThat(topicResolver.resolveTopic(new ReservationReleasedEvent(skuId, new ReservationId("RES-001"), Quantity.of(1))))
+            .isEqualTo("inventory-stock-events");
+        assertThat(topicResolver.resolveTopic(new StockDepletedEvent(skuId)))
+            .isEqualTo("inventory-stock-events");
+    }
+    
     // Test helper class
     static class TestEvent implements DomainEvent {
         private final String eventType;
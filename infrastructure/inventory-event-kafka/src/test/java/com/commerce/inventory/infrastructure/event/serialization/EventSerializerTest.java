@@ -1,6 +1,9 @@
 package com.commerce.inventory.infrastructure.event.serialization;
 
+import com.commerce.common.domain.model.Quantity;
 import com.commerce.common.event.DomainEvent;
+import com.commerce.inventory.domain.event.StockReceivedEvent;
+import com.commerce.inventory.domain.model.SkuId;
 import com.commerce.inventory.infrastructure.event.kafka.AggregateEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -64,6 +67,20 @@ class EventSerializerTest {
         assertThat(message.getAggregateType()).isEqualTo("TestAggregate");
     }
     
+    @Test
+    @DisplayName("재고 도메인 이벤트를 직렬화할 때 SKU ID를 aggregateId로 포함한다")
+    void testSerializeInventoryEvent() {
+        // Given
+        StockReceivedEvent event = new StockReceivedEvent(new SkuId("SKU-001"), Quantity.of(10), "PO-001");
+        
+        // When
+        EventMessage message = eventSerializer.serialize(event);
+        
+        // Then
+        assertThat(message.getEventType()).isEqualTo("inventory.stock.received");
+        assertThat(message.getAggregateId()).isEqualTo("SKU-001");
+    }
+    
     @Test
     @DisplayName("MetadataProvider를 구현한 이벤트는 추가 메타데이터를 포함한다")
     void testSerializeWithMetadataProvider() {
@@ -0,0 +1,62 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.inventory.application.service.port.out.ReservationDedupCachePort;
+import com.commerce.inventory.application.usecase.ReserveStockResponse;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Caffeine 기반 예약 요청 중복 제거 캐시 Adapter
+ *
+ * <p>노드 로컬 캐시이므로 다른 노드가 처리한 요청은 저장소 조회로 확인합니다. 예약 ID만 보관하므로 다른 노드가 예약을
+ * 해제하거나 만료해도 무효화할 필요가 없습니다.</p>
+ */
+@Component
+public class CaffeineReservationDedupCacheAdapter implements ReservationDedupCachePort {
+
+    private final Cache<Key, List<ReservationId>> cache;
+
+    public CaffeineReservationDedupCacheAdapter(
+            @Value("${inventory.reservation.dedup.maximum-size:100000}") long maximumSize,
+            @Value("${inventory.reservation.dedup.ttl:15m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Map<String, List<ReservationId>> findAll(String orderId, Collection<String> skuIds) {
+        Map<String, List<ReservationId>> found = new HashMap<>();
+        for (String skuId : skuIds) {
+            List<ReservationId> reservationIds = cache.getIfPresent(new Key(orderId, skuId));
+            if (reservationIds != null) {
+                found.put(skuId, reservationIds);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(String orderId, Collection<ReserveStockResponse.ReservationResult> results) {
+        results.stream()
+                .collect(Collectors.groupingBy(
+                        ReserveStockResponse.ReservationResult::getSkuId,
+                        Collectors.mapping(result -> new ReservationId(result.getReservationId()), Collectors.toList())))
+                .forEach((skuId, reservationIds) -> cache.put(new Key(orderId, skuId), List.copyOf(reservationIds)));
+    }
+
+    private record Key(String orderId, String skuId) {
+    }
+}
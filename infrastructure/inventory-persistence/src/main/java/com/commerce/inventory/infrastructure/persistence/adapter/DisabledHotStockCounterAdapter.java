@@ -0,0 +1,85 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.SkuId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 핫 SKU 카운터를 사용하지 않을 때의 Adapter
+ *
+ * <p>모든 SKU가 핫 SKU가 아니므로 예약은 항상 재고 행 잠금 경로로 처리됩니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.hot-stock.enabled", havingValue = "false", matchIfMissing = true)
+public class DisabledHotStockCounterAdapter implements HotStockCounterPort {
+
+    @Override
+    public Set<SkuId> findHotSkuIds(Collection<SkuId> skuIds) {
+        return Set.of();
+    }
+
+    @Override
+    public Set<SkuId> findAllHotSkuIds() {
+        return Set.of();
+    }
+
+    @Override
+    public ReserveResult tryReserve(Reservation reservation) {
+        return ReserveResult.NOT_HOT;
+    }
+
+    @Override
+    public void cancel(Reservation reservation) {
+    }
+
+    @Override
+    public void increase(SkuId skuId, Quantity quantity) {
+    }
+
+    @Override
+    public List<Reservation> findPendingReservations(SkuId skuId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void acknowledge(SkuId skuId, Collection<Reservation> reservations) {
+    }
+
+    @Override
+    public void deadLetter(SkuId skuId, Collection<Reservation> reservations) {
+    }
+
+    @Override
+    public Set<SkuId> findSkuIdsWithFailedReservations() {
+        return Set.of();
+    }
+
+    @Override
+    public List<Reservation> findFailedReservations(SkuId skuId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void resolveFailed(SkuId skuId, Collection<Reservation> reservations) {
+    }
+
+    @Override
+    public long synchronize(SkuId skuId, Quantity persistedAvailableQuantity,
+                            Collection<Reservation> persistedReservations, boolean create) {
+        if (create) {
+            throw new IllegalStateException("핫 SKU 카운터가 비활성화되어 있습니다 (inventory.hot-stock.enabled=false)");
+        }
+        return -1;
+    }
+
+    @Override
+    public void remove(SkuId skuId) {
+    }
+}
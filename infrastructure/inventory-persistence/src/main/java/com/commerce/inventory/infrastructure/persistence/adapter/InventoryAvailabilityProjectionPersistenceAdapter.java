@@ -0,0 +1,85 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.inventory.application.service.port.out.InventoryAvailabilityProjectionPort;
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.infrastructure.persistence.entity.InventoryAvailabilityJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.repository.InventoryAvailabilityJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 가용 재고 읽기 모델 영속성 Adapter
+ *
+ * <p>inventory_availability 테이블만 사용하며 재고 테이블과 조인하거나 재고 행을 잠그지 않습니다.
+ * 조회는 {@code inventory.persistence.batch-size} 단위로 나누어 기존 행을 한 번에 조회합니다.</p>
+ *
+ * <p>저장은 재고의 상태 버전이 저장된 버전보다 클 때만 덮어쓰는 조건부 UPDATE로 하므로, 여러 인스턴스가 같은 SKU를
+ * 동시에 반영해도 먼저 읽은 오래된 값이 나중에 쓰여 새 값을 되돌리지 않습니다. 갱신하지 못한 행 중 없는 행만 새로 만들며,
+ * 두 인스턴스가 같은 행을 동시에 만들면 한쪽은 기본 키 충돌로 실패하고 호출자가 다음 반영에서 다시 시도합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryAvailabilityProjectionPersistenceAdapter implements InventoryAvailabilityProjectionPort {
+    
+    @Value("${inventory.persistence.batch-size:1000}")
+    private int batchSize;
+    
+    private final InventoryAvailabilityJpaRepository inventoryAvailabilityJpaRepository;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<SkuId, InventoryAvailabilityView> findAllByIds(List<SkuId> skuIds) {
+        Map<SkuId, InventoryAvailabilityView> result = new HashMap<>(skuIds.size());
+        for (int i = 0; i < skuIds.size(); i += batchSize) {
+            List<String> batchIds = skuIds.subList(i, Math.min(i + batchSize, skuIds.size())).stream()
+                    .map(SkuId::value)
+                    .collect(Collectors.toList());
+            inventoryAvailabilityJpaRepository.findAllById(batchIds).forEach(entity ->
+                    result.put(SkuId.of(entity.getSkuId()), entity.toView()));
+        }
+        return result;
+    }
+    
+    @Override
+    @Transactional
+    public void saveAll(List<InventoryAvailabilityView> views) {
+        for (int i = 0; i < views.size(); i += batchSize) {
+            List<InventoryAvailabilityView> batch = views.subList(i, Math.min(i + batchSize, views.size()));
+            List<InventoryAvailabilityView> notUpdated = new ArrayList<>();
+            for (InventoryAvailabilityView view : batch) {
+                int updated = inventoryAvailabilityJpaRepository.updateIfNewer(
+                        view.skuId().value(),
+                        view.totalQuantity(),
+                        view.reservedQuantity(),
+                        view.availableQuantity(),
+                        view.version(),
+                        view.updatedAt());
+                if (updated == 0) {
+                    notUpdated.add(view);
+                }
+            }
+            if (notUpdated.isEmpty()) {
+                continue;
+            }
+            
+            // 같거나 더 새 버전이 이미 있는 행은 그대로 두고 없는 행만 만듦
+            Set<String> existing = new HashSet<>(inventoryAvailabilityJpaRepository.findExistingIds(
+                    notUpdated.stream().map(view -> view.skuId().value()).collect(Collectors.toList())));
+            inventoryAvailabilityJpaRepository.saveAll(notUpdated.stream()
+                    .filter(view -> !existing.contains(view.skuId().value()))
+                    .map(InventoryAvailabilityJpaEntity::fromView)
+                    .collect(Collectors.toList()));
+        }
+    }
+}
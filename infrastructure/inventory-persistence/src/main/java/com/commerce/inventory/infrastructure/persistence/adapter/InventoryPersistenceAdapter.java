@@ -1,37 +1,68 @@
 package com.commerce.inventory.infrastructure.persistence.adapter;
 
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.AdjustInventoryPort;
+import com.commerce.inventory.application.service.port.out.InventoryVersionConflictException;
 import com.commerce.inventory.application.service.port.out.LoadInventoryPort;
 import com.commerce.inventory.application.service.port.out.SaveInventoryPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
 import com.commerce.inventory.domain.model.Inventory;
+import com.commerce.inventory.domain.model.InventoryShard;
 import com.commerce.inventory.domain.model.SkuId;
 import com.commerce.inventory.infrastructure.persistence.entity.InventoryJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.entity.InventoryShardJpaEntity;
 import com.commerce.inventory.infrastructure.persistence.repository.InventoryJpaRepository;
+import com.commerce.inventory.infrastructure.persistence.repository.InventoryShardJpaRepository;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
+/**
+ * 재고 영속성 Adapter
+ *
+ * <p>샤드를 사용하는 SKU는 수량을 inventory_shard 행에 나눠 저장하고, 조회 시 합산해 하나의 {@link Inventory}로 복원합니다.
+ * 잠금 조회에서는 SKU 행 대신 다른 트랜잭션이 잡지 않은 샤드 하나만 잠그고(SKIP LOCKED) 그 샤드를 우선 샤드로 지정하므로,
+ * 같은 SKU의 예약이 샤드 수만큼 동시에 진행됩니다. 나머지 샤드의 변경은 샤드 행의 버전으로 충돌을 감지합니다.
+ * 이때 SKU 행과 그 버전은 샤드 구성이 바뀔 때만 갱신하므로, 변경 여부는 {@link Inventory#getStateVersion()}으로 비교해야 합니다.</p>
+ *
+ * <p>{@link AdjustInventoryPort}의 조건부 변경은 샤드를 사용하지 않는 재고 행에 수량 증감과 조건을 담은 UPDATE 한 번으로 반영하고,
+ * 영향받은 행 수로 성공 여부를 판단합니다. 버전도 함께 올려 조회 후 저장하는 경로와의 충돌을 감지합니다.</p>
+ *
+ * <p>{@link StockLedgerSequencePort}의 원장 순번은 샤드 사용 여부와 관계없이 SKU 행에 두며, 수량 변경이 아니므로 버전을 올리지 않습니다.
+ * 샤드 하나만 잠근 트랜잭션은 SKU의 다른 변경을 막지 못하므로, 원장 검증은 {@link #loadExclusively(SkuId)}로 모든 샤드와 SKU 행을 잠급니다.</p>
+ */
 @Component
 @RequiredArgsConstructor
-public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInventoryPort {
+public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInventoryPort, AdjustInventoryPort, StockLedgerSequencePort {
     
     private static final int MAX_SKU_IDS_IN_ERROR_MESSAGE = 10;
+    private static final Pageable FIRST = PageRequest.of(0, 1);
     
     @Value("${inventory.persistence.batch-size:1000}")
     private int batchSize;
     
     private final InventoryJpaRepository inventoryJpaRepository;
+    private final InventoryShardJpaRepository inventoryShardJpaRepository;
     
     @PostConstruct
     public void validateBatchSize() {
@@ -44,7 +75,7 @@ public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInven
     @Transactional(readOnly = true)
     public Optional<Inventory> load(SkuId skuId) {
         return inventoryJpaRepository.findById(skuId.value())
-                .map(InventoryJpaEntity::toDomainModel);
+                .map(entity -> toDomainModels(List.of(entity)).get(skuId));
     }
     
     @Override
@@ -65,14 +96,7 @@ public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInven
                     .map(SkuId::value)
                     .collect(Collectors.toList());
             
-            Map<SkuId, Inventory> batchResult = inventoryJpaRepository.findAllById(batchIds).stream()
-                    .map(InventoryJpaEntity::toDomainModel)
-                    .collect(Collectors.toMap(
-                            Inventory::getSkuId,
-                            inventory -> inventory
-                    ));
-            
-            resultMap.putAll(batchResult);
+            resultMap.putAll(toDomainModels(inventoryJpaRepository.findAllById(batchIds)));
         }
         
         return resultMap;
@@ -89,8 +113,102 @@ public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInven
                 .map(SkuId::value)
                 .collect(Collectors.toList());
         
-        return inventoryJpaRepository.findAllByIdWithLock(skuIdStrings).stream()
+        Map<SkuId, Inventory> result = inventoryJpaRepository.findAllUnshardedByIdWithLock(skuIdStrings).stream()
                 .map(InventoryJpaEntity::toDomainModel)
+                .collect(Collectors.toMap(
+                        Inventory::getSkuId,
+                        inventory -> inventory,
+                        (a, b) -> a,
+                        HashMap::new
+                ));
+        if (result.size() == skuIdStrings.size()) {
+            return result;
+        }
+        
+        // 잠그지 못한 나머지는 샤드를 사용하거나 존재하지 않는 SKU
+        List<String> remainingIds = skuIdStrings.stream()
+                .filter(id -> !result.containsKey(SkuId.of(id)))
+                .collect(Collectors.toList());
+        List<InventoryJpaEntity> shardedEntities = inventoryJpaRepository.findAllById(remainingIds);
+        
+        // 잠근 샤드가 최신 상태로 읽히도록 나머지 샤드보다 먼저 잠금
+        Map<String, Integer> lockedShardNos = new HashMap<>();
+        for (InventoryJpaEntity entity : shardedEntities) {
+            if (!entity.isSharded()) {
+                throw new OptimisticLockingFailureException(
+                    "재고 샤드 구성이 변경되었습니다. 다시 시도해주세요. SKU ID: " + entity.getSkuId()
+                );
+            }
+            lockedShardNos.put(entity.getSkuId(), lockShard(entity));
+        }
+        
+        toDomainModels(shardedEntities).forEach((skuId, inventory) -> {
+            inventory.preferShard(lockedShardNos.get(skuId.value()));
+            result.put(skuId, inventory);
+        });
+        return result;
+    }
+    
+    @Override
+    @Transactional
+    public Optional<Inventory> loadExclusively(SkuId skuId) {
+        // 예약 트랜잭션과 같은 순서(샤드 → SKU 행)로 잠가 교착을 피함
+        inventoryShardJpaRepository.findAllBySkuIdWithLock(skuId.value());
+        return inventoryJpaRepository.findByIdWithLock(skuId.value())
+                .map(entity -> toDomainModels(List.of(entity)).get(skuId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SkuId> findSkuIdsAfter(SkuId after, int limit) {
+        return inventoryJpaRepository.findSkuIdsAfter(after == null ? "" : after.value(), PageRequest.of(0, limit)).stream()
+                .map(SkuId::of)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 무작위 샤드부터 다른 트랜잭션이 잠그지 않은, 가용 재고가 남은 샤드를 잠급니다.
+     * 그런 샤드가 없으면 시작 샤드의 잠금을 기다립니다.
+     */
+    private int lockShard(InventoryJpaEntity entity) {
+        String skuId = entity.getSkuId();
+        int start = ThreadLocalRandom.current().nextInt(entity.getShardCount());
+        
+        return inventoryShardJpaRepository.findUnlockedAvailableShards(skuId, start, FIRST).stream()
+                .findFirst()
+                .or(() -> start > 0
+                        ? inventoryShardJpaRepository.findUnlockedAvailableShards(skuId, 0, FIRST).stream().findFirst()
+                        : Optional.empty())
+                .or(() -> inventoryShardJpaRepository.findByIdWithLock(skuId, start))
+                .map(InventoryShardJpaEntity::getShardNo)
+                .orElseThrow(() -> new OptimisticLockingFailureException(
+                    "재고 샤드 구성이 변경되었습니다. 다시 시도해주세요. SKU ID: " + skuId
+                ));
+    }
+    
+    private Map<SkuId, Inventory> toDomainModels(List<InventoryJpaEntity> entities) {
+        List<String> shardedIds = entities.stream()
+                .filter(InventoryJpaEntity::isSharded)
+                .map(InventoryJpaEntity::getSkuId)
+                .collect(Collectors.toList());
+        Map<String, List<InventoryShardJpaEntity>> shardsBySkuId = shardedIds.isEmpty()
+                ? Map.of()
+                : inventoryShardJpaRepository.findAllBySkuIdIn(shardedIds).stream()
+                        .collect(Collectors.groupingBy(InventoryShardJpaEntity::getSkuId));
+        
+        return entities.stream()
+                .map(entity -> {
+                    if (!entity.isSharded()) {
+                        return entity.toDomainModel();
+                    }
+                    List<InventoryShardJpaEntity> shards = shardsBySkuId.getOrDefault(entity.getSkuId(), List.of());
+                    if (shards.size() != entity.getShardCount()) {
+                        throw new OptimisticLockingFailureException(
+                            "재고 샤드 구성이 변경되었습니다. 다시 시도해주세요. SKU ID: " + entity.getSkuId()
+                        );
+                    }
+                    return entity.toDomainModel(shards);
+                })
                 .collect(Collectors.toMap(
                         Inventory::getSkuId,
                         inventory -> inventory
@@ -101,11 +219,14 @@ public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInven
     @Transactional
     public void save(Inventory inventory) {
         try {
-            InventoryJpaEntity entity = InventoryJpaEntity.fromDomainModel(inventory);
-            inventoryJpaRepository.save(entity);
+            if (requiresInventoryRowUpdate(inventory)) {
+                inventoryJpaRepository.save(InventoryJpaEntity.fromDomainModel(inventory));
+            }
+            saveShards(inventory);
         } catch (OptimisticLockException | org.springframework.dao.OptimisticLockingFailureException e) {
-            throw new OptimisticLockingFailureException(
+            throw new InventoryVersionConflictException(
                 "동시성 충돌이 발생했습니다. 다시 시도해주세요. SKU ID: " + inventory.getSkuId().value(), 
+                Set.of(inventory.getSkuId()),
                 e
             );
         }
@@ -119,25 +240,164 @@ public class InventoryPersistenceAdapter implements LoadInventoryPort, SaveInven
         }
         try {
             List<InventoryJpaEntity> entities = inventories.stream()
+                .filter(this::requiresInventoryRowUpdate)
                 .map(InventoryJpaEntity::fromDomainModel)
                 .collect(Collectors.toList());
-            inventoryJpaRepository.saveAll(entities);
+            if (!entities.isEmpty()) {
+                inventoryJpaRepository.saveAll(entities);
+            }
+            inventories.forEach(this::saveShards);
+            // 버전 검사를 여기서 실행해 충돌한 행을 알아냄
+            inventoryJpaRepository.flush();
         } catch (OptimisticLockException | org.springframework.dao.OptimisticLockingFailureException e) {
-            throw new OptimisticLockingFailureException(
-                "동시성 충돌이 발생했습니다. 다시 시도해주세요. " + formatConflictingSkuIds(inventories),
+            Set<SkuId> conflicting = conflictingSkuId(e)
+                .map(Set::of)
+                .orElseGet(() -> inventories.stream().map(Inventory::getSkuId).collect(Collectors.toSet()));
+            throw new InventoryVersionConflictException(
+                "동시성 충돌이 발생했습니다. 다시 시도해주세요. " + formatConflictingSkuIds(conflicting),
+                conflicting,
                 e
             );
         }
     }
     
-    private String formatConflictingSkuIds(Collection<Inventory> inventories) {
-        String ids = inventories.stream()
-                .map(inv -> inv.getSkuId().value())
+    @Override
+    @Transactional
+    public void createAll(Collection<Inventory> inventories) {
+        if (inventories == null || inventories.isEmpty()) {
+            return;
+        }
+        List<InventoryJpaEntity> entities = inventories.stream()
+            .map(InventoryJpaEntity::fromDomainModel)
+            .collect(Collectors.toList());
+        entities.forEach(InventoryJpaEntity::markAsNew);
+        inventoryJpaRepository.saveAll(entities);
+    }
+    
+    @Override
+    @Transactional
+    public Optional<Quantity> tryReserve(SkuId skuId, Quantity quantity) {
+        int updated = inventoryJpaRepository.increaseReservedIfAvailable(
+                skuId.value(), quantity.value(), LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        // 갱신한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 남은 수량이 다른 트랜잭션에 의해 바뀌지 않음
+        return inventoryJpaRepository.findAvailableQuantity(skuId.value())
+                .map(Quantity::of);
+    }
+    
+    @Override
+    @Transactional
+    public boolean tryRelease(SkuId skuId, Quantity quantity) {
+        return inventoryJpaRepository.decreaseReservedIfReserved(
+                skuId.value(), quantity.value(), LocalDateTime.now()) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public boolean tryReceive(SkuId skuId, Quantity quantity) {
+        return inventoryJpaRepository.increaseTotal(
+                skuId.value(), quantity.value(), LocalDateTime.now()) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public Set<SkuId> tryReceiveAll(Map<SkuId, Quantity> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<SkuId> received = new HashSet<>();
+        // 다른 트랜잭션과 같은 순서로 행을 잠가 교착을 피함
+        quantities.keySet().stream()
+                .sorted(Comparator.comparing(SkuId::value))
+                .forEach(skuId -> {
+                    if (inventoryJpaRepository.increaseTotal(skuId.value(), quantities.get(skuId).value(), now) > 0) {
+                        received.add(skuId);
+                    }
+                });
+        return received;
+    }
+    
+    @Override
+    @Transactional
+    public long allocate(SkuId skuId, int count) {
+        if (inventoryJpaRepository.increaseLedgerSequence(skuId.value(), count) == 0) {
+            throw new IllegalStateException("재고가 없는 SKU에는 원장 순번을 할당할 수 없습니다: " + skuId.value());
+        }
+        // 갱신한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 다른 트랜잭션의 할당이 끼어들지 않음
+        return inventoryJpaRepository.findLedgerSequence(skuId.value())
+                .orElseThrow();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long currentSequence(SkuId skuId) {
+        return inventoryJpaRepository.findLedgerSequence(skuId.value())
+                .orElse(0L);
+    }
+    
+    /**
+     * 샤드를 사용하는 SKU는 샤드 구성이 바뀔 때만 SKU 행을 갱신해 SKU 행이 경합 지점이 되지 않도록 함
+     */
+    private boolean requiresInventoryRowUpdate(Inventory inventory) {
+        return !inventory.isSharded() || inventory.isShardLayoutChanged();
+    }
+    
+    private void saveShards(Inventory inventory) {
+        if (!inventory.getRetiredShards().isEmpty()) {
+            // 버전을 확인하며 삭제해 그사이 변경된 샤드의 수량이 사라지지 않도록 함
+            inventoryShardJpaRepository.deleteAll(toShardEntities(inventory, inventory.getRetiredShards()));
+        }
+        
+        List<InventoryShard> changedShards = inventory.getShards().stream()
+                .filter(InventoryShard::isChanged)
+                .collect(Collectors.toList());
+        if (!changedShards.isEmpty()) {
+            inventoryShardJpaRepository.saveAll(toShardEntities(inventory, changedShards));
+        }
+    }
+    
+    private List<InventoryShardJpaEntity> toShardEntities(Inventory inventory, List<InventoryShard> shards) {
+        List<InventoryShardJpaEntity> entities = new ArrayList<>(shards.size());
+        for (InventoryShard shard : shards) {
+            entities.add(InventoryShardJpaEntity.fromDomainModel(inventory.getSkuId(), shard, inventory.getUpdatedAt()));
+        }
+        return entities;
+    }
+    
+    private String formatConflictingSkuIds(Collection<SkuId> skuIds) {
+        String ids = skuIds.stream()
+                .map(SkuId::value)
+                .sorted()
                 .limit(MAX_SKU_IDS_IN_ERROR_MESSAGE)
                 .collect(Collectors.joining(", "));
-        if (inventories.size() > MAX_SKU_IDS_IN_ERROR_MESSAGE) {
-            ids += " 등 (총 " + inventories.size() + "개)";
+        if (skuIds.size() > MAX_SKU_IDS_IN_ERROR_MESSAGE) {
+            ids += " 등 (총 " + skuIds.size() + "개)";
         }
         return "SKU IDs: " + ids;
     }
+    
+    /**
+     * 충돌을 알린 예외에서 버전이 맞지 않은 재고 행 또는 샤드 행의 SKU를 찾습니다.
+     */
+    private static Optional<SkuId> conflictingSkuId(RuntimeException e) {
+        Object identifier = null;
+        if (e instanceof ObjectOptimisticLockingFailureException failure) {
+            identifier = failure.getIdentifier();
+        } else if (e instanceof OptimisticLockException failure) {
+            identifier = failure.getEntity();
+        }
+        if (identifier instanceof String skuId) {
+            return Optional.of(SkuId.of(skuId));
+        }
+        if (identifier instanceof InventoryShardJpaEntity.ShardKey key) {
+            return Optional.of(SkuId.of(key.getSkuId()));
+        }
+        if (identifier instanceof InventoryJpaEntity entity) {
+            return Optional.of(SkuId.of(entity.getSkuId()));
+        }
+        if (identifier instanceof InventoryShardJpaEntity shard) {
+            return Optional.of(SkuId.of(shard.getSkuId()));
+        }
+        return Optional.empty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.inventory.application.service.ReservationLockMode;
+import com.commerce.inventory.application.service.port.out.ReservationContentionMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer 기반 예약 경합 지표 Adapter
+ *
+ * <p>MeterRegistry가 없는 환경에서는 지표를 메모리에만 남깁니다.</p>
+ */
+@Component
+public class MicrometerReservationContentionMetricsAdapter implements ReservationContentionMetricsPort {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger contendedSkus = new AtomicInteger();
+
+    public MicrometerReservationContentionMetricsAdapter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("inventory.reservation.contended-skus", contendedSkus, AtomicInteger::get)
+                .description("비관적 방식으로 예약하는 SKU 수")
+                .register(this.meterRegistry);
+    }
+
+    @Override
+    public void recordDecision(ReservationLockMode mode, int skuCount) {
+        Counter.builder("inventory.reservation.lock-mode.decisions")
+                .tag("mode", mode.name().toLowerCase())
+                .register(meterRegistry)
+                .increment(skuCount);
+    }
+
+    @Override
+    public void recordModeChange(ReservationLockMode mode) {
+        // 윈도우마다 다시 계산하므로 같은 SKU가 같은 방식으로 연달아 바뀌지 않음
+        contendedSkus.addAndGet(mode == ReservationLockMode.PESSIMISTIC ? 1 : -1);
+        Counter.builder("inventory.reservation.lock-mode.changes")
+                .tag("mode", mode.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordConflict(boolean retried) {
+        Counter.builder("inventory.reservation.optimistic.conflicts")
+                .tag("result", retried ? "retried" : "exhausted")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,406 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.HotStockCounterPort;
+import com.commerce.inventory.domain.model.Reservation;
+import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 핫 SKU 재고 카운터 Adapter
+ *
+ * <p>SKU마다 가용 재고 카운터({@code hot_stock:{skuId}:available}), 저장 대기 예약 목록
+ * ({@code hot_stock:{skuId}:pending}), 보상 대기 실패 목록({@code hot_stock:{skuId}:failed})을 두고,
+ * 확인-차감-대기 목록 추가를 하나의 Lua 스크립트로 수행합니다.
+ * 세 키는 SKU를 해시 태그로 공유하므로 Redis Cluster에서도 같은 슬롯에 있습니다.</p>
+ *
+ * <p>트랜잭션 안에서 차감한 예약은 트랜잭션이 롤백되면 자동으로 취소되고,
+ * 카운터 증가와 대기 목록 제거는 커밋 이후에 반영합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.hot-stock.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RedisHotStockCounterAdapter implements HotStockCounterPort {
+
+    static final String REGISTRY_KEY = "hot_stock:skus";
+    static final String FAILED_REGISTRY_KEY = "hot_stock:failed_skus";
+    private static final String ENTRY_SEPARATOR = "|";
+
+    /**
+     * KEYS[1]=카운터, KEYS[2]=대기 목록, ARGV[1]=수량, ARGV[2]=대기 항목
+     * 카운터가 없으면 -1, 부족하면 0, 차감하면 1
+     */
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = script(
+        "local available = redis.call('get', KEYS[1]) " +
+        "if not available then return -1 end " +
+        "if tonumber(available) < tonumber(ARGV[1]) then return 0 end " +
+        "redis.call('decrby', KEYS[1], ARGV[1]) " +
+        "redis.call('rpush', KEYS[2], ARGV[2]) " +
+        "return 1");
+
+    /**
+     * 대기 목록에 남아 있는 예약만 제거하고 카운터를 되돌린다
+     */
+    private static final DefaultRedisScript<Long> CANCEL_SCRIPT = script(
+        "if redis.call('lrem', KEYS[2], 1, ARGV[2]) == 0 then return 0 end " +
+        "if redis.call('exists', KEYS[1]) == 1 then redis.call('incrby', KEYS[1], ARGV[1]) end " +
+        "return 1");
+
+    private static final DefaultRedisScript<Long> INCREASE_SCRIPT = script(
+        "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+        "return redis.call('incrby', KEYS[1], ARGV[1])");
+
+    /**
+     * ARGV[i]와 같은 대기 항목을 하나씩 제거한다
+     */
+    private static final DefaultRedisScript<Long> ACKNOWLEDGE_SCRIPT = script(
+        "local removed = 0 " +
+        "for i = 1, #ARGV do " +
+        "   removed = removed + redis.call('lrem', KEYS[1], 1, ARGV[i]) " +
+        "end " +
+        "return removed");
+
+    /**
+     * KEYS[1]=대기 목록, KEYS[2]=실패 목록
+     * 대기 목록에 남아 있는 ARGV[i]만 실패 목록으로 옮기고, 옮긴 수를 반환한다
+     */
+    private static final DefaultRedisScript<Long> DEAD_LETTER_SCRIPT = script(
+        "local moved = 0 " +
+        "for i = 1, #ARGV do " +
+        "   if redis.call('lrem', KEYS[1], 1, ARGV[i]) > 0 then " +
+        "       redis.call('rpush', KEYS[2], ARGV[i]) " +
+        "       moved = moved + 1 " +
+        "   end " +
+        "end " +
+        "return moved");
+
+    /**
+     * ARGV[i]와 같은 실패 항목을 하나씩 제거하고, 남은 실패 항목 수를 반환한다
+     */
+    private static final DefaultRedisScript<Long> RESOLVE_FAILED_SCRIPT = script(
+        "for i = 1, #ARGV do " +
+        "   redis.call('lrem', KEYS[1], 1, ARGV[i]) " +
+        "end " +
+        "return redis.call('llen', KEYS[1])");
+
+    /**
+     * 카운터 = 저장된 가용 재고 - 대기 중인 예약 수량 합계 (0 미만이면 0)
+     * ARGV[2]가 0이면 카운터가 없을 때 만들지 않고 -1을 반환한다
+     * ARGV[3..]은 이미 저장된 예약으로, 합계를 구하기 전에 대기 목록에서 제거한다
+     */
+    private static final DefaultRedisScript<Long> SYNCHRONIZE_SCRIPT = script(
+        "if ARGV[2] == '0' and redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+        "for i = 3, #ARGV do " +
+        "   redis.call('lrem', KEYS[2], 1, ARGV[i]) " +
+        "end " +
+        "local pending = 0 " +
+        "for _, entry in ipairs(redis.call('lrange', KEYS[2], 0, -1)) do " +
+        "   pending = pending + tonumber(string.match(entry, '^(%d+)')) " +
+        "end " +
+        "local available = math.max(tonumber(ARGV[1]) - pending, 0) " +
+        "redis.call('set', KEYS[1], available) " +
+        "return available");
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Set<SkuId> findHotSkuIds(Collection<SkuId> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<SkuId> requested = new ArrayList<>(skuIds);
+        List<String> counters = redisTemplate.opsForValue().multiGet(
+                requested.stream().map(RedisHotStockCounterAdapter::availableKey).toList());
+        if (counters == null) {
+            return Set.of();
+        }
+
+        Set<SkuId> hotSkuIds = new HashSet<>();
+        for (int i = 0; i < requested.size(); i++) {
+            if (counters.get(i) != null) {
+                hotSkuIds.add(requested.get(i));
+            }
+        }
+        return hotSkuIds;
+    }
+
+    @Override
+    public Set<SkuId> findAllHotSkuIds() {
+        Set<String> members = redisTemplate.opsForSet().members(REGISTRY_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(SkuId::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public ReserveResult tryReserve(Reservation reservation) {
+        Long result = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                keysOf(reservation.getSkuId()),
+                String.valueOf(reservation.getQuantity().value()),
+                toEntry(reservation));
+
+        if (result == null || result < 0) {
+            return ReserveResult.NOT_HOT;
+        }
+        if (result == 0) {
+            return ReserveResult.INSUFFICIENT;
+        }
+
+        cancelOnRollback(reservation);
+        return ReserveResult.RESERVED;
+    }
+
+    @Override
+    public void cancel(Reservation reservation) {
+        Long result = redisTemplate.execute(
+                CANCEL_SCRIPT,
+                keysOf(reservation.getSkuId()),
+                String.valueOf(reservation.getQuantity().value()),
+                toEntry(reservation));
+
+        if (result != null && result > 0) {
+            log.debug("Hot stock reservation cancelled: reservationId={}, skuId={}",
+                    reservation.getId().value(), reservation.getSkuId().value());
+        }
+    }
+
+    @Override
+    public void increase(SkuId skuId, Quantity quantity) {
+        if (quantity == null || quantity.isZero()) {
+            return;
+        }
+
+        afterCommit(() -> redisTemplate.execute(
+                INCREASE_SCRIPT,
+                List.of(availableKey(skuId)),
+                String.valueOf(quantity.value())));
+    }
+
+    @Override
+    public List<Reservation> findPendingReservations(SkuId skuId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        long end = limit == Integer.MAX_VALUE ? -1 : limit - 1;
+        List<String> entries = redisTemplate.opsForList().range(pendingKey(skuId), 0, end);
+        if (entries == null) {
+            return List.of();
+        }
+
+        return entries.stream()
+                .map(entry -> fromEntry(skuId, entry))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void acknowledge(SkuId skuId, Collection<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return;
+        }
+
+        Object[] entries = reservations.stream()
+                .map(RedisHotStockCounterAdapter::toEntry)
+                .toArray();
+        afterCommit(() -> redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(pendingKey(skuId)), entries));
+    }
+
+    @Override
+    public void deadLetter(SkuId skuId, Collection<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return;
+        }
+
+        Object[] entries = reservations.stream()
+                .map(RedisHotStockCounterAdapter::toEntry)
+                .toArray();
+        afterCommit(() -> {
+            Long moved = redisTemplate.execute(DEAD_LETTER_SCRIPT, List.of(pendingKey(skuId), failedKey(skuId)), entries);
+            if (moved != null && moved > 0) {
+                redisTemplate.opsForSet().add(FAILED_REGISTRY_KEY, skuId.value());
+            }
+        });
+    }
+
+    @Override
+    public Set<SkuId> findSkuIdsWithFailedReservations() {
+        Set<String> members = redisTemplate.opsForSet().members(FAILED_REGISTRY_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(SkuId::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<Reservation> findFailedReservations(SkuId skuId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<String> entries = redisTemplate.opsForList().range(failedKey(skuId), 0, limit - 1);
+        if (entries == null) {
+            return List.of();
+        }
+
+        return entries.stream()
+                .map(entry -> fromEntry(skuId, entry))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void resolveFailed(SkuId skuId, Collection<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return;
+        }
+
+        Object[] entries = reservations.stream()
+                .map(RedisHotStockCounterAdapter::toEntry)
+                .toArray();
+        afterCommit(() -> {
+            Long remaining = redisTemplate.execute(RESOLVE_FAILED_SCRIPT, List.of(failedKey(skuId)), entries);
+            if (remaining == null || remaining > 0) {
+                return;
+            }
+            // 등록부는 다른 슬롯이라 스크립트에 넣을 수 없으므로, 제거한 뒤 그사이 옮겨진 항목이 있으면 다시 등록
+            redisTemplate.opsForSet().remove(FAILED_REGISTRY_KEY, skuId.value());
+            Long size = redisTemplate.opsForList().size(failedKey(skuId));
+            if (size != null && size > 0) {
+                redisTemplate.opsForSet().add(FAILED_REGISTRY_KEY, skuId.value());
+            }
+        });
+    }
+
+    @Override
+    public long synchronize(SkuId skuId, Quantity persistedAvailableQuantity,
+                            Collection<Reservation> persistedReservations, boolean create) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(persistedAvailableQuantity.value()));
+        args.add(create ? "1" : "0");
+        persistedReservations.forEach(reservation -> args.add(toEntry(reservation)));
+
+        Long result = redisTemplate.execute(SYNCHRONIZE_SCRIPT, keysOf(skuId), args.toArray());
+
+        long counter = result != null ? result : -1;
+        if (counter >= 0) {
+            redisTemplate.opsForSet().add(REGISTRY_KEY, skuId.value());
+        }
+        return counter;
+    }
+
+    @Override
+    public void remove(SkuId skuId) {
+        redisTemplate.delete(availableKey(skuId));
+        redisTemplate.opsForSet().remove(REGISTRY_KEY, skuId.value());
+    }
+
+    private void cancelOnRollback(Reservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    runQuietly(() -> cancel(reservation));
+                }
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    /**
+     * 커밋/롤백 이후의 카운터 반영 실패는 재조정에서 바로잡으므로 호출 측에 전파하지 않는다
+     */
+    private static void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to update hot stock counter after transaction completion", e);
+        }
+    }
+
+    static String availableKey(SkuId skuId) {
+        return "hot_stock:{" + skuId.value() + "}:available";
+    }
+
+    static String pendingKey(SkuId skuId) {
+        return "hot_stock:{" + skuId.value() + "}:pending";
+    }
+
+    static String failedKey(SkuId skuId) {
+        return "hot_stock:{" + skuId.value() + "}:failed";
+    }
+
+    private static List<String> keysOf(SkuId skuId) {
+        return List.of(availableKey(skuId), pendingKey(skuId));
+    }
+
+    /**
+     * 대기 항목 형식: 수량|예약 ID|생성 시각|만료 시각|주문 ID
+     * 수량을 맨 앞에 두어 Lua 스크립트에서 합계를 구할 수 있게 한다
+     */
+    static String toEntry(Reservation reservation) {
+        return String.join(ENTRY_SEPARATOR,
+                String.valueOf(reservation.getQuantity().value()),
+                reservation.getId().value(),
+                reservation.getCreatedAt().toString(),
+                reservation.getExpiresAt().toString(),
+                reservation.getOrderId());
+    }
+
+    static Reservation fromEntry(SkuId skuId, String entry) {
+        String[] fields = entry.split("\\" + ENTRY_SEPARATOR, 5);
+        return Reservation.create(
+                new ReservationId(fields[1]),
+                skuId,
+                Quantity.of(Integer.parseInt(fields[0])),
+                fields[4],
+                LocalDateTime.parse(fields[3]),
+                LocalDateTime.parse(fields[2]));
+    }
+
+    private static DefaultRedisScript<Long> script(String text) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(text);
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,74 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.inventory.application.service.port.out.ReservationExpiryLeasePort;
+import com.commerce.inventory.infrastructure.persistence.entity.ReservationExpiryLeaseJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.entity.ReservationExpiryNodeJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.repository.ReservationExpiryLeaseJpaRepository;
+import com.commerce.inventory.infrastructure.persistence.repository.ReservationExpiryNodeJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 만료 예약 정리 임대 영속성 Adapter
+ *
+ * <p>임대 행을 조건부 UPDATE로 가져오고, 행이 없으면 만들어 가집니다. 두 노드가 동시에 행을 만들면 한쪽은
+ * 기본 키 충돌로 실패하며 다음 주기에 다시 시도합니다.</p>
+ *
+ * <p>노드 행은 살아 있는 기한을 늘리고, 기한이 지난 노드 행은 주기마다 지워 살아 있는 노드만 셉니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryLeasePersistenceAdapter implements ReservationExpiryLeasePort {
+    
+    private final ReservationExpiryLeaseJpaRepository reservationExpiryLeaseJpaRepository;
+    private final ReservationExpiryNodeJpaRepository reservationExpiryNodeJpaRepository;
+    
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(int partition, String owner, LocalDateTime currentTime, LocalDateTime leaseUntil) {
+        if (reservationExpiryLeaseJpaRepository.acquire(partition, owner, currentTime, leaseUntil) > 0) {
+            return true;
+        }
+        if (reservationExpiryLeaseJpaRepository.existsById(partition)) {
+            return false;
+        }
+        
+        reservationExpiryLeaseJpaRepository.saveAndFlush(ReservationExpiryLeaseJpaEntity.builder()
+                .partitionNo(partition)
+                .owner(owner)
+                .leaseUntil(leaseUntil)
+                .build());
+        return true;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(int partition, String owner, LocalDateTime currentTime) {
+        reservationExpiryLeaseJpaRepository.release(partition, owner, currentTime);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Integer> findOwnedPartitions(String owner, LocalDateTime currentTime) {
+        return new TreeSet<>(reservationExpiryLeaseJpaRepository.findOwnedPartitionNos(owner, currentTime));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int heartbeat(String owner, LocalDateTime currentTime, LocalDateTime aliveUntil) {
+        if (reservationExpiryNodeJpaRepository.touch(owner, aliveUntil) == 0) {
+            reservationExpiryNodeJpaRepository.saveAndFlush(ReservationExpiryNodeJpaEntity.builder()
+                    .owner(owner)
+                    .aliveUntil(aliveUntil)
+                    .build());
+        }
+        reservationExpiryNodeJpaRepository.deleteExpired(currentTime);
+        return (int) reservationExpiryNodeJpaRepository.countByAliveUntilGreaterThanEqual(currentTime);
+    }
+}
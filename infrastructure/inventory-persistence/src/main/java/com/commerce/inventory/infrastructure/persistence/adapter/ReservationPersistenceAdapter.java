@@ -1,23 +1,37 @@
 package com.commerce.inventory.infrastructure.persistence.adapter;
 
+import com.commerce.inventory.application.service.port.out.LoadExpiredReservationPort;
 import com.commerce.inventory.application.service.port.out.LoadReservationPort;
 import com.commerce.inventory.application.service.port.out.SaveReservationPort;
 import com.commerce.inventory.domain.model.Reservation;
 import com.commerce.inventory.domain.model.ReservationId;
+import com.commerce.inventory.domain.model.SkuId;
 import com.commerce.inventory.infrastructure.persistence.entity.ReservationJpaEntity;
 import com.commerce.inventory.infrastructure.persistence.repository.ReservationJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class ReservationPersistenceAdapter implements LoadReservationPort, SaveReservationPort {
+public class ReservationPersistenceAdapter implements LoadReservationPort, SaveReservationPort, LoadExpiredReservationPort {
+    
+    /**
+     * 예약 ID(UUID)의 첫 글자로 파티션을 나눔. 목록에 없는 글자로 시작하는 ID는 0번 파티션에 속함
+     */
+    private static final String PARTITION_ALPHABET = "0123456789abcdef";
+    private static final int PARTITION_COUNT = PARTITION_ALPHABET.length();
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
     
     private final ReservationJpaRepository reservationJpaRepository;
     
@@ -51,6 +65,70 @@ public class ReservationPersistenceAdapter implements LoadReservationPort, SaveR
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Reservation> findByOrderIdAndSkuIds(String orderId, Collection<SkuId> skuIds) {
+        if (skuIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // 재고 ID는 SKU ID와 같으므로 (주문 ID, 재고 ID) 인덱스를 사용
+        List<String> inventoryIds = skuIds.stream()
+                .map(SkuId::value)
+                .collect(Collectors.toList());
+        return reservationJpaRepository.findByOrderIdAndInventoryIdIn(orderId, inventoryIds).stream()
+                .map(ReservationJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public int partitionCount() {
+        return PARTITION_COUNT;
+    }
+    
+    @Override
+    @Transactional
+    public List<Reservation> findExpiredActiveWithLock(int partition, LocalDateTime currentTime, Cursor after, int limit) {
+        return reservationJpaRepository.findExpiredAfter(
+                        ReservationJpaEntity.ReservationStatus.ACTIVE,
+                        currentTime,
+                        after == null ? CURSOR_START : after.expiresAt(),
+                        after == null ? "" : after.reservationId().value(),
+                        PARTITION_ALPHABET,
+                        PARTITION_COUNT,
+                        partition,
+                        PageRequest.of(0, limit)).stream()
+                .map(ReservationJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public List<Reservation> findExpiredActiveByIdsWithLock(Collection<ReservationId> reservationIds, LocalDateTime currentTime) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return reservationJpaRepository.findExpiredByIdIn(
+                        reservationIds.stream().map(ReservationId::value).collect(Collectors.toList()),
+                        ReservationJpaEntity.ReservationStatus.ACTIVE,
+                        currentTime).stream()
+                .map(ReservationJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Reservation> findActive(int partition, Cursor after, int limit) {
+        return reservationJpaRepository.findByStatusAfter(
+                        ReservationJpaEntity.ReservationStatus.ACTIVE,
+                        after == null ? CURSOR_START : after.expiresAt(),
+                        after == null ? "" : after.reservationId().value(),
+                        PARTITION_ALPHABET,
+                        PARTITION_COUNT,
+                        partition,
+                        PageRequest.of(0, limit)).stream()
+                .map(ReservationJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public Reservation save(Reservation reservation) {
@@ -58,4 +136,29 @@ public class ReservationPersistenceAdapter implements LoadReservationPort, SaveR
         ReservationJpaEntity savedEntity = reservationJpaRepository.save(jpaEntity);
         return savedEntity.toDomainModel();
     }
+    
+    /**
+     * 이미 저장된 예약을 한 번에 조회해 나머지를 새 예약으로 표시합니다. 예약 ID는 애플리케이션에서 생성하므로
+     * 새 예약은 persist 시점에 INSERT하지 않고, flush 시 hibernate.jdbc.batch_size 단위의 배치로 묶여 전송됩니다.
+     */
+    @Override
+    @Transactional
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            return List.of();
+        }
+        
+        List<ReservationJpaEntity> jpaEntities = reservations.stream()
+                .map(ReservationJpaEntity::fromDomainModel)
+                .collect(Collectors.toList());
+        Set<String> existingIds = new HashSet<>(reservationJpaRepository.findExistingIds(
+                jpaEntities.stream().map(ReservationJpaEntity::getId).collect(Collectors.toList())));
+        jpaEntities.stream()
+                .filter(entity -> !existingIds.contains(entity.getId()))
+                .forEach(ReservationJpaEntity::markAsNew);
+        
+        return reservationJpaRepository.saveAll(jpaEntities).stream()
+                .map(ReservationJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
@@ -2,15 +2,22 @@ package com.commerce.inventory.infrastructure.persistence.adapter;
 
 import com.commerce.inventory.application.service.port.out.LoadSkuPort;
 import com.commerce.inventory.application.service.port.out.SaveSkuPort;
+import com.commerce.inventory.domain.exception.DuplicateSkuCodeException;
 import com.commerce.inventory.domain.model.Sku;
 import com.commerce.inventory.domain.model.SkuCode;
 import com.commerce.inventory.domain.model.SkuId;
 import com.commerce.inventory.infrastructure.persistence.entity.SkuJpaEntity;
 import com.commerce.inventory.infrastructure.persistence.repository.SkuJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -34,10 +41,65 @@ public class SkuPersistenceAdapter implements LoadSkuPort, SaveSkuPort {
         return skuJpaRepository.existsByCode(code.value());
     }
     
+    @Override
+    public Set<SkuId> findExistingIds(Collection<SkuId> skuIds) {
+        if (skuIds.isEmpty()) {
+            return Set.of();
+        }
+        return skuJpaRepository.findExistingIds(skuIds.stream().map(SkuId::value).collect(Collectors.toSet())).stream()
+                .map(SkuId::of)
+                .collect(Collectors.toSet());
+    }
+    
+    @Override
+    public Set<SkuCode> findExistingCodes(Collection<SkuCode> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        return skuJpaRepository.findExistingCodes(codes.stream().map(SkuCode::value).collect(Collectors.toSet())).stream()
+                .map(SkuCode::of)
+                .collect(Collectors.toSet());
+    }
+    
     @Override
     public Sku save(Sku sku) {
         SkuJpaEntity entity = SkuJpaEntity.fromDomainModel(sku);
         SkuJpaEntity savedEntity = skuJpaRepository.save(entity);
         return savedEntity.toDomainModel();
     }
-}
\ No newline at end of file
+    
+    /**
+     * {@inheritDoc}
+     *
+     * <p>INSERT를 바로 실행해 제약 위반을 이 호출에서 드러냅니다. SKU 코드 유니크 제약 위반만
+     * {@link DuplicateSkuCodeException}으로 바꾸고, 다른 제약 위반은 그대로 던집니다.</p>
+     */
+    @Override
+    public void createAll(Collection<Sku> skus) {
+        if (skus.isEmpty()) {
+            return;
+        }
+        List<SkuJpaEntity> entities = skus.stream()
+                .map(SkuJpaEntity::fromDomainModel)
+                .collect(Collectors.toList());
+        entities.forEach(SkuJpaEntity::markAsNew);
+        try {
+            skuJpaRepository.saveAllAndFlush(entities);
+        } catch (DataIntegrityViolationException e) {
+            if (isCodeConstraintViolation(e)) {
+                throw new DuplicateSkuCodeException("이미 존재하는 SKU 코드가 포함되어 있습니다", e);
+            }
+            throw e;
+        }
+    }
+    
+    private static boolean isCodeConstraintViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(SkuJpaEntity.CODE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.inventory.application.service.port.out.StockLedgerSnapshotPort;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import com.commerce.inventory.infrastructure.persistence.entity.StockLedgerSnapshotJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.repository.StockLedgerSnapshotJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 재고 원장 스냅샷 영속성 Adapter
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLedgerSnapshotPersistenceAdapter implements StockLedgerSnapshotPort {
+    
+    private final StockLedgerSnapshotJpaRepository stockLedgerSnapshotJpaRepository;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StockLedgerState> findLatest(SkuId skuId) {
+        return stockLedgerSnapshotJpaRepository.findFirstBySkuIdOrderBySequenceDesc(skuId.value())
+                .map(StockLedgerSnapshotJpaEntity::toDomainModel);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StockLedgerState> findLatestAtOrBefore(SkuId skuId, LocalDateTime at) {
+        return stockLedgerSnapshotJpaRepository.findFirstBySkuIdAndAsOfLessThanEqualOrderBySequenceDesc(skuId.value(), at)
+                .map(StockLedgerSnapshotJpaEntity::toDomainModel);
+    }
+    
+    @Override
+    @Transactional
+    public void save(StockLedgerState state) {
+        stockLedgerSnapshotJpaRepository.save(StockLedgerSnapshotJpaEntity.fromDomainModel(state));
+    }
+}
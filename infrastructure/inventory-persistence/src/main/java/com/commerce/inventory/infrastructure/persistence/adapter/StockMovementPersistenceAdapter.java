@@ -1,15 +1,30 @@
 package com.commerce.inventory.infrastructure.persistence.adapter;
 
+import com.commerce.inventory.application.service.port.out.LoadStockMovementPort;
 import com.commerce.inventory.application.service.port.out.SaveStockMovementPort;
+import com.commerce.inventory.domain.model.SkuId;
 import com.commerce.inventory.domain.model.StockMovement;
 import com.commerce.inventory.infrastructure.persistence.entity.StockMovementJpaEntity;
 import com.commerce.inventory.infrastructure.persistence.repository.StockMovementJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이동 기록을 변경 트랜잭션에서 바로 원장에 저장하는 Adapter
+ *
+ * <p>지연 기록 모드({@code inventory.ledger.write-behind.enabled=true})에서는
+ * {@link WriteBehindStockMovementPersistenceAdapter}가 대신 사용됩니다.</p>
+ */
 @Component
+@ConditionalOnProperty(name = "inventory.ledger.write-behind.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
-public class StockMovementPersistenceAdapter implements SaveStockMovementPort {
+public class StockMovementPersistenceAdapter implements SaveStockMovementPort, LoadStockMovementPort {
     
     private final StockMovementJpaRepository stockMovementJpaRepository;
     
@@ -18,4 +33,28 @@ public class StockMovementPersistenceAdapter implements SaveStockMovementPort {
         StockMovementJpaEntity entity = StockMovementJpaEntity.fromDomainModel(stockMovement);
         stockMovementJpaRepository.save(entity);
     }
+    
+    @Override
+    public void saveAll(List<StockMovement> stockMovements) {
+        if (stockMovements.isEmpty()) {
+            return;
+        }
+        stockMovementJpaRepository.saveAll(stockMovements.stream()
+                .map(StockMovementJpaEntity::fromDomainModel)
+                .collect(Collectors.toList()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockMovement> findBySkuIdAfterSequence(SkuId skuId, long afterSequence, int limit) {
+        return stockMovementJpaRepository.findLedgerAfter(skuId.value(), afterSequence, PageRequest.of(0, limit)).stream()
+                .map(StockMovementJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<StockMovement> findUnsequencedBySkuId(SkuId skuId) {
+        // 변경 트랜잭션에서 순번을 할당하므로 순번 없는 기록이 없음
+        return List.of();
+    }
 }
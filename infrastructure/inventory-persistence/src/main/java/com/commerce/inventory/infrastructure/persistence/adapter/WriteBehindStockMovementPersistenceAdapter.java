@@ -0,0 +1,186 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.inventory.application.service.port.out.LoadStockMovementPort;
+import com.commerce.inventory.application.service.port.out.SaveStockMovementPort;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
+import com.commerce.inventory.application.service.port.out.StockMovementOutboxPort;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockMovement;
+import com.commerce.inventory.infrastructure.persistence.entity.StockMovementJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.entity.StockMovementOutboxJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.repository.StockMovementJpaRepository;
+import com.commerce.inventory.infrastructure.persistence.repository.StockMovementOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 이동 기록 지연 기록 Adapter
+ *
+ * <p>변경 트랜잭션은 이동 기록을 순번 없이 작은 대기 테이블에만 저장하고, 기록기가 별도 트랜잭션에서 SKU마다 순번을 한 번에
+ * 할당해 원장에 일괄 저장합니다. 변경 트랜잭션은 SKU 행의 순번을 건드리지 않으므로 샤드를 사용하는 SKU의 예약이 순번 할당에서
+ * 차례를 기다리지 않습니다. 대기 기록은 변경과 함께 커밋되므로 애플리케이션이 중단되어도 잃지 않고, 순번 할당, 원장 저장,
+ * 대기 기록 삭제가 한 트랜잭션이므로 두 번 옮겨지거나 순번이 비지 않습니다.</p>
+ *
+ * <p>순번은 대기 기록 ID 순으로 할당하므로 동시에 커밋된 기록 사이에서는 커밋 순서와 다를 수 있습니다. 원장의 수량은
+ * 반영 순서와 관계없는 합계이므로 검증 결과는 같습니다. 대기 기록 ID는 인스턴스마다 미리 할당받고 기록기가 여럿일 수 있으며
+ * 대기 테이블을 거치지 않는 기록도 있으므로 변경 시각도 순번 순과 다릅니다. 그래서 원장에는 SKU 행을 잠그고 순번을 할당한 뒤의
+ * 시각을 순번을 받은 시각으로 함께 저장해, 시점 조회가 순번 순으로 증가하는 시각을 비교하도록 합니다.</p>
+ *
+ * <p>대기 기록이 {@code capacity}에 이르면 새 기록은 대기 테이블을 거치지 않고 호출한 트랜잭션에서 순번을 할당해 바로 원장에 저장합니다.
+ * 기록기가 밀린 만큼 변경 트랜잭션이 원장 저장 비용을 다시 부담하므로 대기 테이블이 한도 이상으로 커지지 않습니다.
+ * 대기 기록 수는 인스턴스마다 세고 옮길 때마다 저장소 값으로 맞추므로, 한도는 인스턴스 수만큼 넘을 수 있는 근사치입니다.</p>
+ *
+ * <p>원장 조회는 순번을 받은 기록만 읽습니다. 아직 옮겨지지 않은 기록은 {@link #findUnsequencedBySkuId(SkuId)}로 따로 읽습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.ledger.write-behind.enabled", havingValue = "true")
+public class WriteBehindStockMovementPersistenceAdapter
+        implements SaveStockMovementPort, LoadStockMovementPort, StockMovementOutboxPort {
+
+    private final StockMovementJpaRepository stockMovementJpaRepository;
+    private final StockMovementOutboxJpaRepository stockMovementOutboxJpaRepository;
+    private final StockLedgerSequencePort stockLedgerSequencePort;
+    private final Clock clock;
+    private final long capacity;
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter overflowCounter;
+
+    public WriteBehindStockMovementPersistenceAdapter(
+            StockMovementJpaRepository stockMovementJpaRepository,
+            StockMovementOutboxJpaRepository stockMovementOutboxJpaRepository,
+            StockLedgerSequencePort stockLedgerSequencePort,
+            Clock clock,
+            @Value("${inventory.ledger.write-behind.capacity:100000}") long capacity,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.stockMovementJpaRepository = stockMovementJpaRepository;
+        this.stockMovementOutboxJpaRepository = stockMovementOutboxJpaRepository;
+        this.stockLedgerSequencePort = stockLedgerSequencePort;
+        this.clock = clock;
+        this.capacity = capacity;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("inventory.ledger.outbox.pending", pending, AtomicLong::get)
+                .description("원장으로 옮겨지기를 기다리는 이동 기록 수")
+                .register(registry);
+        this.overflowCounter = Counter.builder("inventory.ledger.outbox.overflow")
+                .description("대기 테이블이 가득 차 바로 원장에 저장한 이동 기록 수")
+                .register(registry);
+    }
+
+    @Override
+    public void save(StockMovement stockMovement) {
+        saveAll(List.of(stockMovement));
+    }
+
+    @Override
+    public void saveAll(List<StockMovement> stockMovements) {
+        if (stockMovements.isEmpty()) {
+            return;
+        }
+
+        if (pending.get() + stockMovements.size() > capacity) {
+            stockMovementJpaRepository.saveAll(sequence(stockMovements).stream()
+                    .map(StockMovementJpaEntity::fromDomainModel)
+                    .collect(Collectors.toList()));
+            overflowCounter.increment(stockMovements.size());
+            log.debug("이동 기록 대기 테이블이 가득 차 원장에 바로 저장: count={}, pending={}", stockMovements.size(), pending.get());
+            return;
+        }
+
+        stockMovementOutboxJpaRepository.saveAll(stockMovements.stream()
+                .map(StockMovementOutboxJpaEntity::fromDomainModel)
+                .collect(Collectors.toList()));
+        // 롤백된 기록도 다음 옮기기에서 저장소 값으로 맞춰질 때까지 세어 한도를 보수적으로 지킴
+        pending.addAndGet(stockMovements.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockMovement> findBySkuIdAfterSequence(SkuId skuId, long afterSequence, int limit) {
+        return stockMovementJpaRepository.findLedgerAfter(skuId.value(), afterSequence, PageRequest.of(0, limit)).stream()
+                .map(StockMovementJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockMovement> findUnsequencedBySkuId(SkuId skuId) {
+        return stockMovementOutboxJpaRepository.findBySkuIdOrderById(skuId.value()).stream()
+                .map(StockMovementOutboxJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public List<StockMovement> flush(int limit) {
+        List<StockMovementOutboxJpaEntity> staged =
+                stockMovementOutboxJpaRepository.findOldestForFlush(PageRequest.of(0, limit));
+        List<StockMovementJpaEntity> ledger = new ArrayList<>(staged.size());
+        if (!staged.isEmpty()) {
+            // 여러 기록기가 같은 SKU들의 순번을 할당할 때 교착을 피하도록 SKU ID 순으로 할당
+            Map<String, List<StockMovementOutboxJpaEntity>> stagedBySku = staged.stream()
+                    .collect(Collectors.groupingBy(StockMovementOutboxJpaEntity::getSkuId, TreeMap::new, Collectors.toList()));
+            stagedBySku.forEach((skuId, entities) -> {
+                long sequence = stockLedgerSequencePort.allocate(SkuId.of(skuId), entities.size()) - entities.size() + 1;
+                // 순번을 할당한 뒤의 시각이므로 같은 SKU에서는 순번 순과 시각 순이 같음
+                LocalDateTime recordedAt = LocalDateTime.now(clock);
+                for (StockMovementOutboxJpaEntity entity : entities) {
+                    ledger.add(entity.toLedgerEntity(sequence++, recordedAt));
+                }
+            });
+            stockMovementJpaRepository.saveAll(ledger);
+            stockMovementOutboxJpaRepository.deleteAllInBatch(staged);
+        }
+        pending.set(stockMovementOutboxJpaRepository.count());
+        return ledger.stream()
+                .map(StockMovementJpaEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending() {
+        long count = stockMovementOutboxJpaRepository.count();
+        pending.set(count);
+        return count;
+    }
+
+    /**
+     * 대기 테이블을 거치지 않는 기록에 SKU ID 순으로 순번을 할당합니다.
+     */
+    private List<StockMovement> sequence(List<StockMovement> stockMovements) {
+        Map<SkuId, List<StockMovement>> movementsBySku = stockMovements.stream()
+                .collect(Collectors.groupingBy(StockMovement::getSkuId,
+                        () -> new TreeMap<>(Comparator.comparing(SkuId::value)), Collectors.toList()));
+        List<StockMovement> sequenced = new ArrayList<>(stockMovements.size());
+        movementsBySku.forEach((skuId, movements) -> {
+            long sequence = stockLedgerSequencePort.allocate(skuId, movements.size()) - movements.size() + 1;
+            LocalDateTime recordedAt = LocalDateTime.now(clock);
+            for (StockMovement movement : movements) {
+                sequenced.add(movement.withSequence(sequence++, recordedAt));
+            }
+        });
+        return sequenced;
+    }
+}
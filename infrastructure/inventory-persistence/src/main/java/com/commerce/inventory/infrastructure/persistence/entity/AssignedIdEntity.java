@@ -0,0 +1,36 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 식별자를 애플리케이션에서 할당하는 엔티티의 공통 상위 클래스
+ *
+ * <p>식별자가 저장 전에 이미 정해져 있고 새 엔티티의 버전도 0부터 시작하므로, 식별자나 버전만으로는 새 엔티티를 구분할 수 없어
+ * Spring Data가 merge(SELECT 후 INSERT)를 수행합니다. 새로 만든 엔티티는 저장 전에 {@link #markAsNew()}로 표시해
+ * persist로 배치 INSERT되게 하고, 조회하거나 저장한 뒤에는 기존 엔티티로 취급합니다.</p>
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+    
+    @Transient
+    private boolean newEntity;
+    
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+    
+    public void markAsNew() {
+        this.newEntity = true;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markAsPersisted() {
+        this.newEntity = false;
+    }
+}
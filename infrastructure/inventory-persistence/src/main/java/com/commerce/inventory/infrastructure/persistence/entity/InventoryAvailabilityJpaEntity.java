@@ -0,0 +1,85 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import com.commerce.inventory.application.usecase.InventoryAvailabilityView;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가용 재고 읽기 모델
+ *
+ * <p>자체 버전으로 충돌을 감지하지 않습니다. {@code version}은 반영한 재고의 상태 버전이며, 기존 행은 이 버전이 더 클 때만
+ * 조건부 UPDATE로 덮어씁니다. 엔티티로는 새 행을 만들 때만 저장합니다.</p>
+ */
+@Entity
+@Table(name = "inventory_availability")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryAvailabilityJpaEntity implements Persistable<String> {
+    
+    @Id
+    @Column(name = "sku_id", nullable = false, length = 36)
+    private String skuId;
+    
+    @Column(name = "available_quantity", nullable = false)
+    private Integer availableQuantity;
+    
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity;
+    
+    @Column(name = "total_quantity", nullable = false)
+    private Integer totalQuantity;
+    
+    @Column(name = "version")
+    private Long version;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Transient
+    private boolean newEntity;
+    
+    public static InventoryAvailabilityJpaEntity fromView(InventoryAvailabilityView view) {
+        InventoryAvailabilityJpaEntity entity = new InventoryAvailabilityJpaEntity();
+        entity.skuId = view.skuId().value();
+        entity.newEntity = true;
+        entity.availableQuantity = view.availableQuantity();
+        entity.reservedQuantity = view.reservedQuantity();
+        entity.totalQuantity = view.totalQuantity();
+        entity.version = view.version();
+        entity.updatedAt = view.updatedAt();
+        return entity;
+    }
+    
+    public InventoryAvailabilityView toView() {
+        return new InventoryAvailabilityView(
+                SkuId.of(skuId),
+                totalQuantity,
+                reservedQuantity,
+                availableQuantity,
+                version,
+                updatedAt
+        );
+    }
+    
+    @Override
+    public String getId() {
+        return skuId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -5,8 +5,10 @@ import com.commerce.inventory.domain.model.Inventory;
 import com.commerce.inventory.domain.model.SkuId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "inventory")
@@ -14,7 +16,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-public class InventoryJpaEntity {
+public class InventoryJpaEntity extends AssignedIdEntity<String> {
     
     @Id
     @Column(name = "sku_id", nullable = false, length = 36)
@@ -26,21 +28,42 @@ public class InventoryJpaEntity {
     @Column(name = "reserved_quantity", nullable = false)
     private Integer reservedQuantity;
     
+    /**
+     * 1보다 크면 수량은 inventory_shard 행에 나눠 저장하고 이 행의 수량은 0으로 둔다
+     */
+    @Builder.Default
+    @Column(name = "shard_count", nullable = false)
+    private Integer shardCount = 1;
+    
     @Version
     @Column(name = "version", nullable = false)
     private Long version;
     
+    /**
+     * 마지막으로 할당한 재고 원장 순번. 원장 기록기만 조건 없는 UPDATE로 증가시키고 재고 저장에서는 쓰지 않는다
+     */
+    @ColumnDefault("0")
+    @Column(name = "ledger_sequence", nullable = false, insertable = false, updatable = false)
+    private Long ledgerSequence;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    @Override
+    public String getId() {
+        return skuId;
+    }
+    
     public static InventoryJpaEntity fromDomainModel(Inventory inventory) {
+        boolean sharded = inventory.isSharded();
         return InventoryJpaEntity.builder()
                 .skuId(inventory.getSkuId().value())
-                .totalQuantity(inventory.getTotalQuantity().value())
-                .reservedQuantity(inventory.getReservedQuantity().value())
+                .totalQuantity(sharded ? 0 : inventory.getTotalQuantity().value())
+                .reservedQuantity(sharded ? 0 : inventory.getReservedQuantity().value())
+                .shardCount(inventory.getShardCount())
                 .version(inventory.getVersion())
                 .createdAt(inventory.getCreatedAt())
                 .updatedAt(inventory.getUpdatedAt())
@@ -57,4 +80,18 @@ public class InventoryJpaEntity {
                 updatedAt
         );
     }
-}
\ No newline at end of file
+    
+    public boolean isSharded() {
+        return shardCount != null && shardCount > 1;
+    }
+    
+    public Inventory toDomainModel(List<InventoryShardJpaEntity> shards) {
+        return Inventory.restore(
+                SkuId.of(skuId),
+                shards.stream().map(InventoryShardJpaEntity::toDomainModel).toList(),
+                version,
+                createdAt,
+                updatedAt
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.model.InventoryShard;
+import com.commerce.inventory.domain.model.SkuId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "inventory_shard")
+@IdClass(InventoryShardJpaEntity.ShardKey.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class InventoryShardJpaEntity {
+    
+    @Id
+    @Column(name = "sku_id", nullable = false, length = 36)
+    private String skuId;
+    
+    @Id
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+    
+    @Column(name = "total_quantity", nullable = false)
+    private Integer totalQuantity;
+    
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity;
+    
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public static InventoryShardJpaEntity fromDomainModel(SkuId skuId, InventoryShard shard, LocalDateTime updatedAt) {
+        return InventoryShardJpaEntity.builder()
+                .skuId(skuId.value())
+                .shardNo(shard.getShardNo())
+                .totalQuantity(shard.getTotalQuantity().value())
+                .reservedQuantity(shard.getReservedQuantity().value())
+                .version(shard.getVersion())
+                .updatedAt(updatedAt)
+                .build();
+    }
+    
+    public InventoryShard toDomainModel() {
+        return InventoryShard.restore(
+                shardNo,
+                Quantity.of(totalQuantity),
+                Quantity.of(reservedQuantity),
+                version
+        );
+    }
+    
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardKey implements Serializable {
+        private String skuId;
+        private Integer shardNo;
+    }
+}
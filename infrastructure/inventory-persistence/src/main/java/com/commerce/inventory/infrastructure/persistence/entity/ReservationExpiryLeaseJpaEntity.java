@@ -0,0 +1,42 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 예약 정리 파티션의 임대
+ *
+ * <p>임대 변경은 조건부 UPDATE로만 하고 엔티티 저장은 처음 만들 때만 하므로, 항상 새 엔티티로 취급해
+ * 다른 노드가 먼저 만든 행을 덮어쓰지 않고 기본 키 충돌로 실패하게 함</p>
+ */
+@Entity
+@Table(name = "reservation_expiry_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ReservationExpiryLeaseJpaEntity implements Persistable<Integer> {
+    
+    @Id
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+    
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+    
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+    
+    @Override
+    public Integer getId() {
+        return partitionNo;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
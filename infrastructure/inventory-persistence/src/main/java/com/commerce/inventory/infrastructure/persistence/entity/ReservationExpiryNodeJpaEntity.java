@@ -0,0 +1,38 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 예약 정리에 참여하는 노드
+ *
+ * <p>살아 있는 기한 갱신은 조건 없는 UPDATE로만 하고 엔티티 저장은 처음 만들 때만 하므로, 임대와 같이 항상 새 엔티티로 취급함</p>
+ */
+@Entity
+@Table(name = "reservation_expiry_node")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ReservationExpiryNodeJpaEntity implements Persistable<String> {
+    
+    @Id
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+    
+    @Column(name = "alive_until", nullable = false)
+    private LocalDateTime aliveUntil;
+    
+    @Override
+    public String getId() {
+        return owner;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -19,13 +19,14 @@ import java.time.LocalDateTime;
     @Index(name = "idx_reservation_order", columnList = "order_id"),
     @Index(name = "idx_reservation_sku", columnList = "sku_id"),
     @Index(name = "idx_reservation_expires", columnList = "expires_at"),
+    @Index(name = "idx_reservation_status_expires", columnList = "status, expires_at, id"),
     @Index(name = "idx_reservation_status", columnList = "status")
 })
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ReservationJpaEntity {
+public class ReservationJpaEntity extends AssignedIdEntity<String> {
     
     @Id
     @Column(name = "id", length = 36, nullable = false)
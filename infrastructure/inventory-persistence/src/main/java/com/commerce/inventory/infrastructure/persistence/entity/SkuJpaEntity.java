@@ -8,18 +8,22 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "skus")
+@Table(name = "skus", uniqueConstraints = {
+    @UniqueConstraint(name = SkuJpaEntity.CODE_CONSTRAINT, columnNames = "code")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-public class SkuJpaEntity {
+public class SkuJpaEntity extends AssignedIdEntity<String> {
+    
+    public static final String CODE_CONSTRAINT = "uk_skus_code";
     
     @Id
     @Column(name = "id", columnDefinition = "VARCHAR(36)")
     private String id;
     
-    @Column(name = "code", nullable = false, unique = true)
+    @Column(name = "code", nullable = false)
     private String code;
     
     @Column(name = "name", nullable = false)
@@ -0,0 +1,87 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockLedgerState;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장 스냅샷
+ *
+ * <p>스냅샷은 한 번 저장하면 바꾸지 않으므로 항상 새 엔티티로 취급합니다. 여러 노드가 같은 순번의 스냅샷을 만들면
+ * 한쪽은 기본 키 충돌로 실패하며, 내용은 원장으로 계산한 같은 값입니다.</p>
+ */
+@Entity
+@Table(name = "stock_ledger_snapshots", indexes = {
+    @Index(name = "idx_stock_ledger_snapshot_as_of", columnList = "sku_id, as_of")
+})
+@IdClass(StockLedgerSnapshotJpaEntity.SnapshotKey.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StockLedgerSnapshotJpaEntity implements Persistable<StockLedgerSnapshotJpaEntity.SnapshotKey> {
+    
+    @Id
+    @Column(name = "sku_id", nullable = false, length = 36)
+    private String skuId;
+    
+    @Id
+    @Column(name = "ledger_sequence", nullable = false)
+    private Long sequence;
+    
+    @Column(name = "total_quantity", nullable = false)
+    private Long totalQuantity;
+    
+    @Column(name = "reserved_quantity", nullable = false)
+    private Long reservedQuantity;
+    
+    /**
+     * 마지막으로 반영한 이동 기록이 원장 순번을 받은 시각
+     */
+    @Column(name = "as_of", nullable = false)
+    private LocalDateTime asOf;
+    
+    public static StockLedgerSnapshotJpaEntity fromDomainModel(StockLedgerState state) {
+        return StockLedgerSnapshotJpaEntity.builder()
+                .skuId(state.getSkuId().value())
+                .sequence(state.getSequence())
+                .totalQuantity(state.getTotalQuantity())
+                .reservedQuantity(state.getReservedQuantity())
+                .asOf(state.getAsOf())
+                .build();
+    }
+    
+    public StockLedgerState toDomainModel() {
+        return StockLedgerState.restore(
+                SkuId.of(skuId),
+                sequence,
+                totalQuantity,
+                reservedQuantity,
+                asOf
+        );
+    }
+    
+    @Override
+    public SnapshotKey getId() {
+        return new SnapshotKey(skuId, sequence);
+    }
+    
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+    
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SnapshotKey implements Serializable {
+        private String skuId;
+        private Long sequence;
+    }
+}
@@ -10,21 +10,31 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
+/**
+ * 재고 이동 기록
+ *
+ * <p>원장은 추가만 하므로 항상 새 엔티티로 취급해 저장 전에 존재 여부를 조회하지 않고 INSERT를 JDBC 배치로 묶습니다.
+ * (SKU, 원장 순번) 고유 인덱스로 같은 순번이 두 번 기록되지 않도록 하고, 재생 시 그 인덱스 범위만 읽습니다.</p>
+ */
 @Entity
-@Table(name = "stock_movements")
+@Table(name = "stock_movements", indexes = {
+    @Index(name = "uk_stock_movement_sku_sequence", columnList = "sku_id, ledger_sequence", unique = true)
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class StockMovementJpaEntity {
+public class StockMovementJpaEntity implements Persistable<String> {
     
     @Id
     @Column(name = "movement_id", nullable = false, length = 36)
@@ -46,6 +56,18 @@ public class StockMovementJpaEntity {
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
     
+    /**
+     * SKU별 원장 순번. 원장 도입 전의 기록은 비어 있음
+     */
+    @Column(name = "ledger_sequence")
+    private Long sequence;
+    
+    /**
+     * 원장 순번을 받은 시각. 지연 기록 모드에서는 변경 시각({@code timestamp})보다 늦고, 같은 SKU에서 순번 순과 같은 순서
+     */
+    @Column(name = "recorded_at")
+    private LocalDateTime recordedAt;
+    
     public static StockMovementJpaEntity fromDomainModel(StockMovement stockMovement) {
         return StockMovementJpaEntity.builder()
                 .movementId(stockMovement.getId().value())
@@ -54,17 +76,32 @@ public class StockMovementJpaEntity {
                 .movementType(stockMovement.getType())
                 .reference(stockMovement.getReference())
                 .timestamp(stockMovement.getTimestamp())
+                .sequence(stockMovement.getSequence())
+                .recordedAt(stockMovement.getRecordedAt())
                 .build();
     }
     
     public StockMovement toDomainModel() {
-        return StockMovement.create(
+        return StockMovement.restore(
                 new MovementId(movementId),
                 SkuId.of(skuId),
                 movementType,
                 Quantity.of(quantity),
                 reference,
-                timestamp
+                timestamp,
+                sequence,
+                // 순번을 받은 시각을 따로 기록하기 전의 기록은 변경과 함께 순번을 받았음
+                recordedAt != null ? recordedAt : timestamp
         );
     }
+    
+    @Override
+    public String getId() {
+        return movementId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return true;
+    }
 }
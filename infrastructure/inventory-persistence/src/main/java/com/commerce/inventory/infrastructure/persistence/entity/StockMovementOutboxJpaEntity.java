@@ -0,0 +1,103 @@
+package com.commerce.inventory.infrastructure.persistence.entity;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.domain.model.MovementId;
+import com.commerce.inventory.domain.model.MovementType;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockMovement;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장으로 옮겨지기를 기다리는 이동 기록
+ *
+ * <p>대기 기록은 곧 지워지므로 테이블이 작게 유지됩니다. ID는 시퀀스를 미리 할당받아 INSERT를 JDBC 배치로 묶고,
+ * 기록기는 ID 순으로 옮기므로 먼저 들어온 기록부터 원장에 저장됩니다. 원장 순번은 옮길 때 할당하므로 대기 기록에는 없습니다.</p>
+ */
+@Entity
+@Table(name = "stock_movement_outbox", indexes = {
+    @Index(name = "idx_stock_movement_outbox_sku", columnList = "sku_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movement_outbox_seq")
+    @SequenceGenerator(name = "stock_movement_outbox_seq", sequenceName = "stock_movement_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "movement_id", nullable = false, length = 36)
+    private String movementId;
+
+    @Column(name = "sku_id", nullable = false, length = 36)
+    private String skuId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false)
+    private MovementType movementType;
+
+    @Column(name = "reference", nullable = false)
+    private String reference;
+
+    @Column(name = "timestamp", nullable = false)
+    private LocalDateTime timestamp;
+
+    public static StockMovementOutboxJpaEntity fromDomainModel(StockMovement stockMovement) {
+        return StockMovementOutboxJpaEntity.builder()
+                .movementId(stockMovement.getId().value())
+                .skuId(stockMovement.getSkuId().value())
+                .quantity(stockMovement.getQuantity().value())
+                .movementType(stockMovement.getType())
+                .reference(stockMovement.getReference())
+                .timestamp(stockMovement.getTimestamp())
+                .build();
+    }
+
+    public StockMovement toDomainModel() {
+        return StockMovement.restore(
+                new MovementId(movementId),
+                SkuId.of(skuId),
+                movementType,
+                Quantity.of(quantity),
+                reference,
+                timestamp,
+                null
+        );
+    }
+
+    /**
+     * {@code recordedAt}에 할당한 순번으로 원장에 저장할 이동 기록. 이동 기록 ID를 그대로 쓰므로 같은 기록이 원장에 두 번 저장되지 않음
+     */
+    public StockMovementJpaEntity toLedgerEntity(long sequence, LocalDateTime recordedAt) {
+        return StockMovementJpaEntity.builder()
+                .movementId(movementId)
+                .skuId(skuId)
+                .quantity(quantity)
+                .movementType(movementType)
+                .reference(reference)
+                .timestamp(timestamp)
+                .sequence(sequence)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
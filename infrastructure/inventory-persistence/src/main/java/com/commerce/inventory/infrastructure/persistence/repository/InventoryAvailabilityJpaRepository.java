@@ -0,0 +1,36 @@
+package com.commerce.inventory.infrastructure.persistence.repository;
+
+import com.commerce.inventory.infrastructure.persistence.entity.InventoryAvailabilityJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryAvailabilityJpaRepository extends JpaRepository<InventoryAvailabilityJpaEntity, String> {
+    
+    /**
+     * 저장된 버전보다 새 버전일 때만 덮어씁니다.
+     *
+     * @return 갱신한 행 수 (행이 없거나 같거나 더 새 버전이 이미 있으면 0)
+     */
+    @Modifying
+    @Query("UPDATE InventoryAvailabilityJpaEntity a SET " +
+           "a.totalQuantity = :totalQuantity, a.reservedQuantity = :reservedQuantity, " +
+           "a.availableQuantity = :availableQuantity, a.version = :version, a.updatedAt = :updatedAt " +
+           "WHERE a.skuId = :skuId AND (a.version IS NULL OR a.version < :version)")
+    int updateIfNewer(
+            @Param("skuId") String skuId,
+            @Param("totalQuantity") int totalQuantity,
+            @Param("reservedQuantity") int reservedQuantity,
+            @Param("availableQuantity") int availableQuantity,
+            @Param("version") Long version,
+            @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Query("SELECT a.skuId FROM InventoryAvailabilityJpaEntity a WHERE a.skuId IN :skuIds")
+    List<String> findExistingIds(@Param("skuIds") List<String> skuIds);
+}
@@ -1,19 +1,86 @@
 package com.commerce.inventory.infrastructure.persistence.repository;
 
 import com.commerce.inventory.infrastructure.persistence.entity.InventoryJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InventoryJpaRepository extends JpaRepository<InventoryJpaEntity, String> {
     
+    /**
+     * 샤드를 사용하지 않는 재고만 잠가서 조회합니다. 샤드를 사용하는 재고는 샤드 행을 잠급니다.
+     * 여러 트랜잭션이 같은 재고들을 잠글 때 교착을 피하도록 SKU ID 순서로 잠급니다.
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT i FROM InventoryJpaEntity i WHERE i.skuId IN :skuIds")
-    List<InventoryJpaEntity> findAllByIdWithLock(@Param("skuIds") List<String> skuIds);
-}
\ No newline at end of file
+    @Query("SELECT i FROM InventoryJpaEntity i WHERE i.skuId IN :skuIds AND i.shardCount = 1 ORDER BY i.skuId")
+    List<InventoryJpaEntity> findAllUnshardedByIdWithLock(@Param("skuIds") List<String> skuIds);
+    
+    /**
+     * 샤드 사용 여부와 관계없이 SKU 행을 잠가서 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM InventoryJpaEntity i WHERE i.skuId = :skuId")
+    Optional<InventoryJpaEntity> findByIdWithLock(@Param("skuId") String skuId);
+
+    /**
+     * 가용 재고가 충분한, 샤드를 사용하지 않는 재고의 예약 수량을 늘립니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryJpaEntity i " +
+           "SET i.reservedQuantity = i.reservedQuantity + :quantity, i.version = i.version + 1, i.updatedAt = :updatedAt " +
+           "WHERE i.skuId = :skuId AND i.shardCount = 1 AND i.totalQuantity - i.reservedQuantity >= :quantity")
+    int increaseReservedIfAvailable(
+            @Param("skuId") String skuId,
+            @Param("quantity") int quantity,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 예약 수량이 충분한, 샤드를 사용하지 않는 재고의 예약 수량을 줄입니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryJpaEntity i " +
+           "SET i.reservedQuantity = i.reservedQuantity - :quantity, i.version = i.version + 1, i.updatedAt = :updatedAt " +
+           "WHERE i.skuId = :skuId AND i.shardCount = 1 AND i.reservedQuantity >= :quantity")
+    int decreaseReservedIfReserved(
+            @Param("skuId") String skuId,
+            @Param("quantity") int quantity,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 샤드를 사용하지 않는 재고의 총 수량을 늘립니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryJpaEntity i " +
+           "SET i.totalQuantity = i.totalQuantity + :quantity, i.version = i.version + 1, i.updatedAt = :updatedAt " +
+           "WHERE i.skuId = :skuId AND i.shardCount = 1")
+    int increaseTotal(
+            @Param("skuId") String skuId,
+            @Param("quantity") int quantity,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT i.totalQuantity - i.reservedQuantity FROM InventoryJpaEntity i WHERE i.skuId = :skuId")
+    Optional<Integer> findAvailableQuantity(@Param("skuId") String skuId);
+
+    @Query("SELECT i.skuId FROM InventoryJpaEntity i WHERE i.skuId > :after ORDER BY i.skuId")
+    List<String> findSkuIdsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * 재고 원장 순번을 {@code count}만큼 증가시킵니다. 재고 수량과 무관하므로 버전은 올리지 않습니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryJpaEntity i SET i.ledgerSequence = i.ledgerSequence + :count WHERE i.skuId = :skuId")
+    int increaseLedgerSequence(@Param("skuId") String skuId, @Param("count") long count);
+
+    @Query("SELECT i.ledgerSequence FROM InventoryJpaEntity i WHERE i.skuId = :skuId")
+    Optional<Long> findLedgerSequence(@Param("skuId") String skuId);
+}
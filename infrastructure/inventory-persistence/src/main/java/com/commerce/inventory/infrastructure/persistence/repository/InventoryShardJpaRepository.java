@@ -0,0 +1,46 @@
+package com.commerce.inventory.infrastructure.persistence.repository;
+
+import com.commerce.inventory.infrastructure.persistence.entity.InventoryShardJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InventoryShardJpaRepository extends JpaRepository<InventoryShardJpaEntity, InventoryShardJpaEntity.ShardKey> {
+    
+    List<InventoryShardJpaEntity> findAllBySkuIdIn(Collection<String> skuIds);
+    
+    /**
+     * 다른 트랜잭션이 잠그지 않은, 가용 재고가 남은 샤드를 {@code minShardNo}부터 찾아 잠급니다 (SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM InventoryShardJpaEntity s " +
+           "WHERE s.skuId = :skuId AND s.shardNo >= :minShardNo AND s.totalQuantity > s.reservedQuantity " +
+           "ORDER BY s.shardNo")
+    List<InventoryShardJpaEntity> findUnlockedAvailableShards(
+            @Param("skuId") String skuId,
+            @Param("minShardNo") int minShardNo,
+            Pageable pageable);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InventoryShardJpaEntity s WHERE s.skuId = :skuId AND s.shardNo = :shardNo")
+    Optional<InventoryShardJpaEntity> findByIdWithLock(@Param("skuId") String skuId, @Param("shardNo") int shardNo);
+    
+    /**
+     * SKU의 모든 샤드를 샤드 번호 순으로 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InventoryShardJpaEntity s WHERE s.skuId = :skuId ORDER BY s.shardNo")
+    List<InventoryShardJpaEntity> findAllBySkuIdWithLock(@Param("skuId") String skuId);
+}
@@ -0,0 +1,47 @@
+package com.commerce.inventory.infrastructure.persistence.repository;
+
+import com.commerce.inventory.infrastructure.persistence.entity.ReservationExpiryLeaseJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationExpiryLeaseJpaRepository extends JpaRepository<ReservationExpiryLeaseJpaEntity, Integer> {
+    
+    /**
+     * 임대가 자신의 것이거나 끝났을 때만 임대를 가져옵니다.
+     */
+    @Modifying
+    @Query("UPDATE ReservationExpiryLeaseJpaEntity l SET l.owner = :owner, l.leaseUntil = :leaseUntil " +
+           "WHERE l.partitionNo = :partitionNo AND (l.owner = :owner OR l.leaseUntil < :currentTime)")
+    int acquire(
+            @Param("partitionNo") int partitionNo,
+            @Param("owner") String owner,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+    
+    /**
+     * 노드가 유효한 임대를 가진 파티션 번호를 조회합니다.
+     */
+    @Query("SELECT l.partitionNo FROM ReservationExpiryLeaseJpaEntity l " +
+           "WHERE l.owner = :owner AND l.leaseUntil >= :currentTime")
+    List<Integer> findOwnedPartitionNos(
+            @Param("owner") String owner,
+            @Param("currentTime") LocalDateTime currentTime);
+    
+    /**
+     * 노드가 가진 임대를 끝냅니다.
+     */
+    @Modifying
+    @Query("UPDATE ReservationExpiryLeaseJpaEntity l SET l.leaseUntil = :currentTime " +
+           "WHERE l.partitionNo = :partitionNo AND l.owner = :owner")
+    int release(
+            @Param("partitionNo") int partitionNo,
+            @Param("owner") String owner,
+            @Param("currentTime") LocalDateTime currentTime);
+}
@@ -0,0 +1,30 @@
+package com.commerce.inventory.infrastructure.persistence.repository;
+
+import com.commerce.inventory.infrastructure.persistence.entity.ReservationExpiryNodeJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReservationExpiryNodeJpaRepository extends JpaRepository<ReservationExpiryNodeJpaEntity, String> {
+    
+    /**
+     * 노드가 살아 있는 기한을 늘립니다.
+     */
+    @Modifying
+    @Query("UPDATE ReservationExpiryNodeJpaEntity n SET n.aliveUntil = :aliveUntil WHERE n.owner = :owner")
+    int touch(@Param("owner") String owner, @Param("aliveUntil") LocalDateTime aliveUntil);
+    
+    /**
+     * 살아 있는 기한이 지난 노드를 지웁니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationExpiryNodeJpaEntity n WHERE n.aliveUntil < :currentTime")
+    int deleteExpired(@Param("currentTime") LocalDateTime currentTime);
+    
+    long countByAliveUntilGreaterThanEqual(LocalDateTime currentTime);
+}
@@ -1,10 +1,16 @@
 package com.commerce.inventory.infrastructure.persistence.repository;
 
 import com.commerce.inventory.infrastructure.persistence.entity.ReservationJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +21,66 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
     
     List<ReservationJpaEntity> findByOrderId(String orderId);
     
+    @Query("SELECT r FROM ReservationJpaEntity r WHERE r.orderId = :orderId AND r.inventoryId IN :inventoryIds")
+    List<ReservationJpaEntity> findByOrderIdAndInventoryIdIn(
+            @Param("orderId") String orderId,
+            @Param("inventoryIds") List<String> inventoryIds);
+    
     @Query("SELECT r FROM ReservationJpaEntity r WHERE r.id IN :ids")
     List<ReservationJpaEntity> findAllByIdIn(@Param("ids") List<String> ids);
+    
+    @Query("SELECT r.id FROM ReservationJpaEntity r WHERE r.id IN :ids")
+    List<String> findExistingIds(@Param("ids") List<String> ids);
+    
+    /**
+     * 파티션에서 (만료 시각, ID)가 커서보다 큰 만료 예약을 순서대로 잠가서 조회합니다 (SKIP LOCKED).
+     * 파티션은 ID 첫 글자의 {@code partitionAlphabet} 내 위치를 {@code partitionCount}로 나눈 나머지입니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM ReservationJpaEntity r " +
+           "WHERE r.status = :status AND r.expiresAt < :currentTime " +
+           "AND (r.expiresAt > :afterExpiresAt OR (r.expiresAt = :afterExpiresAt AND r.id > :afterId)) " +
+           "AND MOD(LOCATE(SUBSTRING(r.id, 1, 1), :partitionAlphabet), :partitionCount) = :partition " +
+           "ORDER BY r.expiresAt, r.id")
+    List<ReservationJpaEntity> findExpiredAfter(
+            @Param("status") ReservationJpaEntity.ReservationStatus status,
+            @Param("currentTime") LocalDateTime currentTime,
+            @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+            @Param("afterId") String afterId,
+            @Param("partitionAlphabet") String partitionAlphabet,
+            @Param("partitionCount") int partitionCount,
+            @Param("partition") int partition,
+            Pageable pageable);
+    
+    /**
+     * 지정한 예약 중 만료 시각이 지난 예약을 잠가서 조회합니다 (SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM ReservationJpaEntity r " +
+           "WHERE r.id IN :ids AND r.status = :status AND r.expiresAt < :currentTime " +
+           "ORDER BY r.id")
+    List<ReservationJpaEntity> findExpiredByIdIn(
+            @Param("ids") List<String> ids,
+            @Param("status") ReservationJpaEntity.ReservationStatus status,
+            @Param("currentTime") LocalDateTime currentTime);
+    
+    /**
+     * 파티션에서 상태가 같은 예약 중 (만료 시각, ID)가 커서보다 큰 예약을 순서대로 조회합니다.
+     * 파티션은 {@link #findExpiredAfter}와 같은 방식으로 나눕니다.
+     */
+    @Query("SELECT r FROM ReservationJpaEntity r " +
+           "WHERE r.status = :status " +
+           "AND (r.expiresAt > :afterExpiresAt OR (r.expiresAt = :afterExpiresAt AND r.id > :afterId)) " +
+           "AND MOD(LOCATE(SUBSTRING(r.id, 1, 1), :partitionAlphabet), :partitionCount) = :partition " +
+           "ORDER BY r.expiresAt, r.id")
+    List<ReservationJpaEntity> findByStatusAfter(
+            @Param("status") ReservationJpaEntity.ReservationStatus status,
+            @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+            @Param("afterId") String afterId,
+            @Param("partitionAlphabet") String partitionAlphabet,
+            @Param("partitionCount") int partitionCount,
+            @Param("partition") int partition,
+            Pageable pageable);
 }
\ No newline at end of file
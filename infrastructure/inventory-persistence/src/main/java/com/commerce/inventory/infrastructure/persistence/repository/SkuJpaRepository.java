@@ -2,12 +2,22 @@ package com.commerce.inventory.infrastructure.persistence.repository;
 
 import com.commerce.inventory.infrastructure.persistence.entity.SkuJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SkuJpaRepository extends JpaRepository<SkuJpaEntity, String> {
     boolean existsByCode(String code);
     Optional<SkuJpaEntity> findByCode(String code);
+    
+    @Query("SELECT s.id FROM SkuJpaEntity s WHERE s.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+    
+    @Query("SELECT s.code FROM SkuJpaEntity s WHERE s.code IN :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
 }
\ No newline at end of file
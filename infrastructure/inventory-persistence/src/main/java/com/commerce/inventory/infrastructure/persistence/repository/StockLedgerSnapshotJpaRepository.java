@@ -0,0 +1,18 @@
+package com.commerce.inventory.infrastructure.persistence.repository;
+
+import com.commerce.inventory.infrastructure.persistence.entity.StockLedgerSnapshotJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StockLedgerSnapshotJpaRepository
+        extends JpaRepository<StockLedgerSnapshotJpaEntity, StockLedgerSnapshotJpaEntity.SnapshotKey> {
+
+    Optional<StockLedgerSnapshotJpaEntity> findFirstBySkuIdOrderBySequenceDesc(String skuId);
+
+    Optional<StockLedgerSnapshotJpaEntity> findFirstBySkuIdAndAsOfLessThanEqualOrderBySequenceDesc(
+            String skuId, LocalDateTime asOf);
+}
@@ -1,9 +1,21 @@
 package com.commerce.inventory.infrastructure.persistence.repository;
 
 import com.commerce.inventory.infrastructure.persistence.entity.StockMovementJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface StockMovementJpaRepository extends JpaRepository<StockMovementJpaEntity, String> {
+
+    @Query("SELECT m FROM StockMovementJpaEntity m " +
+           "WHERE m.skuId = :skuId AND m.sequence > :afterSequence ORDER BY m.sequence")
+    List<StockMovementJpaEntity> findLedgerAfter(
+            @Param("skuId") String skuId,
+            @Param("afterSequence") long afterSequence,
+            Pageable pageable);
 }
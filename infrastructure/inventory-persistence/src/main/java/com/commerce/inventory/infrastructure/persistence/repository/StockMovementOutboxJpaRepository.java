@@ -0,0 +1,28 @@
+package com.commerce.inventory.infrastructure.persistence.repository;
+
+import com.commerce.inventory.infrastructure.persistence.entity.StockMovementOutboxJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockMovementOutboxJpaRepository extends JpaRepository<StockMovementOutboxJpaEntity, Long> {
+
+    /**
+     * 가장 오래된 대기 기록부터 잠가서 조회합니다 (SKIP LOCKED).
+     * 여러 인스턴스의 기록기가 같은 기록을 동시에 옮기지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM StockMovementOutboxJpaEntity o ORDER BY o.id")
+    List<StockMovementOutboxJpaEntity> findOldestForFlush(Pageable pageable);
+
+    List<StockMovementOutboxJpaEntity> findBySkuIdOrderById(String skuId);
+}
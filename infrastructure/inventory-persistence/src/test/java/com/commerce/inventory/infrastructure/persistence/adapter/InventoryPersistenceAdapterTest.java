@@ -3,8 +3,11 @@ package com.commerce.inventory.infrastructure.persistence.adapter;
 import com.commerce.common.domain.model.Quantity;
 import com.commerce.inventory.domain.model.Inventory;
 import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.InventoryShard;
 import com.commerce.inventory.infrastructure.persistence.entity.InventoryJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.entity.InventoryShardJpaEntity;
 import com.commerce.inventory.infrastructure.persistence.repository.InventoryJpaRepository;
+import com.commerce.inventory.infrastructure.persistence.repository.InventoryShardJpaRepository;
 import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,20 +17,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,11 +45,14 @@ class InventoryPersistenceAdapterTest {
     @Mock
     private InventoryJpaRepository inventoryJpaRepository;
     
+    @Mock
+    private InventoryShardJpaRepository inventoryShardJpaRepository;
+    
     private InventoryPersistenceAdapter adapter;
     
     @BeforeEach
     void setUp() {
-        adapter = new InventoryPersistenceAdapter(inventoryJpaRepository);
+        adapter = new InventoryPersistenceAdapter(inventoryJpaRepository, inventoryShardJpaRepository);
         // 테스트용 배치 크기 설정
         ReflectionTestUtils.setField(adapter, "batchSize", 1000);
     }
@@ -328,4 +339,210 @@ class InventoryPersistenceAdapterTest {
         assertThat(result).isEmpty();
         verify(inventoryJpaRepository, never()).findAllById(anyList());
     }
-}
\ No newline at end of file
+    
+    private InventoryJpaEntity shardedEntity(SkuId skuId, int shardCount) {
+        return InventoryJpaEntity.builder()
+                .skuId(skuId.value())
+                .totalQuantity(0)
+                .reservedQuantity(0)
+                .shardCount(shardCount)
+                .version(1L)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+    }
+    
+    private InventoryShardJpaEntity shardEntity(SkuId skuId, int shardNo, int total, int reserved) {
+        return InventoryShardJpaEntity.fromDomainModel(
+                skuId,
+                InventoryShard.restore(shardNo, Quantity.of(total), Quantity.of(reserved), 2L),
+                LocalDateTime.of(2025, 1, 1, 12, 0)
+        );
+    }
+    
+    @Test
+    @DisplayName("샤드를 사용하는 재고는 샤드 수량을 합산해 조회한다")
+    void shouldLoadShardedInventoryAsSum() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.findById(skuId.value())).thenReturn(Optional.of(shardedEntity(skuId, 2)));
+        when(inventoryShardJpaRepository.findAllBySkuIdIn(List.of(skuId.value())))
+                .thenReturn(List.of(shardEntity(skuId, 0, 30, 5), shardEntity(skuId, 1, 20, 10)));
+        
+        // when
+        Inventory inventory = adapter.load(skuId).orElseThrow();
+        
+        // then
+        assertThat(inventory.getShardCount()).isEqualTo(2);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(Quantity.of(50));
+        assertThat(inventory.getReservedQuantity()).isEqualTo(Quantity.of(15));
+    }
+    
+    @Test
+    @DisplayName("샤드 행이 샤드 수와 맞지 않으면 OptimisticLockingFailureException을 던진다")
+    void shouldThrowWhenShardRowsMismatchShardCount() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.findById(skuId.value())).thenReturn(Optional.of(shardedEntity(skuId, 3)));
+        when(inventoryShardJpaRepository.findAllBySkuIdIn(List.of(skuId.value())))
+                .thenReturn(List.of(shardEntity(skuId, 0, 30, 5)));
+        
+        // when & then
+        assertThatThrownBy(() -> adapter.load(skuId))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("샤드 구성이 변경되었습니다");
+    }
+    
+    @Test
+    @DisplayName("샤드를 사용하는 재고는 SKU 행 대신 샤드 하나를 잠그고 우선 샤드로 지정한다")
+    void shouldLockOneShardForShardedInventory() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.findAllUnshardedByIdWithLock(List.of(skuId.value()))).thenReturn(List.of());
+        when(inventoryJpaRepository.findAllById(List.of(skuId.value()))).thenReturn(List.of(shardedEntity(skuId, 2)));
+        when(inventoryShardJpaRepository.findUnlockedAvailableShards(eq(skuId.value()), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(shardEntity(skuId, 1, 20, 0)));
+        when(inventoryShardJpaRepository.findAllBySkuIdIn(List.of(skuId.value())))
+                .thenReturn(List.of(shardEntity(skuId, 0, 30, 0), shardEntity(skuId, 1, 20, 0)));
+        
+        // when
+        Inventory inventory = adapter.loadBySkuIdsWithLock(Set.of(skuId)).get(skuId);
+        
+        // then
+        assertThat(inventory.getPreferredShardNo()).isEqualTo(1);
+        assertThat(inventory.getAvailableQuantity()).isEqualTo(Quantity.of(50));
+    }
+    
+    @Test
+    @DisplayName("샤드를 사용하는 재고를 저장하면 변경된 샤드만 저장하고 SKU 행은 갱신하지 않는다")
+    void shouldSaveOnlyChangedShards() {
+        // given
+        SkuId skuId = SkuId.generate();
+        Inventory inventory = Inventory.restore(
+                skuId,
+                List.of(InventoryShard.restore(0, Quantity.of(10), Quantity.of(0), 4L),
+                        InventoryShard.restore(1, Quantity.of(10), Quantity.of(0), 7L)),
+                1L,
+                LocalDateTime.of(2025, 1, 1, 12, 0),
+                LocalDateTime.of(2025, 1, 1, 12, 0)
+        );
+        inventory.preferShard(1);
+        inventory.reserve(Quantity.of(3), "ORDER-001", 900);
+        
+        // when
+        adapter.save(inventory);
+        
+        // then
+        verify(inventoryJpaRepository, never()).save(any());
+        ArgumentCaptor<List<InventoryShardJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inventoryShardJpaRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(shard -> {
+            assertThat(shard.getShardNo()).isEqualTo(1);
+            assertThat(shard.getReservedQuantity()).isEqualTo(3);
+            assertThat(shard.getVersion()).isEqualTo(7L);
+        });
+    }
+    
+    @Test
+    @DisplayName("샤드 수를 바꾸면 SKU 행과 샤드를 함께 저장하고 없어진 샤드를 삭제한다")
+    void shouldSaveLayoutChangeAndDeleteRetiredShards() {
+        // given
+        SkuId skuId = SkuId.generate();
+        Inventory inventory = Inventory.restore(
+                skuId,
+                List.of(InventoryShard.restore(0, Quantity.of(10), Quantity.of(1), 4L),
+                        InventoryShard.restore(1, Quantity.of(10), Quantity.of(2), 7L)),
+                1L,
+                LocalDateTime.of(2025, 1, 1, 12, 0),
+                LocalDateTime.of(2025, 1, 1, 12, 0)
+        );
+        inventory.changeShardCount(1);
+        
+        // when
+        adapter.save(inventory);
+        
+        // then
+        ArgumentCaptor<InventoryJpaEntity> entityCaptor = ArgumentCaptor.forClass(InventoryJpaEntity.class);
+        verify(inventoryJpaRepository).save(entityCaptor.capture());
+        assertThat(entityCaptor.getValue().getShardCount()).isEqualTo(1);
+        assertThat(entityCaptor.getValue().getTotalQuantity()).isEqualTo(20);
+        assertThat(entityCaptor.getValue().getReservedQuantity()).isEqualTo(3);
+        
+        ArgumentCaptor<List<InventoryShardJpaEntity>> retiredCaptor = ArgumentCaptor.forClass(List.class);
+        verify(inventoryShardJpaRepository).deleteAll(retiredCaptor.capture());
+        assertThat(retiredCaptor.getValue()).extracting(InventoryShardJpaEntity::getVersion).containsExactly(4L, 7L);
+        verify(inventoryShardJpaRepository, never()).saveAll(anyList());
+    }
+    
+    @Test
+    @DisplayName("가용 재고가 충분하면 조건부 갱신으로 예약하고 남은 가용 수량을 반환한다")
+    void shouldReserveAtomicallyAndReturnRemainingQuantity() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.increaseReservedIfAvailable(eq(skuId.value()), eq(5), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(inventoryJpaRepository.findAvailableQuantity(skuId.value())).thenReturn(Optional.of(0));
+        
+        // when
+        Optional<Quantity> result = adapter.tryReserve(skuId, Quantity.of(5));
+        
+        // then
+        assertThat(result).contains(Quantity.of(0));
+    }
+    
+    @Test
+    @DisplayName("조건에 맞는 재고 행이 없으면 예약하지 않고 빈 값을 반환한다")
+    void shouldReturnEmptyWhenAtomicReserveAffectsNoRow() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.increaseReservedIfAvailable(eq(skuId.value()), eq(5), any(LocalDateTime.class)))
+                .thenReturn(0);
+        
+        // when
+        Optional<Quantity> result = adapter.tryReserve(skuId, Quantity.of(5));
+        
+        // then
+        assertThat(result).isEmpty();
+        verify(inventoryJpaRepository, never()).findAvailableQuantity(any());
+    }
+    
+    @Test
+    @DisplayName("영향받은 행 수로 예약 해제와 입고의 반영 여부를 판단한다")
+    void shouldReportAdjustmentByAffectedRowCount() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.decreaseReservedIfReserved(eq(skuId.value()), eq(3), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(inventoryJpaRepository.increaseTotal(eq(skuId.value()), eq(3), any(LocalDateTime.class)))
+                .thenReturn(1);
+        
+        // when & then
+        assertThat(adapter.tryRelease(skuId, Quantity.of(3))).isFalse();
+        assertThat(adapter.tryReceive(skuId, Quantity.of(3))).isTrue();
+    }
+    
+    @Test
+    @DisplayName("원장 순번을 개수만큼 늘리고 마지막 순번을 반환한다")
+    void shouldAllocateLedgerSequenceRange() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.increaseLedgerSequence(skuId.value(), 3)).thenReturn(1);
+        when(inventoryJpaRepository.findLedgerSequence(skuId.value())).thenReturn(Optional.of(12L));
+        
+        // when & then
+        assertThat(adapter.allocate(skuId, 3)).isEqualTo(12L);
+    }
+    
+    @Test
+    @DisplayName("재고 행이 없으면 원장 순번을 할당하지 않는다")
+    void shouldRejectLedgerSequenceForMissingInventory() {
+        // given
+        SkuId skuId = SkuId.generate();
+        when(inventoryJpaRepository.increaseLedgerSequence(skuId.value(), 1)).thenReturn(0);
+        
+        // when & then
+        assertThatThrownBy(() -> adapter.allocate(skuId, 1))
+                .isInstanceOf(IllegalStateException.class);
+        verify(inventoryJpaRepository, never()).findLedgerSequence(any());
+    }
+}
@@ -6,6 +6,7 @@ import com.commerce.inventory.domain.model.StockMovement;
 import com.commerce.inventory.infrastructure.persistence.entity.StockMovementJpaEntity;
 import com.commerce.inventory.infrastructure.persistence.repository.StockMovementJpaRepository;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -16,10 +17,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class StockMovementPersistenceAdapterTest {
@@ -74,4 +79,45 @@ class StockMovementPersistenceAdapterTest {
                 ), "출고(OUTBOUND) 이동 기록")
         );
     }
+
+    @Test
+    @DisplayName("원장 순번을 포함해 이동 기록을 일괄 저장한다")
+    void saveAllWithSequence() {
+        // Given
+        StockMovement first = StockMovement.create(SkuId.of("SKU123"), Quantity.of(10),
+                com.commerce.inventory.domain.model.MovementType.RESERVE, "RES-1", FIXED_TIME).withSequence(7);
+        StockMovement second = StockMovement.create(SkuId.of("SKU123"), Quantity.of(10),
+                com.commerce.inventory.domain.model.MovementType.RELEASE, "RES-1", FIXED_TIME).withSequence(8);
+
+        // When
+        adapter.saveAll(List.of(first, second));
+
+        // Then
+        ArgumentCaptor<List<StockMovementJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementJpaRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(StockMovementJpaEntity::getSequence)
+                .containsExactly(7L, 8L);
+        assertThat(captor.getValue()).allMatch(StockMovementJpaEntity::isNew);
+    }
+
+    @Test
+    @DisplayName("원장을 순번 다음부터 조회해 순번과 함께 복원한다")
+    void findBySkuIdAfterSequence() {
+        // Given
+        StockMovement movement = StockMovement.create(SkuId.of("SKU123"), Quantity.of(5),
+                com.commerce.inventory.domain.model.MovementType.RECEIVE, "PO-1", FIXED_TIME).withSequence(3);
+        when(stockMovementJpaRepository.findLedgerAfter(eq("SKU123"), eq(2L), any()))
+                .thenReturn(List.of(StockMovementJpaEntity.fromDomainModel(movement)));
+
+        // When
+        List<StockMovement> result = adapter.findBySkuIdAfterSequence(SkuId.of("SKU123"), 2L, 100);
+
+        // Then
+        assertThat(result).singleElement().satisfies(restored -> {
+            assertThat(restored.getId()).isEqualTo(movement.getId());
+            assertThat(restored.getSequence()).isEqualTo(3L);
+            assertThat(restored.getType()).isEqualTo(movement.getType());
+        });
+    }
 }
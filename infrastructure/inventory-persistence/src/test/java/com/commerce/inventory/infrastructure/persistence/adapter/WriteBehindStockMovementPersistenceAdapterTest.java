@@ -0,0 +1,207 @@
+package com.commerce.inventory.infrastructure.persistence.adapter;
+
+import com.commerce.common.domain.model.Quantity;
+import com.commerce.inventory.application.service.port.out.StockLedgerSequencePort;
+import com.commerce.inventory.domain.model.MovementType;
+import com.commerce.inventory.domain.model.SkuId;
+import com.commerce.inventory.domain.model.StockMovement;
+import com.commerce.inventory.infrastructure.persistence.entity.StockMovementJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.entity.StockMovementOutboxJpaEntity;
+import com.commerce.inventory.infrastructure.persistence.repository.StockMovementJpaRepository;
+import com.commerce.inventory.infrastructure.persistence.repository.StockMovementOutboxJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindStockMovementPersistenceAdapterTest {
+
+    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final SkuId SKU_ID = SkuId.of("SKU123");
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2024-01-01T10:01:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private StockMovementJpaRepository stockMovementJpaRepository;
+
+    @Mock
+    private StockMovementOutboxJpaRepository stockMovementOutboxJpaRepository;
+
+    @Mock
+    private StockLedgerSequencePort stockLedgerSequencePort;
+
+    private WriteBehindStockMovementPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = adapter(FIXED_CLOCK);
+    }
+
+    private WriteBehindStockMovementPersistenceAdapter adapter(Clock clock) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        return new WriteBehindStockMovementPersistenceAdapter(
+                stockMovementJpaRepository, stockMovementOutboxJpaRepository, stockLedgerSequencePort, clock, 2, meterRegistry);
+    }
+
+    private static StockMovement movement(SkuId skuId, String reference) {
+        return movement(skuId, reference, FIXED_TIME);
+    }
+
+    private static StockMovement movement(SkuId skuId, String reference, LocalDateTime timestamp) {
+        return StockMovement.create(skuId, Quantity.of(10), MovementType.RECEIVE, reference, timestamp);
+    }
+
+    @Test
+    @DisplayName("이동 기록은 순번 없이 원장이 아니라 대기 테이블에 저장한다")
+    void saveAllStagesMovements() {
+        // When
+        adapter.saveAll(List.of(movement(SKU_ID, "PO-1"), movement(SKU_ID, "PO-2")));
+
+        // Then
+        ArgumentCaptor<List<StockMovementOutboxJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementOutboxJpaRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(StockMovementOutboxJpaEntity::getReference)
+                .containsExactly("PO-1", "PO-2");
+        verify(stockMovementJpaRepository, never()).saveAll(any());
+        verifyNoInteractions(stockLedgerSequencePort);
+    }
+
+    @Test
+    @DisplayName("대기 테이블이 가득 차면 순번을 할당해 원장에 바로 저장한다")
+    void saveAllWritesThroughWhenFull() {
+        // Given
+        adapter.saveAll(List.of(movement(SKU_ID, "PO-1"), movement(SKU_ID, "PO-2")));
+        when(stockLedgerSequencePort.allocate(SKU_ID, 1)).thenReturn(3L);
+
+        // When
+        adapter.saveAll(List.of(movement(SKU_ID, "PO-3")));
+
+        // Then
+        ArgumentCaptor<List<StockMovementJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementJpaRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(StockMovementJpaEntity::getSequence)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("대기 기록에 SKU 순으로 순번을 할당해 같은 이동 기록 ID로 원장에 저장하고 대기 테이블에서 지운다")
+    void flushAllocatesSequencesAndMovesStagedMovementsToLedger() {
+        // Given
+        SkuId other = SkuId.of("SKU000");
+        List<StockMovementOutboxJpaEntity> staged = List.of(
+                StockMovementOutboxJpaEntity.fromDomainModel(movement(SKU_ID, "PO-1")),
+                StockMovementOutboxJpaEntity.fromDomainModel(movement(other, "PO-2")),
+                StockMovementOutboxJpaEntity.fromDomainModel(movement(SKU_ID, "PO-3")));
+        when(stockMovementOutboxJpaRepository.findOldestForFlush(any())).thenReturn(staged);
+        when(stockMovementOutboxJpaRepository.count()).thenReturn(0L);
+        when(stockLedgerSequencePort.allocate(other, 1)).thenReturn(1L);
+        when(stockLedgerSequencePort.allocate(SKU_ID, 2)).thenReturn(7L);
+
+        // When
+        List<StockMovement> flushed = adapter.flush(100);
+
+        // Then
+        InOrder order = inOrder(stockLedgerSequencePort);
+        order.verify(stockLedgerSequencePort).allocate(other, 1);
+        order.verify(stockLedgerSequencePort).allocate(SKU_ID, 2);
+
+        ArgumentCaptor<List<StockMovementJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementJpaRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(StockMovementJpaEntity::getMovementId, StockMovementJpaEntity::getSequence)
+                .containsExactly(
+                        tuple(staged.get(1).getMovementId(), 1L),
+                        tuple(staged.get(0).getMovementId(), 6L),
+                        tuple(staged.get(2).getMovementId(), 7L));
+        assertThat(flushed)
+                .extracting(StockMovement::getReference, StockMovement::getSequence)
+                .containsExactly(tuple("PO-2", 1L), tuple("PO-1", 6L), tuple("PO-3", 7L));
+        verify(stockMovementOutboxJpaRepository).deleteAllInBatch(staged);
+    }
+
+    @Test
+    @DisplayName("대기 기록과 바로 저장한 기록이 섞여도 원장에는 순번 순으로 증가하는 순번 할당 시각을 변경 시각과 따로 남긴다")
+    void interleavedStagedAndOverflowWritesRecordAllocationTimeInSequenceOrder() {
+        // Given
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:10Z"), Instant.parse("2024-01-01T10:00:20Z"));
+        WriteBehindStockMovementPersistenceAdapter interleaved = adapter(clock);
+
+        // 먼저 일어난 두 변경은 대기 테이블에 저장되고, 뒤에 일어난 변경은 대기 테이블이 가득 차 바로 원장에 저장됨
+        StockMovement first = movement(SKU_ID, "PO-1", FIXED_TIME);
+        StockMovement second = movement(SKU_ID, "PO-2", FIXED_TIME.plusSeconds(1));
+        StockMovement overflow = movement(SKU_ID, "PO-3", FIXED_TIME.plusSeconds(5));
+        interleaved.saveAll(List.of(first, second));
+        when(stockLedgerSequencePort.allocate(SKU_ID, 1)).thenReturn(1L);
+        interleaved.saveAll(List.of(overflow));
+
+        // 기록기가 나중에 대기 기록을 옮김
+        when(stockMovementOutboxJpaRepository.findOldestForFlush(any())).thenReturn(List.of(
+                StockMovementOutboxJpaEntity.fromDomainModel(first),
+                StockMovementOutboxJpaEntity.fromDomainModel(second)));
+        when(stockMovementOutboxJpaRepository.count()).thenReturn(0L);
+        when(stockLedgerSequencePort.allocate(SKU_ID, 2)).thenReturn(3L);
+
+        // When
+        interleaved.flush(100);
+
+        // Then
+        ArgumentCaptor<List<StockMovementJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementJpaRepository, times(2)).saveAll(captor.capture());
+        List<StockMovementJpaEntity> ledger = captor.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(ledger)
+                .extracting(StockMovementJpaEntity::getReference, StockMovementJpaEntity::getSequence,
+                        StockMovementJpaEntity::getTimestamp, StockMovementJpaEntity::getRecordedAt)
+                .containsExactly(
+                        tuple("PO-3", 1L, FIXED_TIME.plusSeconds(5), LocalDateTime.of(2024, 1, 1, 10, 0, 10)),
+                        tuple("PO-1", 2L, FIXED_TIME, LocalDateTime.of(2024, 1, 1, 10, 0, 20)),
+                        tuple("PO-2", 3L, FIXED_TIME.plusSeconds(1), LocalDateTime.of(2024, 1, 1, 10, 0, 20)));
+        // 변경 시각은 순번 순과 다르지만 순번을 받은 시각은 순번과 함께 증가
+        assertThat(ledger).extracting(StockMovementJpaEntity::getRecordedAt).isSorted();
+    }
+
+    @Test
+    @DisplayName("순번을 받지 못한 기록은 대기 테이블에서 저장 순으로 조회한다")
+    void findUnsequencedReadsStagedMovements() {
+        // Given
+        when(stockMovementOutboxJpaRepository.findBySkuIdOrderById("SKU123"))
+                .thenReturn(List.of(StockMovementOutboxJpaEntity.fromDomainModel(movement(SKU_ID, "PO-1"))));
+
+        // When
+        List<StockMovement> result = adapter.findUnsequencedBySkuId(SKU_ID);
+
+        // Then
+        assertThat(result)
+                .extracting(StockMovement::getReference, StockMovement::getSequence)
+                .containsExactly(tuple("PO-1", null));
+    }
+}
@@ -0,0 +1,66 @@
+package com.commerce.product.infrastructure.kafka.listener;
+
+import com.commerce.product.application.service.port.out.InventoryCachePort;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Inventory 서비스의 재고 변경 이벤트를 수신하여 가용 재고 캐시를 무효화하는 리스너
+ *
+ * <p>near-cache는 인스턴스마다 존재하므로 모든 인스턴스가 모든 이벤트를 받도록
+ * 인스턴스별 컨슈머 그룹을 사용하고, 기동 이전의 이벤트는 읽지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("!T(org.springframework.util.StringUtils).isEmpty('${spring.kafka.bootstrap-servers:}')")
+public class InventoryStockEventListener {
+    
+    /**
+     * 가용 재고를 변경하는 이벤트 타입
+     */
+    static final Set<String> STOCK_CHANGING_EVENT_TYPES = Set.of(
+            "inventory.stock.reserved",
+            "inventory.reservation.released",
+            "inventory.stock.received",
+            "inventory.stock.depleted"
+    );
+    
+    private final InventoryCachePort inventoryCachePort;
+    private final ObjectMapper objectMapper;
+    
+    @KafkaListener(
+            topics = "${inventory.cache.invalidation.topic:inventory-stock-events}",
+            groupId = "${spring.application.name:product-api}-inventory-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onStockEvent(String message) {
+        try {
+            JsonNode root = objectMapper.readTree(message);
+            String eventType = root.path("eventType").asText(null);
+            
+            if (!STOCK_CHANGING_EVENT_TYPES.contains(eventType)) {
+                log.debug("재고 캐시와 무관한 이벤트 무시: {}", eventType);
+                return;
+            }
+            
+            String skuId = root.path("aggregateId").asText(null);
+            if (skuId == null || skuId.isBlank()) {
+                log.warn("SKU ID가 없는 재고 이벤트 수신: {}", eventType);
+                return;
+            }
+            
+            inventoryCachePort.evict(skuId, eventType);
+        } catch (Exception e) {
+            // 캐시 무효화 실패는 TTL 만료로 복구되므로 컨슈머를 중단시키지 않음
+            log.error("재고 이벤트 처리 중 오류 발생: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.commerce.product.infrastructure.kafka.listener;
+
+import com.commerce.product.application.service.port.out.InventoryCachePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryStockEventListener 테스트")
+class InventoryStockEventListenerTest {
+
+    /**
+     * Inventory 서비스가 inventory-stock-events 토픽으로 보내는 EventMessage JSON
+     */
+    private static final String STOCK_RESERVED_MESSAGE = """
+            {
+              "eventId": "6f1c2a9e-3b7d-4e51-9a0f-2d8c4b6e1a37",
+              "eventType": "inventory.stock.reserved",
+              "aggregateId": "SKU-001",
+              "aggregateType": null,
+              "occurredAt": 1735732800.000000000,
+              "payload": "{\\"eventId\\":\\"0b9e7f3c-5a21-4d6e-8c4f-7e1a2b3c4d5e\\",\\"occurredAt\\":\\"2025-01-01T12:00:00\\",\\"skuId\\":{\\"value\\":\\"SKU-001\\"},\\"reservation\\":{\\"id\\":{\\"value\\":\\"RES-001\\"},\\"skuId\\":{\\"value\\":\\"SKU-001\\"},\\"quantity\\":{\\"value\\":2},\\"orderId\\":\\"ORDER-001\\",\\"status\\":\\"ACTIVE\\"},\\"aggregateId\\":\\"SKU-001\\",\\"eventType\\":\\"inventory.stock.reserved\\"}",
+              "metadata": {
+                "eventClass": "com.commerce.inventory.domain.event.StockReservedEvent",
+                "timestamp": "2025-01-01T12:00"
+              },
+              "version": 1
+            }
+            """;
+
+    @Mock
+    private InventoryCachePort inventoryCachePort;
+
+    private InventoryStockEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new InventoryStockEventListener(inventoryCachePort, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("재고 예약 이벤트를 받으면 해당 SKU의 캐시만 무효화한다")
+    void onStockEvent_evictsEventSku() {
+        // when
+        listener.onStockEvent(STOCK_RESERVED_MESSAGE);
+
+        // then
+        then(inventoryCachePort).should().evict("SKU-001", "inventory.stock.reserved");
+        then(inventoryCachePort).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("가용 재고를 바꾸지 않는 이벤트는 무시한다")
+    void onStockEvent_ignoresUnrelatedEvent() {
+        // given
+        String message = STOCK_RESERVED_MESSAGE.replace("\"eventType\": \"inventory.stock.reserved\"",
+                "\"eventType\": \"inventory.reservation.confirmed\"");
+
+        // when
+        listener.onStockEvent(message);
+
+        // then
+        then(inventoryCachePort).should(never()).evict(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("SKU ID가 없는 이벤트는 무효화하지 않는다")
+    void onStockEvent_ignoresEventWithoutSku() {
+        // given
+        String message = STOCK_RESERVED_MESSAGE.replace("\"aggregateId\": \"SKU-001\"", "\"aggregateId\": null");
+
+        // when
+        listener.onStockEvent(message);
+
+        // then
+        then(inventoryCachePort).should(never()).evict(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지를 받아도 예외를 던지지 않는다")
+    void onStockEvent_swallowsMalformedMessage() {
+        // when & then
+        assertThatCode(() -> listener.onStockEvent("{not json"))
+                .doesNotThrowAnyException();
+        then(inventoryCachePort).should(never()).evict(anyString(), anyString());
+    }
+}
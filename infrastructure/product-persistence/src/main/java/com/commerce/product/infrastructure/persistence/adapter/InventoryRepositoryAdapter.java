@@ -2,6 +2,7 @@ package com.commerce.product.infrastructure.persistence.adapter;
 
 import com.commerce.common.domain.model.Quantity;
 import com.commerce.product.domain.model.inventory.Inventory;
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
 import com.commerce.product.domain.model.inventory.SkuId;
 import com.commerce.product.domain.repository.InventoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,14 +14,19 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * Inventory 서비스와의 통신을 담당하는 Adapter
  * Product 서비스에서 Inventory 서비스의 재고 정보를 조회/수정할 때 사용
+ * 
+ * <p>조회 메서드의 비동기 버전({@code *Async})은 WebClient 호출을 블로킹하지 않고
+ * 응답이 도착하면 완료되는 Future를 반환합니다. 블로킹 메서드는 같은 호출을 기다렸다가 결과를 반환합니다.</p>
  */
 @Slf4j
 @Component
@@ -29,30 +35,44 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
     
     private final WebClient inventoryServiceWebClient;
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String AVAILABILITY_BATCH_URI = "/api/inventory/availability:batch";
+    /**
+     * Inventory 서비스의 일괄 조회 요청당 최대 SKU 수
+     */
+    static final int MAX_BATCH_SIZE = 5000;
     
     @Override
     public int getAvailableQuantity(String skuId) {
         try {
-            return inventoryServiceWebClient
-                    .get()
-                    .uri("/api/inventory/{skuId}", skuId)
-                    .retrieve()
-                    .onStatus(
-                            status -> status.equals(HttpStatus.NOT_FOUND),
-                            response -> Mono.empty()
-                    )
-                    .bodyToMono(InventoryResponse.class)
-                    .map(InventoryResponse::getAvailableQuantity)
-                    .timeout(TIMEOUT)
-                    .doOnError(error -> log.error("Failed to get available quantity for SKU: {}", skuId, error))
-                    .onErrorReturn(0)
-                    .block();
+            return availableQuantity(skuId).block();
         } catch (Exception e) {
             log.error("Error getting available quantity for SKU: {}", skuId, e);
             return 0;
         }
     }
     
+    @Override
+    public CompletableFuture<Integer> getAvailableQuantityAsync(String skuId) {
+        return availableQuantity(skuId).toFuture();
+    }
+    
+    private Mono<Integer> availableQuantity(String skuId) {
+        return inventoryServiceWebClient
+                .get()
+                .uri("/api/inventory/{skuId}", skuId)
+                .retrieve()
+                .onStatus(
+                        status -> status.equals(HttpStatus.NOT_FOUND),
+                        response -> Mono.empty()
+                )
+                .bodyToMono(InventoryResponse.class)
+                .map(InventoryResponse::getAvailableQuantity)
+                .defaultIfEmpty(0)
+                .timeout(TIMEOUT)
+                .doOnError(error -> log.error("Failed to get available quantity for SKU: {}", skuId, error))
+                .onErrorReturn(0);
+    }
+    
     @Override
     public String reserveStock(String skuId, int quantity, String orderId) {
         try {
@@ -132,6 +152,84 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         throw new UnsupportedOperationException("Product service cannot directly save inventory");
     }
     
+    @Override
+    public Map<String, Integer> getAvailableQuantities(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        try {
+            return availableQuantities(skuIds).block();
+        } catch (Exception e) {
+            log.error("Error getting available quantities for {} SKUs", skuIds.size(), e);
+            return Map.of();
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Integer>> getAvailableQuantitiesAsync(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        
+        return availableQuantities(skuIds).toFuture();
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Integer>> getLatestAvailableQuantitiesAsync(Collection<String> skuIds) {
+        return getAvailableQuantitiesAsync(skuIds);
+    }
+    
+    private Mono<Map<String, Integer>> availableQuantities(Collection<String> skuIds) {
+        return fetchInventories(skuIds.stream().distinct().collect(Collectors.toList()))
+                .collectMap(InventoryResponse::getSkuId, InventoryResponse::getAvailableQuantity)
+                .timeout(TIMEOUT)
+                .onErrorResume(error -> {
+                    log.error("Error getting available quantities for {} SKUs", skuIds.size(), error);
+                    return Mono.just(Map.of());
+                });
+    }
+    
+    @Override
+    public Map<String, InventorySnapshot> getInventorySnapshots(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        try {
+            return inventorySnapshots(skuIds).block();
+        } catch (Exception e) {
+            log.error("Error getting inventory snapshots for {} SKUs", skuIds.size(), e);
+            return Map.of();
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, InventorySnapshot>> getInventorySnapshotsAsync(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        
+        return inventorySnapshots(skuIds).toFuture();
+    }
+    
+    private Mono<Map<String, InventorySnapshot>> inventorySnapshots(Collection<String> skuIds) {
+        return fetchInventories(skuIds.stream().distinct().collect(Collectors.toList()))
+                .collectMap(
+                        InventoryResponse::getSkuId,
+                        response -> new InventorySnapshot(
+                                response.getSkuId(),
+                                response.getAvailableQuantity(),
+                                response.getVersion()
+                        )
+                )
+                .timeout(TIMEOUT)
+                .onErrorResume(error -> {
+                    log.error("Error getting inventory snapshots for {} SKUs", skuIds.size(), error);
+                    return Mono.just(Map.of());
+                });
+    }
+    
     @Override
     public Map<SkuId, Inventory> findBySkuIds(List<SkuId> skuIds) {
         if (skuIds == null || skuIds.isEmpty()) {
@@ -144,21 +242,7 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
                     .distinct()
                     .collect(Collectors.toList());
             
-            return Flux.fromIterable(skuIdStrings)
-                    .flatMap(skuId -> inventoryServiceWebClient
-                            .get()
-                            .uri("/api/inventory/{skuId}", skuId)
-                            .retrieve()
-                            .onStatus(
-                                    status -> status.equals(HttpStatus.NOT_FOUND),
-                                    response -> Mono.empty()
-                            )
-                            .bodyToMono(InventoryResponse.class)
-                            .onErrorResume(error -> {
-                                log.error("Error fetching inventory for SKU: {}", skuId, error);
-                                return Mono.empty();
-                            })
-                    )
+            return fetchInventories(skuIdStrings)
                     .collectMap(
                             response -> new SkuId(response.getSkuId()),
                             response -> (Inventory) new InventoryImpl(
@@ -176,6 +260,28 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         }
     }
     
+    /**
+     * SKU 목록을 {@link #MAX_BATCH_SIZE} 단위로 나누어 일괄 조회 엔드포인트를 호출합니다.
+     * SKU마다 요청하던 방식과 달리 요청 수가 SKU 수가 아닌 배치 수에 비례합니다.
+     * 실패한 배치는 로깅 후 건너뛰므로 성공한 배치의 결과만 반환됩니다.
+     */
+    private Flux<InventoryResponse> fetchInventories(List<String> skuIds) {
+        return Flux.fromIterable(skuIds)
+                .buffer(MAX_BATCH_SIZE)
+                .concatMap(chunk -> inventoryServiceWebClient
+                        .post()
+                        .uri(AVAILABILITY_BATCH_URI)
+                        .bodyValue(new AvailabilityBatchRequest(chunk))
+                        .retrieve()
+                        .bodyToMono(AvailabilityBatchResponse.class)
+                        .onErrorResume(error -> {
+                            log.error("Error fetching inventory batch of {} SKUs", chunk.size(), error);
+                            return Mono.empty();
+                        })
+                )
+                .flatMapIterable(response -> response.getItems() != null ? response.getItems() : List.of());
+    }
+    
     /**
      * Inventory 서비스 응답 DTO
      */
@@ -188,6 +294,27 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         private int totalQuantity;
         private int reservedQuantity;
         private int availableQuantity;
+        private Long version;
+    }
+    
+    /**
+     * 재고 일괄 조회 요청 DTO
+     */
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    private static class AvailabilityBatchRequest {
+        private List<String> skuIds;
+    }
+    
+    /**
+     * 재고 일괄 조회 응답 DTO
+     */
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    private static class AvailabilityBatchResponse {
+        private List<InventoryResponse> items;
     }
     
     /**
@@ -2,8 +2,12 @@ package com.commerce.product.infrastructure.persistence.adapter;
 
 import com.commerce.product.domain.model.DistributedLock;
 import com.commerce.product.domain.repository.LockRepository;
-import lombok.RequiredArgsConstructor;
+import com.commerce.product.infrastructure.persistence.lock.LockReleaseNotifier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
@@ -11,20 +15,39 @@ import org.springframework.stereotype.Repository;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * Redis 기반 분산 락 Adapter
+ *
+ * <p>락 키는 {@code distributed_lock:} 접두사만 붙여 저장하므로, Redis Cluster에서는 키마다 서로 다른 슬롯에 흩어집니다.
+ * 단건 락과 여러 락은 같은 키를 쓰므로 서로 배제됩니다. 여러 락은 같은 슬롯의 키끼리 Lua 스크립트 하나로 모두 획득하거나
+ * 모두 실패하고, 슬롯 순서대로 획득하다 한 슬롯이라도 실패하면 앞서 획득한 슬롯의 락을 되돌립니다.
+ * 단일 노드 Redis에서는 모든 키를 스크립트 하나로 처리합니다.</p>
+ *
+ * <p>락 해제 시 {@link LockReleaseNotifier#CHANNEL_PREFIX} 채널로 알림을 발행합니다. {@link LockReleaseNotifier}가
+ * 등록되어 있으면 대기 중인 호출은 해제 알림을 받는 즉시 다시 시도하고, 알림이 없어도
+ * 재시도 간격마다 다시 시도합니다. 등록되어 있지 않으면 {@value #LOCK_RETRY_INTERVAL_MS}ms 간격으로 폴링합니다.</p>
+ */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class RedisLockRepositoryAdapter implements LockRepository {
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final LockReleaseNotifier releaseNotifier;
+    
+    /**
+     * Redis Cluster이면 여러 락을 슬롯별로 나눠 획득/해제한다
+     */
+    private final boolean cluster;
     
     private static final String LOCK_PREFIX = "distributed_lock:";
     private static final long LOCK_RETRY_INTERVAL_MS = 50L;
     private static final String RELEASE_SCRIPT = 
         "if redis.call('get', KEYS[1]) == ARGV[1] then " +
-        "   return redis.call('del', KEYS[1]) " +
+        "   redis.call('del', KEYS[1]) " +
+        "   redis.call('publish', '" + LockReleaseNotifier.CHANNEL_PREFIX + "' .. KEYS[1], '1') " +
+        "   return 1 " +
         "else " +
         "   return 0 " +
         "end";
@@ -36,42 +59,82 @@ public class RedisLockRepositoryAdapter implements LockRepository {
         "   return 0 " +
         "end";
     
+    /**
+     * 모든 키가 비어 있을 때만 한 번에 설정하여, 일부 락만 보유하는 상태를 만들지 않는다
+     */
+    private static final String ACQUIRE_ALL_SCRIPT = 
+        "for i = 1, #KEYS do " +
+        "   if redis.call('exists', KEYS[i]) == 1 then " +
+        "      return 0 " +
+        "   end " +
+        "end " +
+        "for i = 1, #KEYS do " +
+        "   redis.call('set', KEYS[i], ARGV[1], 'PX', ARGV[2]) " +
+        "end " +
+        "return 1";
+    
+    /**
+     * KEYS[i]의 값이 ARGV[i]와 같을 때만 삭제하고, 삭제한 키 수를 반환한다
+     */
+    private static final String RELEASE_ALL_SCRIPT = 
+        "local released = 0 " +
+        "for i = 1, #KEYS do " +
+        "   if redis.call('get', KEYS[i]) == ARGV[i] then " +
+        "      released = released + redis.call('del', KEYS[i]) " +
+        "      redis.call('publish', '" + LockReleaseNotifier.CHANNEL_PREFIX + "' .. KEYS[i], '1') " +
+        "   end " +
+        "end " +
+        "return released";
+    
+    /**
+     * 해제 알림 없이 {@value #LOCK_RETRY_INTERVAL_MS}ms 간격으로 폴링하는 Adapter를 생성합니다.
+     */
+    public RedisLockRepositoryAdapter(RedisTemplate<String, String> redisTemplate) {
+        this(redisTemplate, (LockReleaseNotifier) null);
+    }
+    
+    @Autowired
+    public RedisLockRepositoryAdapter(RedisTemplate<String, String> redisTemplate,
+                                      ObjectProvider<LockReleaseNotifier> releaseNotifier) {
+        this(redisTemplate, releaseNotifier.getIfAvailable(),
+            redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory && factory.isClusterAware());
+    }
+    
+    RedisLockRepositoryAdapter(RedisTemplate<String, String> redisTemplate, LockReleaseNotifier releaseNotifier) {
+        this(redisTemplate, releaseNotifier, false);
+    }
+    
+    RedisLockRepositoryAdapter(RedisTemplate<String, String> redisTemplate,
+                               LockReleaseNotifier releaseNotifier,
+                               boolean cluster) {
+        this.redisTemplate = redisTemplate;
+        this.releaseNotifier = releaseNotifier;
+        this.cluster = cluster;
+    }
+    
     @Override
     public Optional<DistributedLock> acquireLock(String key, Duration leaseDuration, Duration waitTimeout) {
-        String lockKey = LOCK_PREFIX + key;
+        String lockKey = lockKey(key);
         String lockId = UUID.randomUUID().toString();
         
-        long startTime = System.currentTimeMillis();
-        long waitTimeoutMillis = waitTimeout.toMillis();
-        
-        while (System.currentTimeMillis() - startTime < waitTimeoutMillis) {
+        return acquireWithWait(List.of(lockKey), waitTimeout, key, () -> {
             Boolean acquired = redisTemplate.opsForValue()
                 .setIfAbsent(lockKey, lockId, leaseDuration);
             
-            if (Boolean.TRUE.equals(acquired)) {
-                DistributedLock lock = new DistributedLock(key, lockId, Instant.now(), leaseDuration);
-                log.debug("Lock acquired: key={}, lockId={}, leaseDuration={}ms", 
-                    key, lockId, leaseDuration.toMillis());
-                return Optional.of(lock);
-            }
-            
-            try {
-                Thread.sleep(LOCK_RETRY_INTERVAL_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("Lock acquisition interrupted: key={}", key);
+            if (!Boolean.TRUE.equals(acquired)) {
                 return Optional.empty();
             }
-        }
-        
-        log.warn("Failed to acquire lock within timeout: key={}, timeout={}ms", 
-            key, waitTimeoutMillis);
-        return Optional.empty();
+            
+            DistributedLock lock = new DistributedLock(key, lockId, Instant.now(), leaseDuration);
+            log.debug("Lock acquired: key={}, lockId={}, leaseDuration={}ms", 
+                key, lockId, leaseDuration.toMillis());
+            return Optional.of(lock);
+        });
     }
     
     @Override
     public boolean releaseLock(DistributedLock lock) {
-        String lockKey = LOCK_PREFIX + lock.key();
+        String lockKey = lockKey(lock.key());
         
         DefaultRedisScript<Long> script = new DefaultRedisScript<>();
         script.setScriptText(RELEASE_SCRIPT);
@@ -95,9 +158,66 @@ public class RedisLockRepositoryAdapter implements LockRepository {
         return released;
     }
     
+    @Override
+    public Optional<List<DistributedLock>> acquireLocks(Collection<String> keys, Duration leaseDuration, Duration waitTimeout) {
+        List<String> sortedKeys = keys.stream()
+            .distinct()
+            .sorted()
+            .toList();
+        
+        if (sortedKeys.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        
+        List<String> lockKeys = sortedKeys.stream()
+            .map(RedisLockRepositoryAdapter::lockKey)
+            .toList();
+        List<List<String>> slotGroups = groupBySlot(lockKeys);
+        
+        String lockId = UUID.randomUUID().toString();
+        
+        return acquireWithWait(lockKeys, waitTimeout, sortedKeys, () -> {
+            if (!acquireAll(slotGroups, lockId, leaseDuration)) {
+                return Optional.empty();
+            }
+            
+            Instant acquiredAt = Instant.now();
+            List<DistributedLock> locks = sortedKeys.stream()
+                .map(key -> new DistributedLock(key, lockId, acquiredAt, leaseDuration))
+                .toList();
+            log.debug("Locks acquired: keys={}, lockId={}, leaseDuration={}ms", 
+                sortedKeys, lockId, leaseDuration.toMillis());
+            return Optional.of(locks);
+        });
+    }
+    
+    @Override
+    public boolean releaseLocks(Collection<DistributedLock> locks) {
+        if (locks == null || locks.isEmpty()) {
+            return true;
+        }
+        
+        Map<String, String> lockIds = new LinkedHashMap<>();
+        locks.forEach(lock -> lockIds.put(lockKey(lock.key()), lock.lockId()));
+        
+        long released = 0;
+        for (List<String> slotKeys : groupBySlot(List.copyOf(lockIds.keySet()))) {
+            released += releaseAll(slotKeys, slotKeys.stream().map(lockIds::get).toList());
+        }
+        
+        if (released == locks.size()) {
+            log.debug("Locks released: count={}", released);
+            return true;
+        }
+        
+        log.warn("Failed to release some locks (already released or expired): released={}, requested={}", 
+            released, locks.size());
+        return false;
+    }
+    
     @Override
     public Optional<DistributedLock> extendLock(DistributedLock lock, Duration newLeaseDuration) {
-        String lockKey = LOCK_PREFIX + lock.key();
+        String lockKey = lockKey(lock.key());
         
         DefaultRedisScript<Long> script = new DefaultRedisScript<>();
         script.setScriptText(EXTEND_SCRIPT);
@@ -125,7 +245,108 @@ public class RedisLockRepositoryAdapter implements LockRepository {
     
     @Override
     public boolean isLocked(String key) {
-        String lockKey = LOCK_PREFIX + key;
+        String lockKey = lockKey(key);
         return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
     }
-}
\ No newline at end of file
+    
+    /**
+     * 대기 시간 안에서 락 획득을 반복 시도합니다.
+     * 해제 알림을 사용할 수 있으면 시도 전에 대기자를 등록해, 시도와 대기 사이에 발행된 알림도 놓치지 않습니다.
+     */
+    private <T> Optional<T> acquireWithWait(List<String> lockKeys,
+                                            Duration waitTimeout,
+                                            Object logKey,
+                                            Supplier<Optional<T>> attempt) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        
+        while (true) {
+            LockReleaseNotifier.Waiter waiter = releaseNotifier != null ? releaseNotifier.register(lockKeys) : null;
+            try {
+                Optional<T> acquired = attempt.get();
+                if (acquired.isPresent()) {
+                    return acquired;
+                }
+                
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    log.warn("Failed to acquire lock within timeout: key={}, timeout={}ms", 
+                        logKey, waitTimeout.toMillis());
+                    return Optional.empty();
+                }
+                
+                if (waiter != null) {
+                    waiter.await(min(releaseNotifier.getFallbackInterval(), Duration.ofNanos(remainingNanos)));
+                } else {
+                    Thread.sleep(Math.min(LOCK_RETRY_INTERVAL_MS, Duration.ofNanos(remainingNanos).toMillis() + 1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Lock acquisition interrupted: key={}", logKey);
+                return Optional.empty();
+            } finally {
+                if (waiter != null) {
+                    waiter.close();
+                }
+            }
+        }
+    }
+    
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+    
+    /**
+     * 슬롯 순서대로 각 슬롯의 락을 모두 획득합니다. 한 슬롯이라도 실패하면 앞서 획득한 슬롯의 락을 해제해
+     * 일부 락만 보유하는 상태를 남기지 않습니다. 슬롯마다 시도만 하고 기다리지 않으므로 교착 상태가 생기지 않습니다.
+     */
+    private boolean acquireAll(List<List<String>> slotGroups, String lockId, Duration leaseDuration) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(ACQUIRE_ALL_SCRIPT);
+        script.setResultType(Long.class);
+        
+        for (int i = 0; i < slotGroups.size(); i++) {
+            Long acquired = redisTemplate.execute(
+                script, 
+                slotGroups.get(i), 
+                lockId, 
+                String.valueOf(leaseDuration.toMillis())
+            );
+            
+            if (acquired == null || acquired <= 0) {
+                for (List<String> acquiredKeys : slotGroups.subList(0, i)) {
+                    releaseAll(acquiredKeys, Collections.nCopies(acquiredKeys.size(), lockId));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private long releaseAll(List<String> lockKeys, List<String> lockIds) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(RELEASE_ALL_SCRIPT);
+        script.setResultType(Long.class);
+        
+        Long result = redisTemplate.execute(script, lockKeys, lockIds.toArray());
+        return result != null ? result : 0;
+    }
+    
+    /**
+     * 여러 키를 다루는 Lua 스크립트는 Redis Cluster에서 모든 키가 같은 슬롯에 있어야 실행되므로, 키를 슬롯 번호 순으로 묶습니다.
+     * 단일 노드이면 모든 키를 한 묶음으로 돌려줍니다.
+     */
+    private List<List<String>> groupBySlot(List<String> lockKeys) {
+        if (!cluster) {
+            return List.of(lockKeys);
+        }
+        
+        Map<Integer, List<String>> bySlot = new TreeMap<>();
+        lockKeys.forEach(lockKey -> bySlot.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(lockKey), slot -> new ArrayList<>())
+            .add(lockKey));
+        return List.copyOf(bySlot.values());
+    }
+    
+    static String lockKey(String key) {
+        return LOCK_PREFIX + key;
+    }
+}
@@ -0,0 +1,131 @@
+package com.commerce.product.infrastructure.persistence.cache;
+
+import com.commerce.product.domain.model.inventory.Inventory;
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
+import com.commerce.product.domain.model.inventory.SkuId;
+import com.commerce.product.domain.repository.InventoryRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 모든 호출을 위임 대상에 그대로 전달하는 InventoryRepository 데코레이터의 기본 클래스
+ * 하위 클래스는 부가 기능이 필요한 메서드만 재정의합니다.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public abstract class ForwardingInventoryRepository implements InventoryRepository {
+    
+    protected final InventoryRepository delegate;
+    
+    protected ForwardingInventoryRepository(InventoryRepository delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public int getAvailableQuantity(String skuId) {
+        return delegate.getAvailableQuantity(skuId);
+    }
+    
+    @Override
+    public Map<String, Integer> getAvailableQuantities(Collection<String> skuIds) {
+        return delegate.getAvailableQuantities(skuIds);
+    }
+    
+    @Override
+    public int getLatestAvailableQuantity(String skuId) {
+        return delegate.getLatestAvailableQuantity(skuId);
+    }
+    
+    @Override
+    public Map<String, Integer> getLatestAvailableQuantities(Collection<String> skuIds) {
+        return delegate.getLatestAvailableQuantities(skuIds);
+    }
+    
+    @Override
+    public Map<String, InventorySnapshot> getInventorySnapshots(Collection<String> skuIds) {
+        return delegate.getInventorySnapshots(skuIds);
+    }
+    
+    @Override
+    public CompletableFuture<Integer> getAvailableQuantityAsync(String skuId) {
+        return delegate.getAvailableQuantityAsync(skuId);
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Integer>> getAvailableQuantitiesAsync(Collection<String> skuIds) {
+        return delegate.getAvailableQuantitiesAsync(skuIds);
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Integer>> getLatestAvailableQuantitiesAsync(Collection<String> skuIds) {
+        return delegate.getLatestAvailableQuantitiesAsync(skuIds);
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, InventorySnapshot>> getInventorySnapshotsAsync(Collection<String> skuIds) {
+        return delegate.getInventorySnapshotsAsync(skuIds);
+    }
+    
+    @Override
+    public String reserveStock(String skuId, int quantity, String orderId) {
+        return delegate.reserveStock(skuId, quantity, orderId);
+    }
+    
+    @Override
+    public void releaseReservation(String reservationId) {
+        delegate.releaseReservation(reservationId);
+    }
+    
+    @Override
+    public Optional<Inventory> findBySkuId(SkuId skuId) {
+        return delegate.findBySkuId(skuId);
+    }
+    
+    @Override
+    public void save(Inventory inventory) {
+        delegate.save(inventory);
+    }
+    
+    @Override
+    public Map<SkuId, Inventory> findBySkuIds(List<SkuId> skuIds) {
+        return delegate.findBySkuIds(skuIds);
+    }
+    
+    @Override
+    public Object save(Object entity) {
+        return delegate.save(entity);
+    }
+    
+    @Override
+    public List saveAll(List entities) {
+        return delegate.saveAll(entities);
+    }
+    
+    @Override
+    public Optional findById(Object id) {
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public List findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public void delete(Object entity) {
+        delegate.delete(entity);
+    }
+    
+    @Override
+    public void deleteById(Object id) {
+        delegate.deleteById(id);
+    }
+    
+    @Override
+    public boolean existsById(Object id) {
+        return delegate.existsById(id);
+    }
+}
@@ -0,0 +1,228 @@
+package com.commerce.product.infrastructure.persistence.cache;
+
+import com.commerce.product.application.service.port.out.InventoryCachePort;
+import com.commerce.product.domain.repository.InventoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 가용 재고 조회 결과를 프로세스 내부에 보관하는 near-cache 데코레이터
+ *
+ * <p>상품 상세 조회처럼 읽기 비중이 높은 경로의 Inventory 서비스 호출을 줄이기 위해
+ * {@link #getAvailableQuantity(String)}와 {@link #getAvailableQuantities(Collection)} 결과를
+ * 크기와 TTL이 제한된 캐시에 보관합니다. 비동기 버전도 같은 캐시를 사용합니다. 캐시 항목은 Inventory 서비스의 재고 변경 이벤트를 수신하면
+ * {@link #evict(String, String)}로 무효화되며, TTL은 이벤트 유실에 대비한 안전장치입니다.</p>
+ *
+ * <p>재고 예약과 예약 직전 확인({@code getLatest*})은 캐시를 거치지 않고 원본을 조회합니다.
+ * 원본에서 읽은 최신 값은 캐시에 반영하고, 예약한 SKU는 즉시 무효화합니다.
+ * 스냅샷 조회({@link #getInventorySnapshots(Collection)})는 서로 다른 시점의 값이 섞이지 않도록
+ * 캐시하지 않고 그대로 위임합니다.</p>
+ *
+ * <p>조회 실패와 재고 없음을 구분할 수 없으므로 원본 응답에 포함된 SKU만 캐시합니다.</p>
+ */
+@Slf4j
+public class NearCacheInventoryRepository extends ForwardingInventoryRepository implements InventoryCachePort {
+
+    static final String CACHE_NAME = "inventory-availability";
+
+    private final Cache<String, Integer> availableQuantities;
+
+    /**
+     * SKU별 마지막 무효화 시각(ticker 기준 나노초)
+     * 무효화 이전에 시작된 조회 결과가 캐시에 다시 들어가는 것을 막기 위해 사용합니다.
+     */
+    private final Cache<String, Long> invalidatedAt;
+
+    private final Ticker ticker;
+    private final MeterRegistry meterRegistry;
+
+    public NearCacheInventoryRepository(InventoryRepository delegate,
+                                        long maximumSize,
+                                        Duration timeToLive,
+                                        MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, timeToLive, meterRegistry, Ticker.systemTicker());
+    }
+
+    NearCacheInventoryRepository(InventoryRepository delegate,
+                                 long maximumSize,
+                                 Duration timeToLive,
+                                 MeterRegistry meterRegistry,
+                                 Ticker ticker) {
+        super(delegate);
+        this.ticker = ticker;
+        this.meterRegistry = meterRegistry;
+        this.availableQuantities = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등을 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, availableQuantities, CACHE_NAME);
+    }
+
+    @Override
+    public int getAvailableQuantity(String skuId) {
+        Integer cached = availableQuantities.getIfPresent(skuId);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loadAndCache(List.of(skuId)).getOrDefault(skuId, 0);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getAvailableQuantityAsync(String skuId) {
+        Integer cached = availableQuantities.getIfPresent(skuId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return loadAndCacheAsync(List.of(skuId))
+                .thenApply(loaded -> loaded.getOrDefault(skuId, 0));
+    }
+
+    @Override
+    public Map<String, Integer> getAvailableQuantities(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Integer> result = new HashMap<>(availableQuantities.getAllPresent(skuIds));
+        List<String> misses = missesOf(skuIds, result);
+
+        if (!misses.isEmpty()) {
+            result.putAll(loadAndCache(misses));
+        }
+
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Integer>> getAvailableQuantitiesAsync(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        Map<String, Integer> result = new HashMap<>(availableQuantities.getAllPresent(skuIds));
+        List<String> misses = missesOf(skuIds, result);
+
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        return loadAndCacheAsync(misses)
+                .thenApply(loaded -> {
+                    result.putAll(loaded);
+                    return result;
+                });
+    }
+
+    @Override
+    public int getLatestAvailableQuantity(String skuId) {
+        return getLatestAvailableQuantities(List.of(skuId)).getOrDefault(skuId, 0);
+    }
+
+    @Override
+    public Map<String, Integer> getLatestAvailableQuantities(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return loadAndCache(skuIds.stream().distinct().collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Integer>> getLatestAvailableQuantitiesAsync(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return loadAndCacheAsync(skuIds.stream().distinct().collect(Collectors.toList()));
+    }
+
+    @Override
+    public String reserveStock(String skuId, int quantity, String orderId) {
+        try {
+            return delegate.reserveStock(skuId, quantity, orderId);
+        } finally {
+            evict(skuId, "reservation");
+        }
+    }
+
+    @Override
+    public void evict(String skuId, String reason) {
+        if (skuId == null) {
+            return;
+        }
+
+        invalidatedAt.put(skuId, ticker.read());
+        availableQuantities.invalidate(skuId);
+
+        Counter.builder("inventory.near-cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .tag("reason", reason != null ? reason : "unknown")
+                .register(meterRegistry)
+                .increment();
+
+        log.debug("Evicted available quantity cache. SKU: {}, reason: {}", skuId, reason);
+    }
+
+    private Map<String, Integer> loadAndCache(List<String> skuIds) {
+        long loadStartedAt = ticker.read();
+        Map<String, Integer> loaded = delegate.getLatestAvailableQuantities(skuIds);
+        cache(loaded, loadStartedAt);
+        return loaded;
+    }
+
+    private CompletableFuture<Map<String, Integer>> loadAndCacheAsync(List<String> skuIds) {
+        long loadStartedAt = ticker.read();
+        return delegate.getLatestAvailableQuantitiesAsync(skuIds)
+                .thenApply(loaded -> {
+                    cache(loaded, loadStartedAt);
+                    return loaded;
+                });
+    }
+
+    private void cache(Map<String, Integer> loaded, long loadStartedAt) {
+        loaded.forEach((skuId, quantity) -> {
+            Long lastInvalidatedAt = invalidatedAt.getIfPresent(skuId);
+            if (lastInvalidatedAt == null || lastInvalidatedAt - loadStartedAt < 0) {
+                availableQuantities.put(skuId, quantity);
+            }
+        });
+    }
+
+    private static List<String> missesOf(Collection<String> skuIds, Map<String, Integer> cached) {
+        return skuIds.stream()
+                .distinct()
+                .filter(skuId -> !cached.containsKey(skuId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 현재 캐시된 항목 수 (테스트 및 모니터링 용도)
+     */
+    long estimatedSize() {
+        return availableQuantities.estimatedSize();
+    }
+}
@@ -0,0 +1,192 @@
+package com.commerce.product.infrastructure.persistence.cache;
+
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
+import com.commerce.product.domain.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 들어온 동일한 재고 조회를 하나의 원본 호출로 합치는 single-flight 데코레이터
+ *
+ * <p>인기 상품 오픈 직후처럼 같은 SKU에 대한 조회가 동시에 몰리면, 먼저 도착한 요청(leader)만
+ * 원본을 호출하고 진행 중인 호출이 끝나기 전에 도착한 요청(follower)은 같은 결과를 공유합니다.
+ * 일괄 조회는 정렬된 SKU 집합이 같을 때만 합쳐집니다. 결과는 호출이 끝나는 즉시 버리므로
+ * 진행 중인 호출 시간 이상의 지연된 값은 반환하지 않습니다.</p>
+ *
+ * <p>블로킹 조회와 비동기 조회({@code *Async})는 같은 진행 중 호출을 공유합니다.
+ * 재고 예약과 예약 직전 확인({@code getLatest*})은 합치지 않고 그대로 위임합니다.</p>
+ *
+ * <p>{@code inventory.single-flight.calls{operation, result=leader|coalesced}} 카운터로
+ * 합쳐진 비율(coalesced / 전체)을 확인할 수 있습니다.</p>
+ */
+public class SingleFlightInventoryRepository extends ForwardingInventoryRepository {
+
+    private final ConcurrentMap<String, CompletableFuture<Integer>> inFlightQuantities = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<String>, CompletableFuture<Map<String, Integer>>> inFlightBatches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<String>, CompletableFuture<Map<String, InventorySnapshot>>> inFlightSnapshots = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightInventoryRepository(InventoryRepository delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("inventory.single-flight.in-flight", this, SingleFlightInventoryRepository::inFlightCount)
+                .description("원본 호출이 진행 중인 조회 키 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getAvailableQuantity(String skuId) {
+        if (skuId == null) {
+            return delegate.getAvailableQuantity(null);
+        }
+
+        return await(execute(inFlightQuantities, skuId, "available-quantity",
+                () -> CompletableFuture.completedFuture(delegate.getAvailableQuantity(skuId))));
+    }
+
+    @Override
+    public CompletableFuture<Integer> getAvailableQuantityAsync(String skuId) {
+        if (skuId == null) {
+            return delegate.getAvailableQuantityAsync(null);
+        }
+
+        return execute(inFlightQuantities, skuId, "available-quantity",
+                () -> delegate.getAvailableQuantityAsync(skuId));
+    }
+
+    @Override
+    public Map<String, Integer> getAvailableQuantities(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return await(execute(inFlightBatches, keyOf(skuIds), "available-quantities",
+                () -> CompletableFuture.completedFuture(
+                        Collections.unmodifiableMap(delegate.getAvailableQuantities(skuIds)))));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Integer>> getAvailableQuantitiesAsync(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return execute(inFlightBatches, keyOf(skuIds), "available-quantities",
+                () -> delegate.getAvailableQuantitiesAsync(skuIds).thenApply(Collections::unmodifiableMap));
+    }
+
+    @Override
+    public Map<String, InventorySnapshot> getInventorySnapshots(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return await(execute(inFlightSnapshots, keyOf(skuIds), "inventory-snapshots",
+                () -> CompletableFuture.completedFuture(
+                        Collections.unmodifiableMap(delegate.getInventorySnapshots(skuIds)))));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, InventorySnapshot>> getInventorySnapshotsAsync(Collection<String> skuIds) {
+        if (skuIds == null || skuIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        return execute(inFlightSnapshots, keyOf(skuIds), "inventory-snapshots",
+                () -> delegate.getInventorySnapshotsAsync(skuIds).thenApply(Collections::unmodifiableMap));
+    }
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 공유하고, 없으면 원본을 호출합니다.
+     * 블로킹 호출과 비동기 호출은 같은 진행 중 호출을 공유합니다.
+     */
+    private <K, V> CompletableFuture<V> execute(ConcurrentMap<K, CompletableFuture<V>> inFlight,
+                                                K key,
+                                                String operation,
+                                                Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            record(operation, "coalesced");
+            return existing.copy();
+        }
+
+        record(operation, "leader");
+        CompletableFuture<V> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException | Error e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+
+        loaded.whenComplete((value, error) -> {
+            // 완료 이후에 도착한 조회는 새로 호출하도록 먼저 제거
+            inFlight.remove(key, call);
+            if (error != null) {
+                call.completeExceptionally(unwrap(error));
+            } else {
+                call.complete(value);
+            }
+        });
+
+        return call.copy();
+    }
+
+    private <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // 원본에서 발생한 예외를 호출 측에 그대로 전달
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
+
+    private void record(String operation, String result) {
+        Counter.builder("inventory.single-flight.calls")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static List<String> keyOf(Collection<String> skuIds) {
+        return skuIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 현재 원본 호출이 진행 중인 조회 키 수 (테스트 및 모니터링 용도)
+     */
+    int inFlightCount() {
+        return inFlightQuantities.size() + inFlightBatches.size() + inFlightSnapshots.size();
+    }
+}
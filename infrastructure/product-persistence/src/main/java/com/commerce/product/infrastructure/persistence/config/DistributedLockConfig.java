@@ -0,0 +1,64 @@
+package com.commerce.product.infrastructure.persistence.config;
+
+import com.commerce.product.domain.repository.LockRepository;
+import com.commerce.product.infrastructure.persistence.adapter.RedisLockRepositoryAdapter;
+import com.commerce.product.infrastructure.persistence.lock.LeaseWatchdogLockRepository;
+import com.commerce.product.infrastructure.persistence.lock.StripedLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * 분산 락 데코레이터 설정
+ * LockRepository를 주입받는 곳에는 로컬 스트라이프 락 -> 리스 watchdog -> Redis 락 순서로 감싼 데코레이터가 주입됩니다.
+ * 각 단계는 {@code lock.local.enabled}, {@code lock.watchdog.enabled}로 끌 수 있습니다.
+ */
+@Configuration
+public class DistributedLockConfig {
+
+    @Value("${lock.local.enabled:true}")
+    private boolean localEnabled;
+
+    @Value("${lock.local.stripes:64}")
+    private int stripes;
+
+    @Value("${lock.watchdog.renewal-lease:5s}")
+    private Duration renewalLease;
+
+    @Bean
+    @ConditionalOnProperty(name = "lock.watchdog.enabled", havingValue = "true", matchIfMissing = true)
+    public LeaseWatchdogLockRepository leaseWatchdogLockRepository(RedisLockRepositoryAdapter redisLockRepositoryAdapter,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LeaseWatchdogLockRepository(
+                redisLockRepositoryAdapter,
+                renewalLease,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    @Primary
+    public LockRepository lockRepository(RedisLockRepositoryAdapter redisLockRepositoryAdapter,
+                                         ObjectProvider<LeaseWatchdogLockRepository> leaseWatchdogLockRepository,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        LockRepository watchdog = leaseWatchdogLockRepository.getIfAvailable();
+        LockRepository delegate = watchdog != null ? watchdog : redisLockRepositoryAdapter;
+
+        if (!localEnabled) {
+            return delegate;
+        }
+
+        return new StripedLockRepository(
+                delegate,
+                stripes,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.commerce.product.infrastructure.persistence.config;
+
+import com.commerce.product.infrastructure.persistence.adapter.InventoryRepositoryAdapter;
+import com.commerce.product.infrastructure.persistence.cache.NearCacheInventoryRepository;
+import com.commerce.product.infrastructure.persistence.cache.SingleFlightInventoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * 가용 재고 near-cache 설정
+ * InventoryRepository를 주입받는 곳에는 single-flight -> near-cache -> Adapter 순서로 감싼 데코레이터가 주입됩니다.
+ */
+@Configuration
+public class InventoryCacheConfig {
+    
+    @Value("${inventory.cache.maximum-size:10000}")
+    private long maximumSize;
+    
+    @Value("${inventory.cache.ttl:30s}")
+    private Duration timeToLive;
+    
+    @Bean
+    public NearCacheInventoryRepository nearCacheInventoryRepository(
+            InventoryRepositoryAdapter inventoryRepositoryAdapter,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new NearCacheInventoryRepository(
+                inventoryRepositoryAdapter,
+                maximumSize,
+                timeToLive,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+    
+    @Bean
+    @Primary
+    public SingleFlightInventoryRepository singleFlightInventoryRepository(
+            NearCacheInventoryRepository nearCacheInventoryRepository,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SingleFlightInventoryRepository(
+                nearCacheInventoryRepository,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.commerce.product.infrastructure.persistence.config;
+
+import com.commerce.product.infrastructure.persistence.lock.LockReleaseNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * 분산 락 대기 방식 설정
+ * {@code lock.wait.strategy=notification}(기본값)이면 락 해제 알림을 구독해 대기 중인 호출을 즉시 깨우고,
+ * {@code polling}이면 알림 없이 고정 간격으로 폴링합니다.
+ */
+@Configuration
+@ConditionalOnExpression("!T(org.springframework.util.StringUtils).isEmpty('${spring.data.redis.host:}')")
+@ConditionalOnProperty(name = "lock.wait.strategy", havingValue = "notification", matchIfMissing = true)
+public class RedisLockConfig {
+
+    @Value("${lock.wait.fallback-interval:200ms}")
+    private Duration fallbackInterval;
+
+    @Bean
+    public LockReleaseNotifier lockReleaseNotifier() {
+        return new LockReleaseNotifier(fallbackInterval);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer lockReleaseListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      LockReleaseNotifier lockReleaseNotifier) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(lockReleaseNotifier, new PatternTopic(LockReleaseNotifier.CHANNEL_PATTERN));
+        return container;
+    }
+}
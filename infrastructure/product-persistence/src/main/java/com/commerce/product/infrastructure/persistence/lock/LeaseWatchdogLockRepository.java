@@ -0,0 +1,226 @@
+package com.commerce.product.infrastructure.persistence.lock;
+
+import com.commerce.product.domain.model.DistributedLock;
+import com.commerce.product.domain.repository.LockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보유 중인 락의 리스를 짧게 유지하면서 주기적으로 갱신하는 watchdog 데코레이터
+ *
+ * <p>호출 측이 요청한 {@code leaseDuration}은 최대 보유 시간으로 사용하고, Redis에는 짧은 갱신 리스
+ * ({@code renewalLease})로 락을 잡은 뒤 {@code renewalLease / 3}마다 {@link LockRepository#extendLock}으로
+ * 갱신합니다. 노드가 죽으면 갱신도 멈추므로 SKU는 최대 보유 시간이 아니라 갱신 리스만큼만 잠긴 채 남습니다.</p>
+ *
+ * <p>락을 해제하거나 최대 보유 시간에 도달하면 갱신을 멈춥니다. 요청한 리스가 갱신 리스보다 짧으면
+ * 감시하지 않고 그대로 위임합니다.</p>
+ *
+ * <p>{@code distributed-lock.watchdog.renewals{result=renewed|lost|error}} 카운터와
+ * {@code distributed-lock.watchdog.active} 게이지로 갱신 현황과 잃어버린 리스를 확인할 수 있습니다.</p>
+ */
+@Slf4j
+public class LeaseWatchdogLockRepository implements LockRepository, AutoCloseable {
+
+    private final LockRepository delegate;
+    private final Duration renewalLease;
+    private final Duration renewalInterval;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * lockId별 갱신 작업
+     */
+    private final ConcurrentMap<String, Renewal> renewals = new ConcurrentHashMap<>();
+
+    public LeaseWatchdogLockRepository(LockRepository delegate, Duration renewalLease, MeterRegistry meterRegistry) {
+        this(delegate, renewalLease, meterRegistry, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    LeaseWatchdogLockRepository(LockRepository delegate,
+                                Duration renewalLease,
+                                MeterRegistry meterRegistry,
+                                ScheduledExecutorService scheduler) {
+        if (renewalLease == null || renewalLease.toMillis() < 3) {
+            throw new IllegalArgumentException("락 갱신 리스는 3ms 이상이어야 합니다: " + renewalLease);
+        }
+        this.delegate = delegate;
+        this.renewalLease = renewalLease;
+        this.renewalInterval = renewalLease.dividedBy(3);
+        this.meterRegistry = meterRegistry;
+        this.scheduler = scheduler;
+
+        Gauge.builder("distributed-lock.watchdog.active", renewals, ConcurrentMap::size)
+                .description("리스를 갱신 중인 락 획득 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<DistributedLock> acquireLock(String key, Duration leaseDuration, Duration waitTimeout) {
+        if (leaseDuration.compareTo(renewalLease) <= 0) {
+            return delegate.acquireLock(key, leaseDuration, waitTimeout);
+        }
+
+        return delegate.acquireLock(key, renewalLease, waitTimeout)
+                .map(lock -> watch(List.of(lock), leaseDuration).get(0));
+    }
+
+    @Override
+    public Optional<List<DistributedLock>> acquireLocks(Collection<String> keys, Duration leaseDuration, Duration waitTimeout) {
+        if (leaseDuration.compareTo(renewalLease) <= 0) {
+            return delegate.acquireLocks(keys, leaseDuration, waitTimeout);
+        }
+
+        return delegate.acquireLocks(keys, renewalLease, waitTimeout)
+                .map(locks -> locks.isEmpty() ? locks : watch(locks, leaseDuration));
+    }
+
+    @Override
+    public boolean releaseLock(DistributedLock lock) {
+        unwatch(List.of(lock));
+        return delegate.releaseLock(lock);
+    }
+
+    @Override
+    public boolean releaseLocks(Collection<DistributedLock> locks) {
+        if (locks != null) {
+            unwatch(locks);
+        }
+        return delegate.releaseLocks(locks);
+    }
+
+    @Override
+    public Optional<DistributedLock> extendLock(DistributedLock lock, Duration newLeaseDuration) {
+        return delegate.extendLock(lock, newLeaseDuration);
+    }
+
+    @Override
+    public boolean isLocked(String key) {
+        return delegate.isLocked(key);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        renewals.clear();
+    }
+
+    /**
+     * 갱신 작업을 등록하고, 호출 측에는 요청한 리스를 가진 락을 반환합니다.
+     */
+    private List<DistributedLock> watch(List<DistributedLock> locks, Duration leaseDuration) {
+        String lockId = locks.get(0).lockId();
+        Instant acquiredAt = locks.get(0).acquiredAt();
+        Renewal renewal = new Renewal(acquiredAt.plus(leaseDuration));
+        locks.forEach(lock -> renewal.locks.put(lock.key(), lock));
+
+        renewals.put(lockId, renewal);
+        renewal.future = scheduler.scheduleAtFixedRate(
+                () -> renew(lockId, renewal),
+                renewalInterval.toNanos(),
+                renewalInterval.toNanos(),
+                TimeUnit.NANOSECONDS);
+
+        return locks.stream()
+                .map(lock -> new DistributedLock(lock.key(), lock.lockId(), lock.acquiredAt(), leaseDuration))
+                .toList();
+    }
+
+    private void unwatch(Collection<DistributedLock> locks) {
+        for (DistributedLock lock : locks) {
+            renewals.computeIfPresent(lock.lockId(), (lockId, renewal) -> {
+                renewal.locks.remove(lock.key());
+                if (!renewal.locks.isEmpty()) {
+                    return renewal;
+                }
+                renewal.cancel();
+                return null;
+            });
+        }
+    }
+
+    private void renew(String lockId, Renewal renewal) {
+        Duration untilDeadline = Duration.between(Instant.now(), renewal.deadline);
+        if (untilDeadline.isNegative() || untilDeadline.isZero()) {
+            log.warn("Lock held beyond requested lease, stop renewing: lockId={}, keys={}", lockId, renewal.locks.keySet());
+            stop(lockId, renewal);
+            return;
+        }
+
+        // 최대 보유 시간을 넘겨 잡고 있지 않도록 마지막 갱신은 남은 시간만큼만 연장
+        Duration lease = untilDeadline.compareTo(renewalLease) < 0 ? untilDeadline : renewalLease;
+
+        renewal.locks.forEach((key, lock) -> {
+            try {
+                if (delegate.extendLock(lock, lease).isPresent()) {
+                    record("renewed");
+                } else if (renewal.locks.remove(key, lock)) {
+                    // 해제 중에 실패한 갱신은 잃어버린 리스로 보지 않음
+                    record("lost");
+                    log.warn("Lost lock lease while holding: key={}, lockId={}", key, lockId);
+                }
+            } catch (RuntimeException e) {
+                record("error");
+                log.warn("Failed to renew lock lease: key={}, lockId={}", key, lockId, e);
+            }
+        });
+
+        if (renewal.locks.isEmpty()) {
+            stop(lockId, renewal);
+        }
+    }
+
+    private void stop(String lockId, Renewal renewal) {
+        renewal.cancel();
+        renewals.remove(lockId, renewal);
+    }
+
+    private void record(String result) {
+        Counter.builder("distributed-lock.watchdog.renewals")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 현재 리스를 갱신 중인 락 획득 수 (테스트 및 모니터링 용도)
+     */
+    int activeCount() {
+        return renewals.size();
+    }
+
+    private static final class Renewal {
+
+        private final Instant deadline;
+        private final ConcurrentMap<String, DistributedLock> locks = new ConcurrentHashMap<>();
+        private volatile ScheduledFuture<?> future;
+
+        private Renewal(Instant deadline) {
+            this.deadline = deadline;
+        }
+
+        private void cancel() {
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.commerce.product.infrastructure.persistence.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 해제 알림을 받아 같은 키를 기다리는 호출을 깨우는 리스너
+ *
+ * <p>락 해제 스크립트는 키를 삭제한 뒤 {@code distributed_lock:released:<Redis 키>} 채널로 알림을 발행합니다.
+ * 노드마다 패턴 구독 하나로 모든 해제 알림을 받고, 프로세스 안에서 해당 키를 기다리는 호출만 깨웁니다.</p>
+ *
+ * <p>Pub/Sub 알림은 유실될 수 있고, 리스 만료로 사라진 락은 알림을 발행하지 않으므로
+ * 대기 호출은 {@link #getFallbackInterval()}마다 알림 없이도 다시 시도합니다.</p>
+ */
+@Slf4j
+public class LockReleaseNotifier implements MessageListener {
+
+    public static final String CHANNEL_PREFIX = "distributed_lock:released:";
+    public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+    private final ConcurrentMap<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final Duration fallbackInterval;
+
+    public LockReleaseNotifier(Duration fallbackInterval) {
+        if (fallbackInterval == null || fallbackInterval.isNegative() || fallbackInterval.isZero()) {
+            throw new IllegalArgumentException("락 대기 재시도 간격은 0보다 커야 합니다: " + fallbackInterval);
+        }
+        this.fallbackInterval = fallbackInterval;
+    }
+
+    /**
+     * 알림 없이 다시 시도하기까지의 최대 대기 시간
+     */
+    public Duration getFallbackInterval() {
+        return fallbackInterval;
+    }
+
+    /**
+     * 주어진 Redis 락 키 중 하나라도 해제되면 깨어나는 대기자를 등록합니다.
+     * 해제 알림을 놓치지 않도록 락 획득을 시도하기 전에 등록해야 합니다.
+     */
+    public Waiter register(Collection<String> lockKeys) {
+        Waiter waiter = new Waiter(List.copyOf(lockKeys));
+        waiter.lockKeys.forEach(lockKey -> waiters.compute(lockKey, (key, registered) -> {
+            Set<Waiter> updated = registered != null ? registered : ConcurrentHashMap.newKeySet();
+            updated.add(waiter);
+            return updated;
+        }));
+        return waiter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (!channel.startsWith(CHANNEL_PREFIX)) {
+            return;
+        }
+
+        String lockKey = channel.substring(CHANNEL_PREFIX.length());
+        Set<Waiter> registered = waiters.get(lockKey);
+        if (registered != null) {
+            registered.forEach(Waiter::signal);
+            log.debug("Lock release notified: lockKey={}, waiters={}", lockKey, registered.size());
+        }
+    }
+
+    private void unregister(Waiter waiter) {
+        waiter.lockKeys.forEach(lockKey -> waiters.computeIfPresent(lockKey, (key, registered) -> {
+            registered.remove(waiter);
+            return registered.isEmpty() ? null : registered;
+        }));
+    }
+
+    /**
+     * 현재 대기자가 등록된 락 키 수 (테스트 및 모니터링 용도)
+     */
+    int waitingKeyCount() {
+        return waiters.size();
+    }
+
+    /**
+     * 락 해제 알림을 기다리는 호출 하나
+     */
+    public final class Waiter implements AutoCloseable {
+
+        private final List<String> lockKeys;
+        private final Semaphore signals = new Semaphore(0);
+
+        private Waiter(List<String> lockKeys) {
+            this.lockKeys = lockKeys;
+        }
+
+        /**
+         * 해제 알림을 받거나 {@code timeout}이 지날 때까지 대기합니다.
+         *
+         * @return 해제 알림을 받았으면 true
+         */
+        public boolean await(Duration timeout) throws InterruptedException {
+            boolean notified = signals.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            // 대기 중에 여러 키가 해제되었어도 다시 시도는 한 번이면 충분
+            signals.drainPermits();
+            return notified;
+        }
+
+        private void signal() {
+            signals.release();
+        }
+
+        @Override
+        public void close() {
+            unregister(this);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.commerce.product.infrastructure.persistence.adapter;
 
 import com.commerce.common.domain.model.Quantity;
 import com.commerce.product.domain.model.inventory.Inventory;
+import com.commerce.product.domain.model.inventory.InventorySnapshot;
 import com.commerce.product.domain.model.inventory.SkuId;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.mockwebserver.MockResponse;
@@ -256,30 +257,11 @@ class InventoryRepositoryAdapterTest {
                 new SkuId("SKU002")
         );
         
-        Map<String, Object> response1 = Map.of(
-                "skuId", "SKU001",
-                "totalQuantity", 100,
-                "reservedQuantity", 20,
-                "availableQuantity", 80
+        enqueueBatchResponse(
+                inventoryItem("SKU001", 100, 20, 80),
+                inventoryItem("SKU002", 50, 10, 40)
         );
         
-        Map<String, Object> response2 = Map.of(
-                "skuId", "SKU002",
-                "totalQuantity", 50,
-                "reservedQuantity", 10,
-                "availableQuantity", 40
-        );
-        
-        mockWebServer.enqueue(new MockResponse()
-                .setResponseCode(200)
-                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .setBody(objectMapper.writeValueAsString(response1)));
-                
-        mockWebServer.enqueue(new MockResponse()
-                .setResponseCode(200)
-                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .setBody(objectMapper.writeValueAsString(response2)));
-        
         // when
         Map<SkuId, Inventory> result = adapter.findBySkuIds(skuIds);
         
@@ -293,6 +275,13 @@ class InventoryRepositoryAdapterTest {
         Inventory inventory2 = result.get(new SkuId("SKU002"));
         assertThat(inventory2).isNotNull();
         assertThat(inventory2.getAvailableQuantity()).isEqualTo(Quantity.of(40));
+        
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getPath()).isEqualTo("/api/inventory/availability:batch");
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"skuIds\":[\"SKU001\",\"SKU002\"]}");
     }
     
     @Test
@@ -314,27 +303,14 @@ class InventoryRepositoryAdapterTest {
     }
     
     @Test
-    void findBySkuIds_일부실패시_성공한것만반환() throws Exception {
+    void findBySkuIds_응답에없는SKU는_제외() throws Exception {
         // given
         List<SkuId> skuIds = Arrays.asList(
                 new SkuId("SKU001"),
                 new SkuId("SKU002")
         );
         
-        Map<String, Object> response1 = Map.of(
-                "skuId", "SKU001",
-                "totalQuantity", 100,
-                "reservedQuantity", 20,
-                "availableQuantity", 80
-        );
-        
-        mockWebServer.enqueue(new MockResponse()
-                .setResponseCode(200)
-                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .setBody(objectMapper.writeValueAsString(response1)));
-                
-        mockWebServer.enqueue(new MockResponse()
-                .setResponseCode(500)); // SKU002는 서버 오류
+        enqueueBatchResponse(inventoryItem("SKU001", 100, 20, 80));
         
         // when
         Map<SkuId, Inventory> result = adapter.findBySkuIds(skuIds);
@@ -344,4 +320,144 @@ class InventoryRepositoryAdapterTest {
         assertThat(result).containsKey(new SkuId("SKU001"));
         assertThat(result).doesNotContainKey(new SkuId("SKU002"));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void findBySkuIds_서버오류시_빈맵반환() {
+        // given
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(500));
+        
+        // when
+        Map<SkuId, Inventory> result = adapter.findBySkuIds(List.of(new SkuId("SKU001")));
+        
+        // then
+        assertThat(result).isEmpty();
+    }
+    
+    @Test
+    void getAvailableQuantities_성공() throws Exception {
+        // given
+        enqueueBatchResponse(
+                inventoryItem("SKU001", 100, 20, 80),
+                inventoryItem("SKU002", 50, 10, 40)
+        );
+        
+        // when
+        Map<String, Integer> result = adapter.getAvailableQuantities(List.of("SKU001", "SKU002", "SKU001"));
+        
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("SKU001", 80, "SKU002", 40));
+        
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"skuIds\":[\"SKU001\",\"SKU002\"]}");
+    }
+    
+    @Test
+    void getAvailableQuantities_최대배치크기초과시_나누어요청() throws Exception {
+        // given
+        List<String> skuIds = new java.util.ArrayList<>();
+        for (int i = 0; i <= InventoryRepositoryAdapter.MAX_BATCH_SIZE; i++) {
+            skuIds.add("SKU" + i);
+        }
+        
+        enqueueBatchResponse(inventoryItem("SKU0", 10, 0, 10));
+        enqueueBatchResponse(inventoryItem("SKU" + InventoryRepositoryAdapter.MAX_BATCH_SIZE, 5, 0, 5));
+        
+        // when
+        Map<String, Integer> result = adapter.getAvailableQuantities(skuIds);
+        
+        // then
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+        assertThat(result).hasSize(2);
+        assertThat(result.get("SKU0")).isEqualTo(10);
+        assertThat(result.get("SKU" + InventoryRepositoryAdapter.MAX_BATCH_SIZE)).isEqualTo(5);
+    }
+    
+    @Test
+    void getAvailableQuantities_빈목록시_요청하지않음() {
+        // when
+        Map<String, Integer> result = adapter.getAvailableQuantities(List.of());
+        
+        // then
+        assertThat(result).isEmpty();
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+    
+    @Test
+    void getAvailableQuantitiesAsync_성공() throws Exception {
+        // given
+        enqueueBatchResponse(
+                inventoryItem("SKU001", 100, 20, 80),
+                inventoryItem("SKU002", 50, 10, 40)
+        );
+        
+        // when
+        Map<String, Integer> result = adapter.getAvailableQuantitiesAsync(List.of("SKU001", "SKU002"))
+                .get(5, TimeUnit.SECONDS);
+        
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("SKU001", 80, "SKU002", 40));
+    }
+    
+    @Test
+    void getAvailableQuantityAsync_서버오류시_0반환() throws Exception {
+        // given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        
+        // when
+        Integer result = adapter.getAvailableQuantityAsync("SKU001").get(5, TimeUnit.SECONDS);
+        
+        // then
+        assertThat(result).isZero();
+    }
+    
+    @Test
+    void getInventorySnapshots_성공() throws Exception {
+        // given
+        Map<String, Object> sku001 = new java.util.HashMap<>(inventoryItem("SKU001", 100, 20, 80));
+        sku001.put("version", 7L);
+        Map<String, Object> sku002 = new java.util.HashMap<>(inventoryItem("SKU002", 0, 0, 0));
+        sku002.put("version", null);
+        enqueueBatchResponse(sku001, sku002);
+        
+        // when
+        Map<String, InventorySnapshot> result = adapter.getInventorySnapshots(List.of("SKU001", "SKU002"));
+        
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "SKU001", new InventorySnapshot("SKU001", 80, 7L),
+                "SKU002", new InventorySnapshot("SKU002", 0, null)
+        ));
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void getInventorySnapshots_서버오류시_빈맵반환() {
+        // given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        
+        // when
+        Map<String, InventorySnapshot> result = adapter.getInventorySnapshots(List.of("SKU001"));
+        
+        // then
+        assertThat(result).isEmpty();
+    }
+    
+    private Map<String, Object> inventoryItem(String skuId, int total, int reserved, int available) {
+        return Map.of(
+                "skuId", skuId,
+                "totalQuantity", total,
+                "reservedQuantity", reserved,
+                "availableQuantity", available
+        );
+    }
+    
+    @SafeVarargs
+    private void enqueueBatchResponse(Map<String, Object>... items) throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(objectMapper.writeValueAsString(Map.of("items", List.of(items)))));
+    }
+}
@@ -1,6 +1,7 @@
 package com.commerce.product.infrastructure.persistence.adapter;
 
 import com.commerce.product.domain.model.DistributedLock;
+import com.commerce.product.infrastructure.persistence.lock.LockReleaseNotifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,15 +10,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -192,4 +201,133 @@ class RedisLockRepositoryAdapterTest {
         assertThat(result).isFalse();
         verify(redisTemplate).hasKey("distributed_lock:" + key);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("여러 락을 한 번에 획득하면 정렬된 키 순서로 같은 lockId의 락 목록을 반환한다")
+    void acquireLocks_whenSuccessful_returnsLocksInKeyOrder() {
+        // Given
+        Duration leaseDuration = Duration.ofSeconds(30);
+        Duration waitTimeout = Duration.ofSeconds(5);
+        
+        when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(), any()))
+            .thenReturn(1L);
+        
+        // When
+        Optional<List<DistributedLock>> result = lockRepository.acquireLocks(
+            List.of("stock:SKU002", "stock:SKU001", "stock:SKU002"), leaseDuration, waitTimeout);
+        
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(DistributedLock::key)
+            .containsExactly("stock:SKU001", "stock:SKU002");
+        assertThat(result.get()).extracting(DistributedLock::lockId).containsOnly(result.get().get(0).lockId());
+        
+        verify(redisTemplate).execute(
+            any(DefaultRedisScript.class),
+            eq(List.of("distributed_lock:stock:SKU001", "distributed_lock:stock:SKU002")),
+            anyString(),
+            eq(String.valueOf(leaseDuration.toMillis()))
+        );
+    }
+    
+    @Test
+    @DisplayName("일부 키라도 잠겨 있으면 대기 시간 동안 재시도 후 Empty Optional을 반환한다")
+    void acquireLocks_whenAnyKeyLocked_returnsEmpty() {
+        // Given
+        when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(), any()))
+            .thenReturn(0L);
+        
+        // When
+        Optional<List<DistributedLock>> result = lockRepository.acquireLocks(
+            List.of("stock:SKU001", "stock:SKU002"), Duration.ofSeconds(30), Duration.ofMillis(100));
+        
+        // Then
+        assertThat(result).isEmpty();
+        verify(redisTemplate, atLeastOnce()).execute(any(DefaultRedisScript.class), anyList(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("Redis Cluster에서는 슬롯별로 획득하고, 뒤 슬롯에서 실패하면 앞서 획득한 슬롯의 락을 해제한다")
+    void acquireLocks_inCluster_rollsBackAcquiredSlots() {
+        // Given
+        RedisLockRepositoryAdapter clusterLockRepository = new RedisLockRepositoryAdapter(redisTemplate, null, true);
+        List<String> lockKeysInSlotOrder = Stream.of("distributed_lock:stock:SKU001", "distributed_lock:stock:SKU002")
+            .sorted(Comparator.comparingInt(ClusterSlotHashUtil::calculateSlot))
+            .toList();
+        assertThat(ClusterSlotHashUtil.calculateSlot(lockKeysInSlotOrder.get(0)))
+            .isNotEqualTo(ClusterSlotHashUtil.calculateSlot(lockKeysInSlotOrder.get(1)));
+        
+        when(redisTemplate.execute(any(DefaultRedisScript.class), eq(List.of(lockKeysInSlotOrder.get(0))), any(), any()))
+            .thenReturn(1L);
+        when(redisTemplate.execute(any(DefaultRedisScript.class), eq(List.of(lockKeysInSlotOrder.get(1))), any(), any()))
+            .thenReturn(0L);
+        
+        // When
+        Optional<List<DistributedLock>> result = clusterLockRepository.acquireLocks(
+            List.of("stock:SKU001", "stock:SKU002"), Duration.ofSeconds(30), Duration.ZERO);
+        
+        // Then
+        assertThat(result).isEmpty();
+        verify(redisTemplate).execute(any(DefaultRedisScript.class), eq(List.of(lockKeysInSlotOrder.get(0))), anyString());
+    }
+    
+    @Test
+    @DisplayName("일부 락만 해제되면 false를 반환한다")
+    void releaseLocks_whenPartiallyReleased_returnsFalse() {
+        // Given
+        String lockId = UUID.randomUUID().toString();
+        DistributedLock lock1 = new DistributedLock("stock:SKU001", lockId, Instant.now(), Duration.ofSeconds(30));
+        DistributedLock lock2 = new DistributedLock("stock:SKU002", lockId, Instant.now(), Duration.ofSeconds(30));
+        
+        when(redisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(), any()))
+            .thenReturn(1L);
+        
+        // When
+        boolean result = lockRepository.releaseLocks(List.of(lock1, lock2));
+        
+        // Then
+        assertThat(result).isFalse();
+        verify(redisTemplate).execute(
+            any(DefaultRedisScript.class),
+            eq(List.of("distributed_lock:stock:SKU001", "distributed_lock:stock:SKU002")),
+            eq(lockId),
+            eq(lockId)
+        );
+    }
+    
+    @Test
+    @DisplayName("락 키는 해시 태그 없이 접두사만 붙여 Redis Cluster의 슬롯에 흩어지게 한다")
+    void lockKey_addsPrefixOnly() {
+        assertThat(RedisLockRepositoryAdapter.lockKey("stock:SKU001")).isEqualTo("distributed_lock:stock:SKU001");
+        assertThat(RedisLockRepositoryAdapter.lockKey("test-lock")).isEqualTo("distributed_lock:test-lock");
+        assertThat(RedisLockRepositoryAdapter.lockKey("{order}:O001")).isEqualTo("distributed_lock:{order}:O001");
+    }
+    
+    @Test
+    @DisplayName("해제 알림을 사용하면 재시도 간격을 기다리지 않고 알림을 받는 즉시 다시 시도한다")
+    void acquireLock_withReleaseNotifier_retriesOnNotification() {
+        // Given
+        String key = "stock:SKU001";
+        LockReleaseNotifier notifier = new LockReleaseNotifier(Duration.ofSeconds(30));
+        RedisLockRepositoryAdapter notifiedLockRepository = new RedisLockRepositoryAdapter(redisTemplate, notifier);
+        
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+            .thenReturn(false)
+            .thenReturn(true);
+        
+        // When
+        long startedAt = System.nanoTime();
+        CompletableFuture<Optional<DistributedLock>> result = CompletableFuture.supplyAsync(
+            () -> notifiedLockRepository.acquireLock(key, Duration.ofSeconds(30), Duration.ofSeconds(10)));
+        
+        verify(valueOperations, timeout(1000)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        notifier.onMessage(new DefaultMessage(
+            (LockReleaseNotifier.CHANNEL_PREFIX + "distributed_lock:stock:SKU001").getBytes(StandardCharsets.UTF_8),
+            "1".getBytes(StandardCharsets.UTF_8)), null);
+        
+        // Then
+        assertThat(result.orTimeout(5, TimeUnit.SECONDS).join()).isPresent();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        verify(valueOperations, times(2)).setIfAbsent(eq("distributed_lock:stock:SKU001"), anyString(), any(Duration.class));
+    }
+}
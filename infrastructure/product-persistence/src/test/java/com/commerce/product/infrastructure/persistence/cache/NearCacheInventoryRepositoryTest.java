@@ -0,0 +1,204 @@
+package com.commerce.product.infrastructure.persistence.cache;
+
+import com.commerce.product.domain.repository.InventoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheInventoryRepositoryTest {
+    
+    private static final Duration TTL = Duration.ofSeconds(30);
+    
+    @Mock
+    private InventoryRepository delegate;
+    
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private NearCacheInventoryRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new NearCacheInventoryRepository(delegate, 100, TTL, meterRegistry, nanos::get);
+    }
+    
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환하고 원본을 호출하지 않는다")
+    void getAvailableQuantity_cachesResult() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of("SKU001", 10));
+        
+        // when
+        int first = repository.getAvailableQuantity("SKU001");
+        int second = repository.getAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        verify(delegate, times(1)).getLatestAvailableQuantities(anyCollection());
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 SKU만 원본에서 조회한다")
+    void getAvailableQuantities_loadsOnlyMisses() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of("SKU001", 10));
+        when(delegate.getLatestAvailableQuantities(List.of("SKU002")))
+                .thenReturn(Map.of("SKU002", 5));
+        repository.getAvailableQuantity("SKU001");
+        
+        // when
+        Map<String, Integer> result = repository.getAvailableQuantities(List.of("SKU001", "SKU002"));
+        
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("SKU001", 10, "SKU002", 5));
+        verify(delegate).getLatestAvailableQuantities(List.of("SKU002"));
+    }
+    
+    @Test
+    @DisplayName("비동기 조회도 같은 캐시를 사용한다")
+    void getAvailableQuantityAsync_sharesCache() throws Exception {
+        // given
+        when(delegate.getLatestAvailableQuantitiesAsync(List.of("SKU001")))
+                .thenReturn(CompletableFuture.completedFuture(Map.of("SKU001", 10)));
+        
+        // when
+        int first = repository.getAvailableQuantityAsync("SKU001").get();
+        int second = repository.getAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        verify(delegate, times(1)).getLatestAvailableQuantitiesAsync(anyCollection());
+        verify(delegate, never()).getLatestAvailableQuantities(anyCollection());
+    }
+    
+    @Test
+    @DisplayName("재고 변경 이벤트로 무효화되면 다음 조회는 원본에서 가져온다")
+    void evict_forcesReload() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of("SKU001", 10))
+                .thenReturn(Map.of("SKU001", 7));
+        repository.getAvailableQuantity("SKU001");
+        
+        // when
+        repository.evict("SKU001", "inventory.stock.reserved");
+        nanos.addAndGet(1);
+        int quantity = repository.getAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(quantity).isEqualTo(7);
+        verify(delegate, times(2)).getLatestAvailableQuantities(anyCollection());
+        assertThat(meterRegistry.get("inventory.near-cache.invalidations")
+                .tag("reason", "inventory.stock.reserved").counter().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("TTL이 지나면 원본에서 다시 조회한다")
+    void expiresAfterTtl() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of("SKU001", 10));
+        repository.getAvailableQuantity("SKU001");
+        
+        // when
+        nanos.addAndGet(TTL.toNanos() + TimeUnit.SECONDS.toNanos(1));
+        repository.getAvailableQuantity("SKU001");
+        
+        // then
+        verify(delegate, times(2)).getLatestAvailableQuantities(anyCollection());
+    }
+    
+    @Test
+    @DisplayName("원본 응답에 없는 SKU는 캐시하지 않는다")
+    void doesNotCacheMissingSku() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of());
+        
+        // when
+        int first = repository.getAvailableQuantity("SKU001");
+        int second = repository.getAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        verify(delegate, times(2)).getLatestAvailableQuantities(anyCollection());
+        assertThat(repository.estimatedSize()).isZero();
+    }
+    
+    @Test
+    @DisplayName("예약 직전 확인은 캐시를 거치지 않고 원본을 조회한다")
+    void getLatestAvailableQuantity_bypassesCache() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of("SKU001", 10))
+                .thenReturn(Map.of("SKU001", 3));
+        repository.getAvailableQuantity("SKU001");
+        
+        // when
+        int latest = repository.getLatestAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(latest).isEqualTo(3);
+        assertThat(repository.getAvailableQuantity("SKU001")).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("재고 예약은 원본으로 전달하고 해당 SKU 캐시를 무효화한다")
+    void reserveStock_evictsSku() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenReturn(Map.of("SKU001", 10));
+        when(delegate.reserveStock("SKU001", 2, "ORDER001")).thenReturn("RES001");
+        repository.getAvailableQuantity("SKU001");
+        
+        // when
+        String reservationId = repository.reserveStock("SKU001", 2, "ORDER001");
+        
+        // then
+        assertThat(reservationId).isEqualTo("RES001");
+        assertThat(repository.estimatedSize()).isZero();
+    }
+    
+    @Test
+    @DisplayName("무효화 이전에 시작된 조회 결과는 캐시에 저장하지 않는다")
+    void staleLoadAfterEvictionIsNotCached() {
+        // given
+        when(delegate.getLatestAvailableQuantities(List.of("SKU001")))
+                .thenAnswer(invocation -> {
+                    // 조회 도중 재고 변경 이벤트 도착
+                    nanos.addAndGet(1);
+                    repository.evict("SKU001", "inventory.stock.received");
+                    return Map.of("SKU001", 10);
+                });
+        
+        // when
+        int quantity = repository.getAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(quantity).isEqualTo(10);
+        assertThat(repository.estimatedSize()).isZero();
+    }
+}
@@ -0,0 +1,178 @@
+package com.commerce.product.infrastructure.persistence.cache;
+
+import com.commerce.product.domain.repository.InventoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightInventoryRepositoryTest {
+    
+    private static final int CALLERS = 8;
+    
+    @Mock
+    private InventoryRepository delegate;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightInventoryRepository repository;
+    private ExecutorService executor;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new SingleFlightInventoryRepository(delegate, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("같은 SKU에 대한 동시 조회는 원본을 한 번만 호출하고 결과를 공유한다")
+    void getAvailableQuantity_coalescesConcurrentCalls() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getAvailableQuantity("SKU001")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 10;
+        });
+        
+        // when
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> repository.getAvailableQuantity("SKU001")));
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> coalescedCount("available-quantity") == CALLERS - 1);
+        release.countDown();
+        
+        // then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(10);
+        }
+        verify(delegate, times(1)).getAvailableQuantity("SKU001");
+        assertThat(meterRegistry.get("inventory.single-flight.calls")
+                .tag("operation", "available-quantity").tag("result", "leader").counter().count()).isEqualTo(1);
+        assertThat(repository.inFlightCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("순서가 달라도 같은 SKU 집합의 일괄 조회는 하나로 합쳐진다")
+    void getAvailableQuantities_coalescesSameSkuSet() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getAvailableQuantities(anyCollection())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of("SKU001", 10, "SKU002", 5);
+        });
+        
+        // when
+        Future<Map<String, Integer>> first = executor.submit(
+                () -> repository.getAvailableQuantities(List.of("SKU001", "SKU002")));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> repository.inFlightCount() == 1);
+        Future<Map<String, Integer>> second = executor.submit(
+                () -> repository.getAvailableQuantities(List.of("SKU002", "SKU001", "SKU002")));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> coalescedCount("available-quantities") == 1);
+        release.countDown();
+        
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(1)).getAvailableQuantities(anyCollection());
+    }
+    
+    @Test
+    @DisplayName("비동기 조회와 블로킹 조회는 같은 진행 중 호출을 공유한다")
+    void asyncAndBlockingCallsShareInFlightCall() throws Exception {
+        // given
+        CompletableFuture<Integer> upstream = new CompletableFuture<>();
+        when(delegate.getAvailableQuantityAsync("SKU001")).thenReturn(upstream);
+        
+        // when
+        CompletableFuture<Integer> asyncResult = repository.getAvailableQuantityAsync("SKU001");
+        Future<Integer> blockingResult = executor.submit(() -> repository.getAvailableQuantity("SKU001"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> coalescedCount("available-quantity") == 1);
+        upstream.complete(12);
+        
+        // then
+        assertThat(asyncResult.get(5, TimeUnit.SECONDS)).isEqualTo(12);
+        assertThat(blockingResult.get(5, TimeUnit.SECONDS)).isEqualTo(12);
+        verify(delegate, never()).getAvailableQuantity(anyString());
+        assertThat(repository.inFlightCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("진행 중인 호출이 끝난 뒤의 조회는 원본을 다시 호출한다")
+    void sequentialCallsAreNotCoalesced() {
+        // given
+        when(delegate.getAvailableQuantity("SKU001")).thenReturn(10).thenReturn(7);
+        
+        // when
+        int first = repository.getAvailableQuantity("SKU001");
+        int second = repository.getAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(7);
+        verify(delegate, times(2)).getAvailableQuantity("SKU001");
+    }
+    
+    @Test
+    @DisplayName("원본 호출이 실패하면 예외를 전파하고 다음 조회는 다시 시도한다")
+    void failurePropagatesAndIsNotRetained() {
+        // given
+        when(delegate.getAvailableQuantity("SKU001"))
+                .thenThrow(new IllegalStateException("inventory unavailable"))
+                .thenReturn(3);
+        
+        // when & then
+        assertThatThrownBy(() -> repository.getAvailableQuantity("SKU001"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(repository.getAvailableQuantity("SKU001")).isEqualTo(3);
+        assertThat(repository.inFlightCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("예약 직전 확인은 합치지 않고 그대로 위임한다")
+    void getLatestAvailableQuantity_isNotCoalesced() {
+        // given
+        when(delegate.getLatestAvailableQuantity("SKU001")).thenReturn(4);
+        
+        // when
+        int quantity = repository.getLatestAvailableQuantity("SKU001");
+        
+        // then
+        assertThat(quantity).isEqualTo(4);
+        assertThat(meterRegistry.find("inventory.single-flight.calls").counter()).isNull();
+    }
+    
+    private double coalescedCount(String operation) {
+        var counter = meterRegistry.find("inventory.single-flight.calls")
+                .tag("operation", operation)
+                .tag("result", "coalesced")
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
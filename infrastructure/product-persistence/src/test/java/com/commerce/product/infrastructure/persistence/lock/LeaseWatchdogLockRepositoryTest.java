@@ -0,0 +1,166 @@
+package com.commerce.product.infrastructure.persistence.lock;
+
+import com.commerce.product.domain.model.DistributedLock;
+import com.commerce.product.domain.repository.LockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeaseWatchdogLockRepositoryTest {
+
+    private static final Duration RENEWAL_LEASE = Duration.ofMillis(150);
+    private static final Duration REQUESTED_LEASE = Duration.ofSeconds(30);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(1);
+
+    @Mock
+    private LockRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LeaseWatchdogLockRepository lockRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockRepository = new LeaseWatchdogLockRepository(delegate, RENEWAL_LEASE, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockRepository.close();
+    }
+
+    @Test
+    @DisplayName("Redis에는 갱신 리스로 락을 잡고 호출 측에는 요청한 리스를 가진 락을 반환한다")
+    void acquireLock_usesRenewalLease() {
+        // given
+        DistributedLock redisLock = lockOf("stock:SKU001", RENEWAL_LEASE);
+        when(delegate.acquireLock("stock:SKU001", RENEWAL_LEASE, WAIT_TIMEOUT)).thenReturn(Optional.of(redisLock));
+
+        // when
+        Optional<DistributedLock> result = lockRepository.acquireLock("stock:SKU001", REQUESTED_LEASE, WAIT_TIMEOUT);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().lockId()).isEqualTo(redisLock.lockId());
+        assertThat(result.get().leaseDuration()).isEqualTo(REQUESTED_LEASE);
+        assertThat(lockRepository.activeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락을 보유하는 동안 갱신 리스로 주기적으로 연장한다")
+    void acquireLock_renewsPeriodically() {
+        // given
+        DistributedLock redisLock = lockOf("stock:SKU001", RENEWAL_LEASE);
+        when(delegate.acquireLock("stock:SKU001", RENEWAL_LEASE, WAIT_TIMEOUT)).thenReturn(Optional.of(redisLock));
+        when(delegate.extendLock(redisLock, RENEWAL_LEASE)).thenReturn(Optional.of(redisLock));
+
+        // when
+        lockRepository.acquireLock("stock:SKU001", REQUESTED_LEASE, WAIT_TIMEOUT);
+
+        // then
+        verify(delegate, timeout(1000).atLeast(3)).extendLock(redisLock, RENEWAL_LEASE);
+        assertThat(meterRegistry.get("distributed-lock.watchdog.renewals")
+                .tag("result", "renewed").counter().count()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("락을 해제하면 갱신을 멈춘다")
+    void releaseLock_stopsRenewal() {
+        // given
+        DistributedLock redisLock = lockOf("stock:SKU001", RENEWAL_LEASE);
+        when(delegate.acquireLock("stock:SKU001", RENEWAL_LEASE, WAIT_TIMEOUT)).thenReturn(Optional.of(redisLock));
+        DistributedLock held = lockRepository.acquireLock("stock:SKU001", REQUESTED_LEASE, WAIT_TIMEOUT).orElseThrow();
+
+        // when
+        lockRepository.releaseLock(held);
+
+        // then
+        assertThat(lockRepository.activeCount()).isZero();
+        verify(delegate).releaseLock(held);
+        verify(delegate, after(300).never()).extendLock(any(), any());
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 잃어버린 리스로 기록하고 갱신을 멈춘다")
+    void renewal_whenLeaseLost_recordsLostAndStops() {
+        // given
+        DistributedLock redisLock = lockOf("stock:SKU001", RENEWAL_LEASE);
+        when(delegate.acquireLock("stock:SKU001", RENEWAL_LEASE, WAIT_TIMEOUT)).thenReturn(Optional.of(redisLock));
+        when(delegate.extendLock(redisLock, RENEWAL_LEASE)).thenReturn(Optional.empty());
+
+        // when
+        lockRepository.acquireLock("stock:SKU001", REQUESTED_LEASE, WAIT_TIMEOUT);
+
+        // then
+        await().atMost(Duration.ofSeconds(1)).until(() -> lockRepository.activeCount() == 0);
+        assertThat(meterRegistry.get("distributed-lock.watchdog.renewals")
+                .tag("result", "lost").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 락을 한 번에 획득하면 모두 갱신하고, 모두 해제하면 갱신을 멈춘다")
+    void acquireLocks_renewsAllKeys() {
+        // given
+        String lockId = UUID.randomUUID().toString();
+        DistributedLock lock1 = new DistributedLock("stock:SKU001", lockId, Instant.now(), RENEWAL_LEASE);
+        DistributedLock lock2 = new DistributedLock("stock:SKU002", lockId, Instant.now(), RENEWAL_LEASE);
+        when(delegate.acquireLocks(anyCollection(), eq(RENEWAL_LEASE), eq(WAIT_TIMEOUT)))
+                .thenReturn(Optional.of(List.of(lock1, lock2)));
+        when(delegate.extendLock(any(), eq(RENEWAL_LEASE))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        // when
+        List<DistributedLock> held = lockRepository.acquireLocks(
+                List.of("stock:SKU001", "stock:SKU002"), REQUESTED_LEASE, WAIT_TIMEOUT).orElseThrow();
+
+        // then
+        verify(delegate, timeout(1000).atLeast(2)).extendLock(lock1, RENEWAL_LEASE);
+        verify(delegate, timeout(1000).atLeast(2)).extendLock(lock2, RENEWAL_LEASE);
+
+        lockRepository.releaseLocks(held);
+        assertThat(lockRepository.activeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청한 리스가 갱신 리스보다 짧으면 감시하지 않고 그대로 위임한다")
+    void acquireLock_shortLease_delegatesWithoutWatching() {
+        // given
+        Duration shortLease = Duration.ofMillis(100);
+        DistributedLock redisLock = lockOf("stock:SKU001", shortLease);
+        when(delegate.acquireLock("stock:SKU001", shortLease, WAIT_TIMEOUT)).thenReturn(Optional.of(redisLock));
+
+        // when
+        Optional<DistributedLock> result = lockRepository.acquireLock("stock:SKU001", shortLease, WAIT_TIMEOUT);
+
+        // then
+        assertThat(result).contains(redisLock);
+        assertThat(lockRepository.activeCount()).isZero();
+        verify(delegate, never()).extendLock(any(), any());
+    }
+
+    private static DistributedLock lockOf(String key, Duration leaseDuration) {
+        return new DistributedLock(key, UUID.randomUUID().toString(), Instant.now(), leaseDuration);
+    }
+}
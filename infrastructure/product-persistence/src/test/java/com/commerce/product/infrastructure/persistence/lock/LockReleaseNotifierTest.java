@@ -0,0 +1,90 @@
+package com.commerce.product.infrastructure.persistence.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockReleaseNotifierTest {
+
+    private LockReleaseNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new LockReleaseNotifier(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("기다리는 락 키의 해제 알림을 받으면 대기자가 깨어난다")
+    void onMessage_wakesWaiterOfReleasedKey() throws InterruptedException {
+        // given
+        try (LockReleaseNotifier.Waiter waiter = notifier.register(List.of("distributed_lock:stock:SKU001"))) {
+            // when
+            notifier.onMessage(released("distributed_lock:stock:SKU001"), null);
+
+            // then
+            assertThat(waiter.await(Duration.ofSeconds(1))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 락 키의 해제 알림으로는 깨어나지 않는다")
+    void onMessage_ignoresOtherKeys() throws InterruptedException {
+        // given
+        try (LockReleaseNotifier.Waiter waiter = notifier.register(List.of("distributed_lock:stock:SKU001"))) {
+            // when
+            notifier.onMessage(released("distributed_lock:stock:SKU002"), null);
+
+            // then
+            assertThat(waiter.await(Duration.ofMillis(50))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 키를 기다리는 대기자는 그중 하나만 해제되어도 깨어난다")
+    void onMessage_wakesMultiKeyWaiter() throws InterruptedException {
+        // given
+        try (LockReleaseNotifier.Waiter waiter = notifier.register(
+                List.of("distributed_lock:stock:SKU001", "distributed_lock:stock:SKU002"))) {
+            // when
+            notifier.onMessage(released("distributed_lock:stock:SKU002"), null);
+
+            // then
+            assertThat(waiter.await(Duration.ofSeconds(1))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("대기를 마친 대기자는 등록 해제된다")
+    void close_unregistersWaiter() {
+        // given
+        LockReleaseNotifier.Waiter waiter = notifier.register(List.of("distributed_lock:stock:SKU001"));
+        assertThat(notifier.waitingKeyCount()).isEqualTo(1);
+
+        // when
+        waiter.close();
+
+        // then
+        assertThat(notifier.waitingKeyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 간격이 0 이하이면 예외가 발생한다")
+    void constructor_withNonPositiveInterval_throwsException() {
+        assertThatThrownBy(() -> new LockReleaseNotifier(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DefaultMessage released(String lockKey) {
+        return new DefaultMessage(
+                (LockReleaseNotifier.CHANNEL_PREFIX + lockKey).getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8));
+    }
+}
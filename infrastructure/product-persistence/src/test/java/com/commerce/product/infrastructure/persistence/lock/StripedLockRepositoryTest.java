@@ -0,0 +1,178 @@
+package com.commerce.product.infrastructure.persistence.lock;
+
+import com.commerce.product.domain.model.DistributedLock;
+import com.commerce.product.domain.repository.LockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StripedLockRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private LockRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedLockRepository lockRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockRepository = new StripedLockRepository(delegate, 16, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키를 기다리는 두 번째 호출은 첫 번째 락이 해제될 때까지 Redis를 호출하지 않는다")
+    void acquireLock_sameKey_waitsLocallyBeforeRedis() {
+        // given
+        DistributedLock first = lockOf("stock:SKU001");
+        DistributedLock second = lockOf("stock:SKU001");
+        when(delegate.acquireLock(eq("stock:SKU001"), eq(LEASE), any(Duration.class)))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(second));
+
+        Optional<DistributedLock> acquired = lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofSeconds(5));
+        assertThat(acquired).contains(first);
+
+        // when
+        CompletableFuture<Optional<DistributedLock>> waiting = CompletableFuture.supplyAsync(
+                () -> lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofSeconds(5)));
+
+        // then
+        verify(delegate, times(1)).acquireLock(anyString(), any(), any());
+        assertThat(waiting).isNotDone();
+
+        lockRepository.releaseLock(first);
+
+        assertThat(waiting.orTimeout(5, TimeUnit.SECONDS).join()).contains(second);
+        verify(delegate, timeout(1000).times(2)).acquireLock(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("로컬 대기 시간 안에 스트라이프를 얻지 못하면 Redis를 호출하지 않고 실패한다")
+    void acquireLock_localTimeout_skipsRedis() {
+        // given
+        DistributedLock held = lockOf("stock:SKU001");
+        when(delegate.acquireLock(eq("stock:SKU001"), eq(LEASE), any(Duration.class)))
+                .thenReturn(Optional.of(held));
+        lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofSeconds(1));
+
+        // when
+        Optional<DistributedLock> result = lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofMillis(50));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(delegate, times(1)).acquireLock(anyString(), any(), any());
+        assertThat(meterRegistry.get("distributed-lock.wait")
+                .tag("stage", "local").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 락 획득에 실패하면 로컬 스트라이프를 즉시 반납한다")
+    void acquireLock_redisFails_releasesStripe() {
+        // given
+        when(delegate.acquireLock(eq("stock:SKU001"), eq(LEASE), any(Duration.class)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(lockOf("stock:SKU001")));
+
+        // when
+        Optional<DistributedLock> failed = lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofMillis(100));
+        Optional<DistributedLock> retried = lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofMillis(100));
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(retried).isPresent();
+        assertThat(meterRegistry.get("distributed-lock.wait")
+                .tag("stage", "redis").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis에는 로컬 대기 후 남은 대기 시간만 전달한다")
+    void acquireLock_passesRemainingTimeoutToRedis() {
+        // given
+        when(delegate.acquireLock(eq("stock:SKU001"), eq(LEASE), any(Duration.class)))
+                .thenReturn(Optional.of(lockOf("stock:SKU001")));
+
+        // when
+        lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofSeconds(1));
+
+        // then
+        ArgumentCaptor<Duration> remaining = ArgumentCaptor.forClass(Duration.class);
+        verify(delegate).acquireLock(eq("stock:SKU001"), eq(LEASE), remaining.capture());
+        assertThat(remaining.getValue()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("여러 락을 모두 해제하면 보유한 스트라이프를 반납한다")
+    void releaseLocks_releasesAllStripes() {
+        // given
+        String lockId = UUID.randomUUID().toString();
+        List<DistributedLock> locks = List.of(
+                new DistributedLock("stock:SKU001", lockId, Instant.now(), LEASE),
+                new DistributedLock("stock:SKU002", lockId, Instant.now(), LEASE));
+        when(delegate.acquireLocks(anyCollection(), eq(LEASE), any(Duration.class)))
+                .thenReturn(Optional.of(locks));
+        when(delegate.releaseLocks(locks)).thenReturn(true);
+
+        lockRepository.acquireLocks(List.of("stock:SKU001", "stock:SKU002"), LEASE, Duration.ofSeconds(1));
+        assertThat(lockRepository.holdingCount()).isEqualTo(1);
+
+        // when
+        boolean released = lockRepository.releaseLocks(locks);
+
+        // then
+        assertThat(released).isTrue();
+        assertThat(lockRepository.holdingCount()).isZero();
+        assertThat(lockRepository.acquireLocks(List.of("stock:SKU001", "stock:SKU002"), LEASE, Duration.ofMillis(100)))
+                .isPresent();
+    }
+
+    @Test
+    @DisplayName("Redis 락 해제에 실패해도 로컬 스트라이프는 반납한다")
+    void releaseLock_whenRedisReleaseFails_stillReleasesStripe() {
+        // given
+        DistributedLock lock = lockOf("stock:SKU001");
+        when(delegate.acquireLock(eq("stock:SKU001"), eq(LEASE), any(Duration.class)))
+                .thenReturn(Optional.of(lock));
+        when(delegate.releaseLock(lock)).thenReturn(false);
+        lockRepository.acquireLock("stock:SKU001", LEASE, Duration.ofSeconds(1));
+
+        // when
+        boolean released = lockRepository.releaseLock(lock);
+
+        // then
+        assertThat(released).isFalse();
+        assertThat(lockRepository.holdingCount()).isZero();
+        verify(delegate, never()).releaseLocks(any());
+    }
+
+    private static DistributedLock lockOf(String key) {
+        return new DistributedLock(key, UUID.randomUUID().toString(), Instant.now(), LEASE);
+    }
+}